@@ -5,9 +5,13 @@
 package io.github.nucleuspowered.nucleus;
 
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
 import io.github.nucleuspowered.nucleus.modules.core.config.CoreConfigAdapter;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandSource;
@@ -33,7 +37,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -41,14 +47,21 @@ import javax.annotation.Nullable;
 
 public class ChatUtil {
 
+    private static final Pattern COLOUR_CODES = Pattern.compile("&[0-9a-fA-F]");
+    private static final Pattern STYLE_CODES = Pattern.compile("&[l-oL-O]");
+    private static final Pattern MAGIC_CODES = Pattern.compile("&[kK]");
+
     private final Map<String, BiFunction<CommandSource, String, Text>> tokens;
     private final Map<String, BiFunction<CommandSource, String, Text>> serverTokens;
+    private final Map<String, BiFunction<CommandSource, String, Text>> playerAndServerTokens;
 
-    private final Pattern playerAndServerTokenMatcher;
-    private final Pattern playerAndServerTokenSplitter;
+    private final Set<String> playerAndServerTokenKeys;
+    private final Set<String> serverTokenKeys;
 
-    private final Pattern serverTokenMatcher;
-    private final Pattern serverTokenSplitter;
+    // Templates are compiled the first time they are used with a set of tokens, then the compiled form is reused. The
+    // templates come from the configuration, so there are few of them, but some commands use what the player typed.
+    private final Cache<Map.Entry<String, Set<String>>, List<TemplateSegment>> compiledTemplates =
+            CacheBuilder.newBuilder().maximumSize(1000).build();
 
     private final NucleusPlugin plugin;
     private final Pattern urlParser =
@@ -71,22 +84,32 @@ public class ChatUtil {
         tokens = createTokens();
         serverTokens = createServerTokens();
 
-        Set<String> t = Sets.newHashSet(tokens.keySet());
-        t.addAll(serverTokens.keySet());
-        String m = getRegex(t);
-        playerAndServerTokenMatcher = Pattern.compile(m, Pattern.CASE_INSENSITIVE);
-        playerAndServerTokenSplitter = Pattern.compile(MessageFormat.format("(?<={0})|(?={0})", m), Pattern.CASE_INSENSITIVE);
-
-        m = getRegex(serverTokens.keySet());
-        serverTokenMatcher = Pattern.compile(m, Pattern.CASE_INSENSITIVE);
-        serverTokenSplitter = Pattern.compile(MessageFormat.format("(?<={0})|(?={0})", m), Pattern.CASE_INSENSITIVE);
+        playerAndServerTokens = Maps.newHashMap(tokens);
+        playerAndServerTokens.putAll(serverTokens);
+        playerAndServerTokenKeys = ImmutableSet.copyOf(playerAndServerTokens.keySet());
+        serverTokenKeys = ImmutableSet.copyOf(serverTokens.keySet());
 
         this.plugin = plugin;
     }
 
+    /**
+     * Creates the functions that remove each kind of formatting code from an ampersand formatted message, keyed by the
+     * permissions that allow that kind of code to be used.
+     *
+     * @param permissionPrefix The prefix to add to the <code>colour</code>, <code>color</code>, <code>style</code> and
+     *                         <code>magic</code> permissions.
+     * @return The functions.
+     */
+    public static Map<String[], Function<String, String>> createReplacements(String permissionPrefix) {
+        return ImmutableMap.of(
+                new String[] { permissionPrefix + "colour", permissionPrefix + "color" }, s -> COLOUR_CODES.matcher(s).replaceAll(""),
+                new String[] { permissionPrefix + "style" }, s -> STYLE_CODES.matcher(s).replaceAll(""),
+                new String[] { permissionPrefix + "magic" }, s -> MAGIC_CODES.matcher(s).replaceAll(""));
+    }
+
     private String getRegex(Set<String> keys) {
         StringBuilder sb = new StringBuilder("(");
-        keys.forEach(k -> sb.append(k.replaceAll("\\{\\{", "\\\\{\\\\{").replaceAll("\\}\\}", "\\\\}\\\\}")).append("|"));
+        keys.forEach(k -> sb.append(k.replace("{{", "\\{\\{").replace("}}", "\\}\\}")).append("|"));
         return sb.deleteCharAt(sb.length() - 1).append(")").toString();
     }
 
@@ -107,70 +130,58 @@ public class ChatUtil {
             map.putAll(customToken);
         }
 
-        String m = getRegex(map.keySet());
-        return getMessageFromTemplate(template, cs, trimTrailingSpace,
-                Pattern.compile(MessageFormat.format("(?<={0})|(?={0})", m), Pattern.CASE_INSENSITIVE),
-                Pattern.compile(m, Pattern.CASE_INSENSITIVE), map);
+        return getMessageFromTemplate(template, cs, trimTrailingSpace, ImmutableSet.copyOf(map.keySet()), map);
     }
 
     // String -> Text parser. Should split on all {{}} tags, but keep the tags in. We can then use the target map
     // to do the replacements!
     public Text getPlayerMessageFromTemplate(String template, CommandSource cs, boolean trimTrailingSpace) {
-        return getMessageFromTemplate(template, cs, trimTrailingSpace, playerAndServerTokenSplitter, playerAndServerTokenMatcher, tokens, serverTokens);
+        return getMessageFromTemplate(template, cs, trimTrailingSpace, playerAndServerTokenKeys, playerAndServerTokens);
     }
 
     public List<Text> getPlayerMessageFromTemplate(List<String> template, CommandSource cs, boolean trimTrailingSpace) {
-        return getMessageFromTemplate(template, cs, trimTrailingSpace, playerAndServerTokenSplitter, playerAndServerTokenMatcher, tokens, serverTokens);
+        return getMessageFromTemplate(template, cs, trimTrailingSpace, playerAndServerTokenKeys, playerAndServerTokens);
     }
 
     public Text getServerMessageFromTemplate(String template, CommandSource cs, boolean trimTrailingSpace) {
-        return getMessageFromTemplate(template, cs, trimTrailingSpace, serverTokenSplitter, serverTokenMatcher, serverTokens);
+        return getMessageFromTemplate(template, cs, trimTrailingSpace, serverTokenKeys, serverTokens);
     }
 
-    @SafeVarargs
-    private final Text getMessageFromTemplate(String template, CommandSource cs, boolean trimTrailingSpace,
-        Pattern splitter, Pattern matcher, Map<String, BiFunction<CommandSource, String, Text>>... tokensArray) {
-        return getMessageFromTemplate(Lists.newArrayList(template), cs, trimTrailingSpace, splitter, matcher, tokensArray).get(0);
+    /**
+     * Removes all compiled templates, so that they are compiled again when they are next used.
+     */
+    public void clearTemplateCache() {
+        compiledTemplates.invalidateAll();
     }
 
-    @SafeVarargs
-    private final List<Text> getMessageFromTemplate(List<String> templates, CommandSource cs, final boolean trimTrailingSpace,
-                                              Pattern splitter, Pattern matcher, Map<String, BiFunction<CommandSource, String, Text>>... tokensArray) {
-        Map<String, BiFunction<CommandSource, String, Text>> tokens = Maps.newHashMap();
-        for (Map<String, BiFunction<CommandSource, String, Text>> stringFunctionMap : tokensArray) {
-            tokens.putAll(stringFunctionMap);
-        }
+    private Text getMessageFromTemplate(String template, CommandSource cs, boolean trimTrailingSpace,
+        Set<String> tokenKeys, Map<String, BiFunction<CommandSource, String, Text>> tokens) {
+        return getMessageFromTemplate(Lists.newArrayList(template), cs, trimTrailingSpace, tokenKeys, tokens).get(0);
+    }
 
+    private List<Text> getMessageFromTemplate(List<String> templates, CommandSource cs, final boolean trimTrailingSpace,
+                                              Set<String> tokenKeys, Map<String, BiFunction<CommandSource, String, Text>> tokens) {
         List<Text> texts = Lists.newArrayList();
         templates.forEach(template -> {
             StyleTuple st = new StyleTuple(TextColors.WHITE, TextStyles.NONE);
             boolean trimNext = trimTrailingSpace;
 
             Text.Builder tb = Text.builder();
-            for (String textElement : splitter.split(template)) {
-                if (matcher.matcher(textElement).matches()) {
-
-                    // Bit hacky, but it allows the rest of the token system to work. If we get something beginning with
-                    // {{o: then we get the specific function out.
-                    String elementToUse = textElement.toLowerCase().startsWith("{{o:") ? this.customPrefixPatten : textElement.toLowerCase();
-
+            for (TemplateSegment segment : getCompiledTemplate(template, tokenKeys)) {
+                if (segment.token != null) {
                     // If we have a token, do the replacement as specified by the function
                     Text message = Text.builder().color(st.colour).style(st.style)
-                        .append(tokens.get(elementToUse).apply(cs, textElement)).build();
+                        .append(tokens.get(segment.token).apply(cs, segment.text)).build();
                     if (!message.isEmpty()) {
                         trimNext = false;
                         tb.append(message);
                     }
                 } else {
-                    if (trimNext) {
-                        textElement = textElement.replaceAll("^\\s+", "");
-                    }
-
-                    if (!textElement.isEmpty()) {
-                        // Just convert the colour codes, but that's it.
-                        Text r = TextSerializers.FORMATTING_CODE.deserialize(textElement);
+                    Text r = trimNext ? segment.trimmedLiteral : segment.literal;
+                    if (r != null) {
                         tb.append(Text.of(st.colour, st.style, r));
-                        st = getLastColourAndStyle(r, st);
+                        st = new StyleTuple(segment.literalStyle.colour != TextColors.NONE ? segment.literalStyle.colour : st.colour,
+                                segment.literalStyle.style != TextStyles.NONE ? segment.literalStyle.style : st.style);
                         trimNext = false;
                     }
                 }
@@ -182,6 +193,40 @@ public class ChatUtil {
         return texts;
     }
 
+    private List<TemplateSegment> getCompiledTemplate(String template, Set<String> tokenKeys) {
+        try {
+            return compiledTemplates.get(Maps.immutableEntry(template, tokenKeys), () -> compileTemplate(template, tokenKeys));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private List<TemplateSegment> compileTemplate(String template, Set<String> tokenKeys) {
+        String m = getRegex(tokenKeys);
+        Pattern splitter = Pattern.compile(MessageFormat.format("(?<={0})|(?={0})", m), Pattern.CASE_INSENSITIVE);
+        Pattern matcher = Pattern.compile(m, Pattern.CASE_INSENSITIVE);
+
+        ImmutableList.Builder<TemplateSegment> segments = ImmutableList.builder();
+        for (String textElement : splitter.split(template)) {
+            if (matcher.matcher(textElement).matches()) {
+                // Bit hacky, but it allows the rest of the token system to work. If we get something beginning with
+                // {{o: then we get the specific function out.
+                String elementToUse = textElement.toLowerCase().startsWith("{{o:") ? this.customPrefixPatten : textElement.toLowerCase();
+                segments.add(new TemplateSegment(elementToUse, textElement, null, null, EMPTY));
+            } else {
+                // Just convert the colour codes, but that's it.
+                String trimmed = textElement.replaceAll("^\\s+", "");
+                Text literal = textElement.isEmpty() ? null : TextSerializers.FORMATTING_CODE.deserialize(textElement);
+                Text trimmedLiteral = trimmed.isEmpty() ? null : TextSerializers.FORMATTING_CODE.deserialize(trimmed);
+                if (literal != null) {
+                    segments.add(new TemplateSegment(null, textElement, literal, trimmedLiteral, getLastColourAndStyle(literal, null)));
+                }
+            }
+        }
+
+        return segments.build();
+    }
+
     public Text addUrlsToText(Text message) {
         return addUrlsToAmpersandFormattedString(TextSerializers.FORMATTING_CODE.serialize(message));
     }
@@ -206,23 +251,16 @@ public class ChatUtil {
         }
 
         List<Text> texts = Lists.newArrayList();
-        String remaining = message;
+        int remaining = 0;
         StyleTuple st = ChatUtil.EMPTY;
         do {
-            // We found a URL. We split on the URL that we have.
-            String[] textArray = remaining.split(parser.pattern(), 2);
+            // We found a URL. The text before it is everything from the end of the last one.
             Text first = Text.builder().color(st.colour).style(st.style)
-                    .append(TextSerializers.FORMATTING_CODE.deserialize(textArray[0])).build();
+                    .append(TextSerializers.FORMATTING_CODE.deserialize(message.substring(remaining, m.start()))).build();
 
             // Add this text to the list regardless.
             texts.add(first);
-
-            // If we have more to do, shove it into the "remaining" variable.
-            if (textArray.length == 2) {
-                remaining = textArray[1];
-            } else {
-                remaining = null;
-            }
+            remaining = m.end();
 
             // Get the last colour & styles
             String colourMatch = m.group("colour");
@@ -254,13 +292,11 @@ public class ChatUtil {
                     .onClick(TextActions.runCommand(cmd))
                     .build();
             }
-        } while (remaining != null && m.find());
+        } while (m.find());
 
         // Add the last bit.
-        if (remaining != null) {
-            texts.add(Text.builder().color(st.colour).style(st.style)
-                    .append(TextSerializers.FORMATTING_CODE.deserialize(remaining)).build());
-        }
+        texts.add(Text.builder().color(st.colour).style(st.style)
+                .append(TextSerializers.FORMATTING_CODE.deserialize(message.substring(remaining))).build());
 
         // Join it all together.
         return Text.join(texts);
@@ -428,7 +464,7 @@ public class ChatUtil {
             cmd = cmd + " ";
         }
 
-        final String commandToRun = cmd.replaceAll("\\{\\{player\\}\\}", user.getName());
+        final String commandToRun = cmd.replace("{{player}}", user.getName());
         Optional<HoverAction<?>> ha = name.getHoverAction();
         Text.Builder hoverAction;
         if (ha.isPresent() && (ha.get() instanceof HoverAction.ShowText)) {
@@ -457,6 +493,34 @@ public class ChatUtil {
         }
     }
 
+    /**
+     * A part of a compiled template, which is either a token or literal text.
+     */
+    private static final class TemplateSegment {
+
+        // The key of the token function, or null if this is literal text.
+        @Nullable private final String token;
+
+        // The text as it appears in the template.
+        private final String text;
+
+        // The literal text, with and without leading whitespace. Null if there is no text left.
+        @Nullable private final Text literal;
+        @Nullable private final Text trimmedLiteral;
+
+        // The last colour and style in the literal text, or NONE if there is none.
+        private final StyleTuple literalStyle;
+
+        private TemplateSegment(@Nullable String token, String text, @Nullable Text literal, @Nullable Text trimmedLiteral,
+                StyleTuple literalStyle) {
+            this.token = token;
+            this.text = text;
+            this.literal = literal;
+            this.trimmedLiteral = trimmedLiteral;
+            this.literalStyle = literalStyle;
+        }
+    }
+
     public static final class StyleTuple {
         public final TextColor colour;
         public final TextStyle style;
@@ -0,0 +1,78 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Helpers for replacing files safely. A file is replaced by writing the new contents to a temporary file next to it,
+ * then moving that file over the old one, so that the old file is never partially overwritten.
+ */
+public final class FileUtil {
+
+    private FileUtil() {}
+
+    /**
+     * Gets the temporary file to write the new contents of a file to before calling {@link #replace(Path, Path)}.
+     *
+     * @param file The file that will be replaced.
+     * @return The temporary file, which is the file name with <code>.tmp</code> added.
+     */
+    public static Path getTempFile(Path file) {
+        return file.resolveSibling(file.getFileName().toString() + ".tmp");
+    }
+
+    /**
+     * Forces the contents of a file that has been written and closed on to the disk.
+     *
+     * @param file The file.
+     * @throws IOException if the file could not be forced to the disk.
+     */
+    public static void force(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Moves a file, replacing the target if it exists. The move is atomic where the file system supports it.
+     *
+     * @param from The file to move.
+     * @param to Where to move it to.
+     * @throws IOException if the file could not be moved.
+     */
+    public static void move(Path from, Path to) throws IOException {
+        try {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Replaces a file with a temporary file that has been written and closed. The temporary file is forced on to the
+     * disk first, otherwise a power cut could leave an empty file in place of the old one. If the file cannot be
+     * replaced, the temporary file is deleted and the old file is untouched.
+     *
+     * @param tempFile The temporary file with the new contents.
+     * @param file The file to replace.
+     * @throws IOException if the file could not be replaced.
+     */
+    public static void replace(Path tempFile, Path file) throws IOException {
+        try {
+            force(tempFile);
+            move(tempFile, file);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+}
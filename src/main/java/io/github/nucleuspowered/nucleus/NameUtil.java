@@ -27,6 +27,7 @@ import uk.co.drnaylor.quickstart.exceptions.NoModuleException;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 import javax.annotation.Nullable;
 
@@ -42,6 +43,7 @@ public class NameUtil {
     @SuppressWarnings("all")
     private Optional<ChatConfigAdapter> chatConfigAdapterOptional = null;
 
+    private final static Pattern STYLE_SEPARATOR = Pattern.compile("\\s*,\\s*");
     private final static Map<Character, TextColor> colourMap = Maps.newHashMap();
     private final static Map<Character, TextStyle> styleMap = Maps.newHashMap();
     private final static Map<String, TextStyle> styleMapFull = Maps.newHashMap();
@@ -152,7 +154,7 @@ public class NameUtil {
         }
 
         TextStyle ts = TextStyles.NONE;
-        for (String split : s.split("\\s*,\\s*")) {
+        for (String split : STYLE_SEPARATOR.split(s)) {
             if (split.length() == 1) {
                 ts = ts.and(styleMap.getOrDefault(split.charAt(0), TextStyles.NONE));
             } else {
@@ -12,9 +12,11 @@ import io.github.nucleuspowered.nucleus.internal.EconHelper;
 import io.github.nucleuspowered.nucleus.internal.InternalServiceManager;
 import io.github.nucleuspowered.nucleus.internal.PermissionRegistry;
 import io.github.nucleuspowered.nucleus.internal.messages.MessageProvider;
+import io.github.nucleuspowered.nucleus.internal.permissions.SubjectPermissionCache;
 import io.github.nucleuspowered.nucleus.internal.services.WarmupManager;
 import io.github.nucleuspowered.nucleus.internal.teleport.NucleusTeleportHandler;
 import org.slf4j.Logger;
+import org.spongepowered.api.command.CommandSource;
 import uk.co.drnaylor.quickstart.modulecontainers.DiscoveryModuleContainer;
 
 import java.io.IOException;
@@ -51,6 +53,8 @@ public abstract class Nucleus {
 
     public abstract PermissionRegistry getPermissionRegistry();
 
+    public abstract SubjectPermissionCache getPermissionCache();
+
     public abstract DiscoveryModuleContainer getModuleContainer();
 
     public abstract InternalServiceManager getInternalServiceManager();
@@ -65,6 +69,17 @@ public abstract class Nucleus {
 
     public abstract MessageProvider getMessageProvider();
 
+    /**
+     * Gets the {@link MessageProvider} for messages that will be sent to the given {@link CommandSource}, so that they
+     * are in the language of the source.
+     *
+     * @param source The {@link CommandSource}.
+     * @return The {@link MessageProvider}.
+     */
+    public MessageProvider getMessageProvider(CommandSource source) {
+        return getMessageProvider().forSource(source);
+    }
+
     public abstract MessageProvider getCommandMessageProvider();
 
     public abstract NucleusTeleportHandler getTeleportHandler();
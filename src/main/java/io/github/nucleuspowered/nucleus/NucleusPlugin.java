@@ -21,17 +21,25 @@ import io.github.nucleuspowered.nucleus.api.service.NucleusWarmupManagerService;
 import io.github.nucleuspowered.nucleus.api.service.NucleusWorldLoaderService;
 import io.github.nucleuspowered.nucleus.config.CommandsConfig;
 import io.github.nucleuspowered.nucleus.configurate.ConfigurateHelper;
+import io.github.nucleuspowered.nucleus.configurate.datatypes.UserDataNode;
 import io.github.nucleuspowered.nucleus.dataservices.GeneralService;
 import io.github.nucleuspowered.nucleus.dataservices.ItemDataService;
 import io.github.nucleuspowered.nucleus.dataservices.KitService;
+import io.github.nucleuspowered.nucleus.dataservices.NameIndex;
+import io.github.nucleuspowered.nucleus.dataservices.UserService;
+import io.github.nucleuspowered.nucleus.dataservices.dataproviders.DataProvider;
 import io.github.nucleuspowered.nucleus.dataservices.dataproviders.DataProviders;
+import io.github.nucleuspowered.nucleus.dataservices.loaders.BulkUserDataProcessor;
 import io.github.nucleuspowered.nucleus.dataservices.loaders.UserDataManager;
 import io.github.nucleuspowered.nucleus.dataservices.loaders.WorldDataManager;
 import io.github.nucleuspowered.nucleus.internal.EconHelper;
 import io.github.nucleuspowered.nucleus.internal.InternalServiceManager;
+import io.github.nucleuspowered.nucleus.internal.ListenerBase;
 import io.github.nucleuspowered.nucleus.internal.PermissionRegistry;
 import io.github.nucleuspowered.nucleus.internal.PreloadTasks;
+import io.github.nucleuspowered.nucleus.internal.TaskBase;
 import io.github.nucleuspowered.nucleus.internal.TextFileController;
+import io.github.nucleuspowered.nucleus.internal.command.AbstractCommand;
 import io.github.nucleuspowered.nucleus.internal.docgen.DocGenCache;
 import io.github.nucleuspowered.nucleus.internal.guice.QuickStartInjectorModule;
 import io.github.nucleuspowered.nucleus.internal.guice.SubInjectorModule;
@@ -39,7 +47,9 @@ import io.github.nucleuspowered.nucleus.internal.messages.ConfigMessageProvider;
 import io.github.nucleuspowered.nucleus.internal.messages.MessageProvider;
 import io.github.nucleuspowered.nucleus.internal.messages.ResourceMessageProvider;
 import io.github.nucleuspowered.nucleus.internal.permissions.PermissionInformation;
+import io.github.nucleuspowered.nucleus.internal.permissions.SubjectPermissionCache;
 import io.github.nucleuspowered.nucleus.internal.permissions.SuggestedLevel;
+import io.github.nucleuspowered.nucleus.internal.qsml.ModuleClassIndex;
 import io.github.nucleuspowered.nucleus.internal.qsml.ModuleRegistrationProxyService;
 import io.github.nucleuspowered.nucleus.internal.qsml.NucleusLoggerProxy;
 import io.github.nucleuspowered.nucleus.internal.qsml.QuickStartModuleConstructor;
@@ -51,6 +61,7 @@ import io.github.nucleuspowered.nucleus.modules.core.config.CoreConfigAdapter;
 import io.github.nucleuspowered.nucleus.modules.core.events.NucleusReloadConfigEvent;
 import io.github.nucleuspowered.nucleus.util.ThrowableAction;
 import ninja.leaping.configurate.hocon.HoconConfigurationLoader;
+import ninja.leaping.configurate.objectmapping.ObjectMappingException;
 import org.slf4j.Logger;
 import org.spongepowered.api.Game;
 import org.spongepowered.api.Platform;
@@ -66,6 +77,7 @@ import org.spongepowered.api.plugin.Plugin;
 import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.service.permission.PermissionDescription;
 import org.spongepowered.api.service.permission.PermissionService;
+import org.spongepowered.api.service.user.UserStorageService;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.format.TextColors;
 import uk.co.drnaylor.quickstart.enums.ConstructionPhase;
@@ -84,6 +96,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Plugin(id = ID, name = NAME, version = VERSION, description = DESCRIPTION)
 public class NucleusPlugin extends Nucleus {
@@ -97,6 +110,8 @@ public class NucleusPlugin extends Nucleus {
     private UserDataManager userDataManager;
     private WorldDataManager worldDataManager;
     private KitService kitService;
+    private DataProviders dataProviders;
+    private NameIndex nameIndex;
     private ChatUtil chatUtil;
     private NameUtil nameUtil;
     private Injector injector;
@@ -112,8 +127,12 @@ public class NucleusPlugin extends Nucleus {
     private WarmupManager warmupManager;
     private EconHelper econHelper = new EconHelper(this);
     private PermissionRegistry permissionRegistry = new PermissionRegistry();
+    private SubjectPermissionCache permissionCache = new SubjectPermissionCache();
 
     private DiscoveryModuleContainer moduleContainer;
+    private ModuleClassIndex moduleClassIndex = null;
+    private long discoveryTime = 0;
+    private long moduleLoadTime = 0;
 
     private final Map<String, TextFileController> textFileControllers = Maps.newHashMap();
 
@@ -145,9 +164,11 @@ public class NucleusPlugin extends Nucleus {
             commandsConfig = new CommandsConfig(Paths.get(configDir.toString(), "commands.conf"));
 
             DataProviders d = new DataProviders(this);
+            dataProviders = d;
             generalService = new GeneralService(d.getGeneralDataProvider());
             itemDataService = new ItemDataService(d.getItemDataProvider());
             userDataManager = new UserDataManager(this, d::getUserFileDataProviders);
+            nameIndex = new NameIndex(dataDir.resolve("names.txt"));
             worldDataManager = new WorldDataManager(this, d::getWorldFileDataProvider);
             kitService = new KitService(d.getKitsDataProvider());
             warmupManager = new WarmupManager();
@@ -191,7 +212,9 @@ public class NucleusPlugin extends Nucleus {
                     .setOnPostEnable(() -> Sponge.getEventManager().post(new BaseModuleEvent.Enabled(this)))
                     .build();
 
+            long start = System.nanoTime();
             moduleContainer.startDiscover();
+            discoveryTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
         } catch (QuickStartModuleDiscoveryException e) {
             isErrored = e;
             disable();
@@ -224,7 +247,9 @@ public class NucleusPlugin extends Nucleus {
         try {
             Sponge.getEventManager().post(new BaseModuleEvent.AboutToConstructEvent(this));
             logger.info(messageProvider.getMessageWithFormat("startup.moduleloading", PluginInfo.NAME));
+            long start = System.nanoTime();
             moduleContainer.loadModules(false);
+            moduleLoadTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
 
             if (moduleContainer.getConfigAdapterForModule("core", CoreConfigAdapter.class).getNodeOrDefault().isErrorOnStartup()) {
                 throw new IllegalStateException("In main.conf, core.simulate-error-on-startup is set to TRUE. Remove this config entry to allow Nucleus to start. Simulating error and disabling Nucleus.");
@@ -238,6 +263,24 @@ public class NucleusPlugin extends Nucleus {
         }
 
         logger.info(messageProvider.getMessageWithFormat("startup.moduleloaded", PluginInfo.NAME));
+        try {
+            // Every module has now added its command defaults, so they can be written in one go.
+            commandsConfig.save();
+        } catch (IOException | ObjectMappingException e) {
+            logger.error("Could not save defaults.");
+            e.printStackTrace();
+        }
+
+        try {
+            // The storage settings are now known, so any data that has to be moved into place is moved now.
+            dataProviders.prepare();
+        } catch (IOException e) {
+            isErrored = e;
+            disable();
+            e.printStackTrace();
+            return;
+        }
+
         registerPermissions();
         modulesLoaded = true;
         Sponge.getEventManager().post(new BaseModuleEvent.Complete(this));
@@ -247,6 +290,7 @@ public class NucleusPlugin extends Nucleus {
         game.getServiceManager().setProvider(this, NucleusUserLoaderService.class, userDataManager);
         game.getServiceManager().setProvider(this, NucleusWorldLoaderService.class, worldDataManager);
         logger.info(messageProvider.getMessageWithFormat("startup.started", PluginInfo.NAME));
+        logger.info(messageProvider.getMessageWithFormat("startup.timing", String.valueOf(discoveryTime), String.valueOf(moduleLoadTime)));
     }
 
     @Listener
@@ -264,6 +308,7 @@ public class NucleusPlugin extends Nucleus {
             }
 
             Sponge.getScheduler().createSyncExecutor(this).submit(() -> this.gameStartedTime = Instant.now());
+            Sponge.getScheduler().createAsyncExecutor(this).execute(this::loadNameIndex);
         }
     }
 
@@ -273,6 +318,7 @@ public class NucleusPlugin extends Nucleus {
             this.gameStartedTime = null;
             logger.info(messageProvider.getMessageWithFormat("startup.stopped", PluginInfo.NAME));
             saveData();
+            dataProviders.close();
         }
     }
 
@@ -281,10 +327,14 @@ public class NucleusPlugin extends Nucleus {
         userDataManager.saveAll();
         worldDataManager.saveAll();
         try {
-            generalService.save();
+            generalService.saveIfDirty();
+            itemDataService.saveIfDirty();
+            kitService.saveIfDirty();
         } catch (Exception e) {
             e.printStackTrace();
         }
+
+        nameIndex.saveIfDirty();
     }
 
     public Injector getInjector() {
@@ -313,6 +363,10 @@ public class NucleusPlugin extends Nucleus {
         return this.modulesLoaded;
     }
 
+    public DataProviders getDataProviders() {
+        return dataProviders;
+    }
+
     @Override
     public UserDataManager getUserDataManager() {
         return userDataManager;
@@ -333,7 +387,13 @@ public class NucleusPlugin extends Nucleus {
         try {
             moduleContainer.reloadSystemConfig();
             reloadMessages();
+            chatUtil.clearTemplateCache();
+            permissionCache.invalidateAll();
             commandsConfig.load();
+            commandsConfig.save();
+
+            // Anything changed in game that has not been written yet would otherwise be lost.
+            itemDataService.saveIfDirty();
             itemDataService.load();
 
             for (TextFileController tfc : textFileControllers.values()) {
@@ -394,6 +454,26 @@ public class NucleusPlugin extends Nucleus {
         return permissionRegistry;
     }
 
+    @Override
+    public SubjectPermissionCache getPermissionCache() {
+        return permissionCache;
+    }
+
+    /**
+     * Gets the index of the command, listener and task classes that were found when the modules were discovered.
+     * It is built the first time it is requested, which is when the first module loads.
+     *
+     * @return The {@link ModuleClassIndex}.
+     */
+    public synchronized ModuleClassIndex getModuleClassIndex() {
+        if (moduleClassIndex == null) {
+            moduleClassIndex = new ModuleClassIndex(moduleContainer.getLoadedClasses(),
+                    Lists.newArrayList(AbstractCommand.class, ListenerBase.class, TaskBase.class));
+        }
+
+        return moduleClassIndex;
+    }
+
     @Override
     public DiscoveryModuleContainer getModuleContainer() {
         return moduleContainer;
@@ -414,6 +494,10 @@ public class NucleusPlugin extends Nucleus {
         return itemDataService;
     }
 
+    public NameIndex getNameIndex() {
+        return nameIndex;
+    }
+
     public KitService getKitService() {
         return kitService;
     }
@@ -501,6 +585,45 @@ public class NucleusPlugin extends Nucleus {
         return injector;
     }
 
+    private void loadNameIndex() {
+        try {
+            if (nameIndex.load()) {
+                return;
+            }
+
+            // First run, so we build the index from the server's list of users and our own data.
+            logger.info(messageProvider.getMessageWithFormat("startup.nameindex.building"));
+            Sponge.getServiceManager().provideUnchecked(UserStorageService.class).getAll()
+                    .forEach(x -> x.getName().ifPresent(n -> nameIndex.setName(x.getUniqueId(), n)));
+            int failed = new BulkUserDataProcessor(this, null, (done, total) -> logger.info(messageProvider.getMessageWithFormat("startup.nameindex.progress",
+                    String.valueOf(done), String.valueOf(total)))).process(dataProviders.getStoredUserIds(), uuid -> {
+                // Anyone in memory may have changes that are not saved yet.
+                Optional<UserService> loaded = userDataManager.getIfLoaded(uuid);
+                DataProvider<UserDataNode> provider = dataProviders.getUserFileDataProviders(uuid);
+                if (loaded.isPresent()) {
+                    nameIndex.setNickname(uuid, loaded.get().getNicknameAsString().orElse(null));
+                } else if (provider != null) {
+                    String nickname = provider.load().getNickname();
+                    if (nickname != null) {
+                        nameIndex.setNickname(uuid, nickname);
+                    }
+                }
+            });
+
+            if (failed > 0) {
+                // The index is not saved, so that it is built again, with the users that were missed, next time.
+                logger.error(messageProvider.getMessageWithFormat("startup.nameindex.incomplete", String.valueOf(failed)));
+                return;
+            }
+
+            nameIndex.setBuilt();
+            logger.info(messageProvider.getMessageWithFormat("startup.nameindex.built"));
+        } catch (Exception e) {
+            logger.error(messageProvider.getMessageWithFormat("startup.nameindex.failed"));
+            e.printStackTrace();
+        }
+    }
+
     private void initDocGenIfApplicable() {
         if (moduleContainer.getCurrentPhase() == ConstructionPhase.ENABLING) {
             // If enable-doc-gen is enabled, we init the DocGen system here.
@@ -219,36 +219,15 @@ public class Util {
     }
 
     /**
-     * Utility method for getting the first available option from an {@link OptionSubject}
+     * Utility method for getting the first available option from an {@link OptionSubject}. Results are cached for a
+     * short time, see {@link Nucleus#getPermissionCache()}.
      *
      * @param player The {@link User} to get the subject from.
      * @param options The option keys to check.
      * @return An {@link Optional} that might contain a value.
      */
     public static Optional<String> getOptionFromSubject(User player, String... options) {
-        Optional<OptionSubject> optionSubjectOptional = getSubject(player);
-        if (!optionSubjectOptional.isPresent()) {
-            return Optional.empty();
-        }
-
-        OptionSubject optionSubject = optionSubjectOptional.get();
-        for (String option : options) {
-            String o = option.toLowerCase();
-
-            // Option for context.
-            Optional<String> os = optionSubject.getOption(player.getActiveContexts(), o);
-            if (os.isPresent()) {
-                return os;
-            }
-
-            // General option
-            os = optionSubject.getOption(o);
-            if (os.isPresent()) {
-                return os;
-            }
-        }
-
-        return Optional.empty();
+        return Nucleus.getNucleus().getPermissionCache().getOption(player, options);
     }
 
     public static Optional<String> getTranslatedStringFromItemId(String id) {
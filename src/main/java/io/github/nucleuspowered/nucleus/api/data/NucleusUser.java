@@ -175,6 +175,25 @@ public interface NucleusUser {
      */
     Map<String, LocationData> getHomes();
 
+    /**
+     * Gets the homes for a player that are in the same world as, and nearest to, the given location, nearest first.
+     *
+     * @param location The {@link Location} to search from.
+     * @param count The maximum number of homes to return.
+     * @return A {@link List} of the {@link LocationData}s of the homes.
+     */
+    List<LocationData> getNearestHomes(Location<World> location, int count);
+
+    /**
+     * Gets the homes for a player that are in the same world as, and within the given distance of, the given location,
+     * nearest first.
+     *
+     * @param location The {@link Location} to search from.
+     * @param radius The distance, in blocks.
+     * @return A {@link List} of the {@link LocationData}s of the homes.
+     */
+    List<LocationData> getHomesWithin(Location<World> location, double radius);
+
     /**
      * Sets a player's home. Will not overwrite a home that exists. Does not respect limits set in permissions and options.
      *
@@ -12,6 +12,7 @@ import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -44,6 +45,24 @@ public interface NucleusJailService {
      */
     Optional<LocationData> getJail(String name);
 
+    /**
+     * Gets the jails in the same world as, and nearest to, the given location, nearest first.
+     *
+     * @param location The {@link Location} to search from.
+     * @param count The maximum number of jails to return.
+     * @return A {@link List} of the {@link LocationData}s of the jails.
+     */
+    List<LocationData> getNearestJails(Location<World> location, int count);
+
+    /**
+     * Gets the jails in the same world as, and within the given distance of, the given location, nearest first.
+     *
+     * @param location The {@link Location} to search from.
+     * @param radius The distance, in blocks.
+     * @return A {@link List} of the {@link LocationData}s of the jails.
+     */
+    List<LocationData> getJailsWithin(Location<World> location, double radius);
+
     /**
      * Removes a jail location from the list.
      *
@@ -21,7 +21,8 @@ public interface NucleusKitService {
     Set<String> getKitNames();
 
     /**
-     * Gets the requested kit if it exists.
+     * Gets a copy of the requested kit if it exists. Changes made to the copy are only seen once it is passed to
+     * {@link #saveKit(String, Kit)}.
      *
      * @param name The name of the kit.
      * @return An {@link Optional} that might contain the kit.
@@ -37,7 +38,8 @@ public interface NucleusKitService {
     boolean removeKit(String kitName);
 
     /**
-     * Saves a kit with the requested name.
+     * Saves a kit with the requested name. The kit is available straight away, and is written to disk shortly
+     * afterwards.
      *
      * @param kitName The name of the kit to save.
      * @param kit The kit to save.
@@ -19,6 +19,24 @@ import java.util.UUID;
  */
 public interface NucleusMailService {
 
+    /**
+     * Gets the number of messages in a specific player's mailbox.
+     *
+     * @param player The {@link User} of the player to count the mail of.
+     * @return The number of messages.
+     */
+    int getMailCount(User player);
+
+    /**
+     * Gets a page of mail for a specific player, oldest first. Only the requested page is read.
+     *
+     * @param player The {@link User} of the player to get the mail of.
+     * @param page The page to get, starting at zero.
+     * @param pageSize The number of messages on each page.
+     * @return A list of mail, which will be empty if there is no such page.
+     */
+    List<MailData> getMail(User player, int page, int pageSize);
+
     /**
      * Gets mail for a specific player, optionally including a list of filters.
      *
@@ -10,6 +10,7 @@ import org.spongepowered.api.entity.living.player.User;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A service that retrieves {@link NucleusUser}s.
@@ -54,4 +55,30 @@ public interface NucleusUserLoaderService {
      * @return The {@link NucleusUser}
      */
     Optional<NucleusUser> getUser(User user);
+
+    /**
+     * Gets the user data file from their UUID, without blocking the calling thread.
+     *
+     * <p>
+     *     If the user is already in memory, the returned {@link CompletableFuture} will already be complete. Otherwise,
+     *     the user will be loaded from the persistent data source on a Nucleus thread. Callers on the main thread
+     *     should prefer this method over {@link #getUser(UUID)} if the user may not be online.
+     * </p>
+     *
+     * @param playerUUID The {@link UUID} of the player in question.
+     * @return A {@link CompletableFuture} that will contain the {@link NucleusUser}, wrapped in an {@link Optional}
+     */
+    CompletableFuture<Optional<NucleusUser>> getUserAsync(UUID playerUUID);
+
+    /**
+     * Gets the user data file from the {@link User}, without blocking the calling thread.
+     *
+     * <p>
+     *     See {@link #getUserAsync(UUID)}.
+     * </p>
+     *
+     * @param user The {@link User} of the player in question.
+     * @return A {@link CompletableFuture} that will contain the {@link NucleusUser}, wrapped in an {@link Optional}
+     */
+    CompletableFuture<Optional<NucleusUser>> getUserAsync(User user);
 }
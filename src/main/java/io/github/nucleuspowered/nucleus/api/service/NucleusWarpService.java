@@ -48,6 +48,32 @@ public interface NucleusWarpService {
      */
     boolean setWarp(String warpName, Location<World> location, Vector3d rotation);
 
+    /**
+     * Gets the warps in the same world as, and nearest to, the given location, nearest first.
+     *
+     * @param location The {@link Location} to search from.
+     * @param count The maximum number of warps to return.
+     * @return A {@link List} of {@link WarpData}.
+     */
+    List<WarpData> getNearestWarps(Location<World> location, int count);
+
+    /**
+     * Gets the warps in the same world as, and within the given distance of, the given location, nearest first.
+     *
+     * @param location The {@link Location} to search from.
+     * @param radius The distance, in blocks.
+     * @return A {@link List} of {@link WarpData}.
+     */
+    List<WarpData> getWarpsWithin(Location<World> location, double radius);
+
+    /**
+     * Gets the warps in the given world.
+     *
+     * @param world The {@link World}.
+     * @return A {@link List} of {@link WarpData}.
+     */
+    List<WarpData> getWarpsInWorld(World world);
+
     List<WarpData> getUncategorisedWarps();
 
     List<WarpData> getWarpsForCategory(String category);
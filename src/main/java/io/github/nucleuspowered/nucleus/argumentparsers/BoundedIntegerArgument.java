@@ -36,12 +36,12 @@ public class BoundedIntegerArgument extends CommandElement {
         try {
             int value = Integer.parseInt(args.next());
             if (value > max || value < min) {
-                throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.boundedinteger.outofbounds", String.valueOf(min), String.valueOf(max)));
+                throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.boundedinteger.outofbounds", String.valueOf(min), String.valueOf(max)));
             }
 
             return value;
         } catch (NumberFormatException e) {
-            throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.boundedinteger.nonumber"));
+            throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.boundedinteger.nonumber"));
         }
     }
 
@@ -42,7 +42,7 @@ public class DifficultyArgument extends CommandElement {
             return d.get();
         }
 
-        throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.difficulty.notfound", arg));
+        throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.difficulty.notfound", arg));
     }
 
     @Override
@@ -37,7 +37,7 @@ public class ExperienceLevelArgument extends CommandElement {
             return Integer.parseInt(m.group(2));
         }
 
-        throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.explevel.error"));
+        throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.explevel.error"));
     }
 
     @Override
@@ -37,13 +37,13 @@ public class HomeArgument extends CommandElement {
     @Override
     protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
         if (!(source instanceof User)) {
-            throw args.createError(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.playeronly"));
+            throw args.createError(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.playeronly"));
         }
 
-        return getHome((User) source, args.next(), args);
+        return getHome(source, (User) source, args.next(), args);
     }
 
-    protected LocationData getHome(User user, String home, CommandArgs args) throws ArgumentParseException {
+    protected LocationData getHome(CommandSource source, User user, String home, CommandArgs args) throws ArgumentParseException {
         try {
             Optional<LocationData> owl = plugin.getUserDataManager().get(user).get().getHome(home);
             if (owl.isPresent()) {
@@ -57,7 +57,7 @@ public class HomeArgument extends CommandElement {
             throw args.createError(Text.of(TextColors.RED, "An unspecified error occurred"));
         }
 
-        throw args.createError(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("args.home.nohome", home));
+        throw args.createError(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.home.nohome", home));
     }
 
     @Override
@@ -36,12 +36,12 @@ public class HomeOtherArgument extends HomeArgument {
         Optional<String> ohome = args.nextIfPresent();
 
         if (!ohome.isPresent()) {
-            throw args.createError(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("args.homeother.notenough"));
+            throw args.createError(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.homeother.notenough"));
         }
 
         // We know it's an instance of a user.
-        User user = ((List<User>)nickArg.parseInternal(player.toLowerCase(), args)).get(0);
-        LocationData location = this.getHome(user, ohome.get(), args);
+        User user = ((List<User>)nickArg.parseInternal(source, player.toLowerCase(), args)).get(0);
+        LocationData location = this.getHome(source, user, ohome.get(), args);
         return new HomeData(user, location);
     }
 
@@ -56,7 +56,7 @@ public class HomeOtherArgument extends HomeArgument {
             Optional<String> arg2 = args.nextIfPresent();
             if (arg2.isPresent()) {
                 // Get the user
-                User user = (User)this.nickArg.parseInternal(arg1, args);
+                User user = (User)this.nickArg.parseInternal(src, arg1, args);
                 return this.complete(user, arg2.get());
             } else {
                 args.setState(saveState);
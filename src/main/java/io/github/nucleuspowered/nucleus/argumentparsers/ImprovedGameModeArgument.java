@@ -52,7 +52,7 @@ public class ImprovedGameModeArgument extends CommandElement {
         GameMode mode = gameModeMap.get(arg.toLowerCase());
 
         if (mode == null) {
-            throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.gamemode.error", arg));
+            throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.gamemode.error", arg));
         }
 
         return mode;
@@ -39,7 +39,7 @@ public class InfoArgument extends CommandElement {
             return new Result(handler.getInfoSections().stream().filter(a::equalsIgnoreCase).findFirst().get(), list.get());
         }
 
-        throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.info.noinfo", a));
+        throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.info.noinfo", a));
     }
 
     @Override
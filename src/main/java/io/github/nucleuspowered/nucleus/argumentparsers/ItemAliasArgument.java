@@ -45,7 +45,7 @@ public class ItemAliasArgument extends CommandElement {
     protected Object parseValue(@Nonnull CommandSource source, @Nonnull CommandArgs args) throws ArgumentParseException {
         // The error is ignored anyway, so might as well stick with the empty text.
         String arg = args.next().toLowerCase();
-        Optional<CatalogType> result = parseAlias(arg, args);
+        Optional<CatalogType> result = parseAlias(source, arg, args);
         if (result.isPresent()) {
             return result.get();
         }
@@ -70,10 +70,10 @@ public class ItemAliasArgument extends CommandElement {
             return obs.get();
         }
 
-        throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.itemarg.nomatch", arg));
+        throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.itemarg.nomatch", arg));
     }
 
-    private Optional<CatalogType> parseAlias(String arg, @Nonnull CommandArgs args) throws ArgumentParseException {
+    private Optional<CatalogType> parseAlias(CommandSource source, String arg, @Nonnull CommandArgs args) throws ArgumentParseException {
         Optional<String> oid = itemDataService.getIdFromAlias(arg);
         if (!oid.isPresent()) {
             return Optional.empty();
@@ -89,7 +89,7 @@ public class ItemAliasArgument extends CommandElement {
 
         // Well, hopefully it's a blockstate then.
         return Optional.of(Sponge.getRegistry().getAllOf(BlockState.class).stream().filter(x -> x.getId().equalsIgnoreCase(id)).findFirst()
-                .orElseThrow(() -> args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.itemarg.orphanedarg", arg, id))));
+                .orElseThrow(() -> args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.itemarg.orphanedarg", arg, id))));
     }
 
     @Override
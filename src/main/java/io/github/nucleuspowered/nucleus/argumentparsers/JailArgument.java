@@ -38,7 +38,7 @@ public class JailArgument extends CommandElement {
             return owl.get();
         }
 
-        throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.jail.nojail"));
+        throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.jail.nojail"));
     }
 
     @Override
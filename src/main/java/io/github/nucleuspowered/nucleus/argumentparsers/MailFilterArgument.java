@@ -68,7 +68,7 @@ public class MailFilterArgument extends CommandElement {
                         try {
                             lmf.add(handler.createPlayerFilter(u));
                         } catch (NoSuchPlayerException e) {
-                            throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.mailfilter.player", players.group(1)));
+                            throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.mailfilter.player", players.group(1)));
                         }
                     }
                 }
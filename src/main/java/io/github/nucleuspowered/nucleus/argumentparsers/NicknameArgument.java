@@ -7,6 +7,7 @@ package io.github.nucleuspowered.nucleus.argumentparsers;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import io.github.nucleuspowered.nucleus.Nucleus;
+import io.github.nucleuspowered.nucleus.dataservices.NameIndex;
 import io.github.nucleuspowered.nucleus.dataservices.UserService;
 import io.github.nucleuspowered.nucleus.dataservices.loaders.UserDataManager;
 import io.github.nucleuspowered.nucleus.util.ThrownBiFunction;
@@ -24,14 +25,19 @@ import org.spongepowered.api.text.serializer.TextSerializers;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class NicknameArgument extends CommandElement {
 
+    // Tab completing an empty string could otherwise return every player the server has ever seen.
+    private static final int MAX_COMPLETIONS = 100;
+
     private final UserDataManager userDataManager;
     private final ThrownBiFunction<String, CommandArgs, List<?>, ArgumentParseException> parser;
     private final TriFunction<String, CommandArgs, CommandContext, List<String>> completer;
@@ -51,12 +57,20 @@ public class NicknameArgument extends CommandElement {
         this.type = type;
 
         if (type == UnderlyingType.USER) {
-            parser = new UserParser(onlyOne, () -> Sponge.getServiceManager().provideUnchecked(UserStorageService.class));
-            completer = (s, a, c) -> Sponge.getServiceManager().provideUnchecked(UserStorageService.class)
+            parser = new UserParser(onlyOne, () -> Sponge.getServiceManager().provideUnchecked(UserStorageService.class),
+                    userDataManager::getNameIndex);
+            completer = (s, a, c) -> {
+                NameIndex index = userDataManager.getNameIndex();
+                if (index != null && index.isReady()) {
+                    return Lists.newArrayList(index.getNamesStartingWith(s, MAX_COMPLETIONS));
+                }
+
+                return Sponge.getServiceManager().provideUnchecked(UserStorageService.class)
                     .getAll()
                     .stream()
                     .filter(x -> x.getName().isPresent() && x.getName().get().toLowerCase().startsWith(s))
                     .map(x -> x.getName().get()).collect(Collectors.toList());
+            };
         } else {
             PlayerConsoleArgument pca = new PlayerConsoleArgument(key, type == UnderlyingType.PLAYER_CONSOLE);
             parser = pca::parseInternal;
@@ -68,10 +82,10 @@ public class NicknameArgument extends CommandElement {
     @Override
     protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
         String name = args.next().toLowerCase();
-        return parseInternal(name, args);
+        return parseInternal(source, name, args);
     }
 
-    List<?> parseInternal(String name, CommandArgs args) throws ArgumentParseException {
+    List<?> parseInternal(CommandSource source, String name, CommandArgs args) throws ArgumentParseException {
         boolean playerOnly = name.startsWith("p:");
 
         final String fName;
@@ -86,32 +100,59 @@ public class NicknameArgument extends CommandElement {
             return obj;
         } else if (playerOnly) {
             // Rethrow;
-            throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.user.nouser", fName));
+            throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.user.nouser", fName));
         }
 
-        // Now check user names
-        Map<String, UserService> allPlayers = userDataManager.getOnlineUsersInternal().stream()
-                .filter(x -> x.getUser().isOnline() && x.getNicknameAsString().isPresent())
-                .collect(Collectors.toMap(s -> TextSerializers.FORMATTING_CODE.stripCodes(s.getNicknameAsString().get().toLowerCase()), s -> s));
-        if (allPlayers.containsKey(fName.toLowerCase())) {
-            return Lists.newArrayList(allPlayers.get(fName.toLowerCase()).getUser());
-        }
+        // Now check nicknames
+        List<User> players;
+        NameIndex index = userDataManager.getNameIndex();
+        if (index != null && index.isReady()) {
+            List<User> exact = getUsers(index.getByNickname(fName));
+            if (exact.size() == 1) {
+                return exact;
+            }
 
-        List<User> players = allPlayers.entrySet().stream().filter(x -> x.getKey().toLowerCase().startsWith(fName))
-                .sorted((x, y) -> x.getKey().compareTo(y.getKey()))
-                .map(x -> x.getValue().getUser())
-                .collect(Collectors.toList());
+            players = getUsers(index.getByNicknamePrefix(fName));
+        } else {
+            Map<String, UserService> allPlayers = userDataManager.getOnlineUsersInternal().stream()
+                    .filter(x -> x.getUser().isOnline() && x.getNicknameAsString().isPresent())
+                    .collect(Collectors.toMap(s -> TextSerializers.FORMATTING_CODE.stripCodes(s.getNicknameAsString().get().toLowerCase()), s -> s));
+            if (allPlayers.containsKey(fName.toLowerCase())) {
+                return Lists.newArrayList(allPlayers.get(fName.toLowerCase()).getUser());
+            }
+
+            players = allPlayers.entrySet().stream().filter(x -> x.getKey().toLowerCase().startsWith(fName))
+                    .sorted((x, y) -> x.getKey().compareTo(y.getKey()))
+                    .map(x -> x.getValue().getUser())
+                    .collect(Collectors.toList());
+        }
 
         if (players.isEmpty()) {
-            throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(type == UnderlyingType.PLAYER_CONSOLE ? "args.playerconsole.nouser" : "args.user.nouser", fName));
+            throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat(type == UnderlyingType.PLAYER_CONSOLE ? "args.playerconsole.nouser" : "args.user.nouser", fName));
         } else if (players.size() > 1 && this.onlyOne) {
-            throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.user.toomany", fName));
+            throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.user.toomany", fName));
         }
 
-        // We know they are online.
         return players;
     }
 
+    /**
+     * Gets the users with the given {@link UUID}s. Unless this argument accepts any user, only those that are online are
+     * returned.
+     *
+     * @param uuids The {@link UUID}s.
+     * @return The {@link User}s.
+     */
+    private List<User> getUsers(Collection<UUID> uuids) {
+        if (type == UnderlyingType.USER) {
+            UserStorageService uss = Sponge.getServiceManager().provideUnchecked(UserStorageService.class);
+            return uuids.stream().map(uss::get).filter(Optional::isPresent).map(Optional::get).collect(Collectors.toList());
+        }
+
+        return uuids.stream().map(x -> Sponge.getServer().getPlayer(x)).filter(Optional::isPresent).map(x -> (User) x.get())
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
         String name;
@@ -133,10 +174,22 @@ public class NicknameArgument extends CommandElement {
         if (playerOnly) {
             return original.stream().map(x -> "p:" + x).collect(Collectors.toList());
         } else {
-            original.addAll(userDataManager.getOnlineUsersInternal().stream()
-                    .filter(x -> x.getUser().isOnline() && x.getNicknameAsString().isPresent() &&
-                            TextSerializers.FORMATTING_CODE.stripCodes(x.getNicknameAsString().get()).toLowerCase().startsWith(fName))
-                    .map(x -> TextSerializers.FORMATTING_CODE.stripCodes(x.getNicknameAsString().get())).collect(Collectors.toList()));
+            NameIndex index = userDataManager.getNameIndex();
+            if (index != null && index.isReady()) {
+                if (type == UnderlyingType.USER) {
+                    original.addAll(index.getNicknamesStartingWith(fName, MAX_COMPLETIONS));
+                } else {
+                    index.getByNicknamePrefix(fName).stream().filter(x -> Sponge.getServer().getPlayer(x).isPresent())
+                            .map(index::getNickname).filter(Optional::isPresent).map(Optional::get).limit(MAX_COMPLETIONS)
+                            .forEach(original::add);
+                }
+            } else {
+                original.addAll(userDataManager.getOnlineUsersInternal().stream()
+                        .filter(x -> x.getUser().isOnline() && x.getNicknameAsString().isPresent() &&
+                                TextSerializers.FORMATTING_CODE.stripCodes(x.getNicknameAsString().get()).toLowerCase().startsWith(fName))
+                        .map(x -> TextSerializers.FORMATTING_CODE.stripCodes(x.getNicknameAsString().get())).collect(Collectors.toList()));
+            }
+
             return original;
         }
     }
@@ -151,17 +204,31 @@ public class NicknameArgument extends CommandElement {
 
         private final boolean onlyOne;
         private final Supplier<UserStorageService> userStorageServiceSupplier;
+        private final Supplier<NameIndex> nameIndexSupplier;
 
         public UserParser(boolean onlyOne, Supplier<UserStorageService> userStorageServiceSupplier) {
+            this(onlyOne, userStorageServiceSupplier, () -> null);
+        }
+
+        public UserParser(boolean onlyOne, Supplier<UserStorageService> userStorageServiceSupplier, Supplier<NameIndex> nameIndexSupplier) {
             this.onlyOne = onlyOne;
             this.userStorageServiceSupplier = userStorageServiceSupplier;
+            this.nameIndexSupplier = nameIndexSupplier;
         }
 
         @Override
         public List<?> accept(String s, CommandArgs a) throws ArgumentParseException {
             try {
                 UserStorageService uss = userStorageServiceSupplier.get();
-                List<User> users = uss.getAll().stream()
+                NameIndex index = nameIndexSupplier.get();
+                List<User> users;
+                if (index != null && index.isReady()) {
+                    users = index.getByNamePrefix(s).stream().map(uss::get)
+                            .filter(Optional::isPresent)
+                            .map(Optional::get)
+                            .collect(Collectors.toList());
+                } else {
+                    users = uss.getAll().stream()
                         // Get the players who start with the string.
                         .filter(x -> x.getName().filter(y -> y.toLowerCase().startsWith(s.toLowerCase())).isPresent())
                         .map(uss::get)
@@ -169,6 +236,7 @@ public class NicknameArgument extends CommandElement {
                         .filter(Optional::isPresent)
                         .map(Optional::get)
                         .collect(Collectors.toList());
+                }
 
                 if (!users.isEmpty()) {
                     List<User> exactUser = users.stream().filter(x -> x.getName().equalsIgnoreCase(s)).collect(Collectors.toList());
@@ -38,19 +38,19 @@ public class NoteArgument extends CommandElement {
     protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
         Optional<String> optPlayer = args.nextIfPresent();
         if (!optPlayer.isPresent()) {
-            throw args.createError(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("args.note.nouserarg"));
+            throw args.createError(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.note.nouserarg"));
         }
         String player = optPlayer.get();
 
         Optional<User> optUser = Sponge.getServiceManager().provideUnchecked(UserStorageService.class).get(player);
         if (!optUser.isPresent()) {
-            throw args.createError(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("args.note.nouser", player));
+            throw args.createError(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.note.nouser", player));
         }
         User user = optUser.get();
 
         Optional<String> optIndex = args.nextIfPresent();
         if (!optIndex.isPresent()) {
-            throw args.createError(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("args.note.noindex", user.getName()));
+            throw args.createError(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.note.noindex", user.getName()));
         }
 
         List<NoteData> noteData = handler.getNotes(user);
@@ -58,17 +58,17 @@ public class NoteArgument extends CommandElement {
         try {
             index = Integer.parseInt(optIndex.get()) - 1;
             if (index >= noteData.size() || index < 0) {
-                throw args.createError(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("args.note.nonotedata", optIndex.get(), user.getName()));
+                throw args.createError(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.note.nonotedata", optIndex.get(), user.getName()));
             }
         } catch (NumberFormatException ex) {
-            throw args.createError(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("args.note.indexnotnumber"));
+            throw args.createError(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.note.indexnotnumber"));
         }
 
         if (!noteData.isEmpty()) {
             return new Result(user, noteData.get(index));
         }
 
-        throw args.createError(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("args.note.nousernotes",user.getName()));
+        throw args.createError(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.note.nousernotes",user.getName()));
     }
 
     @Override
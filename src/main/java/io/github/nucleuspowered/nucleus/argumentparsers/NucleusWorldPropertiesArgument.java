@@ -43,7 +43,7 @@ public class NucleusWorldPropertiesArgument extends CommandElement {
             return owp.get();
         }
 
-        throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(type.key, next));
+        throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat(type.key, next));
     }
 
     @Override public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
@@ -28,7 +28,7 @@ public class PositiveIntegerArgument extends CommandElement {
         try {
             return Integer.parseUnsignedInt(args.next());
         } catch (NumberFormatException e) {
-            throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.positiveint.negative"));
+            throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.positiveint.negative"));
         }
     }
 
@@ -68,7 +68,7 @@ public class SelectorWrapperArgument extends CommandElement {
     @Override
     protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
         if (!permissionHandler.testSelectors(source)) {
-            throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.selector.nopermissions"));
+            throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.selector.nopermissions"));
         }
 
         String selectorRaw = args.next();
@@ -78,7 +78,7 @@ public class SelectorWrapperArgument extends CommandElement {
             return parserOptional.get().get(selector, source, args);
         }
 
-        throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.selector.noexist", selectorRaw));
+        throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.selector.noexist", selectorRaw));
     }
 
     @Override
@@ -40,7 +40,7 @@ public class TimespanArgument extends CommandElement {
     @Override
     protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
         if (!args.hasNext()) {
-            throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.timespan.notime"));
+            throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.timespan.notime"));
         }
 
         String s = args.next();
@@ -57,7 +57,7 @@ public class TimespanArgument extends CommandElement {
             }
         }
 
-        throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.timespan.incorrectformat", s));
+        throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.timespan.incorrectformat", s));
     }
 
     private int amount(String g, int multipler) {
@@ -46,15 +46,15 @@ public class TwoPlayersArgument extends CommandElement {
         Optional<String> osp2 = args.nextIfPresent();
 
         if (!osp2.isPresent()) {
-            throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.twoplayer.notenough"));
+            throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.twoplayer.notenough"));
         }
 
         String sp2 = osp2.get();
 
         context.putArg(key.toPlain(),
-                getPlayerFromPartialName(sp1).orElseThrow(() -> args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.twoplayer.noexist", sp1))));
+                getPlayerFromPartialName(sp1).orElseThrow(() -> args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.twoplayer.noexist", sp1))));
         context.putArg(key2.toPlain(),
-                getPlayerFromPartialName(sp2).orElseThrow(() -> args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.twoplayer.noexist", sp2))));
+                getPlayerFromPartialName(sp2).orElseThrow(() -> args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.twoplayer.noexist", sp2))));
     }
 
     @Override
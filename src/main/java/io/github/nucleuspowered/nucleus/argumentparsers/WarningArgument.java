@@ -38,19 +38,19 @@ public class WarningArgument extends CommandElement {
     protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
         Optional<String> optPlayer = args.nextIfPresent();
         if (!optPlayer.isPresent()) {
-            throw args.createError(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("args.warning.nouserarg"));
+            throw args.createError(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.warning.nouserarg"));
         }
         String player = optPlayer.get();
 
         Optional<User> optUser = Sponge.getServiceManager().provideUnchecked(UserStorageService.class).get(player);
         if (!optUser.isPresent()) {
-            throw args.createError(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("args.warning.nouser", player));
+            throw args.createError(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.warning.nouser", player));
         }
         User user = optUser.get();
 
         Optional<String> optIndex = args.nextIfPresent();
         if (!optIndex.isPresent()) {
-            throw args.createError(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("args.warning.noindex", user.getName()));
+            throw args.createError(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.warning.noindex", user.getName()));
         }
 
         List<WarnData> warnData = handler.getWarnings(user);
@@ -58,17 +58,17 @@ public class WarningArgument extends CommandElement {
         try {
             index = Integer.parseInt(optIndex.get()) - 1;
             if (index >= warnData.size() || index < 0) {
-                throw args.createError(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("args.warning.nowarndata", optIndex.get(), user.getName()));
+                throw args.createError(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.warning.nowarndata", optIndex.get(), user.getName()));
             }
         } catch (NumberFormatException ex) {
-            throw args.createError(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("args.warning.indexnotnumber"));
+            throw args.createError(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.warning.indexnotnumber"));
         }
 
         if (!warnData.isEmpty()) {
             return new Result(user, warnData.get(index));
         }
 
-        throw args.createError(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("args.warning.nouserwarnings",user.getName()));
+        throw args.createError(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.warning.nouserwarnings",user.getName()));
     }
 
     @Override
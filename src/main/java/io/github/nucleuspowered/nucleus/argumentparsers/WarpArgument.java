@@ -59,16 +59,16 @@ public class WarpArgument extends CommandElement {
         String warpName = args.next();
         String warp = warpName.toLowerCase();
         if (!service.warpExists(warp)) {
-            throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.warps.noexist"));
+            throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.warps.noexist"));
         }
 
         if (!checkPermission(source, warpName) && !checkPermission(source, warpName.toLowerCase())) {
-            throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.warps.noperms"));
+            throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.warps.noperms"));
         }
 
         if (includeWarpData) {
             return new Result(warpName,
-                    service.getWarp(warp).orElseThrow(() -> args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.warps.notavailable"))));
+                    service.getWarp(warp).orElseThrow(() -> args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.warps.notavailable"))));
         } else {
             return new Result(warpName, null);
         }
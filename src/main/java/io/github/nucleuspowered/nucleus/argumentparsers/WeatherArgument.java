@@ -48,7 +48,7 @@ public class WeatherArgument extends CommandElement {
             return weather.get(arg);
         }
 
-        throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.weather.noexist", "clear, rain, storm"));
+        throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.weather.noexist", "clear, rain, storm"));
     }
 
     @Override
@@ -40,7 +40,7 @@ public class AllPlayersFromWorld implements SelectorParser<Collection<Player>> {
         m.matches();
         String world = m.group(1);
 
-        World spongeWorld = Sponge.getServer().getWorld(world).orElseThrow(() -> args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.selector.noworld", world)));
+        World spongeWorld = Sponge.getServer().getWorld(world).orElseThrow(() -> args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.selector.noworld", world)));
 
         return Sponge.getServer().getOnlinePlayers().stream().filter(x -> x.getLocation().getExtent().getUniqueId().equals(spongeWorld.getUniqueId())).collect(Collectors.toList());
     }
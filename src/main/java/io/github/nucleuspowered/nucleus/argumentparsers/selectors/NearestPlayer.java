@@ -41,7 +41,7 @@ public class NearestPlayer implements SelectorParser<Player> {
     @Override
     public Player get(String selector, CommandSource source, CommandArgs args) throws ArgumentParseException {
         if (!(source instanceof LocatedSource)) {
-            throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.selector.nolocation"));
+            throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.selector.nolocation"));
         }
 
         LocatedSource locatedSource = (LocatedSource)source;
@@ -53,16 +53,16 @@ public class NearestPlayer implements SelectorParser<Player> {
         }
 
         // Remove players "out of this world", then sort players by distance from current location.
-        return getNearestPlayerFromLocation(playerCollection, locatedSource.getLocation(), args);
+        return getNearestPlayerFromLocation(playerCollection, locatedSource.getLocation(), source, args);
     }
 
-    static Player getNearestPlayerFromLocation(Collection<Player> playerCollection, Location<World> locationInWorld, CommandArgs args) throws ArgumentParseException {
+    static Player getNearestPlayerFromLocation(Collection<Player> playerCollection, Location<World> locationInWorld, CommandSource source, CommandArgs args) throws ArgumentParseException {
         Vector3d currentLocation = locationInWorld.getPosition();
         return playerCollection.parallelStream()
                 .filter(x -> x.getWorld().getUniqueId().equals(locationInWorld.getExtent().getUniqueId()))
                 .map(x -> new Tuple<>(x, x.getLocation().getPosition().distanceSquared(currentLocation)))
                 .min((x, y) -> x.getSecond().compareTo(y.getSecond()))
-                .orElseThrow(() -> args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.selector.notarget")))
+                .orElseThrow(() -> args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.selector.notarget")))
                 .getFirst();
     }
 }
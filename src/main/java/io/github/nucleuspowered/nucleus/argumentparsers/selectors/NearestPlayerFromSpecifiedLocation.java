@@ -43,9 +43,9 @@ public class NearestPlayerFromSpecifiedLocation implements SelectorParser<Player
         int y = Integer.parseInt(m.group(3));
         int z = Integer.parseInt(m.group(4));
 
-        World spongeWorld = Sponge.getServer().getWorld(world).orElseThrow(() -> args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.selector.noworld", world)));
+        World spongeWorld = Sponge.getServer().getWorld(world).orElseThrow(() -> args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.selector.noworld", world)));
 
         // Remove players "out of this world", then sort players by distance from current location.
-        return NearestPlayer.getNearestPlayerFromLocation(Sponge.getServer().getOnlinePlayers(), new Location<>(spongeWorld, x, y, z), args);
+        return NearestPlayer.getNearestPlayerFromLocation(Sponge.getServer().getOnlinePlayers(), new Location<>(spongeWorld, x, y, z), source, args);
     }
 }
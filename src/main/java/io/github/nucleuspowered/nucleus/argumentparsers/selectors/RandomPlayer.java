@@ -39,7 +39,7 @@ public class RandomPlayer implements SelectorParser<Player> {
                 .filter(x -> !(source instanceof Player) || ((Player) source).getUniqueId().equals(x.getUniqueId()))
                 .sorted((x, y) -> x.getName().compareTo(y.getName())).collect(Collectors.toList());
         if (players.isEmpty()) {
-            throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.selector.notarget"));
+            throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.selector.notarget"));
         }
 
         return players.get(random.nextInt(players.size()));
@@ -4,21 +4,41 @@
  */
 package io.github.nucleuspowered.nucleus.config;
 
+import com.google.common.collect.Maps;
 import com.google.common.reflect.TypeToken;
+import io.github.nucleuspowered.nucleus.FileUtil;
 import io.github.nucleuspowered.nucleus.config.bases.AbstractStandardNodeConfig;
 import ninja.leaping.configurate.ConfigurationNode;
 import ninja.leaping.configurate.commented.CommentedConfigurationNode;
 import ninja.leaping.configurate.commented.SimpleCommentedConfigurationNode;
 import ninja.leaping.configurate.hocon.HoconConfigurationLoader;
+import ninja.leaping.configurate.objectmapping.ObjectMappingException;
 import ninja.leaping.configurate.objectmapping.serialize.TypeSerializer;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Map;
 
+/**
+ * The configuration for each command, in <code>commands.conf</code>.
+ *
+ * <p>
+ *     The defaults for each command are added as modules load. They are merged into the configuration in memory, and
+ *     the file is only written when {@link #save()} is called, which is done once all modules have loaded and after each
+ *     reload. The file is written to a temporary file first and then moved into place, so it is never half written.
+ * </p>
+ */
 public class CommandsConfig extends AbstractStandardNodeConfig<CommentedConfigurationNode, HoconConfigurationLoader> {
 
+    private final Path file;
+
+    // The defaults added by the modules, kept so that they can be merged in again when the file is reloaded.
+    private final CommentedConfigurationNode defaults = SimpleCommentedConfigurationNode.root();
+
     public CommandsConfig(Path file) throws Exception {
-        super(file);
+        super(file, false);
+        this.file = file;
+        load();
     }
 
     @Override
@@ -28,30 +48,43 @@ public class CommandsConfig extends AbstractStandardNodeConfig<CommentedConfigur
 
     @Override
     protected CommentedConfigurationNode getDefaults() {
-        return SimpleCommentedConfigurationNode.root();
+        return defaults;
     }
 
+    /**
+     * Loads the file, and merges in the defaults that have been added so far. The file is not saved.
+     *
+     * @throws Exception if the file could not be loaded.
+     */
     @Override public void load() throws Exception {
-        super.load();
+        this.node = loader.load();
+        this.node.mergeValuesFrom(getDefaults());
 
         // Check the tp command
         ConfigurationNode n = this.node.getNode("teleport", "use-tp-command");
         if (!n.isVirtual()) {
             this.node.getNode("teleport", "aliases", "tp").setValue(n.getBoolean(true));
             this.node.getNode("teleport").removeChild("use-tp-command");
-            save();
         }
     }
 
+    @Override public void save() throws IOException, ObjectMappingException {
+        Path tempFile = FileUtil.getTempFile(file);
+        getLoader(tempFile, Maps.newHashMap()).save(this.node);
+        FileUtil.replace(tempFile, file);
+    }
+
     public CommentedConfigurationNode getCommandNode(String command) {
         return node.getNode(command.toLowerCase());
     }
 
     public void mergeDefaults(CommentedConfigurationNode node) {
+        this.defaults.mergeValuesFrom(node);
         this.node.mergeValuesFrom(node);
     }
 
     public void mergeDefaultsForCommand(String command, CommentedConfigurationNode node) {
+        this.defaults.getNode(command.toLowerCase()).mergeValuesFrom(node);
         this.node.getNode(command.toLowerCase()).mergeValuesFrom(node);
     }
 }
@@ -0,0 +1,402 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.configurate;
+
+import com.google.common.base.Preconditions;
+import ninja.leaping.configurate.ConfigurationNode;
+import ninja.leaping.configurate.ConfigurationOptions;
+import ninja.leaping.configurate.SimpleConfigurationNode;
+import ninja.leaping.configurate.gson.GsonConfigurationLoader;
+import ninja.leaping.configurate.loader.ConfigurationLoader;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Loads and saves {@link ConfigurationNode}s in a compact, versioned binary format.
+ *
+ * <p>
+ *     The format starts with a four byte header: the characters <code>NBN</code> followed by the format version. This
+ *     is followed by a table of every map key used in the document, so that keys that are repeated (such as the keys
+ *     of each mail message or warning) are only stored once. The node tree follows, with each node prefixed by a tag
+ *     byte that identifies its type. Lengths, counts and whole numbers are stored as variable length integers.
+ * </p>
+ *
+ * <p>
+ *     Map keys are always read back as strings, which matches the behaviour of the JSON loader.
+ * </p>
+ */
+public class BinaryConfigurationLoader implements ConfigurationLoader<ConfigurationNode> {
+
+    private static final byte[] HEADER = new byte[] { 'N', 'B', 'N' };
+    private static final byte VERSION = 1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_MAP = 1;
+    private static final byte TAG_LIST = 2;
+    private static final byte TAG_STRING = 3;
+    private static final byte TAG_TRUE = 4;
+    private static final byte TAG_FALSE = 5;
+    private static final byte TAG_INT = 6;
+    private static final byte TAG_LONG = 7;
+    private static final byte TAG_DOUBLE = 8;
+    private static final byte TAG_FLOAT = 9;
+
+    private final Callable<InputStream> source;
+    private final Callable<OutputStream> sink;
+
+    public BinaryConfigurationLoader(Path path) {
+        this(() -> new BufferedInputStream(Files.newInputStream(path)), () -> new BufferedOutputStream(Files.newOutputStream(path)));
+    }
+
+    public BinaryConfigurationLoader(Callable<InputStream> source, Callable<OutputStream> sink) {
+        this.source = source;
+        this.sink = sink;
+    }
+
+    /**
+     * Returns whether the supplied data is in this format.
+     *
+     * @param data The data.
+     * @return <code>true</code> if the data starts with the binary header.
+     */
+    public static boolean isBinary(byte[] data) {
+        return data.length > HEADER.length && data[0] == HEADER[0] && data[1] == HEADER[1] && data[2] == HEADER[2];
+    }
+
+    /**
+     * Converts a node into its binary representation.
+     *
+     * @param node The {@link ConfigurationNode}.
+     * @return The bytes.
+     * @throws IOException if the node could not be written.
+     */
+    public static byte[] toBytes(ConfigurationNode node) throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        new BinaryConfigurationLoader(() -> null, () -> os).save(node);
+        return os.toByteArray();
+    }
+
+    /**
+     * Reads a node from its binary representation.
+     *
+     * @param data The bytes.
+     * @param options The {@link ConfigurationOptions} to create the node with.
+     * @return The {@link ConfigurationNode}.
+     * @throws IOException if the data is not valid.
+     */
+    public static ConfigurationNode fromBytes(byte[] data, ConfigurationOptions options) throws IOException {
+        return new BinaryConfigurationLoader(() -> new ByteArrayInputStream(data), () -> null).load(options);
+    }
+
+    /**
+     * Converts binary data into JSON, for inspection.
+     *
+     * @param data The binary data.
+     * @return The JSON representation.
+     * @throws IOException if the data is not valid.
+     */
+    public static String toJson(byte[] data) throws IOException {
+        StringWriter sw = new StringWriter();
+        GsonConfigurationLoader.builder().setIndent(2).setSink(() -> new BufferedWriter(sw)).build()
+                .save(fromBytes(data, ConfigurationOptions.defaults()));
+        return sw.toString();
+    }
+
+    /**
+     * Converts JSON into binary data.
+     *
+     * @param json The JSON.
+     * @return The binary representation.
+     * @throws IOException if the JSON is not valid.
+     */
+    public static byte[] fromJson(String json) throws IOException {
+        return toBytes(GsonConfigurationLoader.builder().setSource(() -> new BufferedReader(new StringReader(json))).build().load());
+    }
+
+    /**
+     * Converts a data file between the binary and JSON formats, so that the data can be inspected or edited by hand.
+     *
+     * <p>
+     *     Usage: <code>BinaryConfigurationLoader &lt;tojson|tobinary&gt; &lt;input file&gt; &lt;output file&gt;</code>.
+     *     The Sponge jar must be on the classpath.
+     * </p>
+     *
+     * @param args The arguments.
+     * @throws IOException if the files could not be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3 || !(args[0].equalsIgnoreCase("tojson") || args[0].equalsIgnoreCase("tobinary"))) {
+            System.out.println("Usage: BinaryConfigurationLoader <tojson|tobinary> <input file> <output file>");
+            return;
+        }
+
+        byte[] input = Files.readAllBytes(Paths.get(args[1]));
+        byte[] output;
+        if (args[0].equalsIgnoreCase("tojson")) {
+            output = toJson(input).getBytes(StandardCharsets.UTF_8);
+        } else {
+            output = fromJson(new String(input, StandardCharsets.UTF_8));
+        }
+
+        Files.write(Paths.get(args[2]), output);
+    }
+
+    @Override
+    public ConfigurationOptions getDefaultOptions() {
+        return ConfigurateHelper.setOptions(ConfigurationOptions.defaults());
+    }
+
+    @Override
+    public ConfigurationNode load(ConfigurationOptions options) throws IOException {
+        ConfigurationNode node = createEmptyNode(options);
+        try (DataInputStream is = new DataInputStream(source.call())) {
+            for (byte b : HEADER) {
+                if (is.readByte() != b) {
+                    throw new IOException("The data is not in the Nucleus binary format.");
+                }
+            }
+
+            byte version = is.readByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported binary format version " + version + ".");
+            }
+
+            String[] keys = new String[readVarInt(is)];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = readString(is);
+            }
+
+            readNode(is, node, keys);
+            return node;
+        } catch (NoSuchFileException e) {
+            return node;
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void save(ConfigurationNode node) throws IOException {
+        Preconditions.checkNotNull(node);
+        Map<String, Integer> keys = new HashMap<>();
+        List<String> keyList = new ArrayList<>();
+        collectKeys(node, keys, keyList);
+
+        try (DataOutputStream os = new DataOutputStream(sink.call())) {
+            os.write(HEADER);
+            os.writeByte(VERSION);
+            writeVarInt(os, keyList.size());
+            for (String key : keyList) {
+                writeString(os, key);
+            }
+
+            writeNode(os, node, keys);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public ConfigurationNode createEmptyNode(ConfigurationOptions options) {
+        return SimpleConfigurationNode.root(options);
+    }
+
+    private void collectKeys(ConfigurationNode node, Map<String, Integer> keys, List<String> keyList) {
+        if (node.hasMapChildren()) {
+            for (Map.Entry<Object, ? extends ConfigurationNode> entry : node.getChildrenMap().entrySet()) {
+                String key = String.valueOf(entry.getKey());
+                if (!keys.containsKey(key)) {
+                    keys.put(key, keyList.size());
+                    keyList.add(key);
+                }
+
+                collectKeys(entry.getValue(), keys, keyList);
+            }
+        } else if (node.hasListChildren()) {
+            for (ConfigurationNode child : node.getChildrenList()) {
+                collectKeys(child, keys, keyList);
+            }
+        }
+    }
+
+    private void writeNode(DataOutputStream os, ConfigurationNode node, Map<String, Integer> keys) throws IOException {
+        if (node.hasMapChildren()) {
+            Map<Object, ? extends ConfigurationNode> children = node.getChildrenMap();
+            os.writeByte(TAG_MAP);
+            writeVarInt(os, children.size());
+            for (Map.Entry<Object, ? extends ConfigurationNode> entry : children.entrySet()) {
+                writeVarInt(os, keys.get(String.valueOf(entry.getKey())));
+                writeNode(os, entry.getValue(), keys);
+            }
+
+            return;
+        } else if (node.hasListChildren()) {
+            List<? extends ConfigurationNode> children = node.getChildrenList();
+            os.writeByte(TAG_LIST);
+            writeVarInt(os, children.size());
+            for (ConfigurationNode child : children) {
+                writeNode(os, child, keys);
+            }
+
+            return;
+        }
+
+        Object value = node.getValue();
+        if (value == null) {
+            os.writeByte(TAG_NULL);
+        } else if (value instanceof Boolean) {
+            os.writeByte((Boolean) value ? TAG_TRUE : TAG_FALSE);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            os.writeByte(TAG_INT);
+            writeVarLong(os, ((Number) value).intValue());
+        } else if (value instanceof Long) {
+            os.writeByte(TAG_LONG);
+            writeVarLong(os, (Long) value);
+        } else if (value instanceof Float) {
+            os.writeByte(TAG_FLOAT);
+            os.writeFloat((Float) value);
+        } else if (value instanceof Number) {
+            os.writeByte(TAG_DOUBLE);
+            os.writeDouble(((Number) value).doubleValue());
+        } else {
+            os.writeByte(TAG_STRING);
+            writeString(os, value.toString());
+        }
+    }
+
+    private void readNode(DataInputStream is, ConfigurationNode node, String[] keys) throws IOException {
+        byte tag = is.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return;
+            case TAG_MAP: {
+                int size = readVarInt(is);
+                node.setValue(Collections.emptyMap());
+                for (int i = 0; i < size; i++) {
+                    readNode(is, node.getNode(keys[readVarInt(is)]), keys);
+                }
+
+                return;
+            }
+            case TAG_LIST: {
+                int size = readVarInt(is);
+                node.setValue(Collections.emptyList());
+                for (int i = 0; i < size; i++) {
+                    readNode(is, node.getAppendedNode(), keys);
+                }
+
+                return;
+            }
+            case TAG_STRING:
+                node.setValue(readString(is));
+                return;
+            case TAG_TRUE:
+                node.setValue(true);
+                return;
+            case TAG_FALSE:
+                node.setValue(false);
+                return;
+            case TAG_INT:
+                node.setValue((int) readVarLong(is));
+                return;
+            case TAG_LONG:
+                node.setValue(readVarLong(is));
+                return;
+            case TAG_DOUBLE:
+                node.setValue(is.readDouble());
+                return;
+            case TAG_FLOAT:
+                node.setValue(is.readFloat());
+                return;
+            default:
+                throw new IOException("Unknown node type " + tag + ".");
+        }
+    }
+
+    private static void writeString(DataOutputStream os, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(os, bytes.length);
+        os.write(bytes);
+    }
+
+    private static String readString(DataInputStream is) throws IOException {
+        byte[] bytes = new byte[readVarInt(is)];
+        is.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarInt(DataOutputStream os, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            os.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        os.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream is) throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = is.readByte();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+
+        throw new IOException("Malformed variable length integer.");
+    }
+
+    // Signed values are zig-zag encoded so that small negative numbers are also short.
+    private static void writeVarLong(DataOutputStream os, long value) throws IOException {
+        long v = (value << 1) ^ (value >> 63);
+        while ((v & ~0x7FL) != 0) {
+            os.writeByte((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+
+        os.writeByte((int) v);
+    }
+
+    private static long readVarLong(DataInputStream is) throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = is.readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (result >>> 1) ^ -(result & 1);
+            }
+        }
+
+        throw new IOException("Malformed variable length integer.");
+    }
+}
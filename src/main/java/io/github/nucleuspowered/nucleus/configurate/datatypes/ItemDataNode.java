@@ -31,7 +31,10 @@ public class ItemDataNode {
     }
 
     public ItemDataNode(ItemDataNode copy) {
-        this(copy.aliases, copy.shop.getBuy(), copy.shop.getSell());
+        this(new HashSet<>(copy.aliases), copy.shop.getBuy(), copy.shop.getSell());
+        this.blacklist.setEnvironment(copy.blacklist.isEnvironment());
+        this.blacklist.setInventory(copy.blacklist.isInventory());
+        this.blacklist.setUse(copy.blacklist.isUse());
     }
 
     @Setting(comment = "loc:config.itemdatanode.aliases")
@@ -28,6 +28,19 @@ public class KitConfigDataNode {
     private boolean kitFix = false;
     private final Object locking = new Object();
 
+    public KitConfigDataNode() {}
+
+    /**
+     * Copies the kit map and the first kit. The kits themselves are shared, as they are replaced rather than changed.
+     *
+     * @param copy The node to copy.
+     */
+    public KitConfigDataNode(KitConfigDataNode copy) {
+        this.kits = Maps.newHashMap(copy.getKits());
+        this.firstKit = Lists.newArrayList(copy.firstKit);
+        this.kitFix = true;
+    }
+
     public Map<String, KitDataNode> getKits() {
         synchronized (locking) {
             if (!kitFix) {
@@ -29,6 +29,15 @@ public class KitDataNode implements Kit {
 
     @Setting private boolean oneTime = false;
 
+    public KitDataNode() {}
+
+    public KitDataNode(KitDataNode copy) {
+        this.stacks = Lists.newArrayList(copy.stacks);
+        this.interval = copy.interval;
+        this.cost = copy.cost;
+        this.oneTime = copy.oneTime;
+    }
+
     @Override
     public List<ItemStackSnapshot> getStacks() {
         return ItemStackSnapshotSerialiser.INSTANCE.deserializeList(stacks);
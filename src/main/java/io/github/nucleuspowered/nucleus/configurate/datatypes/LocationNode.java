@@ -77,4 +77,17 @@ public class LocationNode {
     public Vector3d getRotation() {
         return new Vector3d(rotx, roty, rotz);
     }
+
+    /**
+     * Gets the position in the world, which does not require the world to be loaded.
+     *
+     * @return The position.
+     */
+    public Vector3d getPosition() {
+        return new Vector3d(x, y, z);
+    }
+
+    public UUID getWorld() {
+        return world;
+    }
 }
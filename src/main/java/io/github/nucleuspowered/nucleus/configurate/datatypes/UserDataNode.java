@@ -49,6 +49,7 @@ public class UserDataNode {
     @Setting
     private boolean fly;
 
+    // Mail is now kept in the MailStore. This is only read so that older mail can be moved there.
     @Setting("mail")
     private List<MailData> mailDataList = Lists.newArrayList();
 
@@ -0,0 +1,120 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.dataservices;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+/**
+ * Indexes the keys of a named data map, such as warps or homes, by their lower case form, so that an entry can be
+ * found regardless of case without going through every key. The keys in the map keep the case they were created with.
+ *
+ * <p>
+ *     All changes to the map must be made through this class. The index is rebuilt if the map itself is replaced,
+ *     which happens when the data is reloaded.
+ * </p>
+ *
+ * @param <V> The type of value in the map.
+ */
+final class CaseInsensitiveIndex<V> {
+
+    private final Supplier<Map<String, V>> mapSupplier;
+    private final Map<String, String> keys = new HashMap<>();
+    @Nullable private Map<String, V> indexedMap = null;
+    @Nullable private ImmutableMap<String, V> snapshot = null;
+
+    CaseInsensitiveIndex(Supplier<Map<String, V>> mapSupplier) {
+        this.mapSupplier = mapSupplier;
+    }
+
+    synchronized Optional<String> getKey(String name) {
+        update();
+        return Optional.ofNullable(keys.get(name.toLowerCase()));
+    }
+
+    synchronized Optional<V> get(String name) {
+        Map<String, V> map = update();
+        String key = keys.get(name.toLowerCase());
+        return key == null ? Optional.empty() : Optional.ofNullable(map.get(key));
+    }
+
+    synchronized boolean contains(String name) {
+        update();
+        return keys.containsKey(name.toLowerCase());
+    }
+
+    /**
+     * Adds an entry, if there is not already one with the same name in any case.
+     *
+     * @param name The name.
+     * @param value The value.
+     * @return <code>true</code> if the entry was added.
+     */
+    synchronized boolean add(String name, V value) {
+        Map<String, V> map = update();
+        if (keys.putIfAbsent(name.toLowerCase(), name) != null) {
+            return false;
+        }
+
+        map.put(name, value);
+        snapshot = null;
+        return true;
+    }
+
+    /**
+     * Adds an entry, replacing any entry with the same name in any case. Nothing sees the map without either entry.
+     *
+     * @param name The name.
+     * @param value The value.
+     */
+    synchronized void put(String name, V value) {
+        remove(name);
+        add(name, value);
+    }
+
+    synchronized Optional<V> remove(String name) {
+        Map<String, V> map = update();
+        String key = keys.remove(name.toLowerCase());
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        snapshot = null;
+        return Optional.ofNullable(map.remove(key));
+    }
+
+    /**
+     * Gets all entries. The same immutable map is returned until an entry is added or removed, so this is cheap to call
+     * repeatedly.
+     *
+     * @return The entries.
+     */
+    synchronized ImmutableMap<String, V> getAll() {
+        Map<String, V> map = update();
+        if (snapshot == null) {
+            snapshot = ImmutableMap.copyOf(map);
+        }
+
+        return snapshot;
+    }
+
+    private Map<String, V> update() {
+        Map<String, V> map = mapSupplier.get();
+        if (map != indexedMap) {
+            keys.clear();
+            map.keySet().forEach(x -> keys.put(x.toLowerCase(), x));
+            indexedMap = map;
+            snapshot = null;
+        }
+
+        return map;
+    }
+}
@@ -6,7 +6,6 @@ package io.github.nucleuspowered.nucleus.dataservices;
 
 import com.flowpowered.math.vector.Vector3d;
 import com.google.common.base.Preconditions;
-import io.github.nucleuspowered.nucleus.Util;
 import io.github.nucleuspowered.nucleus.api.data.LocationData;
 import io.github.nucleuspowered.nucleus.api.data.WarpData;
 import io.github.nucleuspowered.nucleus.api.exceptions.NoSuchWorldException;
@@ -18,6 +17,7 @@ import org.spongepowered.api.entity.Transform;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
@@ -43,52 +43,79 @@ public class GeneralService extends Service<GeneralDataNode> {
         }
     };
 
+    private final CaseInsensitiveIndex<LocationNode> jails = new CaseInsensitiveIndex<>(() -> data.getJails());
+    private final CaseInsensitiveIndex<WarpNode> warps = new CaseInsensitiveIndex<>(() -> data.getWarps());
+    private final SpatialIndex<LocationNode> jailLocations = new SpatialIndex<>(jails::getAll);
+    private final SpatialIndex<WarpNode> warpLocations = new SpatialIndex<>(warps::getAll);
+    private final LocationDataCache<LocationNode, LocationData> jailData = new LocationDataCache<>(jails, getLocationData);
+    private final LocationDataCache<WarpNode, WarpData> warpData = new LocationDataCache<>(warps, getWarpLocation);
+
     public GeneralService(DataProvider<GeneralDataNode> provider) throws Exception {
         // This gets set up early, but we don't want to load it until post-init.
         super(provider, false);
     }
 
     public Optional<LocationData> getJailLocation(String name) {
-        return getLocation(name, data.getJails());
+        return getLocation(name, jails);
     }
 
     public Map<String, LocationData> getJails() {
-        return getLocations(data.getJails());
+        return jailData.get();
+    }
+
+    public List<LocationData> getNearestJails(Location<World> location, int count) {
+        return convert(jailLocations.getNearest(location.getExtent().getUniqueId(), location.getPosition(), count), getLocationData);
+    }
+
+    public List<LocationData> getJailsWithin(Location<World> location, double radius) {
+        return convert(jailLocations.getWithin(location.getExtent().getUniqueId(), location.getPosition(), radius), getLocationData);
     }
 
     public boolean addJail(String name, Location<World> loc, Vector3d rot) {
-        return addLocation(name, loc, rot, data.getJails());
+        return addLocation(name, loc, rot, jails);
     }
 
     public boolean removeJail(String name) {
-        return removeLocation(name, data.getJails());
+        return removeLocation(name, jails);
     }
 
     public Optional<WarpData> getWarpLocation(String name) {
-        return getLocation(name, data.getWarps(), getWarpLocation);
+        return getLocation(name, warps, getWarpLocation);
     }
 
     public Map<String, WarpData> getWarps() {
-        return getLocations(data.getWarps(), getWarpLocation);
+        return warpData.get();
+    }
+
+    public List<WarpData> getNearestWarps(Location<World> location, int count) {
+        return convert(warpLocations.getNearest(location.getExtent().getUniqueId(), location.getPosition(), count), getWarpLocation);
+    }
+
+    public List<WarpData> getWarpsWithin(Location<World> location, double radius) {
+        return convert(warpLocations.getWithin(location.getExtent().getUniqueId(), location.getPosition(), radius), getWarpLocation);
+    }
+
+    public List<WarpData> getWarpsInWorld(World world) {
+        return convert(warpLocations.getInWorld(world.getUniqueId()), getWarpLocation);
     }
 
     public boolean addWarp(String name, Location<World> loc, Vector3d rot) {
-        Map<String, WarpNode> m = data.getWarps();
-        if (Util.getKeyIgnoreCase(m, name).isPresent()) {
-            return false;
+        if (warps.add(name, new WarpNode(loc, rot))) {
+            markDirty();
+            return true;
         }
 
-        m.put(name, new WarpNode(loc, rot));
-        return true;
+        return false;
     }
 
     public boolean setWarpCost(String name, int cost) {
         Preconditions.checkArgument(cost >= -1);
-        Map<String, WarpNode> m = data.getWarps();
-        Optional<WarpNode> os = Util.getValueIgnoreCase(m, name);
+        Optional<WarpNode> os = warps.get(name);
         if (os.isPresent()) {
-            // No need to put it back - it's saved automatically.
+            // No need to put it back - it's saved automatically once marked as dirty.
             os.get().setCost(cost);
+            warpData.invalidate();
+            markDirty();
             return true;
         }
 
@@ -96,11 +123,12 @@ public class GeneralService extends Service<GeneralDataNode> {
     }
 
     public boolean setWarpCategory(String name, @Nullable String category) {
-        Map<String, WarpNode> m = data.getWarps();
-        Optional<WarpNode> os = Util.getValueIgnoreCase(m, name);
+        Optional<WarpNode> os = warps.get(name);
         if (os.isPresent()) {
-            // No need to put it back - it's saved automatically.
+            // No need to put it back - it's saved automatically once marked as dirty.
             os.get().setCategory(category);
+            warpData.invalidate();
+            markDirty();
             return true;
         }
 
@@ -108,10 +136,8 @@ public class GeneralService extends Service<GeneralDataNode> {
     }
 
     public boolean removeWarp(String name) {
-        Map<String, WarpNode> m = data.getWarps();
-        Optional<String> os = Util.getKeyIgnoreCase(m, name);
-        if (os.isPresent()) {
-            m.remove(os.get());
+        if (warps.remove(name).isPresent()) {
+            markDirty();
             return true;
         }
 
@@ -134,20 +160,23 @@ public class GeneralService extends Service<GeneralDataNode> {
 
     public void setFirstSpawn(Location<World> location, Vector3d rot) {
         data.setFirstSpawnLocation(new LocationNode(location, rot));
+        markDirty();
     }
 
     public void removeFirstSpawn() {
         data.setFirstSpawnLocation(null);
+        markDirty();
     }
 
     // Helper methods for warp based systems
 
-    private Optional<LocationData> getLocation(String name, Map<String, LocationNode> m) {
+    private Optional<LocationData> getLocation(String name, CaseInsensitiveIndex<LocationNode> m) {
         return getLocation(name, m, getLocationData);
     }
 
-    private <T extends LocationData, S extends LocationNode> Optional<T> getLocation(String name, Map<String, S> m, BiFunction<String, S, T> converter) {
-        Optional<S> o = Util.getValueIgnoreCase(m, name);
+    private <T extends LocationData, S extends LocationNode> Optional<T> getLocation(String name, CaseInsensitiveIndex<S> m,
+            BiFunction<String, S, T> converter) {
+        Optional<S> o = m.get(name);
         if (!o.isPresent()) {
             return Optional.empty();
         }
@@ -155,28 +184,29 @@ public class GeneralService extends Service<GeneralDataNode> {
         return Optional.ofNullable(converter.apply(name, o.get()));
     }
 
-    private Map<String, LocationData> getLocations(Map<String, LocationNode> msl) {
-        return getLocations(msl, getLocationData);
+    private <T extends LocationData, S extends LocationNode> List<T> convert(List<Map.Entry<String, S>> entries,
+            BiFunction<String, S, T> converter) {
+        return entries.stream().map(x -> converter.apply(x.getKey(), x.getValue())).filter(x -> x != null).collect(Collectors.toList());
     }
 
-    private <T extends LocationData, S extends LocationNode> Map<String, T> getLocations(Map<String, S> m, BiFunction<String, S, T> converter) {
-        return m.entrySet().stream().map(x -> converter.apply(x.getKey(), x.getValue())).filter(x -> x != null).collect(Collectors.toMap(T::getName, x -> x));
-    }
-
-    private boolean addLocation(String name, Location<World> loc, Vector3d rot, Map<String, LocationNode> m) {
+    private boolean addLocation(String name, Location<World> loc, Vector3d rot, CaseInsensitiveIndex<LocationNode> m) {
         Preconditions.checkNotNull(name);
         Preconditions.checkNotNull(loc);
         Preconditions.checkNotNull(rot);
-        if (Util.getKeyIgnoreCase(m, name).isPresent()) {
-            return false;
+        if (m.add(name, new LocationNode(loc, rot))) {
+            markDirty();
+            return true;
         }
 
-        m.put(name, new LocationNode(loc, rot));
-        return true;
+        return false;
     }
 
-    private boolean removeLocation(String name, Map<String, LocationNode> m) {
-        Optional<Map.Entry<String, LocationNode>> o = m.entrySet().stream().filter(k -> k.getKey().equalsIgnoreCase(name)).findFirst();
-        return o.isPresent() && m.remove(o.get().getKey()) != null;
+    private boolean removeLocation(String name, CaseInsensitiveIndex<LocationNode> m) {
+        if (m.remove(name).isPresent()) {
+            markDirty();
+            return true;
+        }
+
+        return false;
     }
 }
@@ -18,31 +18,46 @@ import org.spongepowered.api.item.ItemTypes;
 import org.spongepowered.api.item.inventory.ItemStackSnapshot;
 import org.spongepowered.api.util.Tuple;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * Holds the data for each item, such as aliases, prices and whether it is blacklisted.
+ *
+ * <p>
+ *     Changes are made in memory straight away and written to disk shortly afterwards, so that many changes in quick
+ *     succession only write the file once. {@link #getDataForItem(String)} returns a copy of the data, which is only
+ *     seen by anything else once it is passed to {@link #setDataForItem(String, ItemDataNode)}.
+ * </p>
+ */
 public class ItemDataService extends Service<Map<String, ItemDataNode>> {
 
-    private Map<String, String> aliasToItemIdCache = null;
-    private Map<String, BlacklistNode> blacklistCache = null;
-    private Map<CatalogType, BlacklistNode> blacklistTypeCache = null;
+    // Rebuilt from the data when they are next needed after a change. They are never changed once built, so they can
+    // be read without holding the lock.
+    private volatile Map<String, String> aliasToItemIdCache = null;
+    private volatile Map<String, BlacklistNode> blacklistCache = null;
+    private volatile Map<CatalogType, BlacklistNode> blacklistTypeCache = null;
 
     public ItemDataService(DataProvider<Map<String, ItemDataNode>> dataProvider) throws Exception {
         super(dataProvider, true);
     }
 
     @Override
-    public boolean load() {
-        clearCache();
-        return super.load();
+    public synchronized boolean load() {
+        try {
+            return super.load();
+        } finally {
+            clearCache();
+        }
     }
 
     @Override
-    public boolean save() {
-        clearCache();
-        return super.save();
+    synchronized Map<String, ItemDataNode> getDataToSave() {
+        // The nodes are never changed once they are in the map, so only the map needs copying.
+        return new HashMap<>(data);
     }
 
     public Set<String> getAliases() {
@@ -53,30 +68,36 @@ public class ItemDataService extends Service<Map<String, ItemDataNode>> {
         return getDataForItem(getIdFromSnapshot(itemStackSnapshot));
     }
 
-    public ItemDataNode getDataForItem(String id) {
+    public synchronized ItemDataNode getDataForItem(String id) {
         Preconditions.checkNotNull(id);
-        return data.getOrDefault(id.toLowerCase(), new ItemDataNode());
+        ItemDataNode node = data.get(id.toLowerCase());
+        return node == null ? new ItemDataNode() : new ItemDataNode(node);
     }
 
     public void setDataForItem(ItemStackSnapshot itemStackSnapshot, ItemDataNode node) {
         setDataForItem(getIdFromSnapshot(itemStackSnapshot), node);
     }
 
-    public void setDataForItem(String id, ItemDataNode node) {
+    public synchronized void setDataForItem(String id, ItemDataNode node) {
         Preconditions.checkNotNull(id);
         Preconditions.checkNotNull(node);
-        data.put(id, node);
-        save();
+
+        // Copied, so that changes made to the node afterwards do not show until it is set again.
+        data.put(id, new ItemDataNode(node));
+        clearCache();
+        saveLater();
     }
 
     public void resetDataForItem(ItemStackSnapshot itemStackSnapshot) {
         resetDataForItem(getIdFromSnapshot(itemStackSnapshot));
     }
 
-    public void resetDataForItem(String id) {
+    public synchronized void resetDataForItem(String id) {
         Preconditions.checkNotNull(id);
-        data.remove(id);
-        save();
+        if (data.remove(id) != null) {
+            clearCache();
+            saveLater();
+        }
     }
 
     public Optional<String> getIdFromAlias(String alias) {
@@ -96,38 +117,61 @@ public class ItemDataService extends Service<Map<String, ItemDataNode>> {
     }
 
     private Map<CatalogType, BlacklistNode> getBlacklistItemCache() {
-        if (this.blacklistTypeCache == null) {
-            this.blacklistTypeCache = getBlacklistCache().entrySet().stream()
-                .map(x -> {
-                    Optional<CatalogType> catalogType = Util.getCatalogTypeForItemFromId(x.getKey());
-                    if (catalogType.isPresent()) {
-                        return Tuples.of(catalogType.get(), x.getValue());
-                    } else {
-                        return Tuples.of(ItemTypes.NONE, x.getValue());
-                    }
-                }).filter(x -> !x.getFirst().equals(ItemTypes.NONE)).collect(Collectors.toMap(Tuple::getFirst, Tuple::getSecond));
+        Map<CatalogType, BlacklistNode> cache = this.blacklistTypeCache;
+        if (cache == null) {
+            synchronized (this) {
+                if (this.blacklistTypeCache == null) {
+                    this.blacklistTypeCache = getBlacklistCache().entrySet().stream()
+                        .map(x -> {
+                            Optional<CatalogType> catalogType = Util.getCatalogTypeForItemFromId(x.getKey());
+                            if (catalogType.isPresent()) {
+                                return Tuples.of(catalogType.get(), x.getValue());
+                            } else {
+                                return Tuples.of(ItemTypes.NONE, x.getValue());
+                            }
+                        }).filter(x -> !x.getFirst().equals(ItemTypes.NONE))
+                        .collect(Collectors.collectingAndThen(Collectors.toMap(Tuple::getFirst, Tuple::getSecond), ImmutableMap::copyOf));
+                }
+
+                cache = this.blacklistTypeCache;
+            }
         }
 
-        return this.blacklistTypeCache;
+        return cache;
     }
 
     private Map<String, BlacklistNode> getBlacklistCache() {
-        if (this.blacklistCache == null) {
-            this.blacklistCache = data.entrySet().stream().filter(x -> x.getValue().isBlacklisted())
-                .collect(Collectors.toMap(Map.Entry::getKey, x -> x.getValue().getBlacklist()));
+        Map<String, BlacklistNode> cache = this.blacklistCache;
+        if (cache == null) {
+            synchronized (this) {
+                if (this.blacklistCache == null) {
+                    this.blacklistCache = data.entrySet().stream().filter(x -> x.getValue().isBlacklisted())
+                        .collect(Collectors.collectingAndThen(Collectors.toMap(Map.Entry::getKey, x -> x.getValue().getBlacklist()),
+                                ImmutableMap::copyOf));
+                }
+
+                cache = this.blacklistCache;
+            }
         }
 
-        return this.blacklistCache;
+        return cache;
     }
 
     private Map<String, String> getCache() {
-        if (aliasToItemIdCache == null) {
-            aliasToItemIdCache = data.entrySet().stream()
-                    .flatMap(k -> k.getValue().getAliases().stream().map(i -> Tuple.of(i, k.getKey())))
-                    .collect(Collectors.toMap(Tuple::getFirst, Tuple::getSecond));
+        Map<String, String> cache = this.aliasToItemIdCache;
+        if (cache == null) {
+            synchronized (this) {
+                if (this.aliasToItemIdCache == null) {
+                    this.aliasToItemIdCache = data.entrySet().stream()
+                        .flatMap(k -> k.getValue().getAliases().stream().map(i -> Tuple.of(i, k.getKey())))
+                        .collect(Collectors.collectingAndThen(Collectors.toMap(Tuple::getFirst, Tuple::getSecond), ImmutableMap::copyOf));
+                }
+
+                cache = this.aliasToItemIdCache;
+            }
         }
 
-        return aliasToItemIdCache;
+        return cache;
     }
 
     private String getIdFromSnapshot(ItemStackSnapshot stackSnapshot) {
@@ -4,15 +4,14 @@
  */
 package io.github.nucleuspowered.nucleus.dataservices;
 
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
-import io.github.nucleuspowered.nucleus.Util;
 import io.github.nucleuspowered.nucleus.api.data.Kit;
 import io.github.nucleuspowered.nucleus.configurate.datatypes.KitConfigDataNode;
 import io.github.nucleuspowered.nucleus.configurate.datatypes.KitDataNode;
 import io.github.nucleuspowered.nucleus.dataservices.dataproviders.DataProvider;
 import org.spongepowered.api.item.inventory.ItemStackSnapshot;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -21,47 +20,69 @@ import javax.annotation.Nullable;
 
 public class KitService extends Service<KitConfigDataNode> {
 
+    private final CaseInsensitiveIndex<KitDataNode> kits = new CaseInsensitiveIndex<>(() -> data.getKits());
+
     public KitService(DataProvider<KitConfigDataNode> dataProvider) throws Exception {
         super(dataProvider, false);
     }
 
     public Optional<KitDataNode> getKit(String name) {
-        Optional<String> key = Util.getKeyIgnoreCase(data.getKits(), name);
-        if (key.isPresent()) {
-            return Optional.of(data.getKits().get(key.get()));
-        }
-
-        return Optional.empty();
+        return kits.get(name);
     }
 
     public Map<String, Kit> getKits() {
-        return ImmutableMap.copyOf(data.getKits());
+        return Collections.unmodifiableMap(kits.getAll());
     }
 
-    public boolean addKit(String name, KitDataNode kit) {
-        if (data.getKits().keySet().stream().anyMatch(name::equalsIgnoreCase)) {
-            return false;
+    public synchronized boolean addKit(String name, KitDataNode kit) {
+        if (kits.add(name, kit)) {
+            saveLater();
+            return true;
         }
 
-        data.getKits().put(name, kit);
-        return true;
+        return false;
     }
 
-    public boolean removeKit(String name) {
-        Map<String, KitDataNode> msk = data.getKits();
-        Optional<String> key = msk.keySet().stream().filter(name::equalsIgnoreCase).findFirst();
-        return key.isPresent() && data.getKits().remove(key.get()) != null;
+    /**
+     * Adds the kit, replacing any kit with the same name in any case.
+     *
+     * @param name The name of the kit.
+     * @param kit The kit.
+     */
+    public synchronized void setKit(String name, KitDataNode kit) {
+        kits.put(name, kit);
+        saveLater();
+    }
+
+    public synchronized boolean removeKit(String name) {
+        if (kits.remove(name).isPresent()) {
+            saveLater();
+            return true;
+        }
+
+        return false;
     }
 
     public List<ItemStackSnapshot> getFirstKit() {
         return data.getFirstKit();
     }
 
-    public void setFirstKit(@Nullable List<ItemStackSnapshot> stack) {
+    public synchronized void setFirstKit(@Nullable List<ItemStackSnapshot> stack) {
         if (stack == null) {
             stack = Lists.newArrayList();
         }
 
         data.setFirstKit(stack);
+        saveLater();
+    }
+
+    @Override
+    public synchronized boolean load() {
+        return super.load();
+    }
+
+    @Override
+    synchronized KitConfigDataNode getDataToSave() {
+        return new KitConfigDataNode(data);
     }
 }
@@ -0,0 +1,81 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.dataservices;
+
+import com.google.common.collect.ImmutableMap;
+import io.github.nucleuspowered.nucleus.api.data.LocationData;
+import io.github.nucleuspowered.nucleus.configurate.datatypes.LocationNode;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import javax.annotation.Nullable;
+
+/**
+ * Holds the {@link LocationData} for every entry of a {@link CaseInsensitiveIndex}, so that listing warps, jails or
+ * homes does not convert every entry each time.
+ *
+ * <p>
+ *     The converted map is kept until the index returns a different snapshot, {@link #invalidate()} is called because
+ *     an entry was changed in place, or a world is loaded or unloaded, as that changes which locations can be converted.
+ * </p>
+ *
+ * @param <S> The type of location node.
+ * @param <T> The type of location data.
+ */
+public final class LocationDataCache<S extends LocationNode, T extends LocationData> {
+
+    private static final AtomicInteger worldGeneration = new AtomicInteger();
+
+    private final CaseInsensitiveIndex<S> index;
+    private final BiFunction<String, S, T> converter;
+    @Nullable private ImmutableMap<String, S> source = null;
+    @Nullable private ImmutableMap<String, T> converted = null;
+    private int convertedGeneration;
+
+    LocationDataCache(CaseInsensitiveIndex<S> index, BiFunction<String, S, T> converter) {
+        this.index = index;
+        this.converter = converter;
+    }
+
+    /**
+     * Marks the locations of every cache as out of date, because a world has been loaded or unloaded.
+     */
+    public static void worldsChanged() {
+        worldGeneration.incrementAndGet();
+    }
+
+    /**
+     * Gets the converted entries. Entries that the converter returns <code>null</code> for are left out.
+     *
+     * @return The entries.
+     */
+    synchronized ImmutableMap<String, T> get() {
+        ImmutableMap<String, S> current = index.getAll();
+        int generation = worldGeneration.get();
+        if (converted == null || current != source || generation != convertedGeneration) {
+            ImmutableMap.Builder<String, T> builder = ImmutableMap.builder();
+            current.forEach((k, v) -> {
+                T data = converter.apply(k, v);
+                if (data != null) {
+                    builder.put(k, data);
+                }
+            });
+
+            converted = builder.build();
+            source = current;
+            convertedGeneration = generation;
+        }
+
+        return converted;
+    }
+
+    /**
+     * Discards the converted entries, for when an entry has been changed without being replaced.
+     */
+    synchronized void invalidate() {
+        converted = null;
+    }
+}
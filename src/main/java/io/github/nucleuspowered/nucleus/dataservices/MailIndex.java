@@ -0,0 +1,132 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.dataservices;
+
+import io.github.nucleuspowered.nucleus.api.data.mail.MailData;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+/**
+ * An inverted index over the messages in a mailbox, which maps each part of a word, sender and day to the position of
+ * the messages in the mailbox that contain, were sent by, or were sent on it.
+ *
+ * <p>
+ *     The index narrows a search down to the messages that could match, which then need to be checked against the
+ *     search itself. As a message fragment can be part of a word, every run of up to {@link #GRAM_LENGTH} characters
+ *     in each word is indexed. A fragment is looked up by the runs it is made of, so a search only ever looks at the
+ *     entries for those runs, however many other words the mailbox contains.
+ * </p>
+ */
+final class MailIndex {
+
+    private static final Pattern NOT_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final long MILLIS_PER_DAY = 24 * 60 * 60 * 1000;
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, BitSet> grams = new HashMap<>();
+    private final Map<UUID, BitSet> senders = new HashMap<>();
+    private final NavigableMap<Long, BitSet> days = new TreeMap<>();
+    private int size = 0;
+
+    /**
+     * Adds the next message in the mailbox to the index.
+     *
+     * @param mailData The message, or <code>null</code> if the message could not be read, so that the positions of the
+     *                 messages after it are still correct.
+     */
+    void add(@Nullable MailData mailData) {
+        int position = size++;
+        if (mailData == null) {
+            return;
+        }
+
+        for (String word : words(mailData.getMessage().toLowerCase())) {
+            // Shorter runs are indexed so that fragments shorter than a full run can be found.
+            for (int length = 1; length <= GRAM_LENGTH; length++) {
+                for (int i = 0; i + length <= word.length(); i++) {
+                    grams.computeIfAbsent(word.substring(i, i + length), k -> new BitSet()).set(position);
+                }
+            }
+        }
+
+        senders.computeIfAbsent(mailData.getUuid(), k -> new BitSet()).set(position);
+        days.computeIfAbsent(day(mailData.getDate()), k -> new BitSet()).set(position);
+    }
+
+    /**
+     * Finds the position of the messages that might match the given search. Every message that does match is returned,
+     * but some that are returned may not match.
+     *
+     * @param from The earliest date, or <code>null</code> if there is no earliest date.
+     * @param to The latest date, or <code>null</code> if there is no latest date.
+     * @param senderFilter The senders, or an empty collection to include all senders.
+     * @param fragments Lower case parts of the message that must all be present.
+     * @return The positions of the messages.
+     */
+    BitSet find(@Nullable Instant from, @Nullable Instant to, Collection<UUID> senderFilter, Collection<String> fragments) {
+        BitSet result = new BitSet(size);
+        result.set(0, size);
+        if (from != null || to != null) {
+            long fromDay = from == null ? Long.MIN_VALUE : day(from);
+            long toDay = to == null ? Long.MAX_VALUE : day(to);
+            result.and(fromDay > toDay ? new BitSet() : union(days.subMap(fromDay, true, toDay, true).values().stream()));
+        }
+
+        if (!senderFilter.isEmpty()) {
+            result.and(union(senderFilter.stream().map(senders::get)));
+        }
+
+        for (String fragment : fragments) {
+            for (String token : words(fragment)) {
+                if (result.isEmpty()) {
+                    return result;
+                }
+
+                // Every run in the token must be in a word of the message.
+                int length = Math.min(token.length(), GRAM_LENGTH);
+                for (int i = 0; i + length <= token.length() && !result.isEmpty(); i++) {
+                    BitSet messages = grams.get(token.substring(i, i + length));
+                    if (messages == null) {
+                        result.clear();
+                    } else {
+                        result.and(messages);
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private static BitSet union(Stream<BitSet> sets) {
+        BitSet result = new BitSet();
+        sets.forEach(x -> {
+            if (x != null) {
+                result.or(x);
+            }
+        });
+
+        return result;
+    }
+
+    private static String[] words(String text) {
+        return Stream.of(NOT_WORD.split(text)).filter(x -> !x.isEmpty()).distinct().toArray(String[]::new);
+    }
+
+    private static long day(Instant instant) {
+        return Math.floorDiv(instant.toEpochMilli(), MILLIS_PER_DAY);
+    }
+}
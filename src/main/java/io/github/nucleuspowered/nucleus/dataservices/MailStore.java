@@ -0,0 +1,478 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.dataservices;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import io.github.nucleuspowered.nucleus.FileUtil;
+import io.github.nucleuspowered.nucleus.api.data.mail.MailData;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+/**
+ * Stores the mail for each player in its own file, separate from the rest of their data.
+ *
+ * <p>
+ *     Each mailbox is a text file with one message per line. New mail is appended to the end of the file, so sending
+ *     mail does not require the recipient's data, or the rest of their mail, to be loaded. When a mailbox is first used,
+ *     the position of each message in the file is noted so that any page of it can be read without reading the rest.
+ * </p>
+ *
+ * <p>
+ *     The first time a mailbox is searched, a {@link MailIndex} is built for it, which is then kept up to date as mail
+ *     is added. Only the messages that the index finds are read.
+ * </p>
+ *
+ * <p>
+ *     Mail used to be held with the rest of the user data. The first time a mailbox that does not have a file is used,
+ *     that mail is moved into it.
+ * </p>
+ *
+ * <p>
+ *     There is only ever one {@link Mailbox} for a player, as it is what writes to their mailbox are synchronised on.
+ *     Mailboxes that are no longer in use are only removed from memory when it is needed, and never while a thread is
+ *     still using them.
+ * </p>
+ */
+public class MailStore {
+
+    private final Path directory;
+    private final Function<UUID, List<MailData>> legacyMail;
+    private final Consumer<UUID> legacyMailMoved;
+
+    // Soft values, rather than expiry, so that a mailbox is never replaced while a thread still holds it.
+    private final LoadingCache<UUID, Mailbox> mailboxes = CacheBuilder.newBuilder().softValues().build(CacheLoader.from(Mailbox::new));
+
+    /**
+     * Creates the store.
+     *
+     * @param directory The directory to keep the mailbox files in.
+     * @param legacyMail Gets the mail for a player from where it was held before this store existed.
+     */
+    public MailStore(Path directory, Function<UUID, List<MailData>> legacyMail) {
+        this(directory, legacyMail, uuid -> {});
+    }
+
+    /**
+     * Creates the store.
+     *
+     * @param directory The directory to keep the mailbox files in.
+     * @param legacyMail Gets the mail for a player from where it was held before this store existed. It is only called
+     *                   if the player does not have a mailbox file.
+     * @param legacyMailMoved Called once the mail from <code>legacyMail</code> has been written to the player's mailbox
+     *                        file, so that it can be removed from where it was held.
+     */
+    public MailStore(Path directory, Function<UUID, List<MailData>> legacyMail, Consumer<UUID> legacyMailMoved) {
+        this.directory = directory;
+        this.legacyMail = legacyMail;
+        this.legacyMailMoved = legacyMailMoved;
+    }
+
+    /**
+     * Gets the number of messages in a player's mailbox.
+     *
+     * @param uuid The {@link UUID} of the player.
+     * @return The number of messages.
+     * @throws IOException if the mailbox could not be read.
+     */
+    public int getCount(UUID uuid) throws IOException {
+        Mailbox mailbox = mailboxes.getUnchecked(uuid);
+        synchronized (mailbox) {
+            mailbox.open();
+            return mailbox.offsets.size();
+        }
+    }
+
+    /**
+     * Gets a page of a player's mail, oldest first.
+     *
+     * @param uuid The {@link UUID} of the player.
+     * @param page The page to get, starting at zero.
+     * @param pageSize The number of messages on each page.
+     * @return The messages on the page, which will be empty if there is no such page.
+     * @throws IOException if the mailbox could not be read.
+     */
+    public List<MailData> getPage(UUID uuid, int page, int pageSize) throws IOException {
+        Preconditions.checkArgument(page >= 0);
+        Preconditions.checkArgument(pageSize > 0);
+        Mailbox mailbox = mailboxes.getUnchecked(uuid);
+        synchronized (mailbox) {
+            mailbox.open();
+            long start = (long) page * pageSize;
+            if (start >= mailbox.offsets.size()) {
+                return new ArrayList<>();
+            }
+
+            return mailbox.read((int) start, (int) Math.min(start + pageSize, mailbox.offsets.size()));
+        }
+    }
+
+    /**
+     * Gets all of a player's mail, oldest first.
+     *
+     * @param uuid The {@link UUID} of the player.
+     * @return The messages.
+     * @throws IOException if the mailbox could not be read.
+     */
+    public List<MailData> getAll(UUID uuid) throws IOException {
+        Mailbox mailbox = mailboxes.getUnchecked(uuid);
+        synchronized (mailbox) {
+            mailbox.open();
+            return mailbox.read(0, mailbox.offsets.size());
+        }
+    }
+
+    /**
+     * Searches a player's mail.
+     *
+     * @param uuid The {@link UUID} of the player.
+     * @param from If not <code>null</code>, only messages sent after this are returned.
+     * @param to If not <code>null</code>, only messages sent before this are returned.
+     * @param senders The senders to return messages from, or an empty collection to include all senders.
+     * @param fragments Lower case parts of the message that must all be present, ignoring case.
+     * @return The matching messages, oldest first.
+     * @throws IOException if the mailbox could not be read.
+     */
+    public List<MailData> search(UUID uuid, @Nullable Instant from, @Nullable Instant to, Collection<UUID> senders,
+            Collection<String> fragments) throws IOException {
+        Mailbox mailbox = mailboxes.getUnchecked(uuid);
+        synchronized (mailbox) {
+            mailbox.open();
+            List<MailData> mail = new ArrayList<>();
+            try (FileChannel fc = FileChannel.open(mailbox.file, StandardOpenOption.READ)) {
+                if (mailbox.index == null) {
+                    MailIndex index = new MailIndex();
+                    for (int i = 0; i < mailbox.offsets.size(); i++) {
+                        index.add(mailbox.read(fc, i));
+                    }
+
+                    mailbox.index = index;
+                }
+
+                BitSet candidates = mailbox.index.find(from, to, senders, fragments);
+                for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                    MailData md = mailbox.read(fc, i);
+                    if (md != null && (from == null || from.isBefore(md.getDate())) && (to == null || to.isAfter(md.getDate()))
+                            && (senders.isEmpty() || senders.contains(md.getUuid()))) {
+                        String message = md.getMessage().toLowerCase();
+                        if (fragments.stream().allMatch(message::contains)) {
+                            mail.add(md);
+                        }
+                    }
+                }
+            }
+
+            return mail;
+        }
+    }
+
+    /**
+     * Adds a message to the end of a player's mailbox.
+     *
+     * @param uuid The {@link UUID} of the player.
+     * @param mailData The message.
+     * @throws IOException if the mailbox could not be written to.
+     */
+    public void add(UUID uuid, MailData mailData) throws IOException {
+        Mailbox mailbox = mailboxes.getUnchecked(uuid);
+        synchronized (mailbox) {
+            mailbox.open();
+            mailbox.append(mailData);
+        }
+    }
+
+    /**
+     * Removes a message from a player's mailbox.
+     *
+     * @param uuid The {@link UUID} of the player.
+     * @param mailData The message.
+     * @return <code>true</code> if the message was in the mailbox.
+     * @throws IOException if the mailbox could not be read or written to.
+     */
+    public boolean remove(UUID uuid, MailData mailData) throws IOException {
+        Mailbox mailbox = mailboxes.getUnchecked(uuid);
+        synchronized (mailbox) {
+            mailbox.open();
+            List<MailData> mail = mailbox.read(0, mailbox.offsets.size());
+            if (mail.removeIf(x -> x.getDate().equals(mailData.getDate()) &&
+                    x.getMessage().equals(mailData.getMessage()) && x.getUuid().equals(mailData.getUuid()))) {
+                mailbox.write(mail);
+                return true;
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * Removes all messages from a player's mailbox.
+     *
+     * @param uuid The {@link UUID} of the player.
+     * @return <code>true</code> if there were any messages to remove.
+     * @throws IOException if the mailbox could not be written to.
+     */
+    public boolean clear(UUID uuid) throws IOException {
+        Mailbox mailbox = mailboxes.getUnchecked(uuid);
+        synchronized (mailbox) {
+            mailbox.open();
+            if (mailbox.offsets.isEmpty()) {
+                return false;
+            }
+
+            // The file is kept, as an empty file marks the mailbox as having had any older mail moved into it.
+            mailbox.write(new ArrayList<>());
+            return true;
+        }
+    }
+
+    /**
+     * Deletes a player's mailbox file, such as when their data is being reset.
+     *
+     * @param uuid The {@link UUID} of the player.
+     * @throws IOException if the file could not be deleted.
+     */
+    public void delete(UUID uuid) throws IOException {
+        Mailbox mailbox = mailboxes.getUnchecked(uuid);
+        synchronized (mailbox) {
+            mailbox.delete();
+        }
+    }
+
+    private static String serialise(MailData mailData) {
+        return mailData.getUuid().toString() + "\t" + mailData.getDate().toEpochMilli() + "\t" + escape(mailData.getMessage());
+    }
+
+    @Nullable
+    private static MailData deserialise(String line) {
+        String[] parts = line.split("\t", 3);
+        if (parts.length != 3) {
+            return null;
+        }
+
+        try {
+            return new MailData(UUID.fromString(parts[0]), Instant.ofEpochMilli(Long.parseLong(parts[1])), unescape(parts[2]));
+        } catch (IllegalArgumentException e) {
+            // Includes NumberFormatException.
+            return null;
+        }
+    }
+
+    private static String escape(String message) {
+        StringBuilder sb = new StringBuilder(message.length());
+        for (char c : message.toCharArray()) {
+            switch (c) {
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                default:
+                    sb.append(c);
+            }
+        }
+
+        return sb.toString();
+    }
+
+    private static String unescape(String message) {
+        if (message.indexOf('\\') == -1) {
+            return message;
+        }
+
+        StringBuilder sb = new StringBuilder(message.length());
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            if (c == '\\' && i + 1 < message.length()) {
+                char n = message.charAt(++i);
+                sb.append(n == 't' ? '\t' : n == 'n' ? '\n' : n == 'r' ? '\r' : n);
+            } else {
+                sb.append(c);
+            }
+        }
+
+        return sb.toString();
+    }
+
+    private final class Mailbox {
+
+        private final UUID uuid;
+        private final Path file;
+
+        // The position in the file that each message starts at.
+        private final List<Long> offsets = new ArrayList<>();
+        private long size = -1;
+
+        // Only built when the mailbox is searched.
+        @Nullable private MailIndex index = null;
+
+        private Mailbox(UUID uuid) {
+            String u = uuid.toString();
+            this.uuid = uuid;
+            this.file = directory.resolve(u.substring(0, 2)).resolve(u + ".mail");
+        }
+
+        private void open() throws IOException {
+            if (Files.notExists(file)) {
+                Files.createDirectories(file.getParent());
+                List<MailData> legacy = legacyMail.apply(uuid);
+                write(legacy);
+
+                // Only now that the mail is safely in the file can it be removed from where it was.
+                if (!legacy.isEmpty()) {
+                    legacyMailMoved.accept(uuid);
+                }
+
+                return;
+            }
+
+            // If the file has changed since it was last read, such as by hand, the positions need to be found again.
+            if (size == Files.size(file)) {
+                return;
+            }
+
+            offsets.clear();
+            index = null;
+            long position = 0;
+            long lineEnd = 0;
+            try (InputStream is = new BufferedInputStream(Files.newInputStream(file))) {
+                int b;
+                while ((b = is.read()) != -1) {
+                    if (position == lineEnd) {
+                        offsets.add(position);
+                    }
+
+                    position++;
+                    if (b == '\n') {
+                        lineEnd = position;
+                    }
+                }
+            }
+
+            if (position != lineEnd) {
+                // The last message was only partly written, so remove it.
+                offsets.remove(offsets.size() - 1);
+                try (FileChannel fc = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    fc.truncate(lineEnd);
+                }
+            }
+
+            size = lineEnd;
+        }
+
+        private List<MailData> read(int from, int to) throws IOException {
+            List<MailData> mail = new ArrayList<>(Math.max(0, to - from));
+            if (from >= to) {
+                return mail;
+            }
+
+            long start = offsets.get(from);
+            long end = to < offsets.size() ? offsets.get(to) : size;
+            ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+            try (FileChannel fc = FileChannel.open(file, StandardOpenOption.READ)) {
+                while (buffer.hasRemaining()) {
+                    if (fc.read(buffer, start + buffer.position()) < 0) {
+                        throw new EOFException();
+                    }
+                }
+            }
+
+            for (String line : new String(buffer.array(), StandardCharsets.UTF_8).split("\n")) {
+                MailData md = deserialise(line);
+                if (md != null) {
+                    mail.add(md);
+                }
+            }
+
+            return mail;
+        }
+
+        @Nullable
+        private MailData read(FileChannel fc, int position) throws IOException {
+            long start = offsets.get(position);
+            long end = position + 1 < offsets.size() ? offsets.get(position + 1) : size;
+            ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+            while (buffer.hasRemaining()) {
+                if (fc.read(buffer, start + buffer.position()) < 0) {
+                    throw new EOFException();
+                }
+            }
+
+            // Leave off the new line.
+            return deserialise(new String(buffer.array(), 0, buffer.capacity() - 1, StandardCharsets.UTF_8));
+        }
+
+        private void append(MailData mailData) throws IOException {
+            byte[] line = (serialise(mailData) + "\n").getBytes(StandardCharsets.UTF_8);
+            try (FileChannel fc = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(line);
+                while (buffer.hasRemaining()) {
+                    fc.write(buffer);
+                }
+            }
+
+            offsets.add(size);
+            size += line.length;
+            if (index != null) {
+                index.add(mailData);
+            }
+        }
+
+        private void delete() throws IOException {
+            offsets.clear();
+            size = -1;
+            index = null;
+            Files.deleteIfExists(FileUtil.getTempFile(file));
+            Files.deleteIfExists(file);
+        }
+
+        private void write(Collection<MailData> mail) throws IOException {
+            Path tempFile = FileUtil.getTempFile(file);
+            offsets.clear();
+            size = -1;
+            index = null;
+            long position = 0;
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                for (MailData md : mail) {
+                    String line = serialise(md) + "\n";
+                    writer.write(line);
+                    offsets.add(position);
+                    position += line.getBytes(StandardCharsets.UTF_8).length;
+                }
+            }
+
+            FileUtil.replace(tempFile, file);
+            size = position;
+        }
+    }
+}
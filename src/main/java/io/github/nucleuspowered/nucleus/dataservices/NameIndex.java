@@ -0,0 +1,314 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.dataservices;
+
+import com.google.common.collect.ImmutableSet;
+import io.github.nucleuspowered.nucleus.FileUtil;
+import io.github.nucleuspowered.nucleus.Nucleus;
+import org.spongepowered.api.text.serializer.TextSerializers;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+/**
+ * An index of the names and nicknames of every player that Nucleus knows about, including those that are offline.
+ *
+ * <p>
+ *     Names and nicknames are held in sorted maps, keyed by the lower case name (with formatting codes removed in the
+ *     case of nicknames), so that both exact and prefix lookups avoid looking at every player. The index is saved to a
+ *     file when it changes, and rebuilt from the user data if that file does not exist.
+ * </p>
+ */
+public class NameIndex {
+
+    private static final Pattern LINE_BREAKS = Pattern.compile("[\t\r\n]");
+
+    private final Path file;
+    private final Map<UUID, Names> entries = new ConcurrentHashMap<>();
+    private final NavigableMap<String, Set<UUID>> names = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, Set<UUID>> nicknames = new ConcurrentSkipListMap<>();
+    private volatile boolean ready = false;
+    private volatile boolean dirty = false;
+
+    public NameIndex(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Gets whether the index has been loaded or built. Until it has, callers should fall back to looking players up by
+     * other means.
+     *
+     * @return <code>true</code> if the index can be used.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Loads the index from its file.
+     *
+     * @return <code>false</code> if the file does not exist, in which case the index needs to be built.
+     * @throws IOException if the file could not be read.
+     */
+    public boolean load() throws IOException {
+        if (Files.notExists(file)) {
+            return false;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split("\t", -1);
+                if (parts.length == 3) {
+                    try {
+                        update(UUID.fromString(parts[0]), parts[1].isEmpty() ? null : parts[1], parts[2].isEmpty() ? null : parts[2], false);
+                    } catch (IllegalArgumentException e) {
+                        // Not a UUID, ignore the line.
+                    }
+                }
+            }
+        }
+
+        ready = true;
+        return true;
+    }
+
+    /**
+     * Marks the index as ready once it has been built from the user data, and saves it.
+     */
+    public void setBuilt() {
+        ready = true;
+        dirty = true;
+        saveIfDirty();
+    }
+
+    /**
+     * Writes the index to its file if it has changed since it was last loaded or saved.
+     */
+    public synchronized void saveIfDirty() {
+        if (!dirty || !ready) {
+            return;
+        }
+
+        dirty = false;
+        Path tempFile = FileUtil.getTempFile(file);
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                for (Map.Entry<UUID, Names> entry : entries.entrySet()) {
+                    Names n = entry.getValue();
+                    writer.write(entry.getKey().toString() + "\t" + (n.name == null ? "" : n.name) + "\t" + (n.nickname == null ? "" : n.nickname));
+                    writer.newLine();
+                }
+            }
+
+            FileUtil.replace(tempFile, file);
+        } catch (IOException e) {
+            dirty = true;
+            Nucleus.getNucleus().getLogger().error("Could not save the player name index: " + e.getMessage());
+            if (Nucleus.getNucleus().isDebugMode()) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Sets the name of a player.
+     *
+     * @param uuid The {@link UUID} of the player.
+     * @param name The name.
+     */
+    public synchronized void setName(UUID uuid, String name) {
+        Names current = entries.get(uuid);
+        update(uuid, name, current == null ? null : current.nickname, true);
+    }
+
+    /**
+     * Sets the nickname of a player.
+     *
+     * @param uuid The {@link UUID} of the player.
+     * @param nickname The nickname, including any formatting codes, or <code>null</code> to remove it.
+     */
+    public void setNickname(UUID uuid, @Nullable String nickname) {
+        String stripped = nickname == null ? null : strip(nickname);
+
+        // The name must be read while holding the lock, otherwise a name set at the same time could be lost.
+        synchronized (this) {
+            Names current = entries.get(uuid);
+            update(uuid, current == null ? null : current.name, stripped, true);
+        }
+    }
+
+    /**
+     * Gets the players whose name is the given name, ignoring case.
+     *
+     * @param name The name.
+     * @return The {@link UUID}s of the players.
+     */
+    public Set<UUID> getByName(String name) {
+        return copy(names.get(name.toLowerCase()));
+    }
+
+    /**
+     * Gets the players whose name starts with the given string, ignoring case.
+     *
+     * @param prefix The start of the name.
+     * @return The {@link UUID}s of the players, in alphabetical order of their names.
+     */
+    public Set<UUID> getByNamePrefix(String prefix) {
+        return flatten(prefixMap(names, prefix).values());
+    }
+
+    /**
+     * Gets the players whose nickname, without formatting codes, is the given nickname, ignoring case.
+     *
+     * @param nickname The nickname.
+     * @return The {@link UUID}s of the players.
+     */
+    public Set<UUID> getByNickname(String nickname) {
+        return copy(nicknames.get(nickname.toLowerCase()));
+    }
+
+    /**
+     * Gets the nickname of a player, without formatting codes.
+     *
+     * @param uuid The {@link UUID} of the player.
+     * @return The nickname, if they have one.
+     */
+    public Optional<String> getNickname(UUID uuid) {
+        Names n = entries.get(uuid);
+        return n == null ? Optional.empty() : Optional.ofNullable(n.nickname);
+    }
+
+    /**
+     * Gets the players whose nickname, without formatting codes, starts with the given string, ignoring case.
+     *
+     * @param prefix The start of the nickname.
+     * @return The {@link UUID}s of the players, in alphabetical order of their nicknames.
+     */
+    public Set<UUID> getByNicknamePrefix(String prefix) {
+        return flatten(prefixMap(nicknames, prefix).values());
+    }
+
+    /**
+     * Gets the names of players that start with the given string, ignoring case, in alphabetical order.
+     *
+     * @param prefix The start of the name.
+     * @param limit The maximum number of names to return.
+     * @return The names, as they are cased.
+     */
+    public List<String> getNamesStartingWith(String prefix, int limit) {
+        return getStartingWith(names, prefix, limit, n -> n.name);
+    }
+
+    /**
+     * Gets the nicknames of players, without formatting codes, that start with the given string, ignoring case, in
+     * alphabetical order.
+     *
+     * @param prefix The start of the nickname.
+     * @param limit The maximum number of nicknames to return.
+     * @return The nicknames, as they are cased.
+     */
+    public List<String> getNicknamesStartingWith(String prefix, int limit) {
+        return getStartingWith(nicknames, prefix, limit, n -> n.nickname);
+    }
+
+    private List<String> getStartingWith(NavigableMap<String, Set<UUID>> map, String prefix, int limit,
+            Function<Names, String> getter) {
+        return prefixMap(map, prefix).values().stream()
+                .flatMap(Collection::stream)
+                .map(entries::get)
+                .filter(x -> x != null && getter.apply(x) != null)
+                .map(getter)
+                .distinct()
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private synchronized void update(UUID uuid, @Nullable String name, @Nullable String nickname, boolean markDirty) {
+        Names old = entries.get(uuid);
+        if (old != null) {
+            if (equal(old.name, name) && equal(old.nickname, nickname)) {
+                return;
+            }
+
+            remove(names, old.name, uuid);
+            remove(nicknames, old.nickname, uuid);
+        }
+
+        entries.put(uuid, new Names(name, nickname));
+        add(names, name, uuid);
+        add(nicknames, nickname, uuid);
+        if (markDirty) {
+            dirty = true;
+        }
+    }
+
+    private static void add(NavigableMap<String, Set<UUID>> map, @Nullable String key, UUID uuid) {
+        if (key != null) {
+            map.computeIfAbsent(key.toLowerCase(), k -> ConcurrentHashMap.newKeySet()).add(uuid);
+        }
+    }
+
+    private static void remove(NavigableMap<String, Set<UUID>> map, @Nullable String key, UUID uuid) {
+        if (key != null) {
+            map.computeIfPresent(key.toLowerCase(), (k, v) -> {
+                v.remove(uuid);
+                return v.isEmpty() ? null : v;
+            });
+        }
+    }
+
+    private static NavigableMap<String, Set<UUID>> prefixMap(NavigableMap<String, Set<UUID>> map, String prefix) {
+        String p = prefix.toLowerCase();
+        return map.subMap(p, true, p + Character.MAX_VALUE, true);
+    }
+
+    private static Set<UUID> copy(@Nullable Set<UUID> set) {
+        return set == null ? ImmutableSet.of() : ImmutableSet.copyOf(set);
+    }
+
+    private static Set<UUID> flatten(Collection<Set<UUID>> sets) {
+        return sets.stream().flatMap(Collection::stream).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static boolean equal(@Nullable String a, @Nullable String b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    private static String strip(String nickname) {
+        // Tabs and new lines would break the file format, and have no place in a name anyway.
+        return LINE_BREAKS.matcher(TextSerializers.FORMATTING_CODE.stripCodes(nickname)).replaceAll(" ");
+    }
+
+    private static final class Names {
+
+        @Nullable private final String name;
+        @Nullable private final String nickname;
+
+        private Names(@Nullable String name, @Nullable String nickname) {
+            this.name = name;
+            this.nickname = nickname;
+        }
+    }
+}
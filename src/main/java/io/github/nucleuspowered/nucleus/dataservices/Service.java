@@ -4,14 +4,38 @@
  */
 package io.github.nucleuspowered.nucleus.dataservices;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.github.nucleuspowered.nucleus.Nucleus;
 import io.github.nucleuspowered.nucleus.dataservices.dataproviders.DataProvider;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public abstract class Service<T> {
 
+    // Writes out the data for services that are saved in the background, see saveLater().
+    private static final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("Nucleus Data Writer").setDaemon(true).build());
+    private static final long SAVE_DELAY_MILLIS = 2000;
+
     T data;
     private final DataProvider<T> dataProvider;
 
+    // Set whenever the backing data is mutated, cleared when it has been written out.
+    private volatile boolean dirty = false;
+
+    // The number of times the backing data has been read from the data provider.
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    // Whether a background save is waiting to run.
+    private final AtomicBoolean saveScheduled = new AtomicBoolean(false);
+
+    // Held while saving, so that the data is written out in the order that it was copied.
+    private final Object saveLock = new Object();
+
     Service(DataProvider<T> dataProvider) throws Exception {
         this(dataProvider, true);
     }
@@ -19,13 +43,13 @@ public abstract class Service<T> {
     Service(DataProvider<T> dataProvider, boolean loadNow) throws Exception {
         this.dataProvider = dataProvider;
         if (loadNow) {
-            data = dataProvider.load();
+            loadData();
         }
     }
 
     public boolean load() {
         try {
-            data = dataProvider.load();
+            loadData();
             return true;
         } catch (Exception e) {
             Nucleus.getNucleus().getLogger().error(e.getMessage());
@@ -38,19 +62,84 @@ public abstract class Service<T> {
     }
 
     public boolean save() {
-        try {
-            dataProvider.save(data);
-            return true;
-        } catch (Exception e) {
-            Nucleus.getNucleus().getLogger().error(e.getMessage());
-            if (Nucleus.getNucleus().isDebugMode()) {
-                e.printStackTrace();
+        synchronized (saveLock) {
+            // Clear the flag first, so that any changes made while we are writing cause another save later.
+            dirty = false;
+            try {
+                dataProvider.save(getDataToSave());
+                return true;
+            } catch (Exception e) {
+                dirty = true;
+                Nucleus.getNucleus().getLogger().error(e.getMessage());
+                if (Nucleus.getNucleus().isDebugMode()) {
+                    e.printStackTrace();
+                }
+
+                return false;
             }
+        }
+    }
 
-            return false;
+    /**
+     * Gets the data that {@link #save()} writes out. Services that are changed while they are being saved should
+     * return a copy taken under their lock, so that the file is written without holding it.
+     *
+     * @return The data to write.
+     */
+    T getDataToSave() {
+        return data;
+    }
+
+    /**
+     * Saves the data only if it has been marked as changed since the last load or save.
+     *
+     * @return <code>true</code> if the data was saved or did not need saving, <code>false</code> if the save failed.
+     */
+    public boolean saveIfDirty() {
+        return !dirty || save();
+    }
+
+    /**
+     * Marks the data as changed, so that it will be written out on the next {@link #saveIfDirty()}.
+     */
+    public void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * Marks the data as changed, and saves it on a background thread shortly afterwards. Any other changes made before
+     * then are written out by the same save, so many changes in quick succession only cause one write.
+     *
+     * <p>
+     *     Services that use this must override {@link #getDataToSave()} to copy the data under the same lock as their
+     *     changes, so that a save never sees a change that is only partly made.
+     * </p>
+     */
+    void saveLater() {
+        markDirty();
+        if (saveScheduled.compareAndSet(false, true)) {
+            writer.schedule(() -> {
+                // Cleared first, so that a change made while we are saving schedules another save.
+                saveScheduled.set(false);
+                saveIfDirty();
+            }, SAVE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
         }
     }
 
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Gets the number of times the backing data has been loaded from the data provider over the lifetime of this
+     * service.
+     *
+     * @return The number of loads.
+     */
+    public int getLoadCount() {
+        return loadCount.get();
+    }
+
     public boolean delete() {
         try {
             dataProvider.delete();
@@ -64,4 +153,10 @@ public abstract class Service<T> {
             return false;
         }
     }
+
+    private void loadData() throws Exception {
+        data = dataProvider.load();
+        dirty = false;
+        loadCount.incrementAndGet();
+    }
 }
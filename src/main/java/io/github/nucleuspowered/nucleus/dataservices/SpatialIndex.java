@@ -0,0 +1,202 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.dataservices;
+
+import com.flowpowered.math.vector.Vector3d;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import io.github.nucleuspowered.nucleus.configurate.datatypes.LocationNode;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+/**
+ * Indexes named locations, such as warps or homes, by world and by their position in that world, so that the locations
+ * near to a point can be found without looking at every location.
+ *
+ * <p>
+ *     Each world is divided into columns of {@link #CELL_SIZE} blocks along the x and z axes, and each location is
+ *     placed in the column it is in. A search only looks in the columns that could contain a match. The index is rebuilt
+ *     when the map of locations it is built from changes, which is far less often than it is searched.
+ * </p>
+ *
+ * @param <V> The type of location.
+ */
+final class SpatialIndex<V extends LocationNode> {
+
+    private static final int CELL_SIZE = 64;
+
+    private final Supplier<ImmutableMap<String, V>> mapSupplier;
+    @Nullable private ImmutableMap<String, V> indexedMap = null;
+    private final Map<UUID, Map<Long, List<Map.Entry<String, V>>>> worlds = new HashMap<>();
+    private final Map<UUID, Integer> worldSizes = new HashMap<>();
+
+    /**
+     * Creates the index.
+     *
+     * @param mapSupplier Supplies the locations. The same map must be returned until the locations change.
+     */
+    SpatialIndex(Supplier<ImmutableMap<String, V>> mapSupplier) {
+        this.mapSupplier = mapSupplier;
+    }
+
+    /**
+     * Gets the locations in a world that are nearest to the given position, nearest first.
+     *
+     * @param world The {@link UUID} of the world.
+     * @param position The position.
+     * @param count The maximum number of locations to return.
+     * @return The locations.
+     */
+    synchronized List<Map.Entry<String, V>> getNearest(UUID world, Vector3d position, int count) {
+        Preconditions.checkArgument(count >= 0);
+        Map<Long, List<Map.Entry<String, V>>> cells = update().get(world);
+        if (cells == null || count == 0) {
+            return new ArrayList<>();
+        }
+
+        int total = worldSizes.get(world);
+        int cellX = cell(position.getX());
+        int cellZ = cell(position.getZ());
+        List<Map.Entry<String, V>> found = new ArrayList<>();
+        Comparator<Map.Entry<String, V>> byDistance = Comparator.comparingDouble(x -> distanceSquared(x.getValue(), position));
+        for (int ring = 0; found.size() < total; ring++) {
+            long side = 2L * ring + 1;
+            if (side * side > cells.size()) {
+                // The locations are spread out, so it's quicker to look at the cells that have locations in them.
+                found = cells.values().stream().flatMap(List::stream).collect(Collectors.toList());
+                break;
+            }
+
+            // Look at the cells that are exactly "ring" cells away from the cell the position is in.
+            for (int x = cellX - ring; x <= cellX + ring; x++) {
+                boolean edge = x == cellX - ring || x == cellX + ring;
+                for (int z = cellZ - ring; z <= cellZ + ring; z += edge ? 1 : 2 * ring) {
+                    List<Map.Entry<String, V>> entries = cells.get(key(x, z));
+                    if (entries != null) {
+                        found.addAll(entries);
+                    }
+                }
+            }
+
+            // Anything in the cells further out is at least this far away horizontally.
+            if (found.size() >= count) {
+                found.sort(byDistance);
+                double bound = (double) ring * CELL_SIZE;
+                if (distanceSquared(found.get(count - 1).getValue(), position) <= bound * bound) {
+                    break;
+                }
+            }
+        }
+
+        found.sort(byDistance);
+        return found.size() > count ? new ArrayList<>(found.subList(0, count)) : found;
+    }
+
+    /**
+     * Gets the locations in a world that are within the given distance of the given position, nearest first.
+     *
+     * @param world The {@link UUID} of the world.
+     * @param position The position.
+     * @param radius The distance, which must be finite.
+     * @return The locations.
+     */
+    synchronized List<Map.Entry<String, V>> getWithin(UUID world, Vector3d position, double radius) {
+        Preconditions.checkArgument(radius >= 0 && !Double.isInfinite(radius), "radius must be finite and not negative");
+        Map<Long, List<Map.Entry<String, V>>> cells = update().get(world);
+        if (cells == null) {
+            return new ArrayList<>();
+        }
+
+        double radiusSquared = radius * radius;
+        List<Map.Entry<String, V>> found = new ArrayList<>();
+        int minX = cell(position.getX() - radius);
+        int maxX = cell(position.getX() + radius);
+        int minZ = cell(position.getZ() - radius);
+        int maxZ = cell(position.getZ() + radius);
+        // A very large radius takes the cells to the limits of an int, so the span is worked out as a long. Each side is
+        // checked on its own first, so that multiplying them cannot overflow.
+        long spanX = (long) maxX - minX + 1;
+        long spanZ = (long) maxZ - minZ + 1;
+        if (spanX > cells.size() || spanZ > cells.size() || spanX * spanZ > cells.size()) {
+            // It's quicker to look at the cells that have locations in them.
+            cells.values().forEach(x -> addWithin(x, position, radiusSquared, found));
+        } else {
+            for (long x = minX; x <= maxX; x++) {
+                for (long z = minZ; z <= maxZ; z++) {
+                    List<Map.Entry<String, V>> entries = cells.get(key((int) x, (int) z));
+                    if (entries != null) {
+                        addWithin(entries, position, radiusSquared, found);
+                    }
+                }
+            }
+        }
+
+        found.sort(Comparator.comparingDouble(x -> distanceSquared(x.getValue(), position)));
+        return found;
+    }
+
+    /**
+     * Gets the locations in a world.
+     *
+     * @param world The {@link UUID} of the world.
+     * @return The locations.
+     */
+    synchronized List<Map.Entry<String, V>> getInWorld(UUID world) {
+        Map<Long, List<Map.Entry<String, V>>> cells = update().get(world);
+        if (cells == null) {
+            return new ArrayList<>();
+        }
+
+        return cells.values().stream().flatMap(List::stream).collect(Collectors.toList());
+    }
+
+    private Map<UUID, Map<Long, List<Map.Entry<String, V>>>> update() {
+        ImmutableMap<String, V> map = mapSupplier.get();
+        if (map != indexedMap) {
+            worlds.clear();
+            worldSizes.clear();
+            for (Map.Entry<String, V> entry : map.entrySet()) {
+                V node = entry.getValue();
+                Vector3d position = node.getPosition();
+                worlds.computeIfAbsent(node.getWorld(), k -> new HashMap<>())
+                        .computeIfAbsent(key(cell(position.getX()), cell(position.getZ())), k -> new ArrayList<>()).add(entry);
+                worldSizes.merge(node.getWorld(), 1, Integer::sum);
+            }
+
+            indexedMap = map;
+        }
+
+        return worlds;
+    }
+
+    private void addWithin(List<Map.Entry<String, V>> entries, Vector3d position, double radiusSquared, List<Map.Entry<String, V>> found) {
+        for (Map.Entry<String, V> entry : entries) {
+            if (distanceSquared(entry.getValue(), position) <= radiusSquared) {
+                found.add(entry);
+            }
+        }
+    }
+
+    private static double distanceSquared(LocationNode node, Vector3d position) {
+        return node.getPosition().distanceSquared(position);
+    }
+
+    private static int cell(double coordinate) {
+        return (int) Math.floor(coordinate / CELL_SIZE);
+    }
+
+    private static long key(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+}
@@ -11,7 +11,6 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import io.github.nucleuspowered.nucleus.NucleusPlugin;
-import io.github.nucleuspowered.nucleus.Util;
 import io.github.nucleuspowered.nucleus.api.data.JailData;
 import io.github.nucleuspowered.nucleus.api.data.LocationData;
 import io.github.nucleuspowered.nucleus.api.data.MuteData;
@@ -48,7 +47,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 public class UserService extends Service<UserDataNode>
         implements NucleusUser {
@@ -56,6 +54,7 @@ public class UserService extends Service<UserDataNode>
     private final NucleusPlugin plugin;
     private final UUID uuid;
     private final Instant serviceLoadTime = Instant.now();
+    private volatile Instant lastAccessTime = serviceLoadTime;
 
     // Use to keep hold of whether this is the first time on the server for a player.
     private boolean firstPlay = false;
@@ -67,6 +66,23 @@ public class UserService extends Service<UserDataNode>
     // Use for /staffchat
     private boolean inStaffChat = false;
 
+    private final CaseInsensitiveIndex<LocationNode> homes = new CaseInsensitiveIndex<>(() -> {
+        if (data.getHomeData() == null) {
+            data.setHomeData(Maps.newHashMap());
+        }
+
+        return data.getHomeData();
+    });
+
+    private final SpatialIndex<LocationNode> homeLocations = new SpatialIndex<>(homes::getAll);
+    private final LocationDataCache<LocationNode, LocationData> homeData = new LocationDataCache<>(homes, (k, v) -> {
+        try {
+            return new LocationData(k, v.getLocation(), v.getRotation());
+        } catch (NoSuchWorldException e) {
+            return new LocationData(k, null, null);
+        }
+    });
+
     // Used as a cache.
     private UserStorageService uss;
     private Text nickname = null;
@@ -79,7 +95,6 @@ public class UserService extends Service<UserDataNode>
     @NonnullByDefault
     public UserService(NucleusPlugin plugin, DataProvider<UserDataNode> provider, UUID uuid) throws Exception {
         super(provider);
-        data = provider.load();
         Preconditions.checkNotNull("uuid", uuid );
         Preconditions.checkNotNull("plugin", plugin);
         this.plugin = plugin;
@@ -101,10 +116,12 @@ public class UserService extends Service<UserDataNode>
 
     public void setMuteData(MuteData mData) {
         data.setMuteData(mData);
+        markDirty();
     }
 
     public void removeMuteData() {
         data.setMuteData(null);
+        markDirty();
     }
 
     @Override
@@ -114,6 +131,7 @@ public class UserService extends Service<UserDataNode>
 
     public void setWarnings(List<WarnData> warnings) {
         data.setWarnings(warnings);
+        markDirty();
     }
 
     @Override
@@ -126,6 +144,7 @@ public class UserService extends Service<UserDataNode>
         warnings.add(warning);
         warnings.sort((x, y) -> Boolean.compare(x.isExpired(), y.isExpired()));
         data.setWarnings(warnings);
+        markDirty();
     }
 
     @Override
@@ -137,6 +156,7 @@ public class UserService extends Service<UserDataNode>
                 x.getWarner().equals(warning.getWarner()) &&
                 x.getDate().equals(warning.getDate()))) {
             data.setWarnings(warnings);
+            markDirty();
             return true;
         }
 
@@ -147,6 +167,7 @@ public class UserService extends Service<UserDataNode>
     public boolean clearWarnings() {
         if (!data.getWarnings().isEmpty()) {
             data.setWarnings(Lists.newArrayList());
+            markDirty();
             return true;
         } else {
             return false;
@@ -165,12 +186,14 @@ public class UserService extends Service<UserDataNode>
 
         notes.add(note);
         data.setNotes(notes);
+        markDirty();
     }
 
     public boolean removeNote(NoteData note) {
         List<NoteData> notes = data.getNotes();
         if (notes.removeIf(x -> x.getNoter().equals(note.getNoter()) && x.getNote().equals(note.getNote()))) {
             data.setNotes(notes);
+            markDirty();
             return true;
         }
 
@@ -180,6 +203,7 @@ public class UserService extends Service<UserDataNode>
     public boolean clearNotes() {
         if (!data.getNotes().isEmpty()) {
             data.setNotes(Lists.newArrayList());
+            markDirty();
             return true;
         } else {
             return false;
@@ -193,6 +217,7 @@ public class UserService extends Service<UserDataNode>
 
     public boolean setSocialSpy(boolean socialSpy) {
         data.setSocialspy(socialSpy);
+        markDirty();
 
         // Permission checks! Return true if it's what we wanted.
         return isSocialSpy() == socialSpy;
@@ -206,13 +231,18 @@ public class UserService extends Service<UserDataNode>
     @Override
     public void setInvulnerable(boolean invuln) {
         data.setInvulnerable(invuln);
+        markDirty();
     }
 
     @Override
     public boolean isFlying() {
         User user = getUser();
         if (user.isOnline()) {
-            data.setFly(user.getPlayer().get().get(Keys.CAN_FLY).orElse(false));
+            boolean fly = user.getPlayer().get().get(Keys.CAN_FLY).orElse(false);
+            if (fly != data.isFly()) {
+                data.setFly(fly);
+                markDirty();
+            }
         }
 
         return data.isFly();
@@ -221,6 +251,7 @@ public class UserService extends Service<UserDataNode>
     @Override
     public void setFlying(boolean fly) {
         data.setFly(fly);
+        markDirty();
     }
 
     @Override
@@ -239,6 +270,7 @@ public class UserService extends Service<UserDataNode>
 
     public void setLastLogin(Instant login) {
         data.setLogin(login.toEpochMilli());
+        markDirty();
     }
 
     @Override
@@ -252,11 +284,7 @@ public class UserService extends Service<UserDataNode>
 
     @Override
     public Optional<LocationData> getHome(String home) {
-        if (data.getHomeData() == null) {
-            return Optional.empty();
-        }
-
-        LocationNode ln = Util.getValueIgnoreCase(data.getHomeData(), home).orElse(null);
+        LocationNode ln = homes.get(home).orElse(null);
         if (ln != null) {
             try {
                 return Optional.of(new LocationData(home, ln.getLocation(), ln.getRotation()));
@@ -270,18 +298,30 @@ public class UserService extends Service<UserDataNode>
 
     @Override
     public Map<String, LocationData> getHomes() {
-        if (data.getHomeData() == null || data.getHomeData().isEmpty()) {
-            return Maps.newHashMap();
+        return homeData.get();
+    }
+
+    @Override
+    public List<LocationData> getNearestHomes(Location<World> location, int count) {
+        return toLocationData(homeLocations.getNearest(location.getExtent().getUniqueId(), location.getPosition(), count));
+    }
+
+    @Override
+    public List<LocationData> getHomesWithin(Location<World> location, double radius) {
+        return toLocationData(homeLocations.getWithin(location.getExtent().getUniqueId(), location.getPosition(), radius));
+    }
+
+    private List<LocationData> toLocationData(List<Map.Entry<String, LocationNode>> entries) {
+        List<LocationData> result = Lists.newArrayList();
+        for (Map.Entry<String, LocationNode> entry : entries) {
+            try {
+                result.add(new LocationData(entry.getKey(), entry.getValue().getLocation(), entry.getValue().getRotation()));
+            } catch (NoSuchWorldException e) {
+                // The world was found from the location that was given, so this will not happen.
+            }
         }
 
-        return data.getHomeData().entrySet().stream()
-            .collect(Collectors.toMap(Map.Entry::getKey, x -> {
-                try {
-                    return new LocationData(x.getKey(), x.getValue().getLocation(), x.getValue().getRotation());
-                } catch (NoSuchWorldException e) {
-                    return new LocationData(x.getKey(), null, null);
-                }
-            }));
+        return result;
     }
 
     @Override
@@ -293,34 +333,21 @@ public class UserService extends Service<UserDataNode>
     public boolean setHome(String home, Location<World> location, Vector3d rotation, boolean overwrite) {
         final Pattern warpName = Pattern.compile("^[a-zA-Z][a-zA-Z0-9]{1,15}$");
 
-        Map<String, LocationNode> homeData = data.getHomeData();
-        if (homeData == null) {
-            homeData = Maps.newHashMap();
-        }
-
-        Optional<String> os = Util.getKeyIgnoreCase(data.getHomeData(), home);
-        if (os.isPresent() || !warpName.matcher(home).matches()) {
+        if (homes.contains(home) || !warpName.matcher(home).matches()) {
             if (!overwrite || !deleteHome(home)) {
                 return false;
             }
         }
 
-        homeData.put(home, new LocationNode(location, rotation));
-        data.setHomeData(homeData);
+        homes.add(home, new LocationNode(location, rotation));
+        markDirty();
         return true;
     }
 
     @Override
     public boolean deleteHome(String home) {
-        Map<String, LocationNode> homeData = data.getHomeData();
-        if (homeData == null) {
-            return false;
-        }
-
-        Optional<String> os = Util.getKeyIgnoreCase(data.getHomeData(), home);
-        if (os.isPresent()) {
-            homeData.remove(os.get());
-            data.setHomeData(homeData);
+        if (homes.remove(home).isPresent()) {
+            markDirty();
             return true;
         }
 
@@ -335,6 +362,7 @@ public class UserService extends Service<UserDataNode>
     @Override
     public void setTeleportToggled(boolean toggle) {
         data.setTeleportToggled(toggle);
+        markDirty();
     }
 
     @Override
@@ -374,6 +402,8 @@ public class UserService extends Service<UserDataNode>
     @Override
     public void setNickname(String nickname) {
         data.setNickname(nickname);
+        markDirty();
+        plugin.getNameIndex().setNickname(uuid, nickname);
         this.nickname = null;
         String p = getNickPrefix();
         if (p != null && !p.isEmpty()) {
@@ -389,39 +419,28 @@ public class UserService extends Service<UserDataNode>
         nickname = null;
         getUser().remove(Keys.DISPLAY_NAME);
         data.setNickname(null);
+        markDirty();
+        plugin.getNameIndex().setNickname(uuid, null);
     }
 
-    public List<MailData> getMail() {
-        return ImmutableList.copyOf(data.getMailDataList());
-    }
-
-    public void addMail(MailData mailData) {
-        List<MailData> mailDataList = data.getMailDataList();
-        if (mailDataList == null) {
-            mailDataList = Lists.newArrayList();
-        }
-
-        mailDataList.add(mailData);
-        data.setMailDataList(mailDataList);
-    }
-
-    public boolean removeMail(MailData mailData) {
+    /**
+     * Gets any mail that was stored with the user data before mail was moved to the {@link MailStore}.
+     *
+     * @return A copy of the mail.
+     */
+    public List<MailData> getLegacyMail() {
         List<MailData> lmd = data.getMailDataList();
-        if (lmd.removeIf(x -> x.getDate().equals(mailData.getDate()) &&
-                x.getMessage().equals(mailData.getMessage()) && x.getUuid().equals(mailData.getUuid()))) {
-            data.setMailDataList(lmd);
-            return true;
-        }
-
-        return false;
+        return lmd == null ? Lists.newArrayList() : Lists.newArrayList(lmd);
     }
 
-    public boolean clearMail() {
-        if (!data.getMailDataList().isEmpty()) {
+    /**
+     * Removes the mail that was stored with the user data, once it has been moved to the {@link MailStore}.
+     */
+    public void clearLegacyMail() {
+        List<MailData> lmd = data.getMailDataList();
+        if (lmd != null && !lmd.isEmpty()) {
             data.setMailDataList(Lists.newArrayList());
-            return true;
-        } else {
-            return false;
+            markDirty();
         }
     }
 
@@ -431,6 +450,7 @@ public class UserService extends Service<UserDataNode>
 
     public void setJailData(JailData jdata) {
         data.setJailData(jdata);
+        markDirty();
     }
 
     public void removeJailData() {
@@ -440,6 +460,7 @@ public class UserService extends Service<UserDataNode>
     public void setOnLogout(Location<World> location) {
         setLastLogout(Instant.now());
         data.setLastLocation(new LocationNode(location));
+        markDirty();
 
         // Set data based toggles.
         isFlying();
@@ -461,14 +482,17 @@ public class UserService extends Service<UserDataNode>
 
     public void sendToLocationOnLogin(Location<World> worldLocation) {
         data.setLocationOnLogin(new LocationNode(worldLocation));
+        markDirty();
     }
 
     public void removeLocationOnLogin() {
         data.setLocationOnLogin(null);
+        markDirty();
     }
 
     public void setLastLogout(Instant logout) {
         data.setLogout(logout.toEpochMilli());
+        markDirty();
     }
 
     @Override
@@ -482,6 +506,7 @@ public class UserService extends Service<UserDataNode>
 
     public void setJailOnNextLogin(boolean set) {
         data.setJailOffline(!getUser().isOnline() && set);
+        markDirty();
     }
 
     public Map<String, Instant> getKitLastUsedTime() {
@@ -494,12 +519,14 @@ public class UserService extends Service<UserDataNode>
         Map<String, Long> kitLastUsedTime = data.getKitLastUsedTime();
         kitLastUsedTime.put(kitName.toLowerCase(), lastTime.getEpochSecond());
         data.setKitLastUsedTime(kitLastUsedTime);
+        markDirty();
     }
 
     public void removeKitLastUsedTime(String kitName) {
         Map<String, Long> kitLastUsedTime = data.getKitLastUsedTime();
         kitLastUsedTime.remove(kitName.toLowerCase());
         data.setKitLastUsedTime(kitLastUsedTime);
+        markDirty();
     }
 
     // -- Powertools
@@ -519,14 +546,17 @@ public class UserService extends Service<UserDataNode>
 
     public void setPowertool(ItemType type, List<String> commands) {
         data.getPowertools().put(type.getId(), commands);
+        markDirty();
     }
 
     public void clearPowertool(ItemType type) {
         data.getPowertools().remove(type.getId());
+        markDirty();
     }
 
     public void clearPowertool(String type) {
         data.getPowertools().remove(type);
+        markDirty();
     }
 
     @Override
@@ -537,6 +567,7 @@ public class UserService extends Service<UserDataNode>
     @Override
     public void setPowertoolToggle(boolean set) {
         data.setPowertoolToggle(set);
+        markDirty();
     }
 
     @Override
@@ -548,6 +579,7 @@ public class UserService extends Service<UserDataNode>
     public boolean addToIgnoreList(UUID uuid) {
         if (!data.getIgnoreList().contains(uuid)) {
             data.getIgnoreList().add(uuid);
+            markDirty();
             return true;
         }
 
@@ -556,7 +588,12 @@ public class UserService extends Service<UserDataNode>
 
     @Override
     public boolean removeFromIgnoreList(UUID uuid) {
-        return data.getIgnoreList().remove(uuid);
+        if (data.getIgnoreList().remove(uuid)) {
+            markDirty();
+            return true;
+        }
+
+        return false;
     }
 
     @Override
@@ -567,6 +604,7 @@ public class UserService extends Service<UserDataNode>
     @Override
     public void setFrozen(boolean value) {
         data.setFrozen(value);
+        markDirty();
     }
 
     public Optional<Transform<World>> getLastLocation() {
@@ -608,10 +646,11 @@ public class UserService extends Service<UserDataNode>
 
     public void setLastIp(InetAddress address) {
         data.setIpaddress(address.toString());
+        markDirty();
     }
 
     /**
-     * Primarily used internally to determine if the {@link UserDataManager#removeOfflinePlayers()} method should really remove this.
+     * Gets the time this {@link UserService} was loaded.
      *
      * @return The {@link Instant} the {@link UserService} was loaded.
      */
@@ -619,6 +658,19 @@ public class UserService extends Service<UserDataNode>
         return serviceLoadTime;
     }
 
+    /**
+     * Used internally to determine which offline users the {@link UserDataManager} should remove first.
+     *
+     * @return The {@link Instant} the {@link UserService} was last requested from the {@link UserDataManager}.
+     */
+    public final Instant lastAccessTime() {
+        return lastAccessTime;
+    }
+
+    public final void updateLastAccessTime() {
+        lastAccessTime = Instant.now();
+    }
+
     public Optional<Location<World>> getLogoutLocation() {
         try {
             return Optional.ofNullable(data.getLastLocation().getLocation());
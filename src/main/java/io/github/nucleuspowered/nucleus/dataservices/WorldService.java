@@ -53,6 +53,7 @@ public class WorldService extends Service<WorldDataNode> implements NucleusWorld
     @Override
     public void setLockWeather(boolean lockWeather) {
         data.setLockWeather(lockWeather);
+        markDirty();
     }
 
     @Override
@@ -63,10 +64,12 @@ public class WorldService extends Service<WorldDataNode> implements NucleusWorld
     @Override
     public void setSpawnRotation(Vector3d rotation) {
         data.setSpawnRotation(rotation);
+        markDirty();
     }
 
     @Override
     public void clearSpawnRotation() {
         data.setSpawnRotation(null);
+        markDirty();
     }
 }
@@ -8,34 +8,40 @@ import static io.github.nucleuspowered.nucleus.configurate.ConfigurateHelper.set
 
 import com.google.common.base.Preconditions;
 import com.google.common.reflect.TypeToken;
+import io.github.nucleuspowered.nucleus.FileUtil;
+import io.github.nucleuspowered.nucleus.Nucleus;
 import io.github.nucleuspowered.nucleus.configurate.ConfigurateHelper;
 import ninja.leaping.configurate.ConfigurationNode;
 import ninja.leaping.configurate.ConfigurationOptions;
 import ninja.leaping.configurate.commented.SimpleCommentedConfigurationNode;
 import ninja.leaping.configurate.loader.ConfigurationLoader;
+import org.slf4j.Logger;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import javax.annotation.Nullable;
+
 public class ConfigurateDataProvider<T> implements DataProvider<T> {
 
     private final TypeToken<T> typeToken;
-    private final ConfigurationLoader<?> loader;
+    private final Function<Path, ConfigurationLoader<?>> loaderProvider;
     private final Supplier<T> defaultSupplier;
     private final Path file;
     private final boolean requiresChildren;
     private final Path backupFile;
+    private final Path tempFile;
 
-    public ConfigurateDataProvider(TypeToken<T> type, ConfigurationLoader<?> loader, Path file) {
-        this(type, loader, file, true);
+    public ConfigurateDataProvider(TypeToken<T> type, Function<Path, ConfigurationLoader<?>> loaderProvider, Path file) {
+        this(type, loaderProvider, file, true);
     }
 
-    public ConfigurateDataProvider(TypeToken<T> type, ConfigurationLoader<?> loader, Path file, boolean requiresChildren) {
-        this(type, loader, () -> {
+    public ConfigurateDataProvider(TypeToken<T> type, Function<Path, ConfigurationLoader<?>> loaderProvider, Path file, boolean requiresChildren) {
+        this(type, loaderProvider, () -> {
             try {
                 return (T)type.getRawType().newInstance();
             } catch (InstantiationException | IllegalAccessException e) {
@@ -45,23 +51,49 @@ public class ConfigurateDataProvider<T> implements DataProvider<T> {
         }, file, requiresChildren);
     }
 
-    public ConfigurateDataProvider(TypeToken<T> type, ConfigurationLoader<?> loader, Supplier<T> defaultSupplier, Path file, boolean requiresChildren) {
+    /**
+     * Creates a data provider backed by a Configurate file.
+     *
+     * @param type The {@link TypeToken} of the data type.
+     * @param loaderProvider Creates a {@link ConfigurationLoader} for the given {@link Path}. This is used to load and
+     *                       save the data file, as well as the temporary and backup files next to it.
+     * @param defaultSupplier Supplies the data if there is none.
+     * @param file The data file.
+     * @param requiresChildren Whether the data must have children in order to be saved.
+     */
+    public ConfigurateDataProvider(TypeToken<T> type, Function<Path, ConfigurationLoader<?>> loaderProvider, Supplier<T> defaultSupplier, Path file,
+            boolean requiresChildren) {
         this.typeToken = type;
-        this.loader = loader;
+        this.loaderProvider = loaderProvider;
         this.defaultSupplier = defaultSupplier;
         this.file = file;
         this.backupFile = Paths.get(file.toAbsolutePath().toString() + ".bak");
+        this.tempFile = FileUtil.getTempFile(file);
         this.requiresChildren = requiresChildren;
     }
 
     @Override
-    public T load() throws Exception {
-        return loader.load(setOptions(getOptions())).getValue(typeToken, defaultSupplier);
+    public synchronized T load() throws Exception {
+        // If we were stopped between moving the old file out of the way and moving the new one in, we use the backup.
+        if (Files.notExists(file) && Files.exists(backupFile)) {
+            return loadFromBackup(null);
+        }
+
+        try {
+            return load(file);
+        } catch (Exception e) {
+            if (Files.exists(backupFile)) {
+                return loadFromBackup(e);
+            }
+
+            throw e;
+        }
     }
 
     @Override
-    public void save(T info) throws Exception {
+    public synchronized void save(T info) throws Exception {
         Preconditions.checkNotNull(info);
+        ConfigurationLoader<?> loader = loaderProvider.apply(tempFile);
         ConfigurationOptions configurateOptions = ConfigurateHelper.setOptions(loader.getDefaultOptions());
         ConfigurationNode node = SimpleCommentedConfigurationNode.root(configurateOptions).setValue(typeToken, info);
         if (node == null) {
@@ -72,28 +104,55 @@ public class ConfigurateDataProvider<T> implements DataProvider<T> {
             throw getException("Configuration Node has no children.");
         }
 
+        // Write the new data to a temporary file first. If this fails, the existing file is untouched. The data must be
+        // on the disk before the file is renamed, otherwise a power cut could leave an empty file in place of the data.
         try {
-            if (Files.exists(file)) {
-                Files.copy(file, backupFile, StandardCopyOption.REPLACE_EXISTING);
-            }
-
             loader.save(node);
+            FileUtil.force(tempFile);
         } catch (IOException e) {
-            if (Files.exists(backupFile)) {
-                Files.copy(backupFile, file, StandardCopyOption.REPLACE_EXISTING);
-            }
-
+            Files.deleteIfExists(tempFile);
             throw e;
         }
+
+        // The old file becomes the backup, and the new one takes its place. Both are renames, so the data is never
+        // copied, and at no point is there a partially written file in place of either.
+        if (Files.exists(file)) {
+            FileUtil.move(file, backupFile);
+        }
+
+        FileUtil.move(tempFile, file);
     }
 
     @Override
-    public void delete() throws Exception {
+    public synchronized void delete() throws Exception {
         Files.delete(file);
+        Files.deleteIfExists(backupFile);
+    }
+
+    private T load(Path path) throws Exception {
+        // An empty file would load as empty data, so the defaults would be used and the backup ignored. We never save
+        // an empty file, so it can only be the result of a failed write.
+        if (Files.exists(path) && Files.size(path) == 0) {
+            throw new IOException("The file " + path.getFileName() + " is empty.");
+        }
+
+        ConfigurationLoader<?> loader = loaderProvider.apply(path);
+        return loader.load(setOptions(loader.getDefaultOptions())).getValue(typeToken, defaultSupplier);
     }
 
-    private ConfigurationOptions getOptions() {
-        return setOptions(loader.getDefaultOptions());
+    private T loadFromBackup(@Nullable Exception cause) throws Exception {
+        Logger logger = Nucleus.getNucleus().getLogger();
+        if (cause == null) {
+            logger.warn("The file " + file.getFileName() + " is missing. Restoring from the backup file " + backupFile.getFileName() + ".");
+        } else {
+            logger.error("The file " + file.getFileName() + " could not be loaded, it may be corrupt. Restoring from the backup file "
+                    + backupFile.getFileName() + ".");
+            if (Nucleus.getNucleus().isDebugMode()) {
+                cause.printStackTrace();
+            }
+        }
+
+        return load(backupFile);
     }
 
     private IllegalStateException getException(String message) {
@@ -4,29 +4,36 @@
  */
 package io.github.nucleuspowered.nucleus.dataservices.dataproviders;
 
-import com.google.common.base.Preconditions;
 import com.google.common.reflect.TypeToken;
 import io.github.nucleuspowered.nucleus.NucleusPlugin;
+import io.github.nucleuspowered.nucleus.configurate.BinaryConfigurationLoader;
 import io.github.nucleuspowered.nucleus.configurate.ConfigurateHelper;
 import io.github.nucleuspowered.nucleus.configurate.datatypes.GeneralDataNode;
 import io.github.nucleuspowered.nucleus.configurate.datatypes.ItemDataNode;
 import io.github.nucleuspowered.nucleus.configurate.datatypes.KitConfigDataNode;
 import io.github.nucleuspowered.nucleus.configurate.datatypes.UserDataNode;
 import io.github.nucleuspowered.nucleus.configurate.datatypes.WorldDataNode;
+import io.github.nucleuspowered.nucleus.modules.core.config.CoreConfig;
+import io.github.nucleuspowered.nucleus.modules.core.config.CoreConfigAdapter;
 import ninja.leaping.configurate.ConfigurationNode;
-import ninja.leaping.configurate.ConfigurationOptions;
 import ninja.leaping.configurate.gson.GsonConfigurationLoader;
 import ninja.leaping.configurate.hocon.HoconConfigurationLoader;
-import ninja.leaping.configurate.loader.ConfigurationLoader;
+import uk.co.drnaylor.quickstart.exceptions.IncorrectAdapterTypeException;
+import uk.co.drnaylor.quickstart.exceptions.NoModuleException;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class DataProviders {
 
@@ -37,25 +44,49 @@ public class DataProviders {
     private final TypeToken<Map<String, ItemDataNode>> ttmsi = new TypeToken<Map<String, ItemDataNode>>() {};
     private final TypeToken<KitConfigDataNode> ttmk = TypeToken.of(KitConfigDataNode.class);
 
+    private static final String USER_PREFIX = "user/";
+    private static final String WORLD_PREFIX = "world/";
+    private static final String IMPORTED_MARKER = "nucleus/imported";
+
+    private StorageType storageType = null;
+    private boolean binary = false;
+
+    // Only created if single file storage is in use.
+    private LogDataStore logDataStore = null;
+
     public DataProviders(NucleusPlugin plugin) {
         this.plugin = plugin;
     }
 
     public DataProvider<UserDataNode> getUserFileDataProviders(UUID uuid) {
-        // For now, just the Configurate one.
         try {
+            if (getStorageType() == StorageType.SINGLE_FILE) {
+                return new LogStoreDataProvider<>(ttu, getLogDataStore(), USER_PREFIX + uuid.toString(), binary);
+            }
+
             Path p = getFile("userdata%1$s%2$s%1$s%3$s.json", uuid);
-            return new ConfigurateDataProvider<>(ttu, getGsonBuilder().setPath(p).build(), p);
+            if (binary) {
+                return new ConfigurateDataProvider<>(ttu, BinaryConfigurationLoader::new, toBinaryFile(p));
+            }
+
+            return new ConfigurateDataProvider<>(ttu, x -> getGsonBuilder().setPath(x).build(), p);
         } catch (Exception e) {
             return null;
         }
     }
 
     public DataProvider<WorldDataNode> getWorldFileDataProvider(UUID uuid) {
-        // For now, just the Configurate one.
         try {
+            if (getStorageType() == StorageType.SINGLE_FILE) {
+                return new LogStoreDataProvider<>(ttw, getLogDataStore(), WORLD_PREFIX + uuid.toString(), binary);
+            }
+
             Path p = getFile("worlddata%1$s%2$s%1$s%3$s.json", uuid);
-            return new ConfigurateDataProvider<>(ttw, getGsonBuilder().setPath(p).build(), p);
+            if (binary) {
+                return new ConfigurateDataProvider<>(ttw, BinaryConfigurationLoader::new, toBinaryFile(p));
+            }
+
+            return new ConfigurateDataProvider<>(ttw, x -> getGsonBuilder().setPath(x).build(), p);
         } catch (Exception e) {
             return null;
         }
@@ -65,7 +96,7 @@ public class DataProviders {
         // For now, just the Configurate one.
         try {
             Path p = plugin.getDataPath().resolve("kits.json");
-            return new ConfigurateDataProvider<>(ttmk, new LazyConfigurationLoader<>(() -> getGsonBuilder().setPath(p).build()), p);
+            return new ConfigurateDataProvider<>(ttmk, x -> getGsonBuilder().setPath(x).build(), p);
         } catch (Exception e) {
             return null;
         }
@@ -75,7 +106,7 @@ public class DataProviders {
         // For now, just the Configurate one.
         try {
             Path p = plugin.getDataPath().resolve("general.json");
-            return new ConfigurateDataProvider<>(ttg, new LazyConfigurationLoader<>(() -> getGsonBuilder().setPath(p).build()), p);
+            return new ConfigurateDataProvider<>(ttg, x -> getGsonBuilder().setPath(x).build(), p);
         } catch (Exception e) {
             return null;
         }
@@ -85,78 +116,239 @@ public class DataProviders {
         // For now, just the Configurate one.
         try {
             Path p = plugin.getConfigDirPath().resolve("items.conf");
-            return new ConfigurateDataProvider<>(ttmsi, new LazyConfigurationLoader<>(() -> getHoconBuilder().setPath(p).build()), HashMap::new, p, false);
+            return new ConfigurateDataProvider<>(ttmsi, x -> getHoconBuilder().setPath(x).build(), HashMap::new, p, false);
         } catch (Exception e) {
             return null;
         }
     }
 
-    private Path getFile(String template, UUID uuid) throws Exception {
-        String u = uuid.toString();
-        String f = u.substring(0, 2);
-        return getFile(plugin.getDataPath().resolve(String.format(template, File.separator, f, u)));
-    }
+    /**
+     * Gets the {@link UUID}s of every user that has stored data.
+     *
+     * @return The {@link UUID}s.
+     * @throws IOException if the data could not be listed.
+     */
+    public Set<UUID> getStoredUserIds() throws IOException {
+        Set<UUID> uuids = new HashSet<>();
+        if (getStorageType() == StorageType.SINGLE_FILE) {
+            getLogDataStore().getKeys().stream().filter(x -> x.startsWith(USER_PREFIX)).forEach(x -> {
+                try {
+                    uuids.add(UUID.fromString(x.substring(USER_PREFIX.length())));
+                } catch (IllegalArgumentException e) {
+                    // Not a user.
+                }
+            });
 
-    private Path getFile(Path file) throws Exception {
-        if (Files.notExists(file)) {
-            Files.createDirectories(file.getParent());
+            return uuids;
         }
 
-        return file;
+        Path directory = plugin.getDataPath().resolve("userdata");
+        if (Files.notExists(directory)) {
+            return uuids;
+        }
+
+        try (Stream<Path> s = Files.walk(directory, 2)) {
+            s.map(x -> x.getFileName().toString()).filter(x -> x.endsWith(".json") || x.endsWith(".dat")).forEach(x -> {
+                try {
+                    uuids.add(UUID.fromString(x.substring(0, x.lastIndexOf('.'))));
+                } catch (IllegalArgumentException e) {
+                    // Not a user.
+                }
+            });
+        }
+
+        return uuids;
     }
 
-    private GsonConfigurationLoader.Builder getGsonBuilder() {
-        GsonConfigurationLoader.Builder gsb = GsonConfigurationLoader.builder();
-        return gsb.setDefaultOptions(ConfigurateHelper.setOptions(gsb.getDefaultOptions()));
+    /**
+     * Closes any open data stores. Should only be called when the server is stopping.
+     */
+    public synchronized void close() {
+        if (logDataStore != null) {
+            try {
+                logDataStore.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+
+            logDataStore = null;
+        }
     }
 
-    private HoconConfigurationLoader.Builder getHoconBuilder() {
-        HoconConfigurationLoader.Builder gsb = HoconConfigurationLoader.builder();
-        return gsb.setDefaultOptions(ConfigurateHelper.setOptions(gsb.getDefaultOptions()));
+    private synchronized StorageType getStorageType() {
+        if (storageType == null) {
+            // This is only called once modules have loaded, as no user or world data is requested before then.
+            try {
+                CoreConfig config = plugin.getModuleContainer().getConfigAdapterForModule("core", CoreConfigAdapter.class).getNodeOrDefault();
+                storageType = "single-file".equalsIgnoreCase(config.getDataStorage()) ? StorageType.SINGLE_FILE : StorageType.FILES;
+                binary = "binary".equalsIgnoreCase(config.getDataFormat());
+            } catch (NoModuleException | IncorrectAdapterTypeException e) {
+                storageType = StorageType.FILES;
+            }
+        }
+
+        return storageType;
     }
 
     /**
-     * Only performs the loading when required.
-     * @param <T> The type of node that this lazy loaded loader will load.
+     * Opens the single file data store if it is in use, copying in the existing data files the first time it is
+     * opened. This must be called during startup, after the modules have loaded and before any user or world data is
+     * requested, so that the copy is made up front rather than on whichever thread asks for data first.
+     *
+     * @throws IOException if the store could not be opened or the data could not be copied.
      */
-    private static class LazyConfigurationLoader<T extends ConfigurationNode> implements ConfigurationLoader<T> {
+    public synchronized void prepare() throws IOException {
+        if (getStorageType() == StorageType.SINGLE_FILE) {
+            LogDataStore store = getLogDataStore();
 
-        private ConfigurationLoader<T> lazyLoad = null;
-        private final Supplier<ConfigurationLoader<T>> supplier;
+            // The marker is only written once everything has been copied, so an interrupted import is picked up again.
+            if (!store.contains(IMPORTED_MARKER)) {
+                importFileData(store);
+                store.sync();
+                store.put(IMPORTED_MARKER, new byte[0]);
+            }
+        }
+    }
 
-        private LazyConfigurationLoader(Supplier<ConfigurationLoader<T>> supplier) {
-            Preconditions.checkNotNull(supplier);
-            this.supplier = supplier;
+    /**
+     * Compacts the single file data store if it is in use and enough of it is taken up by old data. This reads the
+     * whole store, so should be called off the main thread.
+     *
+     * @throws IOException if the store could not be compacted.
+     */
+    public void compactIfRequired() throws IOException {
+        LogDataStore store;
+        synchronized (this) {
+            store = logDataStore;
         }
 
-        @Override
-        public ConfigurationOptions getDefaultOptions() {
-            init();
-            return lazyLoad.getDefaultOptions();
+        if (store != null && store.compactIfRequired()) {
+            plugin.getLogger().info("Compacted the single file data store.");
+        }
+    }
+
+    private synchronized LogDataStore getLogDataStore() throws IOException {
+        if (logDataStore == null) {
+            logDataStore = new LogDataStore(plugin.getDataPath().resolve("nucleus-data.log"));
         }
 
-        @Override
-        public T load(ConfigurationOptions options) throws IOException {
-            init();
-            return lazyLoad.load(options);
+        return logDataStore;
+    }
+
+    /**
+     * Copies existing per user and per world data files into the single file store. The original files are not
+     * touched, and changes made to the store are not copied back.
+     *
+     * @param store The {@link LogDataStore} to import into.
+     * @throws IOException if the files could not be read or the store could not be written to.
+     */
+    private void importFileData(LogDataStore store) throws IOException {
+        int users = importDirectory(store, plugin.getDataPath().resolve("userdata"), USER_PREFIX);
+        int worlds = importDirectory(store, plugin.getDataPath().resolve("worlddata"), WORLD_PREFIX);
+        if (users > 0 || worlds > 0) {
+            plugin.getLogger().info("Copied data for " + users + " users and " + worlds + " worlds into the single file data store.");
         }
+    }
 
-        @Override
-        public void save(ConfigurationNode node) throws IOException {
-            init();
-            lazyLoad.save(node);
+    private int importDirectory(LogDataStore store, Path directory, String prefix) throws IOException {
+        if (Files.notExists(directory)) {
+            return 0;
         }
 
-        @Override
-        public T createEmptyNode(ConfigurationOptions options) {
-            init();
-            return lazyLoad.createEmptyNode(options);
+        int count = 0;
+        List<Path> files;
+        try (Stream<Path> s = Files.walk(directory, 2)) {
+            files = s.filter(x -> Files.isRegularFile(x) && x.getFileName().toString().endsWith(".json")).collect(Collectors.toList());
         }
 
-        private void init() {
-            if (lazyLoad == null) {
-                lazyLoad = supplier.get();
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            try {
+                String key = prefix + UUID.fromString(name.substring(0, name.length() - 5)).toString();
+                if (!store.contains(key)) {
+                    // The store holds the same JSON representation as the files, so there is no need to parse it.
+                    store.put(key, Files.readAllBytes(file), false);
+                    count++;
+                }
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warn("Skipping " + file.toString() + " when importing data, the file name is not a UUID.");
             }
         }
+
+        return count;
+    }
+
+    /**
+     * Gets the binary file that sits alongside the given JSON file. If there is no binary file yet but there is a JSON
+     * file, the JSON data is converted. The JSON file is left in place so that it can be restored by hand if need be.
+     *
+     * <p>
+     *     The JSON file is only converted if there has never been a binary file. If the server stopped part way through
+     *     saving the binary file, there may only be its backup or the new data in its temporary file, both of which are
+     *     newer than the JSON file.
+     * </p>
+     *
+     * @param jsonFile The JSON file.
+     * @return The binary file.
+     * @throws IOException if the JSON file could not be converted.
+     */
+    private Path toBinaryFile(Path jsonFile) throws IOException {
+        String name = jsonFile.getFileName().toString();
+        Path binaryFile = jsonFile.resolveSibling(name.substring(0, name.length() - 5) + ".dat");
+        Path backupFile = binaryFile.resolveSibling(binaryFile.getFileName().toString() + ".bak");
+        Path tempFile = binaryFile.resolveSibling(binaryFile.getFileName().toString() + ".tmp");
+        if (Files.exists(binaryFile) || Files.exists(backupFile)) {
+            // The data provider restores from the backup itself.
+            return binaryFile;
+        }
+
+        if (Files.exists(tempFile)) {
+            // The last save was written but never moved into place. If it is complete, it is the newest data we have.
+            try {
+                new BinaryConfigurationLoader(tempFile).load();
+                Files.move(tempFile, binaryFile);
+                return binaryFile;
+            } catch (IOException e) {
+                plugin.getLogger().warn("Discarding the incomplete file " + tempFile.getFileName() + ".");
+                Files.delete(tempFile);
+            }
+        }
+
+        if (Files.exists(jsonFile)) {
+            ConfigurationNode node = getGsonBuilder().setPath(jsonFile).build().load();
+            new BinaryConfigurationLoader(tempFile).save(node);
+            Files.move(tempFile, binaryFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        return binaryFile;
+    }
+
+    private Path getFile(String template, UUID uuid) throws Exception {
+        String u = uuid.toString();
+        String f = u.substring(0, 2);
+        return getFile(plugin.getDataPath().resolve(String.format(template, File.separator, f, u)));
+    }
+
+    private Path getFile(Path file) throws Exception {
+        if (Files.notExists(file)) {
+            Files.createDirectories(file.getParent());
+        }
+
+        return file;
+    }
+
+    private GsonConfigurationLoader.Builder getGsonBuilder() {
+        GsonConfigurationLoader.Builder gsb = GsonConfigurationLoader.builder();
+        return gsb.setDefaultOptions(ConfigurateHelper.setOptions(gsb.getDefaultOptions()));
+    }
+
+    private HoconConfigurationLoader.Builder getHoconBuilder() {
+        HoconConfigurationLoader.Builder gsb = HoconConfigurationLoader.builder();
+        return gsb.setDefaultOptions(ConfigurateHelper.setOptions(gsb.getDefaultOptions()));
+    }
+
+    private enum StorageType {
+        FILES,
+        SINGLE_FILE
     }
 }
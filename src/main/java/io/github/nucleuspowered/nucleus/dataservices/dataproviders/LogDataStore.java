@@ -0,0 +1,431 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.dataservices.dataproviders;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import io.github.nucleuspowered.nucleus.FileUtil;
+import io.github.nucleuspowered.nucleus.Nucleus;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * A key-value store that keeps all of its entries in a single append-only file.
+ *
+ * <p>
+ *     Every write appends a record to the end of the file and the location of the latest record for each key is held
+ *     in memory. Each record carries a checksum, so a record that was only partially written when the server stopped
+ *     is detected and discarded when the store is next opened, and a damaged record in the middle of the file is
+ *     skipped without losing the records after it. Once enough of the file is taken up by records that have been
+ *     superseded, {@link #compactIfRequired()} writes the live records to a new file which atomically replaces the old
+ *     one. Compaction reads the whole store, so it is left to the caller to run it away from the main thread, but
+ *     readers and writers are only held up while the records written during the compaction are copied across.
+ * </p>
+ */
+public class LogDataStore implements Closeable {
+
+    private static final int RECORD_MAGIC = 0x4E55434C;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+
+    // Record layout: magic (4), type (1), key length (4), key, value length (4), value, checksum (8)
+    private static final int RECORD_OVERHEAD = 4 + 1 + 4 + 4 + 8;
+
+    // Compact when at least half of the file is garbage, but don't bother with small files.
+    private static final long MINIMUM_COMPACTION_SIZE = 4 * 1024 * 1024;
+
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final Path compactionFile;
+    private final Map<String, Entry> index = new HashMap<>();
+    private final Object compactionLock = new Object();
+    private FileChannel channel;
+    private long fileSize = 0;
+    private long garbageSize = 0;
+
+    public LogDataStore(Path file) throws IOException {
+        this.file = file;
+        this.compactionFile = Paths.get(file.toAbsolutePath().toString() + ".compact");
+        open();
+    }
+
+    public synchronized Optional<byte[]> get(String key) throws IOException {
+        Entry entry = index.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(entry.valueLength);
+        readFully(channel, buffer, entry.valueOffset);
+        return Optional.of(buffer.array());
+    }
+
+    public synchronized boolean contains(String key) {
+        return index.containsKey(key);
+    }
+
+    public synchronized Set<String> getKeys() {
+        return ImmutableSet.copyOf(index.keySet());
+    }
+
+    public synchronized void put(String key, byte[] value) throws IOException {
+        put(key, value, true);
+    }
+
+    /**
+     * Stores a value.
+     *
+     * @param key The key.
+     * @param value The value.
+     * @param sync If <code>false</code>, the write is not forced to disk. This is intended for bulk writes, which should
+     *             be followed by a call to {@link #sync()}.
+     * @throws IOException if the value could not be written.
+     */
+    public synchronized void put(String key, byte[] value, boolean sync) throws IOException {
+        Preconditions.checkNotNull(key);
+        Preconditions.checkNotNull(value);
+        Entry entry = append(channel, fileSize, PUT, key, value);
+        fileSize += entry.recordLength;
+        if (sync) {
+            channel.force(false);
+        }
+
+        Entry old = index.put(key, entry);
+        if (old != null) {
+            garbageSize += old.recordLength;
+        }
+    }
+
+    public synchronized boolean delete(String key) throws IOException {
+        Entry old = index.remove(key);
+        if (old == null) {
+            return false;
+        }
+
+        Entry entry = append(channel, fileSize, DELETE, key, new byte[0]);
+        fileSize += entry.recordLength;
+        channel.force(false);
+
+        // Both the old record and the tombstone are now garbage.
+        garbageSize += old.recordLength + entry.recordLength;
+        return true;
+    }
+
+    public synchronized void sync() throws IOException {
+        channel.force(false);
+    }
+
+    /**
+     * Compacts the store if enough of it is taken up by records that have been superseded.
+     *
+     * @return <code>true</code> if the store was compacted.
+     * @throws IOException if the store could not be compacted.
+     */
+    public boolean compactIfRequired() throws IOException {
+        synchronized (this) {
+            if (fileSize < MINIMUM_COMPACTION_SIZE || garbageSize * 2 < fileSize) {
+                return false;
+            }
+        }
+
+        compact();
+        return true;
+    }
+
+    /**
+     * Rewrites the store so that it only contains the latest record for each key.
+     *
+     * <p>
+     *     The live records are copied to the new file without holding the store's lock, so reads and writes carry on
+     *     while this runs. Only the records written in the meantime are copied with the lock held, just before the new
+     *     file replaces the old one.
+     * </p>
+     *
+     * @throws IOException if the store could not be compacted.
+     */
+    public void compact() throws IOException {
+        synchronized (compactionLock) {
+            Map<String, Entry> snapshot;
+            long snapshotEnd;
+            FileChannel source;
+            synchronized (this) {
+                snapshot = new HashMap<>(index);
+                snapshotEnd = fileSize;
+                source = channel;
+            }
+
+            // The file is only ever appended to, so everything before the end of the snapshot stays as it is until the
+            // file is replaced, which only happens here.
+            Map<String, Entry> newIndex = new HashMap<>();
+            long position = 0;
+            try (FileChannel target = FileChannel.open(compactionFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                for (Map.Entry<String, Entry> e : snapshot.entrySet()) {
+                    ByteBuffer buffer = ByteBuffer.allocate(e.getValue().valueLength);
+                    readFully(source, buffer, e.getValue().valueOffset);
+                    Entry entry = append(target, position, PUT, e.getKey(), buffer.array());
+                    position += entry.recordLength;
+                    newIndex.put(e.getKey(), entry);
+                }
+
+                target.force(true);
+                synchronized (this) {
+                    if (channel != source || !channel.isOpen()) {
+                        throw new IOException("The data store was closed during compaction.");
+                    }
+
+                    // Bring across anything that was written while the live records were being copied.
+                    long newGarbageSize = 0;
+                    long tail = snapshotEnd;
+                    while (tail < fileSize) {
+                        Record record = readRecord(tail);
+                        tail += record.entry.recordLength;
+                        if (record.type == PUT) {
+                            ByteBuffer buffer = ByteBuffer.allocate(record.entry.valueLength);
+                            readFully(channel, buffer, record.entry.valueOffset);
+                            Entry entry = append(target, position, PUT, record.key, buffer.array());
+                            position += entry.recordLength;
+                            Entry old = newIndex.put(record.key, entry);
+                            if (old != null) {
+                                newGarbageSize += old.recordLength;
+                            }
+                        } else {
+                            Entry old = newIndex.remove(record.key);
+                            if (old != null) {
+                                Entry entry = append(target, position, DELETE, record.key, new byte[0]);
+                                position += entry.recordLength;
+                                newGarbageSize += old.recordLength + entry.recordLength;
+                            }
+                        }
+                    }
+
+                    target.force(true);
+                    target.close();
+                    replaceWith(newIndex, position, newGarbageSize);
+                }
+            } catch (IOException e) {
+                Files.deleteIfExists(compactionFile);
+                throw e;
+            }
+        }
+    }
+
+    private void replaceWith(Map<String, Entry> newIndex, long newFileSize, long newGarbageSize) throws IOException {
+        // Some platforms will not replace a file that is open. Whatever happens, the store must be usable afterwards, so
+        // the channel is always reopened. If the move failed, it is the old file, and the old index still applies.
+        channel.close();
+        try {
+            FileUtil.move(compactionFile, file);
+        } finally {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+
+        index.clear();
+        index.putAll(newIndex);
+        fileSize = newFileSize;
+        garbageSize = newGarbageSize;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel.isOpen()) {
+            channel.force(true);
+            channel.close();
+        }
+    }
+
+    private void open() throws IOException {
+        // A compaction file left over from a crash was never moved into place, so the main file is still intact.
+        Files.deleteIfExists(compactionFile);
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        long size = channel.size();
+        long position = 0;
+        while (position < size) {
+            try {
+                Record record = readRecord(position);
+                apply(record);
+                position += record.entry.recordLength;
+            } catch (IOException e) {
+                long next = findNextRecord(position + 1, size);
+                if (next < 0) {
+                    // Nothing after this point is a complete record, so it was not fully written. We drop it.
+                    Nucleus.getNucleus().getLogger().warn("The data store " + file.getFileName() + " contains an incomplete record at "
+                            + position + ", discarding the remaining " + (size - position) + " bytes.");
+                    channel.truncate(position);
+                    channel.force(true);
+                    break;
+                }
+
+                // The records after the damaged one are intact, so we keep them and leave the damage to be compacted away.
+                Nucleus.getNucleus().getLogger().warn("The data store " + file.getFileName() + " contains a corrupt record at "
+                        + position + ", skipping " + (next - position) + " bytes.");
+                garbageSize += next - position;
+                position = next;
+            }
+        }
+
+        fileSize = position;
+    }
+
+    /**
+     * Finds the first position at or after the given one where a complete record starts.
+     *
+     * @param from The position to start looking from.
+     * @param size The size of the file.
+     * @return The position, or -1 if there is no complete record.
+     * @throws IOException if the file could not be read.
+     */
+    private long findNextRecord(long from, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        for (long start = from; start + 4 <= size; start += SCAN_BUFFER_SIZE - 3) {
+            buffer.clear();
+            int read = Math.max(channel.read(buffer, start), 0);
+            for (int i = 0; i + 4 <= read; i++) {
+                if (buffer.getInt(i) == RECORD_MAGIC) {
+                    try {
+                        readRecord(start + i);
+                        return start + i;
+                    } catch (IOException e) {
+                        // Just data that happens to look like the start of a record.
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    private Record readRecord(long position) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(9);
+        readFully(channel, header, position);
+        header.flip();
+        if (header.getInt() != RECORD_MAGIC) {
+            throw new IOException("Invalid record header.");
+        }
+
+        byte type = header.get();
+        int keyLength = header.getInt();
+        if (keyLength < 0 || position + RECORD_OVERHEAD + keyLength > channel.size()) {
+            throw new IOException("Invalid key length.");
+        }
+
+        ByteBuffer key = ByteBuffer.allocate(keyLength + 4);
+        readFully(channel, key, position + 9);
+        key.flip();
+        byte[] keyBytes = new byte[keyLength];
+        key.get(keyBytes);
+        int valueLength = key.getInt();
+        long valueOffset = position + 9 + keyLength + 4;
+        if (valueLength < 0 || valueOffset + valueLength + 8 > channel.size()) {
+            throw new IOException("Invalid value length.");
+        }
+
+        ByteBuffer value = ByteBuffer.allocate(valueLength + 8);
+        readFully(channel, value, valueOffset);
+        value.flip();
+        byte[] valueBytes = new byte[valueLength];
+        value.get(valueBytes);
+        if (value.getLong() != checksum(type, keyBytes, valueBytes)) {
+            throw new IOException("Checksum mismatch.");
+        }
+
+        if (type != PUT && type != DELETE) {
+            throw new IOException("Invalid record type.");
+        }
+
+        return new Record(type, new String(keyBytes, StandardCharsets.UTF_8), new Entry(valueOffset, valueLength,
+                RECORD_OVERHEAD + keyLength + valueLength));
+    }
+
+    private void apply(Record record) {
+        Entry old;
+        if (record.type == PUT) {
+            old = index.put(record.key, record.entry);
+        } else {
+            old = index.remove(record.key);
+            garbageSize += record.entry.recordLength;
+        }
+
+        if (old != null) {
+            garbageSize += old.recordLength;
+        }
+    }
+
+    private static Entry append(FileChannel target, long position, byte type, String key, byte[] value) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int length = RECORD_OVERHEAD + keyBytes.length + value.length;
+        long valueOffset = position + 9 + keyBytes.length + 4;
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.putInt(RECORD_MAGIC).put(type).putInt(keyBytes.length).put(keyBytes).putInt(value.length).put(value)
+                .putLong(checksum(type, keyBytes, value));
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            position += target.write(buffer, position);
+        }
+
+        return new Entry(valueOffset, value.length, length);
+    }
+
+    private static void readFully(FileChannel source, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = source.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException();
+            }
+
+            position += read;
+        }
+    }
+
+    private static long checksum(byte type, byte[] key, byte[] value) {
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(key);
+        crc.update(value);
+        return crc.getValue();
+    }
+
+    private static final class Record {
+
+        private final byte type;
+        private final String key;
+        private final Entry entry;
+
+        private Record(byte type, String key, Entry entry) {
+            this.type = type;
+            this.key = key;
+            this.entry = entry;
+        }
+    }
+
+    private static final class Entry {
+
+        private final long valueOffset;
+        private final int valueLength;
+        private final int recordLength;
+
+        private Entry(long valueOffset, int valueLength, int recordLength) {
+            this.valueOffset = valueOffset;
+            this.valueLength = valueLength;
+            this.recordLength = recordLength;
+        }
+    }
+}
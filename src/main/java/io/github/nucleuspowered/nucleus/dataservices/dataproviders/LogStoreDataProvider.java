@@ -0,0 +1,102 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.dataservices.dataproviders;
+
+import com.google.common.base.Preconditions;
+import com.google.common.reflect.TypeToken;
+import io.github.nucleuspowered.nucleus.configurate.BinaryConfigurationLoader;
+import io.github.nucleuspowered.nucleus.configurate.ConfigurateHelper;
+import ninja.leaping.configurate.ConfigurationNode;
+import ninja.leaping.configurate.ConfigurationOptions;
+import ninja.leaping.configurate.SimpleConfigurationNode;
+import ninja.leaping.configurate.gson.GsonConfigurationLoader;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * A {@link DataProvider} that stores its data under a key in a {@link LogDataStore}, either as JSON or in the format
+ * used by {@link BinaryConfigurationLoader}. Either format can be read, regardless of which one is being written.
+ *
+ * @param <T> The type of data.
+ */
+public class LogStoreDataProvider<T> implements DataProvider<T> {
+
+    private final TypeToken<T> typeToken;
+    private final LogDataStore store;
+    private final String key;
+    private final Supplier<T> defaultSupplier;
+    private final boolean binary;
+
+    public LogStoreDataProvider(TypeToken<T> type, LogDataStore store, String key) {
+        this(type, store, key, false);
+    }
+
+    public LogStoreDataProvider(TypeToken<T> type, LogDataStore store, String key, boolean binary) {
+        this.typeToken = type;
+        this.store = store;
+        this.key = key;
+        this.binary = binary;
+        this.defaultSupplier = () -> {
+            try {
+                return (T)type.getRawType().newInstance();
+            } catch (InstantiationException | IllegalAccessException e) {
+                e.printStackTrace();
+                return null;
+            }
+        };
+    }
+
+    @Override
+    public T load() throws Exception {
+        Optional<byte[]> data = store.get(key);
+        if (!data.isPresent()) {
+            return SimpleConfigurationNode.root(getOptions()).getValue(typeToken, defaultSupplier);
+        }
+
+        if (BinaryConfigurationLoader.isBinary(data.get())) {
+            return BinaryConfigurationLoader.fromBytes(data.get(), getOptions()).getValue(typeToken, defaultSupplier);
+        }
+
+        String json = new String(data.get(), StandardCharsets.UTF_8);
+        return GsonConfigurationLoader.builder()
+                .setSource(() -> new BufferedReader(new StringReader(json)))
+                .build()
+                .load(getOptions())
+                .getValue(typeToken, defaultSupplier);
+    }
+
+    @Override
+    public void save(T info) throws Exception {
+        Preconditions.checkNotNull(info);
+        ConfigurationNode node = SimpleConfigurationNode.root(getOptions()).setValue(typeToken, info);
+        if (node == null || node.isVirtual()) {
+            throw new IllegalStateException("The entry " + key + " has not been saved.\nConfiguration Node is null or virtual.");
+        }
+
+        if (binary) {
+            store.put(key, BinaryConfigurationLoader.toBytes(node));
+            return;
+        }
+
+        StringWriter sw = new StringWriter();
+        GsonConfigurationLoader.builder().setSink(() -> new BufferedWriter(sw)).build().save(node);
+        store.put(key, sw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void delete() throws Exception {
+        store.delete(key);
+    }
+
+    private ConfigurationOptions getOptions() {
+        return ConfigurateHelper.setOptions(ConfigurationOptions.defaults());
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.dataservices.loaders;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.github.nucleuspowered.nucleus.NucleusPlugin;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+/**
+ * Runs a task for each of a set of users on a pool of worker threads, for operations such as migrations that work
+ * through all the stored user data.
+ *
+ * <p>
+ *     Only a limited number of users are queued for the workers at any one time, so the users are not all queued up
+ *     front. Progress is reported every few seconds. If the processor is given a name, each user that has been
+ *     processed is recorded in a file, so that if the server stops part way through, running the same operation again
+ *     carries on from where it stopped. The file is removed once every user has been processed.
+ * </p>
+ */
+public class BulkUserDataProcessor {
+
+    private static final long PROGRESS_INTERVAL_MILLIS = 5000;
+    private static final int QUEUED_PER_THREAD = 4;
+
+    private final NucleusPlugin plugin;
+    private final int threads;
+    @Nullable private final Path progressFile;
+    private final BiConsumer<Integer, Integer> progressReporter;
+
+    /**
+     * Creates a processor that uses a worker thread for each available processor.
+     *
+     * @param plugin The plugin.
+     * @param name The name of the operation, used to resume it if it is interrupted, or <code>null</code> if the
+     *             operation should always start from the beginning.
+     * @param progressReporter Called with the number of users that have been processed and the total number of users.
+     */
+    public BulkUserDataProcessor(NucleusPlugin plugin, @Nullable String name, BiConsumer<Integer, Integer> progressReporter) {
+        this(plugin, name, progressReporter, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a processor.
+     *
+     * @param plugin The plugin.
+     * @param name The name of the operation, used to resume it if it is interrupted, or <code>null</code> if the
+     *             operation should always start from the beginning.
+     * @param progressReporter Called with the number of users that have been processed and the total number of users.
+     * @param threads The number of worker threads.
+     */
+    public BulkUserDataProcessor(NucleusPlugin plugin, @Nullable String name, BiConsumer<Integer, Integer> progressReporter, int threads) {
+        Preconditions.checkArgument(threads > 0);
+        this.plugin = plugin;
+        this.threads = threads;
+        this.progressFile = name == null ? null : plugin.getDataPath().resolve("bulk").resolve(name + ".done");
+        this.progressReporter = progressReporter;
+    }
+
+    /**
+     * Runs the task for each user that has not already been processed by an earlier, interrupted, run. A user is only
+     * counted as processed if the task completes without an exception, so any that fail are tried again next time.
+     *
+     * @param uuids The {@link UUID}s of the users.
+     * @param task The task to run for each user. This is run on several threads at once.
+     * @return The number of users that the task failed for.
+     * @throws IOException if the record of processed users could not be read or written.
+     * @throws InterruptedException if the calling thread was interrupted. The users that are already being processed
+     *                              are finished first, so that they are recorded.
+     */
+    public int process(Collection<UUID> uuids, Task task) throws IOException, InterruptedException {
+        Set<UUID> done = readProgress();
+        List<UUID> toProcess = uuids.stream().filter(x -> !done.contains(x)).collect(Collectors.toList());
+        int total = uuids.size();
+        AtomicInteger processed = new AtomicInteger(total - toProcess.size());
+        AtomicInteger failed = new AtomicInteger();
+
+        // Permits limit the number of users that are queued or being worked on, so that we never get too far ahead.
+        Semaphore permits = new Semaphore(threads * QUEUED_PER_THREAD);
+        ExecutorService executor = Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setNameFormat("Nucleus Bulk User Data #%d").setDaemon(true).build());
+        long nextReport = System.currentTimeMillis() + PROGRESS_INTERVAL_MILLIS;
+        try (BufferedWriter writer = openProgress()) {
+            try {
+                for (UUID uuid : toProcess) {
+                    while (!permits.tryAcquire(PROGRESS_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                        nextReport = report(processed.get(), total);
+                    }
+
+                    if (System.currentTimeMillis() >= nextReport) {
+                        nextReport = report(processed.get(), total);
+                    }
+
+                    executor.execute(() -> {
+                        try {
+                            task.process(uuid);
+                            record(writer, uuid);
+                        } catch (Exception e) {
+                            failed.incrementAndGet();
+                            plugin.getLogger().warn("Could not process the data for " + uuid.toString());
+                            if (plugin.isDebugMode()) {
+                                e.printStackTrace();
+                            }
+                        } finally {
+                            processed.incrementAndGet();
+                            permits.release();
+                        }
+                    });
+                }
+            } finally {
+                // Whether or not we were interrupted, let the users that are in progress finish so they are recorded.
+                executor.shutdown();
+                while (!executor.awaitTermination(PROGRESS_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    report(processed.get(), total);
+                }
+            }
+        }
+
+        report(processed.get(), total);
+        if (failed.get() == 0 && progressFile != null) {
+            Files.deleteIfExists(progressFile);
+        }
+
+        return failed.get();
+    }
+
+    private long report(int processed, int total) {
+        progressReporter.accept(processed, total);
+        return System.currentTimeMillis() + PROGRESS_INTERVAL_MILLIS;
+    }
+
+    private Set<UUID> readProgress() throws IOException {
+        Set<UUID> done = new HashSet<>();
+        if (progressFile == null || Files.notExists(progressFile)) {
+            return done;
+        }
+
+        for (String line : Files.readAllLines(progressFile, StandardCharsets.UTF_8)) {
+            try {
+                done.add(UUID.fromString(line.trim()));
+            } catch (IllegalArgumentException e) {
+                // A line that was only partly written when the server stopped. That user will be processed again.
+            }
+        }
+
+        return done;
+    }
+
+    @Nullable
+    private BufferedWriter openProgress() throws IOException {
+        if (progressFile == null) {
+            return null;
+        }
+
+        Files.createDirectories(progressFile.getParent());
+
+        // Start on a new line, in case the last one was only partly written.
+        BufferedWriter writer = Files.newBufferedWriter(progressFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        writer.newLine();
+        return writer;
+    }
+
+    private void record(@Nullable BufferedWriter writer, UUID uuid) throws IOException {
+        if (writer != null) {
+            synchronized (writer) {
+                writer.write(uuid.toString());
+                writer.newLine();
+                writer.flush();
+            }
+        }
+    }
+
+    /**
+     * A task that is run for each user.
+     */
+    @FunctionalInterface
+    public interface Task {
+
+        /**
+         * Processes the data for a user.
+         *
+         * @param uuid The {@link UUID} of the user.
+         * @throws Exception if the user could not be processed.
+         */
+        void process(UUID uuid) throws Exception;
+    }
+}
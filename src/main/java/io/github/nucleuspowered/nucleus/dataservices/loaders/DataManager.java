@@ -10,8 +10,10 @@ import io.github.nucleuspowered.nucleus.dataservices.dataproviders.DataProvider;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 public abstract class DataManager<I, P, S extends Service> {
 
@@ -19,6 +21,10 @@ public abstract class DataManager<I, P, S extends Service> {
     final Map<I, S> dataStore = new ConcurrentHashMap<>();
     final NucleusPlugin plugin;
 
+    // Keys that are currently being loaded or evicted. Anyone else who wants the same key waits for the result, so
+    // that there is only ever one instance per key. A null result means the entry was evicted, and should be reloaded.
+    private final Map<I, CompletableFuture<Optional<S>>> inProgress = new ConcurrentHashMap<>();
+
     DataManager(NucleusPlugin plugin, Function<I, DataProvider<P>> dataProviderFactory) {
         this.dataProviderFactory = dataProviderFactory;
         this.plugin = plugin;
@@ -26,11 +32,98 @@ public abstract class DataManager<I, P, S extends Service> {
 
     public abstract Optional<S> get(I data);
 
+    /**
+     * Saves all loaded entries that have changed since they were last saved.
+     */
     public final void saveAll() {
         dataStore.forEach((i, s) -> {
-            if (!s.save()) {
+            if (!s.saveIfDirty()) {
                 plugin.getLogger().error("Could not save data for " + i.toString());
             }
         });
     }
+
+    /**
+     * Gets the entry for the key from memory, or loads it if it is not there. If several threads request the same key
+     * at the same time, only one of them runs the loader and the others receive the same instance.
+     *
+     * @param key The key.
+     * @param loader Loads the entry. This must not request the same key from this manager.
+     * @return The entry, if it exists.
+     */
+    final Optional<S> getOrLoad(I key, Supplier<Optional<S>> loader) {
+        while (true) {
+            S cached = dataStore.get(key);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+
+            CompletableFuture<Optional<S>> future = new CompletableFuture<>();
+            CompletableFuture<Optional<S>> existing = inProgress.putIfAbsent(key, future);
+            if (existing != null) {
+                Optional<S> result = existing.join();
+                if (result != null) {
+                    return result;
+                }
+
+                continue;
+            }
+
+            try {
+                // Another thread may have finished loading between our check and us claiming the key.
+                cached = dataStore.get(key);
+                Optional<S> result = cached != null ? Optional.of(cached) : loader.get();
+                result.ifPresent(s -> dataStore.put(key, s));
+                future.complete(result);
+                return result;
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+                throw e;
+            } finally {
+                inProgress.remove(key, future);
+            }
+        }
+    }
+
+    /**
+     * Saves the entry if it has changed, then removes it from memory. Requests for the key wait until this is done, so
+     * that they do not read the data before it has been saved.
+     *
+     * @param key The key.
+     * @param service The entry that is expected to be loaded for the key.
+     * @return <code>true</code> if the entry was removed.
+     */
+    final boolean evict(I key, S service) {
+        CompletableFuture<Optional<S>> future = new CompletableFuture<>();
+        if (inProgress.putIfAbsent(key, future) != null) {
+            // Being loaded or evicted elsewhere, so leave it alone.
+            return false;
+        }
+
+        try {
+            if (dataStore.get(key) != service) {
+                return false;
+            }
+
+            // If the save fails, we keep the entry so that the changes are not lost.
+            if (!service.saveIfDirty()) {
+                plugin.getLogger().error("Could not save data for " + key.toString());
+                return false;
+            }
+
+            if (!dataStore.remove(key, service)) {
+                return false;
+            }
+
+            // The entry could still be handed out until it was removed, so catch anything that changed in the meantime.
+            if (!service.saveIfDirty()) {
+                plugin.getLogger().error("Could not save data for " + key.toString());
+            }
+
+            return true;
+        } finally {
+            inProgress.remove(key, future);
+            future.complete(null);
+        }
+    }
 }
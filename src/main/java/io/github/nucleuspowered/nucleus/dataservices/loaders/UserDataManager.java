@@ -6,78 +6,266 @@ package io.github.nucleuspowered.nucleus.dataservices.loaders;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.github.nucleuspowered.nucleus.NucleusPlugin;
 import io.github.nucleuspowered.nucleus.api.data.NucleusUser;
 import io.github.nucleuspowered.nucleus.api.service.NucleusUserLoaderService;
 import io.github.nucleuspowered.nucleus.configurate.datatypes.UserDataNode;
+import io.github.nucleuspowered.nucleus.dataservices.NameIndex;
 import io.github.nucleuspowered.nucleus.dataservices.UserService;
 import io.github.nucleuspowered.nucleus.dataservices.dataproviders.DataProvider;
+import io.github.nucleuspowered.nucleus.modules.core.config.CoreConfigAdapter;
+import io.github.nucleuspowered.nucleus.modules.core.config.UserCacheConfig;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.service.user.UserStorageService;
+import uk.co.drnaylor.quickstart.exceptions.IncorrectAdapterTypeException;
+import uk.co.drnaylor.quickstart.exceptions.NoModuleException;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class UserDataManager extends DataManager<UUID, UserDataNode, UserService> implements NucleusUserLoaderService {
 
+    // Cache misses that are requested asynchronously are loaded on these threads, never the main thread.
+    private final ExecutorService loaderExecutor = Executors.newFixedThreadPool(2,
+            new ThreadFactoryBuilder().setNameFormat("Nucleus User Data Loader #%d").setDaemon(true).build());
+
+    // Maintained by the join and quit listeners, so that finding the online users never has to look at every entry.
+    private final Map<UUID, UserService> onlineUsers = new ConcurrentHashMap<>();
+
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+    private final AtomicLong cacheEvictions = new AtomicLong();
+
+    // Set while a trim of the cache is waiting to run, so that a burst of cache misses only queues one.
+    private final AtomicBoolean trimScheduled = new AtomicBoolean(false);
+
     public UserDataManager(NucleusPlugin plugin, Function<UUID, DataProvider<UserDataNode>> dataProviderFactory) {
         super(plugin, dataProviderFactory);
     }
 
     public Optional<UserService> get(User user) {
-        return get(user.getUniqueId());
+        return get(user.getUniqueId(), () -> Optional.of(user));
     }
 
     @Override
     public Optional<UserService> get(UUID uuid) {
-        if (this.dataStore.containsKey(uuid)) {
-            return Optional.of(this.dataStore.get(uuid));
-        }
-
         // Does the user exist?
-        Optional<User> user = Sponge.getServiceManager().provideUnchecked(UserStorageService.class).get(uuid);
-        if (!user.isPresent()) {
-            return Optional.empty();
+        return get(uuid, () -> Sponge.getServiceManager().provideUnchecked(UserStorageService.class).get(uuid));
+    }
+
+    private Optional<UserService> get(UUID uuid, Supplier<Optional<User>> userSupplier) {
+        UserService cached = this.dataStore.get(uuid);
+        if (cached != null) {
+            cacheHits.incrementAndGet();
+            cached.updateLastAccessTime();
+            return Optional.of(cached);
         }
 
-        DataProvider<UserDataNode> d = this.dataProviderFactory.apply(uuid);
+        cacheMisses.incrementAndGet();
+        Optional<UserService> ous = getOrLoad(uuid, () -> userSupplier.get().flatMap(this::load));
+        ous.ifPresent(x -> trimLater());
+        return ous;
+    }
+
+    private Optional<UserService> load(User user) {
+        DataProvider<UserDataNode> d = this.dataProviderFactory.apply(user.getUniqueId());
         if (d == null) {
             return Optional.empty();
         }
 
         try {
-            UserService us = new UserService(plugin, d, user.get());
-            dataStore.put(uuid, us);
-            return Optional.of(us);
+            return Optional.of(new UserService(plugin, d, user));
         } catch (Exception e) {
             e.printStackTrace();
             return Optional.empty();
         }
     }
 
+    /**
+     * Gets the {@link UserService} for the specified {@link UUID} only if it is already in memory. This will never
+     * touch the disk.
+     *
+     * @param uuid The {@link UUID} of the user.
+     * @return The {@link UserService}, if it is loaded.
+     */
+    public Optional<UserService> getIfLoaded(UUID uuid) {
+        UserService cached = this.dataStore.get(uuid);
+        if (cached == null) {
+            return Optional.empty();
+        }
+
+        cacheHits.incrementAndGet();
+        cached.updateLastAccessTime();
+        return Optional.of(cached);
+    }
+
+    /**
+     * Gets the {@link UserService} for the specified {@link UUID}, loading it on the user data loader threads if it is
+     * not currently in memory.
+     *
+     * @param uuid The {@link UUID} of the user.
+     * @return A {@link CompletableFuture} that will contain the {@link UserService}, if it exists.
+     */
+    public CompletableFuture<Optional<UserService>> getAsync(UUID uuid) {
+        Optional<UserService> ous = getIfLoaded(uuid);
+        if (ous.isPresent()) {
+            return CompletableFuture.completedFuture(ous);
+        }
+
+        return CompletableFuture.supplyAsync(() -> get(uuid), loaderExecutor);
+    }
+
     public void removeOfflinePlayers() {
         removeOfflinePlayers(false);
     }
 
+    /**
+     * Removes offline users from the cache. Only the users that are removed are saved, and only if they have changed.
+     *
+     * @param allOffline If <code>true</code>, all offline users are removed. Otherwise, only those that have not been
+     *                   requested within the configured expiry time are removed, and then the least recently requested
+     *                   users are removed until the cache is within its configured size.
+     */
     public void removeOfflinePlayers(boolean allOffline) {
-        saveAll();
+        UserCacheConfig config = getCacheConfig();
+        Instant expiry = Instant.now().minus(config.getOfflineExpirySeconds(), ChronoUnit.SECONDS);
+        this.dataStore.forEach((uuid, service) -> {
+            if (!onlineUsers.containsKey(uuid) && (allOffline || service.lastAccessTime().isBefore(expiry))) {
+                evictAndCount(uuid, service);
+            }
+        });
+
+        trimOfflineUsers(config.getMaxOfflineEntries());
+        if (plugin.isDebugMode()) {
+            plugin.getLogger().info("User cache: " + dataStore.size() + " entries, " + cacheHits.get() + " hits, " + cacheMisses.get()
+                    + " misses, " + cacheEvictions.get() + " evictions.");
+        }
+    }
+
+    /**
+     * Gets the number of requests for user data that have been served from memory.
+     *
+     * @return The number of cache hits.
+     */
+    public long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    /**
+     * Gets the number of requests for user data that had to be loaded from the data store.
+     *
+     * @return The number of cache misses.
+     */
+    public long getCacheMisses() {
+        return cacheMisses.get();
+    }
+
+    /**
+     * Gets the number of offline users that have been removed from the cache.
+     *
+     * @return The number of evictions.
+     */
+    public long getCacheEvictions() {
+        return cacheEvictions.get();
+    }
+
+    /**
+     * If the cache has grown beyond its configured size, trims it on a loader thread. Trimming sorts the offline users
+     * and may save the ones it removes, so it is not done on the thread that requested the data, which may be the main
+     * thread.
+     */
+    private void trimLater() {
+        if (dataStore.size() - onlineUsers.size() > getCacheConfig().getMaxOfflineEntries() && trimScheduled.compareAndSet(false, true)) {
+            loaderExecutor.execute(() -> {
+                trimScheduled.set(false);
+                trimOfflineUsers(getCacheConfig().getMaxOfflineEntries());
+            });
+        }
+    }
+
+    private void trimOfflineUsers(int maxOfflineEntries) {
+        if (dataStore.size() - onlineUsers.size() <= maxOfflineEntries) {
+            return;
+        }
+
+        List<Map.Entry<UUID, UserService>> offline = dataStore.entrySet().stream().filter(x -> !onlineUsers.containsKey(x.getKey()))
+                .sorted(Comparator.comparing(x -> x.getValue().lastAccessTime())).collect(Collectors.toList());
+        for (int i = 0; i < offline.size() - maxOfflineEntries; i++) {
+            evictAndCount(offline.get(i).getKey(), offline.get(i).getValue());
+        }
+    }
+
+    private void evictAndCount(UUID uuid, UserService service) {
+        if (evict(uuid, service)) {
+            cacheEvictions.incrementAndGet();
+        }
+    }
+
+    private UserCacheConfig getCacheConfig() {
+        try {
+            return plugin.getModuleContainer().getConfigAdapterForModule("core", CoreConfigAdapter.class).getNodeOrDefault().getUserCacheConfig();
+        } catch (NoModuleException | IncorrectAdapterTypeException e) {
+            return new UserCacheConfig();
+        }
+    }
+
+    /**
+     * Marks the user as online, loading their data if required. Online users are never removed from the cache.
+     *
+     * @param user The {@link User} that has joined.
+     * @return The {@link UserService}, if it could be loaded.
+     */
+    public Optional<UserService> setOnline(User user) {
+        Optional<UserService> ous = get(user);
+        ous.ifPresent(x -> onlineUsers.put(user.getUniqueId(), x));
+        return ous;
+    }
 
-        // If allOffline is false, then remove only if it was loaded over two minutes ago.
-        this.dataStore.entrySet().removeIf(x -> !x.getValue().getUser().isOnline() && (allOffline || x.getValue().serviceLoadTime().plus(2, ChronoUnit.MINUTES).isBefore(Instant.now())));
+    /**
+     * Marks the user as offline, so that they can be removed from the cache by {@link #removeOfflinePlayers()}.
+     *
+     * @param uuid The {@link UUID} of the user that has left.
+     */
+    public void setOffline(UUID uuid) {
+        onlineUsers.remove(uuid);
     }
 
+    /**
+     * Gets the index of known player names and nicknames.
+     *
+     * @return The {@link NameIndex}.
+     */
+    public NameIndex getNameIndex() {
+        return plugin.getNameIndex();
+    }
+
+    /**
+     * Gets the {@link UserService}s of the users that are online. This never loads or saves any data.
+     *
+     * @return The {@link UserService}s.
+     */
     public List<UserService> getOnlineUsersInternal() {
-        return ImmutableList.copyOf(dataStore.entrySet().stream().filter(x -> x.getValue().getUser().isOnline()).map(Map.Entry::getValue).collect(Collectors.toList()));
+        return ImmutableList.copyOf(onlineUsers.values());
     }
 
     public void forceUnloadAndDelete(UUID uuid) {
+        onlineUsers.remove(uuid);
         UserService service = this.dataStore.remove(uuid);
         if (service != null) {
             service.delete();
@@ -86,8 +274,7 @@ public class UserDataManager extends DataManager<UUID, UserDataNode, UserService
 
     @Override
     public List<NucleusUser> getOnlineUsers() {
-        removeOfflinePlayers();
-        return ImmutableList.copyOf(dataStore.values());
+        return ImmutableList.copyOf(onlineUsers.values());
     }
 
     @Override
@@ -101,4 +288,16 @@ public class UserDataManager extends DataManager<UUID, UserDataNode, UserService
         Preconditions.checkNotNull("user");
         return getUser(user.getUniqueId());
     }
+
+    @Override
+    public CompletableFuture<Optional<NucleusUser>> getUserAsync(UUID playerUUID) {
+        Preconditions.checkNotNull("playerUUID");
+        return getAsync(playerUUID).thenApply(x -> Optional.ofNullable(x.orElse(null)));
+    }
+
+    @Override
+    public CompletableFuture<Optional<NucleusUser>> getUserAsync(User user) {
+        Preconditions.checkNotNull("user");
+        return getUserAsync(user.getUniqueId());
+    }
 }
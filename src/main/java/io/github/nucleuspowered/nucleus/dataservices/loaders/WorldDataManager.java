@@ -26,25 +26,21 @@ public class WorldDataManager extends DataManager<UUID, WorldDataNode, WorldServ
 
     @Override
     public Optional<WorldService> get(UUID data) {
-        try {
-            if (dataStore.containsKey(data)) {
-                return Optional.of(dataStore.get(data));
-            }
-
-            Optional<World> oworld = Sponge.getServer().getWorld(data);
-            if (oworld.isPresent()) {
-                DataProvider<WorldDataNode> d = dataProviderFactory.apply(data);
-                if (d != null) {
-                    WorldService us = new WorldService(plugin, d, oworld.get());
-                    dataStore.put(data, us);
-                    return Optional.of(us);
+        return getOrLoad(data, () -> {
+            try {
+                Optional<World> oworld = Sponge.getServer().getWorld(data);
+                if (oworld.isPresent()) {
+                    DataProvider<WorldDataNode> d = dataProviderFactory.apply(data);
+                    if (d != null) {
+                        return Optional.of(new WorldService(plugin, d, oworld.get()));
+                    }
                 }
+            } catch (Exception e) {
+                e.printStackTrace();
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
 
-        return Optional.empty();
+            return Optional.empty();
+        });
     }
 
     @Override
@@ -15,6 +15,7 @@ import io.github.nucleuspowered.nucleus.internal.annotations.Permissions;
 import io.github.nucleuspowered.nucleus.internal.annotations.RegisterCommand;
 import io.github.nucleuspowered.nucleus.internal.command.AbstractCommand;
 import io.github.nucleuspowered.nucleus.internal.permissions.PermissionInformation;
+import io.github.nucleuspowered.nucleus.internal.permissions.SubjectPermissionCache;
 import io.github.nucleuspowered.nucleus.internal.permissions.SuggestedLevel;
 import org.spongepowered.api.service.permission.Subject;
 
@@ -30,11 +31,13 @@ public class CommandPermissionHandler {
     private final String cooldown;
     private final String cost;
     private final String selectors;
+    private final SubjectPermissionCache permissionCache;
 
     private final boolean justReturnTrue;
 
     public CommandPermissionHandler(Class<? extends AbstractCommand> cab, Nucleus plugin) {
         justReturnTrue = cab.isAnnotationPresent(NoPermissions.class);
+        permissionCache = plugin.getPermissionCache();
 
         // If there are no permissions to assign, we just return true.
         if (justReturnTrue) {
@@ -188,6 +191,6 @@ public class CommandPermissionHandler {
     }
 
     private boolean test(Subject src, String permission) {
-        return justReturnTrue || src.hasPermission(permission);
+        return justReturnTrue || permissionCache.hasPermission(src, permission);
     }
 }
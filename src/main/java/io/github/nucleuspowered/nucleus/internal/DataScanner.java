@@ -106,19 +106,18 @@ public final class DataScanner {
     }
 
     public static Optional<Text> getText(CommandSource src, String translationKey, String key, Object x) {
-        // src - for any translation that may be required later.
         String v = String.valueOf(x);
         Class<?> c = x.getClass();
         if (!v.equals(String.format("%s@%s", c.getName(), Integer.toHexString(x.hashCode())))) {
             if (x instanceof Double || x instanceof Float || x instanceof BigDecimal) {
-                return Optional.of(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(translationKey, key, nf.format(x)));
+                return Optional.of(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat(translationKey, key, nf.format(x)));
             }
 
             if (x instanceof Text) {
-                return Optional.of(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(translationKey, key, TextSerializers.FORMATTING_CODE.serialize((Text)x)));
+                return Optional.of(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat(translationKey, key, TextSerializers.FORMATTING_CODE.serialize((Text)x)));
             }
 
-            return Optional.of(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(translationKey, key, v));
+            return Optional.of(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat(translationKey, key, v));
         }
 
         return Optional.empty();
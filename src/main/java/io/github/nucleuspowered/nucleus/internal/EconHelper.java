@@ -62,24 +62,24 @@ public class EconHelper {
             EconomyService es = oes.get();
             Optional<UniqueAccount> a = es.getOrCreateAccount(src.getUniqueId());
             if (!a.isPresent()) {
-                src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("cost.noaccount"));
+                src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("cost.noaccount"));
                 return false;
             }
 
             TransactionResult tr = a.get().withdraw(es.getDefaultCurrency(), BigDecimal.valueOf(cost), Cause.source(plugin).build());
             if (tr.getResult() == ResultType.ACCOUNT_NO_FUNDS) {
                 if (message) {
-                    src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("cost.nofunds", getCurrencySymbol(cost)));
+                    src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("cost.nofunds", getCurrencySymbol(cost)));
                 }
 
                 return false;
             } else if (tr.getResult() != ResultType.SUCCESS) {
-                src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("cost.error"));
+                src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("cost.error"));
                 return false;
             }
 
             if (message) {
-                src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("cost.complete", getCurrencySymbol(cost)));
+                src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("cost.complete", getCurrencySymbol(cost)));
             }
         }
 
@@ -97,18 +97,18 @@ public class EconHelper {
             EconomyService es = oes.get();
             Optional<UniqueAccount> a = es.getOrCreateAccount(src.getUniqueId());
             if (!a.isPresent() && src.isOnline()) {
-                src.getPlayer().get().sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("cost.noaccount"));
+                src.getPlayer().get().sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src.getPlayer().get()).getTextMessageWithFormat("cost.noaccount"));
                 return false;
             }
 
             TransactionResult tr = a.get().deposit(es.getDefaultCurrency(), BigDecimal.valueOf(cost), Cause.source(plugin).build());
             if (tr.getResult() != ResultType.SUCCESS && src.isOnline()) {
-                src.getPlayer().get().sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("cost.error"));
+                src.getPlayer().get().sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src.getPlayer().get()).getTextMessageWithFormat("cost.error"));
                 return false;
             }
 
             if (message && src.isOnline()) {
-                src.getPlayer().get().sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("cost.refund", getCurrencySymbol(cost)));
+                src.getPlayer().get().sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src.getPlayer().get()).getTextMessageWithFormat("cost.refund", getCurrencySymbol(cost)));
             }
         }
 
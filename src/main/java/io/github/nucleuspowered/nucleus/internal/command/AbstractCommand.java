@@ -89,7 +89,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
     protected CommandPermissionHandler permissions;
     protected String[] aliases;
     protected String[] forcedAliases;
-    private final Class<T> sourceType;
+    private Class<T> sourceType = null;
     private boolean bypassWarmup;
     private boolean generateWarmupAnyway;
     private boolean bypassCooldown;
@@ -98,10 +98,12 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
     private String configSection;
     private boolean generateDefaults;
     private CommandSpec cs = null;
+    private boolean specFailed = false;
     private final List<String> afkArgs = Lists.newArrayList();
     private final boolean isRoot;
 
-    private final UsageCommand usageCommand = new UsageCommand();
+    private final Map<List<String>, AbstractCommand<?>> childCommands = Maps.newHashMap();
+    private CommandCallable callable = null;
 
     @Inject protected NucleusPlugin plugin;
     @Inject private CoreConfigAdapter cca;
@@ -116,43 +118,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
     private String module;
     private String moduleId;
 
-    @SuppressWarnings("unchecked")
     public AbstractCommand() {
-        // I hate type erasure - it leads to a hack like this. Admittedly, I
-        // could've just created a subclass that does
-        // the same thing, but I like to beat the system! :)
-        //
-        // This code reflectively looks for methods called "executeCommand",
-        // which is defined in this class. However,
-        // due to type erasure, if a generic type is specified, there are two
-        // "executeCommand" methods, one that satisfies
-        // this abstract class (with the CommandSource argument) and a second
-        // method that fulfils the generic type T.
-        //
-        // Thus, we need to check that there is a method called executeCommand
-        // that has a more restrictive argument than
-        // "CommandSource" in order to check for the generic type.
-        //
-        // This allows us to then have code that filters out non-Players by
-        // simply specifying the generic type "Player".
-        //
-        // The provided stream filters out the standard executeCommand method,
-        // and checks to see if there is a second that makes
-        // use of the generic parameter.
-        Optional<Method> me = Arrays.stream(getClass().getMethods())
-                .filter(x -> x.getName().equals("executeCommand") && x.getParameterTypes().length == 2
-                        && x.getParameterTypes()[1].isAssignableFrom(CommandContext.class) && !x.getParameterTypes()[0].equals(CommandSource.class))
-                .findFirst();
-
-        // If there is a second executeCommand method, then we know that's the
-        // type that we need and we can do our source
-        // checks against it accordingly.
-        if (me.isPresent()) {
-            sourceType = (Class<T>) (me.get().getParameterTypes()[0]);
-        } else {
-            sourceType = (Class<T>) CommandSource.class;
-        }
-
         this.commandPath = getSubcommandOf();
         RegisterCommand rc = this.getClass().getAnnotation(RegisterCommand.class);
         this.isRoot = rc != null && rc.subcommandOf().equals(AbstractCommand.class);
@@ -427,18 +393,35 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
         return cs;
     }
 
-    CommandSpec getSpec() {
-        if (cs != null) {
+    synchronized CommandSpec getSpec() {
+        if (cs != null || specFailed) {
             return cs;
         }
 
         try {
             return createSpec();
         } catch (Exception e) {
+            // Don't try again, the failure would be the same each time.
+            specFailed = true;
+            plugin.getLogger().error(plugin.getMessageProvider().getMessageWithFormat("command.spec.failed", "/" + getCommandPath().replace('.', ' ')), e);
             return null;
         }
     }
 
+    /**
+     * Gets the {@link CommandCallable} to register this command with, which builds the {@link CommandSpec} the first
+     * time it is needed.
+     *
+     * @return The {@link CommandCallable}
+     */
+    final CommandCallable getCallable() {
+        if (callable == null) {
+            callable = new LazyCommandCallable(this);
+        }
+
+        return callable;
+    }
+
     final boolean mergeDefaults() {
         return generateDefaults;
     }
@@ -496,7 +479,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
 
         // Economy
         if (requiresEconomy && !plugin.getEconHelper().economyServiceExists()) {
-            source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.economyrequired"));
+            source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.economyrequired"));
             return CommandResult.empty();
         }
 
@@ -511,7 +494,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
             }
         } catch (Exception e) {
             // If it doesn't, just tell the user something went wrong.
-            src.sendMessage(Text.builder().append(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.error")).build());
+            src.sendMessage(Text.builder().append(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.error")).build());
 
             if (cca.getNodeOrDefault().isDebugmode()) {
                 e.printStackTrace();
@@ -552,12 +535,12 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
             cr = executeCommand(src, args);
         } catch (ReturnMessageException e) {
             Text t = e.getText();
-            src.sendMessage((t == null) ? NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.error") : t);
+            src.sendMessage((t == null) ? NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.error") : t);
             cr = CommandResult.empty();
         } catch (TextMessageException e) {
             // If the exception contains a text object, render it like so...
             Text t = e.getText();
-            src.sendMessage((t == null) ? NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.error") : t);
+            src.sendMessage((t == null) ? NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.error") : t);
 
             if (cca.getNodeOrDefault().isDebugmode()) {
                 e.printStackTrace();
@@ -566,7 +549,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
             cr = CommandResult.empty();
         } catch (Exception e) {
             // If it doesn't, just tell the user something went wrong.
-            src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.error"));
+            src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.error"));
 
             if (cca.getNodeOrDefault().isDebugmode()) {
                 e.printStackTrace();
@@ -597,15 +580,60 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
     // -------------------------------------
     // Source Type
     // -------------------------------------
+    @SuppressWarnings("unchecked")
+    private Class<T> getSourceType() {
+        if (sourceType != null) {
+            return sourceType;
+        }
+
+        // I hate type erasure - it leads to a hack like this. Admittedly, I
+        // could've just created a subclass that does
+        // the same thing, but I like to beat the system! :)
+        //
+        // This code reflectively looks for methods called "executeCommand",
+        // which is defined in this class. However,
+        // due to type erasure, if a generic type is specified, there are two
+        // "executeCommand" methods, one that satisfies
+        // this abstract class (with the CommandSource argument) and a second
+        // method that fulfils the generic type T.
+        //
+        // Thus, we need to check that there is a method called executeCommand
+        // that has a more restrictive argument than
+        // "CommandSource" in order to check for the generic type.
+        //
+        // This allows us to then have code that filters out non-Players by
+        // simply specifying the generic type "Player".
+        //
+        // The provided stream filters out the standard executeCommand method,
+        // and checks to see if there is a second that makes
+        // use of the generic parameter.
+        Optional<Method> me = Arrays.stream(getClass().getMethods())
+                .filter(x -> x.getName().equals("executeCommand") && x.getParameterTypes().length == 2
+                        && x.getParameterTypes()[1].isAssignableFrom(CommandContext.class) && !x.getParameterTypes()[0].equals(CommandSource.class))
+                .findFirst();
+
+        // If there is a second executeCommand method, then we know that's the
+        // type that we need and we can do our source
+        // checks against it accordingly.
+        if (me.isPresent()) {
+            sourceType = (Class<T>) (me.get().getParameterTypes()[0]);
+        } else {
+            sourceType = (Class<T>) CommandSource.class;
+        }
+
+        return sourceType;
+    }
+
     private boolean checkSourceType(CommandSource source) {
+        Class<T> sourceType = getSourceType();
         if (sourceType.equals(Player.class) && !(source instanceof Player)) {
-            source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.playeronly"));
+            source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.playeronly"));
             return false;
         } else if (sourceType.equals(ConsoleSource.class) && !(source instanceof Player)) {
-            source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.consoleonly"));
+            source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.consoleonly"));
             return false;
         } else if (sourceType.equals(CommandBlockSource.class) && !(source instanceof CommandBlockSource)) {
-            source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.commandblockonly"));
+            source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.commandblockonly"));
             return false;
         }
 
@@ -658,7 +686,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
             return pr.get();
         }
 
-        src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("args.worldproperties.default"));
+        src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("args.worldproperties.default"));
         return Sponge.getServer().getDefaultWorld().get();
     }
 
@@ -687,7 +715,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
         } else if (clazz.isInstance(src)) {
             return clazz.cast(src);
         } else {
-            throw new ReturnMessageException(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat(failKey));
+            throw new ReturnMessageException(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat(failKey));
         }
     }
 
@@ -700,7 +728,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
             if (src instanceof LocatedSource) {
                 return ((LocatedSource) src).getWorld().getProperties();
             } else {
-                throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.noworldconsole"));
+                throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.noworldconsole"));
             }
         }
     }
@@ -715,10 +743,10 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
             // If player, get the item in hand, otherwise, we can't continue.
             if (src instanceof Player) {
                 return Util.getTypeFromItemInHand((Player)src)
-                    .orElseThrow(() -> new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.noneinhand")));
+                    .orElseThrow(() -> new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.noneinhand")));
             }
 
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.noitemconsole"));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.noitemconsole"));
         }
     }
 
@@ -754,7 +782,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
 
                     @Override
                     public void accept(Task task) {
-                        src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("warmup.end"));
+                        src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("warmup.end"));
                         warmupService.removeWarmup(src.getUniqueId());
                         startExecute((T) src, args);
                     }
@@ -769,15 +797,15 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
         warmupService.addWarmup(src.getUniqueId(), tb.submit(plugin));
 
         // Tell the user we're warming up.
-        src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("warmup.start", Util.getTimeStringFromSeconds(warmupTime)));
+        src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("warmup.start", Util.getTimeStringFromSeconds(warmupTime)));
 
         WarmupConfig wc = cca.getNodeOrDefault().getWarmupConfig();
         if (wc.isOnMove() && wc.isOnCommand()) {
-            src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("warmup.both"));
+            src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("warmup.both"));
         } else if (wc.isOnMove()) {
-            src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("warmup.onMove"));
+            src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("warmup.onMove"));
         } else if (wc.isOnCommand()) {
-            src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("warmup.onCommand"));
+            src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("warmup.onCommand"));
         }
 
         // Sponge should think the command was run successfully.
@@ -795,7 +823,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
         // down.
         if (!bypassCooldown && !permissions.testCooldownExempt(src) && cooldownStore.containsKey(src.getUniqueId())) {
             Instant l = cooldownStore.get(src.getUniqueId());
-            src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("cooldown.message",
+            src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("cooldown.message",
                     Util.getTimeStringFromSeconds(l.until(Instant.now(), ChronoUnit.SECONDS))));
             return ContinueMode.STOP;
         }
@@ -931,32 +959,38 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
     // -------------------------------------
     // Child Commands
     // -------------------------------------
-    private Map<List<String>, CommandCallable> createChildCommands() {
-        Set<Class<? extends AbstractCommand<?>>> bases = null;
-        if (this.moduleCommands != null) {
-            bases = moduleCommands.stream().filter(x -> {
-                RegisterCommand r = x.getAnnotation(RegisterCommand.class);
-                // Only commands that are subcommands of this.
-                return r != null && r.subcommandOf().equals(this.getClass());
-            }).collect(Collectors.toSet());
+    /**
+     * Creates the child commands, so that their permissions and configuration defaults are registered. Their specs are
+     * not built until they are first used.
+     */
+    final void loadChildCommands() {
+        if (this.moduleCommands == null) {
+            return;
         }
 
-        Map<List<String>, CommandCallable> map = Maps.newHashMap();
-        if (bases != null) {
-            bases.forEach(cb -> {
-                try {
-                    builder.buildCommand(cb, false).ifPresent(x -> map.put(Arrays.asList(x.getAliases()), x.getSpec()));
-                } catch (Exception e) {
-                    plugin.getLogger().error(NucleusPlugin.getNucleus().getMessageProvider().getMessageWithFormat("command.child.notloaded", cb.getName()));
-
-                    if (cca.getNodeOrDefault().isDebugmode()) {
-                        e.printStackTrace();
-                    }
+        Set<Class<? extends AbstractCommand<?>>> bases = moduleCommands.stream().filter(x -> {
+            RegisterCommand r = x.getAnnotation(RegisterCommand.class);
+            // Only commands that are subcommands of this.
+            return r != null && r.subcommandOf().equals(this.getClass());
+        }).collect(Collectors.toSet());
+
+        bases.forEach(cb -> {
+            try {
+                builder.buildCommand(cb, false).ifPresent(x -> childCommands.put(Arrays.asList(x.getAliases()), x));
+            } catch (Exception e) {
+                plugin.getLogger().error(NucleusPlugin.getNucleus().getMessageProvider().getMessageWithFormat("command.child.notloaded", cb.getName()));
+
+                if (cca.getNodeOrDefault().isDebugmode()) {
+                    e.printStackTrace();
                 }
-            });
-        }
+            }
+        });
+    }
 
-        map.put(Lists.newArrayList("?", "help"), usageCommand);
+    private Map<List<String>, CommandCallable> createChildCommands() {
+        Map<List<String>, CommandCallable> map = Maps.newHashMap();
+        childCommands.forEach((k, v) -> map.put(k, v.getCallable()));
+        map.put(Lists.newArrayList("?", "help"), new UsageCommand());
         return map;
     }
 
@@ -998,7 +1032,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
         @NonnullByDefault
         public CommandResult process(CommandSource source, String arguments) throws CommandException {
             if (!testPermission(source)) {
-                source.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.usage.nopermission"));
+                source.sendMessage(plugin.getMessageProvider(source).getTextMessageWithFormat("command.usage.nopermission"));
                 return CommandResult.empty();
             }
 
@@ -1008,27 +1042,27 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
             String command = getCommandPath().replaceAll("\\.", " ");
 
             // Header
-            Text header = plugin.getMessageProvider().getTextMessageWithFormat("command.usage.header", command);
+            Text header = plugin.getMessageProvider(source).getTextMessageWithFormat("command.usage.header", command);
 
             List<Text> textMessages = Lists.newArrayList();
 
-            if (parent.sourceType == Player.class) {
-                textMessages.add(plugin.getMessageProvider().getTextMessageWithFormat("command.usage.playeronly"));
+            if (parent.getSourceType() == Player.class) {
+                textMessages.add(plugin.getMessageProvider(source).getTextMessageWithFormat("command.usage.playeronly"));
             }
 
-            textMessages.add(plugin.getMessageProvider().getTextMessageWithFormat("command.usage.module", module, moduleId));
+            textMessages.add(plugin.getMessageProvider(source).getTextMessageWithFormat("command.usage.module", module, moduleId));
 
             String desc = getDescription();
             if (!desc.isEmpty()) {
                 textMessages.add(Text.EMPTY);
-                textMessages.add(plugin.getMessageProvider().getTextMessageWithFormat("command.usage.summary"));
+                textMessages.add(plugin.getMessageProvider(source).getTextMessageWithFormat("command.usage.summary"));
                 textMessages.add(Text.of(desc));
             }
 
             String ext = getExtendedDescription();
             if (!ext.isEmpty()) {
                 textMessages.add(Text.EMPTY);
-                textMessages.add(plugin.getMessageProvider().getTextMessageWithFormat("command.usage.description"));
+                textMessages.add(plugin.getMessageProvider(source).getTextMessageWithFormat("command.usage.description"));
                 String[] split = ext.split("(\\r|\\n|\\r\\n)");
                 for (String s : split) {
                     textMessages.add(Text.of(s));
@@ -1036,7 +1070,7 @@ public abstract class AbstractCommand<T extends CommandSource> implements Comman
             }
 
             textMessages.add(Text.EMPTY);
-            textMessages.add(plugin.getMessageProvider().getTextMessageWithFormat("command.usage.usage"));
+            textMessages.add(plugin.getMessageProvider(source).getTextMessageWithFormat("command.usage.usage"));
             textMessages.add(Text.of(TextColors.WHITE, AbstractCommand.this.getUsage(source)));
 
             PaginationService ps = Sponge.getServiceManager().provideUnchecked(PaginationService.class);
@@ -10,7 +10,6 @@ import io.github.nucleuspowered.nucleus.internal.annotations.SkipOnError;
 import ninja.leaping.configurate.commented.CommentedConfigurationNode;
 import ninja.leaping.configurate.commented.SimpleCommentedConfigurationNode;
 import org.spongepowered.api.Sponge;
-import org.spongepowered.api.command.spec.CommandSpec;
 
 import java.util.Optional;
 import java.util.Set;
@@ -54,11 +53,9 @@ public class CommandBuilder {
             return Optional.empty();
         }
 
-        // No spec, no return. We also don't want to run it twice...
-        CommandSpec spec = c.getSpec();
-        if (spec == null) {
-            return Optional.empty();
-        }
+        // The spec is built when the command is first used, but the child commands are created now so that their
+        // permissions and defaults are registered.
+        c.loadChildCommands();
 
         // If we are using DocGen, add the command information to the system.
         plugin.getDocGenCache().ifPresent(x -> x.addCommand(moduleID, c));
@@ -70,13 +67,13 @@ public class CommandBuilder {
         if (plugin.getCommandsConfig().getCommandNode(c.getCommandConfigAlias()).getNode("enabled").getBoolean(true)) {
             // Register the commands.
             if (rootCmd) {
-                Sponge.getCommandManager().register(plugin, spec, c.getAliases());
+                Sponge.getCommandManager().register(plugin, c.getCallable(), c.getAliases());
             }
 
             // Register as another full blown command.
             for (String s : c.getRootCommandAliases()) {
                 if (plugin.getCommandsConfig().getCommandNode(c.getCommandConfigAlias()).getNode("aliases", s).getBoolean(true)) {
-                    Sponge.getCommandManager().register(plugin, spec, s);
+                    Sponge.getCommandManager().register(plugin, c.getCallable(), s);
                 }
             }
 
@@ -0,0 +1,78 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.internal.command;
+
+import io.github.nucleuspowered.nucleus.NucleusPlugin;
+import org.spongepowered.api.command.CommandCallable;
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.spec.CommandSpec;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.util.annotation.NonnullByDefault;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stands in for the {@link CommandSpec} of an {@link AbstractCommand} when it is registered, so that the spec, with its
+ * arguments and help, is only built when the command is first run or tab completed.
+ *
+ * <p>
+ *     Permission checks do not need the spec, so listing the commands a player can use does not build it.
+ * </p>
+ */
+@NonnullByDefault
+final class LazyCommandCallable implements CommandCallable {
+
+    private final AbstractCommand<?> command;
+
+    LazyCommandCallable(AbstractCommand<?> command) {
+        this.command = command;
+    }
+
+    @Override
+    public CommandResult process(CommandSource source, String arguments) throws CommandException {
+        return getSpec(source).process(source, arguments);
+    }
+
+    @Override
+    public List<String> getSuggestions(CommandSource source, String arguments) throws CommandException {
+        return getSpec(source).getSuggestions(source, arguments);
+    }
+
+    @Override
+    public boolean testPermission(CommandSource source) {
+        // The same check that the spec makes.
+        return command.getPermissionHandler().testBase(source);
+    }
+
+    @Override
+    public Optional<? extends Text> getShortDescription(CommandSource source) {
+        CommandSpec spec = command.getSpec();
+        return spec == null ? Optional.empty() : spec.getShortDescription(source);
+    }
+
+    @Override
+    public Optional<? extends Text> getHelp(CommandSource source) {
+        CommandSpec spec = command.getSpec();
+        return spec == null ? Optional.empty() : spec.getHelp(source);
+    }
+
+    @Override
+    public Text getUsage(CommandSource source) {
+        CommandSpec spec = command.getSpec();
+        return spec == null ? Text.EMPTY : spec.getUsage(source);
+    }
+
+    private CommandSpec getSpec(CommandSource source) throws CommandException {
+        CommandSpec spec = command.getSpec();
+        if (spec == null) {
+            throw new CommandException(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.error"));
+        }
+
+        return spec;
+    }
+}
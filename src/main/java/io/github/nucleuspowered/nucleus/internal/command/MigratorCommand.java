@@ -69,13 +69,13 @@ public abstract class MigratorCommand<M extends DataMigrator> extends AbstractCo
             } catch (Exception | NoClassDefFoundError e) {
                 e.printStackTrace();
                 if (pd != null && pd.value().length > 0) {
-                    src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.migrate.error.plugin", String.join(", ", (CharSequence[]) pd.value())));
+                    src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.migrate.error.plugin", String.join(", ", (CharSequence[]) pd.value())));
                 } else {
-                    src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.migrate.error.noplugin"));
+                    src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.migrate.error.noplugin"));
                 }
             }
         } else {
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.migrate.noplugin", String.join(", ", (CharSequence[]) pd.value())));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.migrate.noplugin", String.join(", ", (CharSequence[]) pd.value())));
         }
 
         return CommandResult.empty();
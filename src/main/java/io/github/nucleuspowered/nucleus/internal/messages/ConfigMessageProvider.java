@@ -4,20 +4,36 @@
  */
 package io.github.nucleuspowered.nucleus.internal.messages;
 
+import io.github.nucleuspowered.nucleus.Nucleus;
 import io.github.nucleuspowered.nucleus.config.MessageConfig;
 import ninja.leaping.configurate.objectmapping.ObjectMappingException;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.ListResourceBundle;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.ResourceBundle;
 
 public class ConfigMessageProvider extends ResourceMessageProvider {
 
+    // Used as the defaults for a locale's messages file when Nucleus has no translation for that locale, so that the
+    // file is not filled with messages in the server's language.
+    private static final ResourceBundle noMessages = new ListResourceBundle() {
+        @Override
+        protected Object[][] getContents() {
+            return new Object[0][];
+        }
+    };
+
     private final MessageConfig mc;
+    private final Path file;
 
     public ConfigMessageProvider(Path file, String fallbackResource) throws Exception {
         super(fallbackResource);
+        this.file = file;
         this.mc = new MessageConfig(file, new ResourceMessageProvider(this.rb));
     }
 
@@ -31,11 +47,64 @@ public class ConfigMessageProvider extends ResourceMessageProvider {
         return super.getMessageFromKey(key);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     *     If there is a messages file for the locale next to this provider's file, such as <code>messages_de.conf</code>
+     *     for German, the messages in it are used first. These files are not created automatically, but an empty one
+     *     is filled in with the messages that Nucleus has been translated into for that locale, if there are any.
+     *     Messages that are in neither come from this provider.
+     * </p>
+     */
+    @Override
+    protected MessageProvider createForLocale(Locale locale) {
+        Optional<ResourceBundle> bundle = getBundleForLocale(locale);
+        Optional<Path> localeFile = getFileForLocale(locale);
+        MessageConfig config = null;
+        if (localeFile.isPresent()) {
+            try {
+                config = new MessageConfig(localeFile.get(), new ResourceMessageProvider(bundle.orElse(noMessages), locale));
+            } catch (Exception e) {
+                Nucleus.getNucleus().getLogger().warn("Could not load the messages file " + localeFile.get().getFileName() + ". It will be ignored.");
+                if (Nucleus.getNucleus().isDebugMode()) {
+                    e.printStackTrace();
+                }
+            }
+        }
+
+        if (config == null && !bundle.isPresent()) {
+            return this;
+        }
+
+        return new LocaleMessageProvider(locale, bundle.orElse(null), config, this);
+    }
+
     public List<String> checkForMigration() {
         return mc.walkThroughForMismatched();
     }
 
     public void reset(List<String> keys) throws IOException, ObjectMappingException {
         mc.fixMistmatched(keys);
+        clearCache();
+    }
+
+    private Optional<Path> getFileForLocale(Locale locale) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = dot < 0 ? name : name.substring(0, dot);
+        String extension = dot < 0 ? "" : name.substring(dot);
+
+        // The most specific file wins, so messages_de_DE.conf is used before messages_de.conf.
+        for (String suffix : new String[] { locale.toString(), locale.getLanguage() }) {
+            if (!suffix.isEmpty()) {
+                Path localeFile = file.resolveSibling(base + "_" + suffix + extension);
+                if (Files.exists(localeFile)) {
+                    return Optional.of(localeFile);
+                }
+            }
+        }
+
+        return Optional.empty();
     }
 }
@@ -0,0 +1,47 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.internal.messages;
+
+import io.github.nucleuspowered.nucleus.config.MessageConfig;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.ResourceBundle;
+
+import javax.annotation.Nullable;
+
+/**
+ * Provides the messages for a locale other than the server's. Messages are taken from the messages file for the
+ * locale, if there is one, then from the translations for the locale, and then from the server's own provider.
+ */
+final class LocaleMessageProvider extends MessageProvider {
+
+    @Nullable private final ResourceBundle bundle;
+    @Nullable private final MessageConfig config;
+    private final MessageProvider parent;
+
+    LocaleMessageProvider(Locale locale, @Nullable ResourceBundle bundle, @Nullable MessageConfig config, MessageProvider parent) {
+        super(locale);
+        this.bundle = bundle;
+        this.config = config;
+        this.parent = parent;
+    }
+
+    @Override
+    public Optional<String> getMessageFromKey(String key) {
+        if (config != null) {
+            Optional<String> s = config.getKey(key);
+            if (s.isPresent()) {
+                return s;
+            }
+        }
+
+        if (bundle != null && bundle.containsKey(key)) {
+            return Optional.of(bundle.getString(key));
+        }
+
+        return parent.getMessageFromKey(key);
+    }
+}
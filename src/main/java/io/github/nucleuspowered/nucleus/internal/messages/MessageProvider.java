@@ -4,26 +4,132 @@
  */
 package io.github.nucleuspowered.nucleus.internal.messages;
 
+import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.serializer.TextSerializers;
 
 import java.text.MessageFormat;
 import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class MessageProvider {
 
+    private final Locale locale;
+
+    // The providers for other locales, created when they are first needed.
+    private final Map<Locale, MessageProvider> localeProviders = new ConcurrentHashMap<>();
+
+    // Most messages are sent many times, so each is only parsed once. Messages without any substitutions are cached in
+    // their final form, everything else keeps the parsed format.
+    private final Map<String, MessageFormat> formats = new ConcurrentHashMap<>();
+    private final Map<String, String> constantMessages = new ConcurrentHashMap<>();
+    private final Map<String, Text> constantTexts = new ConcurrentHashMap<>();
+
+    MessageProvider(Locale locale) {
+        this.locale = locale;
+    }
+
     public abstract Optional<String> getMessageFromKey(String key);
 
+    /**
+     * Gets the provider for messages in the given locale. Messages that have not been translated into that locale come
+     * from this provider.
+     *
+     * @param locale The {@link Locale}.
+     * @return The {@link MessageProvider}, which is this provider if the locale is this provider's locale or there are
+     *         no messages for the locale.
+     */
+    public final MessageProvider forLocale(Locale locale) {
+        if (locale.equals(this.locale)) {
+            return this;
+        }
+
+        MessageProvider provider = localeProviders.get(locale);
+        if (provider == null) {
+            provider = localeProviders.computeIfAbsent(locale, this::createForLocale);
+        }
+
+        return provider;
+    }
+
+    /**
+     * Gets the provider for messages that will be sent to the given {@link CommandSource}, in their locale.
+     *
+     * @param source The {@link CommandSource}.
+     * @return The {@link MessageProvider}.
+     */
+    public final MessageProvider forSource(CommandSource source) {
+        return forLocale(source.getLocale());
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
     public String getMessageWithFormat(String key, String... substitutions) {
-        return MessageFormat.format(getMessageFromKey(key).get(), (Object[]) substitutions);
+        if (substitutions.length == 0) {
+            String message = constantMessages.get(key);
+            if (message == null) {
+                message = constantMessages.computeIfAbsent(key, k -> format(k));
+            }
+
+            return message;
+        }
+
+        return format(key, substitutions);
     }
 
     public Text getTextMessageWithFormat(String key, String... substitutions) {
-        return TextSerializers.FORMATTING_CODE.deserialize(MessageFormat.format(getMessageFromKey(key).get(), (Object[]) substitutions));
+        if (substitutions.length == 0) {
+            Text text = constantTexts.get(key);
+            if (text == null) {
+                text = constantTexts.computeIfAbsent(key, k -> TextSerializers.FORMATTING_CODE.deserialize(getMessageWithFormat(k)));
+            }
+
+            return text;
+        }
+
+        return TextSerializers.FORMATTING_CODE.deserialize(format(key, substitutions));
     }
 
     public final Text getTextMessageWithTextFormat(String key, Text... substitutions) {
         return getTextMessageWithFormat(key, Arrays.stream(substitutions).map(TextSerializers.FORMATTING_CODE::serialize).toArray(String[]::new));
     }
+
+    /**
+     * Removes all cached messages, so that they are read again from {@link #getMessageFromKey(String)}. This must be
+     * called if the messages change.
+     */
+    public void clearCache() {
+        localeProviders.clear();
+        formats.clear();
+        constantMessages.clear();
+        constantTexts.clear();
+    }
+
+    /**
+     * Creates the provider for messages in the given locale. The provider should fall back to this provider for any
+     * message that has not been translated.
+     *
+     * @param locale The {@link Locale}.
+     * @return The {@link MessageProvider}, or this provider if there are no messages for the locale.
+     */
+    protected MessageProvider createForLocale(Locale locale) {
+        return this;
+    }
+
+    private String format(String key, String... substitutions) {
+        MessageFormat format = formats.get(key);
+        if (format == null) {
+            format = formats.computeIfAbsent(key, k -> new MessageFormat(getMessageFromKey(k).get(), locale));
+        }
+
+        // MessageFormat is not thread safe.
+        synchronized (format) {
+            return format.format(substitutions);
+        }
+    }
 }
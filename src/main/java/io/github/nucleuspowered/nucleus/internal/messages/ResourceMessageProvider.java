@@ -4,23 +4,53 @@
  */
 package io.github.nucleuspowered.nucleus.internal.messages;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.MissingResourceException;
 import java.util.Optional;
 import java.util.ResourceBundle;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 public class ResourceMessageProvider extends MessageProvider {
 
     public static final String messagesBundle = "assets.nucleus.messages";
     public static final String commandMessagesBundle = "assets.nucleus.commands";
+    // Only finds the bundles for the locale itself, not the default locale or the base bundle, so that we know when
+    // there is no translation for a locale.
+    private static final ResourceBundle.Control localeOnly = new ResourceBundle.Control() {
+        @Override
+        public List<Locale> getCandidateLocales(String baseName, Locale locale) {
+            List<Locale> candidates = new ArrayList<>(super.getCandidateLocales(baseName, locale));
+            candidates.remove(Locale.ROOT);
+            return candidates;
+        }
+
+        @Override
+        public Locale getFallbackLocale(String baseName, Locale locale) {
+            return null;
+        }
+    };
+
     protected final ResourceBundle rb;
+    @Nullable private final String resource;
 
     ResourceMessageProvider(ResourceBundle resource) {
-        rb = resource;
+        this(resource, Locale.getDefault());
+    }
+
+    ResourceMessageProvider(ResourceBundle resource, Locale locale) {
+        super(locale);
+        this.rb = resource;
+        this.resource = null;
     }
 
     public ResourceMessageProvider(String resource) {
-        rb = ResourceBundle.getBundle(resource, Locale.getDefault());
+        super(Locale.getDefault());
+        this.rb = ResourceBundle.getBundle(resource, Locale.getDefault());
+        this.resource = resource;
     }
 
     @Override
@@ -35,4 +65,32 @@ public class ResourceMessageProvider extends MessageProvider {
     public Set<String> getKeys() {
         return rb.keySet();
     }
+
+    @Override
+    protected MessageProvider createForLocale(Locale locale) {
+        Optional<ResourceBundle> bundle = getBundleForLocale(locale);
+        if (bundle.isPresent()) {
+            return new LocaleMessageProvider(locale, bundle.get(), null, this);
+        }
+
+        return this;
+    }
+
+    /**
+     * Gets the bundle with the messages that have been translated into the given locale.
+     *
+     * @param locale The {@link Locale}.
+     * @return The {@link ResourceBundle}, if there are any translations.
+     */
+    final Optional<ResourceBundle> getBundleForLocale(Locale locale) {
+        if (resource == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(ResourceBundle.getBundle(resource, locale, localeOnly));
+        } catch (MissingResourceException e) {
+            return Optional.empty();
+        }
+    }
 }
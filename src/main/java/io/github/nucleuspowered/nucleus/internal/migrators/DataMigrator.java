@@ -4,19 +4,24 @@
  */
 package io.github.nucleuspowered.nucleus.internal.migrators;
 
+import io.github.nucleuspowered.nucleus.Nucleus;
 import io.github.nucleuspowered.nucleus.NucleusPlugin;
 import io.github.nucleuspowered.nucleus.dataservices.UserService;
 import io.github.nucleuspowered.nucleus.dataservices.WorldService;
+import io.github.nucleuspowered.nucleus.dataservices.loaders.BulkUserDataProcessor;
 import org.slf4j.Logger;
 import org.spongepowered.api.command.CommandSource;
 
 import javax.inject.Inject;
+import java.io.IOException;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Defines the migrator method.
@@ -43,6 +48,35 @@ public abstract class DataMigrator {
         }
     }
 
+    /**
+     * Runs the action for each of the given users on several threads, reporting progress to the {@link CommandSource}.
+     * Each user is saved after the action has run. If the migration is interrupted, running it again skips the users
+     * that were already done.
+     *
+     * @param src The {@link CommandSource} that requested the migration.
+     * @param name The name of this part of the migration, used to resume it.
+     * @param uuids The {@link UUID}s of the users.
+     * @param action The action to run for each user. This is run on several threads at once.
+     * @return The number of users that could not be migrated. These are tried again if the migration is run again.
+     * @throws IOException if the record of migrated users could not be read or written.
+     * @throws InterruptedException if the migration was interrupted.
+     */
+    protected final int forEachUser(CommandSource src, String name, Collection<UUID> uuids, Consumer<UserService> action)
+            throws IOException, InterruptedException {
+        BulkUserDataProcessor processor = new BulkUserDataProcessor(plugin, name, (done, total) ->
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.migrate.progress",
+                        String.valueOf(done), String.valueOf(total))));
+        return processor.process(uuids, uuid -> {
+            Optional<UserService> ous = getUser(uuid);
+            if (ous.isPresent()) {
+                action.accept(ous.get());
+                if (!ous.get().saveIfDirty()) {
+                    throw new IOException("Could not save data for " + uuid.toString());
+                }
+            }
+        });
+    }
+
     protected final Optional<WorldService> getWorld(UUID uuid) {
         try {
             return plugin.getWorldDataManager().get(uuid);
@@ -18,6 +18,7 @@ import io.github.nucleuspowered.nucleus.Nucleus;
 import io.github.nucleuspowered.nucleus.api.data.JailData;
 import io.github.nucleuspowered.nucleus.api.data.MuteData;
 import io.github.nucleuspowered.nucleus.api.service.NucleusWarpService;
+import io.github.nucleuspowered.nucleus.configurate.datatypes.ItemDataNode;
 import io.github.nucleuspowered.nucleus.configurate.datatypes.item.BlacklistNode;
 import io.github.nucleuspowered.nucleus.dataservices.ItemDataService;
 import io.github.nucleuspowered.nucleus.modules.jail.handlers.JailHandler;
@@ -38,7 +39,9 @@ import org.spongepowered.api.world.World;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @DataMigrator.PluginDependency("io.github.hsyyid.essentialcmds")
 public class EssCmdsMigrator extends DataMigrator {
@@ -50,7 +53,7 @@ public class EssCmdsMigrator extends DataMigrator {
 
     @Override
     public void migrate(CommandSource src) throws Exception {
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.migrate.begin"));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.migrate.begin"));
 
         // Warps
         Optional<NucleusWarpService> warpService = Sponge.getServiceManager().provide(NucleusWarpService.class);
@@ -67,7 +70,7 @@ public class EssCmdsMigrator extends DataMigrator {
                 }
             }
 
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.migrate.warps"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.migrate.warps"));
         }
 
         // Blacklisted items
@@ -76,35 +79,37 @@ public class EssCmdsMigrator extends DataMigrator {
             ItemType itemType = Sponge.getRegistry().getType(ItemType.class, item).orElse(ItemTypes.NONE);
 
             if (itemType != ItemTypes.NONE) {
-                BlacklistNode bn = ids.getDataForItem(itemType.getId()).getBlacklist();
+                ItemDataNode node = ids.getDataForItem(itemType.getId());
+                BlacklistNode bn = node.getBlacklist();
                 bn.setUse(true);
                 bn.setEnvironment(true);
                 bn.setInventory(true);
-                ids.save();
+                ids.setDataForItem(itemType.getId(), node);
             }
         }
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.migrate.blacklist"));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.migrate.blacklist"));
 
         // Homes
         Configurable homesConfig = HomeConfig.getConfig();
 
-        for (Object uuid : Configs.getConfig(homesConfig).getNode("home", "users").getChildrenMap().keySet()) {
-            UUID uniqueId = UUID.fromString(String.valueOf(uuid));
-
+        Set<UUID> homeUsers = Configs.getConfig(homesConfig).getNode("home", "users").getChildrenMap().keySet().stream()
+                .map(x -> UUID.fromString(String.valueOf(x))).collect(Collectors.toSet());
+        int failedHomes = forEachUser(src, "esscmds-homes", homeUsers, user -> {
+            UUID uniqueId = user.getUniqueID();
             for (Object home : Utils.getHomes(uniqueId)) {
                 String homeName = String.valueOf(home);
                 Transform<World> homeLocation = Utils.getHome(uniqueId, homeName);
 
                 if (homeLocation == null) {
-                    logger.warn(Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("command.nucleus.migrate.homefailiure", homeName, uuid.toString()));
+                    logger.warn(Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("command.nucleus.migrate.homefailiure", homeName, uniqueId.toString()));
                 } else {
-                    getUser(uniqueId).ifPresent(x -> x.setHome(homeName, homeLocation.getLocation(), homeLocation.getRotation()));
+                    user.setHome(homeName, homeLocation.getLocation(), homeLocation.getRotation());
                 }
             }
-        }
+        });
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.migrate.homes"));
+        sendUserResult(src, failedHomes, "command.nucleus.migrate.homes");
 
         // Jails
         if (jailHandler != null) {
@@ -119,7 +124,7 @@ public class EssCmdsMigrator extends DataMigrator {
                         new Vector3d(0, 0, 0));
             }
 
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.migrate.jails"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.migrate.jails"));
 
             // Jailed players
             if (!jailHandler.getJails().isEmpty()) {
@@ -134,7 +139,7 @@ public class EssCmdsMigrator extends DataMigrator {
                 }
             }
 
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.migrate.jailed"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.migrate.jailed"));
         }
 
         // Mutes
@@ -148,21 +153,17 @@ public class EssCmdsMigrator extends DataMigrator {
                 }
             }
 
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.migrate.mutes"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.migrate.mutes"));
         }
 
         // Nicknames
         Configurable mainConfig = Config.getConfig();
         CommentedConfigurationNode node = Configs.getConfig(mainConfig).getNode("nick");
 
-        for (Object uuid : node.getChildrenMap().keySet()) {
-            String uniqueId = String.valueOf(uuid);
-            String nick = node.getNode(uniqueId).getString();
-
-            getUser(UUID.fromString(uniqueId)).ifPresent(x -> x.setNickname(nick));
-        }
-
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.migrate.nicks"));
+        Set<UUID> nickUsers = node.getChildrenMap().keySet().stream().map(x -> UUID.fromString(String.valueOf(x))).collect(Collectors.toSet());
+        int failedNicks = forEachUser(src, "esscmds-nicks", nickUsers,
+                user -> user.setNickname(node.getNode(user.getUniqueID().toString()).getString()));
+        sendUserResult(src, failedNicks, "command.nucleus.migrate.nicks");
 
         // Mail
         if (mailHandler != null) {
@@ -175,7 +176,7 @@ public class EssCmdsMigrator extends DataMigrator {
                 }
             }
 
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.migrate.mail"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.migrate.mail"));
         }
 
         // Locked Weather Worlds
@@ -184,7 +185,7 @@ public class EssCmdsMigrator extends DataMigrator {
             getWorld(uniqueId).ifPresent(x -> x.setLockWeather(true));
         }
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.migrate.weather"));
+        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.migrate.weather"));
 
         // Rules
         if (rca != null) {
@@ -195,9 +196,22 @@ public class EssCmdsMigrator extends DataMigrator {
             rca.setNode(rc);
             plugin.saveSystemConfig();
 
-            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.migrate.rules"));
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.migrate.rules"));
         }
 
-        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.migrate.success"));
+        int failed = failedHomes + failedNicks;
+        if (failed > 0) {
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.migrate.incomplete", String.valueOf(failed)));
+        } else {
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.migrate.success"));
+        }
+    }
+
+    private void sendUserResult(CommandSource src, int failed, String successKey) {
+        if (failed > 0) {
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.migrate.userfailures", String.valueOf(failed)));
+        } else {
+            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat(successKey));
+        }
     }
 }
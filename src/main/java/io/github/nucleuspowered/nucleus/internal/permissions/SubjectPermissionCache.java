@@ -0,0 +1,179 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.internal.permissions;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import io.github.nucleuspowered.nucleus.Util;
+import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.service.context.Context;
+import org.spongepowered.api.service.permission.Subject;
+import org.spongepowered.api.service.permission.option.OptionSubject;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the results of permission checks, option lookups and parent lookups for users, so that the chat and command
+ * paths, which make these checks many times for the same player, only go to the permission plugin when the result is
+ * not already known.
+ *
+ * <p>
+ *     Results are stored against the contexts that the user was in at the time, so moving between worlds does not
+ *     return stale results. The permission service does not tell us when a subject's data changes, so everything that
+ *     is cached for a user is thrown away {@link #EXPIRY_SECONDS} seconds after it was first stored, and straight away
+ *     when the player joins or leaves, when Nucleus is reloaded, or when Nucleus changes permissions itself.
+ * </p>
+ *
+ * <p>
+ *     Subjects that are not users, such as the console, are not cached, as their checks are cheap.
+ * </p>
+ */
+public class SubjectPermissionCache {
+
+    private static final long EXPIRY_SECONDS = 10;
+
+    private final Cache<UUID, Entry> cache = CacheBuilder.newBuilder().expireAfterWrite(EXPIRY_SECONDS, TimeUnit.SECONDS).build();
+
+    /**
+     * Checks whether a subject has a permission in their current contexts.
+     *
+     * @param subject The {@link Subject} to check.
+     * @param permission The permission.
+     * @return <code>true</code> if the subject has the permission.
+     */
+    public boolean hasPermission(Subject subject, String permission) {
+        Optional<Entry> entry = getEntry(subject);
+        if (!entry.isPresent()) {
+            return subject.hasPermission(permission);
+        }
+
+        return entry.get().forContexts(subject.getActiveContexts()).permissions.computeIfAbsent(permission, subject::hasPermission);
+    }
+
+    /**
+     * Gets the first of the given options that is set on the user, checking the user's current contexts before the
+     * global context for each option.
+     *
+     * @param user The {@link User}.
+     * @param options The option keys to check, in order.
+     * @return An {@link Optional} that might contain a value.
+     */
+    public Optional<String> getOption(User user, String... options) {
+        Set<Context> contexts = user.getActiveContexts();
+        Optional<Entry> entry = getEntry(user);
+        if (!entry.isPresent()) {
+            return getOptionFromSubject(user, contexts, options);
+        }
+
+        return entry.get().forContexts(contexts).options
+                .computeIfAbsent(String.join(" ", options).toLowerCase(), k -> getOptionFromSubject(user, contexts, options));
+    }
+
+    /**
+     * Gets the groups that the subject is directly in, across all contexts, with the groups that have the most parents
+     * first.
+     *
+     * @param subject The {@link Subject}.
+     * @return The groups. This list cannot be modified.
+     */
+    public List<Subject> getParents(Subject subject) {
+        Optional<Entry> entry = getEntry(subject);
+        if (!entry.isPresent()) {
+            return ImmutableList.copyOf(Util.getParentSubjects(subject));
+        }
+
+        List<Subject> parents = entry.get().parents;
+        if (parents == null) {
+            parents = ImmutableList.copyOf(Util.getParentSubjects(subject));
+            entry.get().parents = parents;
+        }
+
+        return parents;
+    }
+
+    /**
+     * Removes everything that has been cached for a user.
+     *
+     * @param uuid The {@link UUID} of the user.
+     */
+    public void invalidate(UUID uuid) {
+        cache.invalidate(uuid);
+    }
+
+    /**
+     * Removes everything from the cache.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private Optional<Entry> getEntry(Subject subject) {
+        // Only users are cached. A user without a UUID cannot be told apart from any other, so is not cached either.
+        UUID uuid = subject instanceof User ? ((User) subject).getUniqueId() : null;
+        if (uuid == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(cache.get(uuid, Entry::new));
+        } catch (ExecutionException e) {
+            // Creating an entry does not throw.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Optional<String> getOptionFromSubject(User user, Set<Context> contexts, String... options) {
+        Optional<OptionSubject> optionSubjectOptional = Util.getSubject(user);
+        if (!optionSubjectOptional.isPresent()) {
+            return Optional.empty();
+        }
+
+        OptionSubject optionSubject = optionSubjectOptional.get();
+        for (String option : options) {
+            String o = option.toLowerCase();
+
+            // Option for context.
+            Optional<String> os = optionSubject.getOption(contexts, o);
+            if (os.isPresent()) {
+                return os;
+            }
+
+            // General option
+            os = optionSubject.getOption(o);
+            if (os.isPresent()) {
+                return os;
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private static class Entry {
+
+        private final Map<Set<Context>, ContextEntry> contexts = new ConcurrentHashMap<>();
+        private volatile List<Subject> parents = null;
+
+        private ContextEntry forContexts(Set<Context> activeContexts) {
+            // Copy the contexts, so that the key cannot change once it is in the map.
+            ContextEntry entry = contexts.get(activeContexts);
+            return entry == null ? contexts.computeIfAbsent(ImmutableSet.copyOf(activeContexts), k -> new ContextEntry()) : entry;
+        }
+    }
+
+    private static class ContextEntry {
+
+        private final Map<String, Boolean> permissions = new ConcurrentHashMap<>();
+        private final Map<String, Optional<String>> options = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.internal.qsml;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * An index of the classes found when the modules were discovered, grouped by package and by the types that modules
+ * look for, so that each module can find its own classes without going through every class that was found.
+ *
+ * <p>
+ *     The index is built in a single pass over the classes, once, and shared between all modules.
+ * </p>
+ */
+public class ModuleClassIndex {
+
+    // Package name -> type -> classes in that package that are of that type.
+    private final NavigableMap<String, Map<Class<?>, List<Class<?>>>> index = new TreeMap<>();
+    private final Set<Class<?>> types;
+
+    /**
+     * Builds the index.
+     *
+     * @param classes The classes to index.
+     * @param types The types that classes will be looked up by.
+     */
+    public ModuleClassIndex(Collection<Class<?>> classes, Collection<Class<?>> types) {
+        this.types = ImmutableSet.copyOf(types);
+        for (Class<?> clazz : classes) {
+            for (Class<?> type : types) {
+                if (type.isAssignableFrom(clazz)) {
+                    index.computeIfAbsent(clazz.getPackage().getName(), k -> new HashMap<>())
+                            .computeIfAbsent(type, k -> new ArrayList<>()).add(clazz);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the classes of the given type whose package name starts with the given string.
+     *
+     * @param packageName The start of the package name.
+     * @param type The type, which must be one of the types that the index was built with.
+     * @param <T> The type.
+     * @return The classes.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<Class<? extends T>> getClasses(String packageName, Class<T> type) {
+        if (!types.contains(type)) {
+            throw new IllegalArgumentException(type.getName() + " has not been indexed.");
+        }
+
+        return index.subMap(packageName, true, packageName + Character.MAX_VALUE, true).values().stream()
+                .map(x -> x.get(type))
+                .filter(x -> x != null)
+                .flatMap(List::stream)
+                .map(x -> (Class<? extends T>) x)
+                .collect(Collectors.collectingAndThen(Collectors.toList(), ImmutableList::copyOf));
+    }
+}
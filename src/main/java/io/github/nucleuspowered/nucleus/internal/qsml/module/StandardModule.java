@@ -20,7 +20,6 @@ import io.github.nucleuspowered.nucleus.internal.command.AbstractCommand;
 import io.github.nucleuspowered.nucleus.internal.command.CommandBuilder;
 import io.github.nucleuspowered.nucleus.internal.docgen.DocGenCache;
 import io.github.nucleuspowered.nucleus.modules.playerinfo.handlers.SeenHandler;
-import ninja.leaping.configurate.objectmapping.ObjectMappingException;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.entity.living.player.User;
@@ -30,7 +29,6 @@ import uk.co.drnaylor.quickstart.Module;
 import uk.co.drnaylor.quickstart.annotations.ModuleData;
 import uk.co.drnaylor.quickstart.config.AbstractConfigAdapter;
 
-import java.io.IOException;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.Optional;
@@ -106,13 +104,8 @@ public abstract class StandardModule implements Module {
         CommandBuilder builder = new CommandBuilder(plugin, injector, cmds, moduleId, moduleName);
         commandBases.forEach(builder::buildCommand);
 
-        try {
-            commandsConfig.mergeDefaults(builder.getNodeToMerge());
-            commandsConfig.save();
-        } catch (IOException | ObjectMappingException e) {
-            plugin.getLogger().error("Could not save defaults.");
-            e.printStackTrace();
-        }
+        // The defaults are saved once all modules have loaded.
+        commandsConfig.mergeDefaults(builder.getNodeToMerge());
     }
 
     @SuppressWarnings("unchecked")
@@ -180,11 +173,8 @@ public abstract class StandardModule implements Module {
         });
     }
 
-    @SuppressWarnings("unchecked")
     private <T> Stream<Class<? extends T>> getStreamForModule(Class<T> assignableClass) {
-        return plugin.getModuleContainer().getLoadedClasses().stream().filter(assignableClass::isAssignableFrom)
-                .filter(x -> x.getPackage().getName().startsWith(packageName))
-                .map(x -> (Class<? extends T>)x);
+        return plugin.getModuleClassIndex().getClasses(packageName, assignableClass).stream();
     }
 
     protected void performPreTasks() throws Exception { }
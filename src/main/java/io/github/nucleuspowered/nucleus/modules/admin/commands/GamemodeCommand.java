@@ -68,9 +68,9 @@ public class GamemodeCommand extends io.github.nucleuspowered.nucleus.internal.c
         if (!ogm.isPresent()) {
             String mode = user.get(Keys.GAME_MODE).orElse(GameModes.SURVIVAL).getName();
             if (src.equals(user)) {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.gamemode.get.base", mode));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.gamemode.get.base", mode));
             } else {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.gamemode.get.other", user.getName(), mode));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.gamemode.get.other", user.getName(), mode));
             }
 
             return CommandResult.success();
@@ -80,14 +80,14 @@ public class GamemodeCommand extends io.github.nucleuspowered.nucleus.internal.c
         DataTransactionResult dtr = user.offer(Keys.GAME_MODE, gm);
         if (dtr.isSuccessful()) {
             if (!src.equals(user)) {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.gamemode.set.other", user.getName(), gm.getName()));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.gamemode.set.other", user.getName(), gm.getName()));
             }
 
-            user.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.gamemode.set.base", gm.getName()));
+            user.sendMessage(plugin.getMessageProvider(user).getTextMessageWithFormat("command.gamemode.set.base", gm.getName()));
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.gamemode.error", user.getName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.gamemode.error", user.getName()));
         return CommandResult.empty();
     }
 }
@@ -59,13 +59,13 @@ public class SudoCommand extends io.github.nucleuspowered.nucleus.internal.comma
         Player pl = args.<Player>getOne(playerKey).get();
         String cmd = args.<String>getOne(commandKey).get();
         if (pl.equals(src) || permissions.testSuffix(pl, "exempt.target")) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.sudo.noperms"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.sudo.noperms"));
             return CommandResult.empty();
         }
 
         if (cmd.startsWith("c:")) {
             if (cmd.equals("c:")) {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.sudo.chatfail"));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.sudo.chatfail"));
                 return CommandResult.empty();
             }
 
@@ -89,11 +89,11 @@ public class SudoCommand extends io.github.nucleuspowered.nucleus.internal.comma
                 return CommandResult.success();
             }
 
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.sudo.chatcancelled"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.sudo.chatcancelled"));
             return CommandResult.empty();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.sudo.force", pl.getName(), cmd));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.sudo.force", pl.getName(), cmd));
         Sponge.getCommandManager().process(pl, cmd);
         return CommandResult.success();
     }
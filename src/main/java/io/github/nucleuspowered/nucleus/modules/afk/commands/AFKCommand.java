@@ -38,7 +38,7 @@ public class AFKCommand extends io.github.nucleuspowered.nucleus.internal.comman
     @Override
     public CommandResult executeCommand(Player src, CommandContext args) throws Exception {
         if (permissions.testSuffix(src, "exempt.toggle")) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.afk.exempt"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.afk.exempt"));
             return CommandResult.empty();
         }
 
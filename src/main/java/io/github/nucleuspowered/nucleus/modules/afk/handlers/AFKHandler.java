@@ -139,7 +139,7 @@ public class AFKHandler {
                 x.getSecond().kickRequested = true;
                 String message = config.getMessages().getKickMessage().trim();
                 if (message.isEmpty()) {
-                    message = NucleusPlugin.getNucleus().getMessageProvider().getMessageWithFormat("afk.kickreason");
+                    message = NucleusPlugin.getNucleus().getMessageProvider(x.getFirst()).getMessageWithFormat("afk.kickreason");
                 }
 
                 final String messageToServer = config.getMessages().getOnKick().trim();
@@ -205,7 +205,7 @@ public class AFKHandler {
             }
         } else {
             // Tell the user in question about them going AFK
-            player.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat(isAfk ? "command.afk.from.vanish" : "command.afk.to.vanish"));
+            player.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(player).getTextMessageWithFormat(isAfk ? "command.afk.from.vanish" : "command.afk.to.vanish"));
         }
     }
 
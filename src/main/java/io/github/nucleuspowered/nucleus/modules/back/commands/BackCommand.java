@@ -40,16 +40,16 @@ public class BackCommand extends io.github.nucleuspowered.nucleus.internal.comma
     public CommandResult executeCommand(Player src, CommandContext args) throws Exception {
         Optional<Transform<World>> ol = handler.getLastLocation(src);
         if (!ol.isPresent()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.back.noloc"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.back.noloc"));
             return CommandResult.empty();
         }
 
         Transform<World> loc = ol.get();
         if (plugin.getTeleportHandler().teleportPlayer(src, loc)) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.back.success"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.back.success"));
             return CommandResult.success();
         } else {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.back.nosafe"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.back.nosafe"));
             return CommandResult.empty();
         }
     }
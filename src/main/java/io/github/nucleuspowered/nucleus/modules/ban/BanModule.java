@@ -44,21 +44,21 @@ public class BanModule extends ConfigurableModule<BanConfigAdapter> {
                         // Lightweight checkban.
                         Text.Builder m;
                         if (bs.get().getExpirationDate().isPresent()) {
-                            m = NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("seen.isbanned.temp", Util.getTimeToNow(bs.get().getExpirationDate().get())).toBuilder();
+                            m = NucleusPlugin.getNucleus().getMessageProvider(c).getTextMessageWithFormat("seen.isbanned.temp", Util.getTimeToNow(bs.get().getExpirationDate().get())).toBuilder();
                         } else {
-                            m = NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("seen.isbanned.perm").toBuilder();
+                            m = NucleusPlugin.getNucleus().getMessageProvider(c).getTextMessageWithFormat("seen.isbanned.perm").toBuilder();
                         }
 
                         return Lists.newArrayList(
                             m.onClick(TextActions.runCommand("/checkban " + u.getName()))
-                              .onHover(TextActions.showText(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("standard.clicktoseemore"))).build(),
-                                NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("standard.reason",
+                              .onHover(TextActions.showText(NucleusPlugin.getNucleus().getMessageProvider(c).getTextMessageWithFormat("standard.clicktoseemore"))).build(),
+                                NucleusPlugin.getNucleus().getMessageProvider(c).getTextMessageWithFormat("standard.reason",
                                         TextSerializers.FORMATTING_CODE.serialize(
-                                                bs.get().getReason().orElse(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("standard.unknown")))));
+                                                bs.get().getReason().orElse(NucleusPlugin.getNucleus().getMessageProvider(c).getTextMessageWithFormat("standard.unknown")))));
                     }
                 }
 
-                return Lists.newArrayList(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("seen.notbanned"));
+                return Lists.newArrayList(NucleusPlugin.getNucleus().getMessageProvider(c).getTextMessageWithFormat("seen.notbanned"));
           });
     }
 }
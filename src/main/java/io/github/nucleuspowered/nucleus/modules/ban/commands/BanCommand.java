@@ -90,18 +90,18 @@ public class BanCommand extends io.github.nucleuspowered.nucleus.internal.comman
         if (ou.isPresent()) {
             Optional<User> optionalUser = Sponge.getServiceManager().provideUnchecked(UserStorageService.class).get(ou.get());
             if ((!optionalUser.isPresent() || !optionalUser.get().isOnline()) && !permissions.testSuffix(src, "offline")) {
-                throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.ban.offline.noperms"));
+                throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.ban.offline.noperms"));
             }
 
             if (optionalUser.isPresent() && permissions.testSuffix(optionalUser.get(), "exempt.target")) {
-                throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.ban.exempt", optionalUser.get().getName()));
+                throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.ban.exempt", optionalUser.get().getName()));
             }
 
             return executeBan(src, ou.get(), r);
         }
 
         if (!permissions.testSuffix(src, "offline")) {
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.ban.offline.noperms"));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.ban.offline.noperms"));
         }
 
         final String userToFind = args.<String>getOne(name).get();
@@ -117,7 +117,7 @@ public class BanCommand extends io.github.nucleuspowered.nucleus.internal.comman
                     // Create the user.
                     UserStorageService uss = Sponge.getServiceManager().provideUnchecked(UserStorageService.class);
                     User user = uss.getOrCreate(gp);
-                    src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("gameprofile.new", user.getName()));
+                    src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("gameprofile.new", user.getName()));
 
                     try {
                         executeBan(src, gp, r);
@@ -132,7 +132,7 @@ public class BanCommand extends io.github.nucleuspowered.nucleus.internal.comman
                     e.printStackTrace();
                 }
 
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.ban.profileerror", userToFind));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.ban.profileerror", userToFind));
             }
         });
 
@@ -145,12 +145,12 @@ public class BanCommand extends io.github.nucleuspowered.nucleus.internal.comman
         UserStorageService uss = Sponge.getServiceManager().provideUnchecked(UserStorageService.class);
         User user = uss.get(u).get();
         if (!user.isOnline() && !permissions.testSuffix(src, "offline")) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.ban.offline.noperms"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.ban.offline.noperms"));
             return CommandResult.empty();
         }
 
         if (service.isBanned(u)) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.ban.alreadyset", u.getName().orElse(plugin.getMessageProvider().getMessageWithFormat("standard.unknown"))));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.ban.alreadyset", u.getName().orElse(plugin.getMessageProvider(src).getMessageWithFormat("standard.unknown"))));
             return CommandResult.empty();
         }
 
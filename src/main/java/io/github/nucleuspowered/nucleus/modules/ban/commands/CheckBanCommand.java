@@ -57,7 +57,7 @@ public class CheckBanCommand extends io.github.nucleuspowered.nucleus.internal.c
 
         Optional<Ban.Profile> obp = service.getBanFor(gp);
         if (!obp.isPresent()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.checkban.notset", gp.getName().orElse(plugin.getMessageProvider().getMessageWithFormat("standard.unknown"))));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.checkban.notset", gp.getName().orElse(plugin.getMessageProvider(src).getMessageWithFormat("standard.unknown"))));
             return CommandResult.success();
         }
 
@@ -65,7 +65,7 @@ public class CheckBanCommand extends io.github.nucleuspowered.nucleus.internal.c
         String f = "";
         String t = "";
         if (bp.getExpirationDate().isPresent()) {
-            f = plugin.getMessageProvider().getMessageWithFormat("standard.for");
+            f = plugin.getMessageProvider(src).getMessageWithFormat("standard.for");
             t = Util.getTimeToNow(bp.getExpirationDate().get());
         }
 
@@ -73,11 +73,11 @@ public class CheckBanCommand extends io.github.nucleuspowered.nucleus.internal.c
         if (bp.getBanSource().isPresent()) {
             reason = bp.getBanSource().get().toPlain();
         } else {
-            reason = plugin.getMessageProvider().getMessageWithFormat("standard.unknown");
+            reason = plugin.getMessageProvider(src).getMessageWithFormat("standard.unknown");
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.checkban.banned", gp.getName().orElse(plugin.getMessageProvider().getMessageWithFormat("standard.unknown")), reason, f, t));
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("standard.reason", TextSerializers.FORMATTING_CODE.serialize(bp.getReason().orElse(plugin.getMessageProvider().getTextMessageWithFormat("ban.defaultreason")))));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.checkban.banned", gp.getName().orElse(plugin.getMessageProvider(src).getMessageWithFormat("standard.unknown")), reason, f, t));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("standard.reason", TextSerializers.FORMATTING_CODE.serialize(bp.getReason().orElse(plugin.getMessageProvider(src).getTextMessageWithFormat("ban.defaultreason")))));
         return CommandResult.success();
     }
 }
@@ -72,22 +72,22 @@ public class TempBanCommand extends io.github.nucleuspowered.nucleus.internal.co
         String reason = args.<String>getOne(reasonKey).orElse(plugin.getMessageProvider().getMessageWithFormat("ban.defaultreason"));
 
         if (permissions.testSuffix(u, "exempt.target")) {
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.tempban.exempt", u.getName()));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.tempban.exempt", u.getName()));
         }
 
         if (!u.isOnline() && !permissions.testSuffix(src, "offline")) {
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.tempban.offline.noperms"));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.tempban.offline.noperms"));
         }
 
         if (time > bca.getNodeOrDefault().getMaximumTempBanLength() &&  bca.getNodeOrDefault().getMaximumTempBanLength() != -1 && !permissions.testSuffix(src, "exempt.length")) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.tempban.length.toolong", Util.getTimeStringFromSeconds(bca.getNodeOrDefault().getMaximumTempBanLength())));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.tempban.length.toolong", Util.getTimeStringFromSeconds(bca.getNodeOrDefault().getMaximumTempBanLength())));
             return CommandResult.success();
         }
 
         BanService service = Sponge.getServiceManager().provideUnchecked(BanService.class);
 
         if (service.isBanned(u.getProfile())) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.ban.alreadyset", u.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.ban.alreadyset", u.getName()));
             return CommandResult.empty();
         }
 
@@ -56,7 +56,7 @@ public class UnbanCommand extends io.github.nucleuspowered.nucleus.internal.comm
 
         Optional<Ban.Profile> obp = service.getBanFor(gp);
         if (!obp.isPresent()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.checkban.notset", gp.getName().orElse(plugin.getMessageProvider().getMessageWithFormat("standard.unknown"))));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.checkban.notset", gp.getName().orElse(plugin.getMessageProvider(src).getMessageWithFormat("standard.unknown"))));
             return CommandResult.empty();
         }
 
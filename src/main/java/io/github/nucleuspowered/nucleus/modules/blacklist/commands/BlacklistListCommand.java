@@ -37,11 +37,11 @@ public class BlacklistListCommand extends io.github.nucleuspowered.nucleus.inter
             .collect(Collectors.toMap(x -> Util.getTranslatedStringFromItemId(x.getKey()).orElse(x.getKey()), Map.Entry::getValue));
 
         if (itemsToNodes.isEmpty()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.blacklist.list.none"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.blacklist.list.none"));
             return CommandResult.empty();
         }
 
-        MessageProvider mp = plugin.getMessageProvider();
+        MessageProvider mp = plugin.getMessageProvider(src);
         Text header = mp.getTextMessageWithFormat("blacklist.title");
 
         List<Text> lt = new ArrayList<>();
@@ -61,7 +61,7 @@ public class BlacklistListCommand extends io.github.nucleuspowered.nucleus.inter
             }});
 
             lt.add(Text.builder(e.getKey()).color(TextColors.GREEN)
-                .onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("blacklist.hover", e.getKey())))
+                .onHover(TextActions.showText(plugin.getMessageProvider(src).getTextMessageWithFormat("blacklist.hover", e.getKey())))
                 .append(Text.of(TextColors.YELLOW, " - " + types))
                 .build());
         });
@@ -56,9 +56,8 @@ public class BlacklistSetCommand extends AbstractCommand<CommandSource> {
 
         typesToUpdate.forEach(x -> x.consumer.accept(dataNode, blacklist));
         dataStore.setDataForItem(type.getId(), dataNode);
-        dataStore.save();
 
-        MessageProvider mp = plugin.getMessageProvider();
+        MessageProvider mp = plugin.getMessageProvider(src);
         src.sendMessage(mp.getTextMessageWithFormat("command.blacklist.set.success",
             Util.getTranslatedStringFromItemId(type.getId()).orElse(Util.getTranslatableIfPresentOnCatalogType(type)),
             String.join(", ", typesToUpdate.stream().map(x -> x.toString().toLowerCase()).collect(Collectors.toList())),
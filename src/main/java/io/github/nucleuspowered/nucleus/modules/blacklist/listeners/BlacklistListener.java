@@ -179,9 +179,9 @@ public class BlacklistListener extends ListenerBase {
         if (!messageCache.containsKey(u) || messageCache.get(u).isAfter(Instant.now())) {
             // Alert the user, but only once a second.
             if (remove.size() == 1) {
-                target.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat(descRoot + ".single", item));
+                target.sendMessage(plugin.getMessageProvider(target).getTextMessageWithFormat(descRoot + ".single", item));
             } else {
-                target.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat(descRoot + ".multiple", item));
+                target.sendMessage(plugin.getMessageProvider(target).getTextMessageWithFormat(descRoot + ".multiple", item));
             }
 
             messageCache.put(u, Instant.now().plus(1, ChronoUnit.SECONDS));
@@ -11,6 +11,7 @@ import io.github.nucleuspowered.nucleus.Util;
 import io.github.nucleuspowered.nucleus.internal.ListenerBase;
 import io.github.nucleuspowered.nucleus.internal.PermissionRegistry;
 import io.github.nucleuspowered.nucleus.internal.permissions.PermissionInformation;
+import io.github.nucleuspowered.nucleus.internal.permissions.SubjectPermissionCache;
 import io.github.nucleuspowered.nucleus.internal.permissions.SuggestedLevel;
 import io.github.nucleuspowered.nucleus.modules.chat.config.ChatConfig;
 import io.github.nucleuspowered.nucleus.modules.chat.config.ChatConfigAdapter;
@@ -45,7 +46,7 @@ public class ChatListener extends ListenerBase {
         this.chatUtil = chatUtil;
         this.cca = cca;
         this.templateUtil = templateUtil;
-        replacements = createReplacements();
+        replacements = ChatUtil.createReplacements(prefix);
     }
 
     @Override
@@ -59,16 +60,6 @@ public class ChatListener extends ListenerBase {
         return mp;
     }
 
-    private Map<String[], Function<String, String>> createReplacements() {
-        Map<String[], Function<String, String>> t = new HashMap<>();
-
-        t.put(new String[] { prefix + "colour", prefix + "color" }, s -> s.replaceAll("&[0-9a-fA-F]", ""));
-        t.put(new String[] { prefix + "style" }, s -> s.replaceAll("&[l-oL-O]", ""));
-        t.put(new String[] { prefix + "magic" }, s -> s.replaceAll("&[kK]", ""));
-
-        return t;
-    }
-
     // We do this first so that other plugins can alter it later if needs be.
     @Listener(order = Order.EARLY)
     public void onPlayerChat(MessageChannelEvent.Chat event, @Root Player player) {
@@ -93,16 +84,17 @@ public class ChatListener extends ListenerBase {
     private Text useMessage(Player player, Text rawMessage, ChatTemplateConfig chatTemplateConfig) {
         String m = rawMessage.toPlain();
 
+        SubjectPermissionCache permissionCache = plugin.getPermissionCache();
         for (Map.Entry<String[],  Function<String, String>> r : replacements.entrySet()) {
             // If we don't have the required permission...
-            if (Arrays.stream(r.getKey()).noneMatch(player::hasPermission)) {
+            if (Arrays.stream(r.getKey()).noneMatch(x -> permissionCache.hasPermission(player, x))) {
                 // ...strip the codes.
                 m = r.getValue().apply(m);
             }
         }
 
         Text result;
-        if (player.hasPermission(prefix + "url")) {
+        if (permissionCache.hasPermission(player, prefix + "url")) {
             result = chatUtil.addUrlsToAmpersandFormattedString(m);
         } else {
             result = TextSerializers.FORMATTING_CODE.deserialize(m);
@@ -5,7 +5,7 @@
 package io.github.nucleuspowered.nucleus.modules.chat.util;
 
 import io.github.nucleuspowered.nucleus.NucleusPlugin;
-import io.github.nucleuspowered.nucleus.Util;
+import io.github.nucleuspowered.nucleus.internal.permissions.SubjectPermissionCache;
 import io.github.nucleuspowered.nucleus.modules.chat.config.ChatConfig;
 import io.github.nucleuspowered.nucleus.modules.chat.config.ChatConfigAdapter;
 import io.github.nucleuspowered.nucleus.modules.chat.config.ChatTemplateConfig;
@@ -23,17 +23,19 @@ public class TemplateUtil {
 
     private List<Map<String, WeightedChatTemplateConfig>> cachedTemplates = null;
     private final ChatConfigAdapter chatConfigAdapter;
+    private final SubjectPermissionCache permissionCache;
 
     public TemplateUtil(NucleusPlugin plugin, ChatConfigAdapter chatConfigAdapter) {
         plugin.registerReloadable(() -> cachedTemplates = null);
         this.chatConfigAdapter = chatConfigAdapter;
+        this.permissionCache = plugin.getPermissionCache();
     }
 
     public ChatTemplateConfig getTemplate(Subject subject) {
         ChatConfig cc = chatConfigAdapter.getNodeOrDefault();
         List<Subject> groups;
         try {
-            groups = Util.getParentSubjects(subject);
+            groups = permissionCache.getParents(subject);
         } catch (Exception e) {
             return cc.getDefaultTemplate();
         }
@@ -55,8 +57,6 @@ public class TemplateUtil {
                 .collect(Collectors.toList());
         }
 
-        groups.sort((x, y) -> y.getParents().size() - x.getParents().size());
-
         // For each weight...
         for (Map<String, WeightedChatTemplateConfig> templates : cachedTemplates) {
             // Iterate through all groups the player is in.
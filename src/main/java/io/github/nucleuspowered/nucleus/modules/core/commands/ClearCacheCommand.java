@@ -28,7 +28,7 @@ public class ClearCacheCommand extends io.github.nucleuspowered.nucleus.internal
     @Override
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
         ucl.removeOfflinePlayers();
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.nucleus.clearcache.success"));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nucleus.clearcache.success"));
         return CommandResult.success();
     }
 }
\ No newline at end of file
@@ -46,7 +46,7 @@ public class DocGenCommand extends AbstractCommand<CommandSource> {
 
     @Override
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.nucleus.docgen.start"));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nucleus.docgen.start"));
         DocGenCache genCache = plugin.getDocGenCache().get();
 
         // Generate command file.
@@ -77,7 +77,7 @@ public class DocGenCommand extends AbstractCommand<CommandSource> {
 
         permissionsConfigurationLoader.save(permissionConfigurationNode);
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.nucleus.docgen.complete"));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nucleus.docgen.complete"));
         return CommandResult.success();
     }
 
@@ -90,10 +90,10 @@ public class InfoCommand extends AbstractCommand<CommandSource> {
 
             fw.flush();
         } catch (Exception e) {
-            throw new TextMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.nucleus.info.fileerror"), e);
+            throw new TextMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nucleus.info.fileerror"), e);
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.nucleus.info.saved", fileName));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nucleus.info.saved", fileName));
         return CommandResult.success();
     }
 }
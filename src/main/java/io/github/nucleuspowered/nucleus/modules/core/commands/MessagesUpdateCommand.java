@@ -44,23 +44,23 @@ public class MessagesUpdateCommand extends AbstractCommand<CommandSource> {
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
         MessageProvider messageProvider = plugin.getMessageProvider();
         if (!(messageProvider instanceof ConfigMessageProvider)) {
-            throw new ReturnMessageException(messageProvider.getTextMessageWithFormat("command.nucleus.messageupdate.notfile"));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nucleus.messageupdate.notfile"));
         }
 
         ConfigMessageProvider cmp = (ConfigMessageProvider)messageProvider;
         List<String> keys = cmp.checkForMigration();
         if (keys.isEmpty()) {
-            src.sendMessage(messageProvider.getTextMessageWithFormat("command.nucleus.messageupdate.nothingtoupdate"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nucleus.messageupdate.nothingtoupdate"));
             return CommandResult.empty();
         }
 
         if (args.hasAny("y")) {
             cmp.reset(keys);
-            src.sendMessage(messageProvider.getTextMessageWithFormat("command.nucleus.messageupdate.reset"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nucleus.messageupdate.reset"));
         } else {
-            src.sendMessage(messageProvider.getTextMessageWithFormat("command.nucleus.messageupdate.sometoupdate", String.valueOf(keys.size())));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nucleus.messageupdate.sometoupdate", String.valueOf(keys.size())));
             keys.forEach(x -> src.sendMessage(Text.of(TextColors.YELLOW, x)));
-            src.sendMessage(messageProvider.getTextMessageWithFormat("command.nucleus.messageupdate.confirm", "/nucleus update-messages -y").toBuilder()
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nucleus.messageupdate.confirm", "/nucleus update-messages -y").toBuilder()
                 .onClick(TextActions.runCommand("/nucleus update-messages -y")).build());
         }
 
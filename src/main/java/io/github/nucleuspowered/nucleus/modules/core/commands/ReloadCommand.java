@@ -20,8 +20,8 @@ public class ReloadCommand extends io.github.nucleuspowered.nucleus.internal.com
     @Override
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
         plugin.reload();
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.reload.one"));
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.reload.two"));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.reload.one"));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.reload.two"));
         return CommandResult.success();
     }
 }
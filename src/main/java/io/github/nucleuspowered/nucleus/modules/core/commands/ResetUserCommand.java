@@ -7,12 +7,14 @@ package io.github.nucleuspowered.nucleus.modules.core.commands;
 import io.github.nucleuspowered.nucleus.NucleusPlugin;
 import io.github.nucleuspowered.nucleus.dataservices.loaders.UserDataManager;
 import io.github.nucleuspowered.nucleus.internal.annotations.*;
+import io.github.nucleuspowered.nucleus.modules.mail.handlers.MailHandler;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandResult;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.command.args.CommandContext;
 import org.spongepowered.api.command.args.CommandElement;
 import org.spongepowered.api.command.args.GenericArguments;
+import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.service.ban.BanService;
 import org.spongepowered.api.text.Text;
@@ -51,14 +53,14 @@ public class ResetUserCommand extends io.github.nucleuspowered.nucleus.internal.
 
         List<Text> messages = new ArrayList<>();
 
-        messages.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.reset.warning"));
-        messages.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.reset.warning2", user.getName()));
-        messages.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.reset.warning3"));
-        messages.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.reset.warning4"));
-        messages.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.reset.warning5"));
-        messages.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.reset.warning6"));
-        messages.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.reset.warning7"));
-        messages.add(Text.builder().append(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.reset.reset")).style(TextStyles.UNDERLINE)
+        messages.add(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.reset.warning"));
+        messages.add(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.reset.warning2", user.getName()));
+        messages.add(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.reset.warning3"));
+        messages.add(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.reset.warning4"));
+        messages.add(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.reset.warning5"));
+        messages.add(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.reset.warning6"));
+        messages.add(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.reset.warning7"));
+        messages.add(Text.builder().append(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.nucleus.reset.reset")).style(TextStyles.UNDERLINE)
                 .onClick(TextActions.executeCallback(new Delete(plugin, user))).build());
 
         src.sendMessages(messages);
@@ -78,7 +80,8 @@ public class ResetUserCommand extends io.github.nucleuspowered.nucleus.internal.
         @Override
         public void accept(CommandSource source) {
             if (user.isOnline()) {
-                user.getPlayer().get().kick(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.kick.defaultreason"));
+                Player player = user.getPlayer().get();
+                player.kick(NucleusPlugin.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.kick.defaultreason"));
             }
 
             // Ban temporarily.
@@ -93,11 +96,14 @@ public class ResetUserCommand extends io.github.nucleuspowered.nucleus.internal.
 
                 // Get the file to delete.
                 try {
+                    // Mail is not kept with the rest of the user data.
+                    plugin.getInternalServiceManager().getService(MailHandler.class).ifPresent(x -> x.deleteUserMail(user.getUniqueId()));
+
                     // Remove them from the cache immediately.
                     ucl.forceUnloadAndDelete(user.getUniqueId());
-                    source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.reset.complete", user.getName()));
+                    source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.nucleus.reset.complete", user.getName()));
                 } catch (Exception e) {
-                    source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.nucleus.reset.failed", user.getName()));
+                    source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.nucleus.reset.failed", user.getName()));
                 } finally {
                     if (!isBanned) {
                         bss.getBanFor(user.getProfile()).ifPresent(bss::removeBan);
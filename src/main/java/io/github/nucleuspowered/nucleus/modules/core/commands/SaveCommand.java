@@ -24,7 +24,7 @@ public class SaveCommand extends io.github.nucleuspowered.nucleus.internal.comma
 
     @Override
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.nucleus.save.start"));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nucleus.save.start"));
         plugin.saveData();
         return CommandResult.success();
     }
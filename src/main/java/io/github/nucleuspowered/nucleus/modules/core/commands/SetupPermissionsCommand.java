@@ -61,8 +61,9 @@ public class SetupPermissionsCommand extends AbstractCommand<CommandSource> {
         // Register all the commands.
         permissionRegistry.getPermissions().entrySet().stream()
                 .filter(x -> x.getValue().level == sl).forEach(x -> group.getSubjectData().setPermission(globalContext, x.getKey(), Tristate.TRUE));
+        plugin.getPermissionCache().invalidateAll();
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.nucleus.permission.complete", roleKey.toLowerCase(), group.getIdentifier()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nucleus.permission.complete", roleKey.toLowerCase(), group.getIdentifier()));
         return CommandResult.success();
     }
 
@@ -76,28 +77,28 @@ public class SetupPermissionsCommand extends AbstractCommand<CommandSource> {
         @Override
         protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
             String a = args.next();
-            Optional<Subject> ls = getGroups(args).stream().filter(x -> x.getIdentifier().equalsIgnoreCase(a)).findFirst();
+            Optional<Subject> ls = getGroups(source, args).stream().filter(x -> x.getIdentifier().equalsIgnoreCase(a)).findFirst();
             if (ls.isPresent()) {
                 return ls.get();
             }
 
-            throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.permissiongroup.nogroup", a));
+            throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.permissiongroup.nogroup", a));
         }
 
         @Override
         public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
             try {
                 String a = args.peek();
-                return getGroups(args).stream().map(Contextual::getIdentifier).filter(x -> x.toLowerCase().contains(a)).collect(Collectors.toList());
+                return getGroups(src, args).stream().map(Contextual::getIdentifier).filter(x -> x.toLowerCase().contains(a)).collect(Collectors.toList());
             } catch (Exception e) {
                 return Collections.emptyList();
             }
         }
 
-        private Set<Subject> getGroups(CommandArgs args) throws ArgumentParseException {
+        private Set<Subject> getGroups(CommandSource source, CommandArgs args) throws ArgumentParseException {
             Optional<PermissionService> ops = Sponge.getServiceManager().provide(PermissionService.class);
             if (!ops.isPresent()) {
-                throw args.createError(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("args.permissiongroup.noservice"));
+                throw args.createError(Nucleus.getNucleus().getMessageProvider(source).getTextMessageWithFormat("args.permissiongroup.noservice"));
             }
 
             PermissionService ps = ops.get();
@@ -76,7 +76,7 @@ public class SuggestedPermissionsCommand extends io.github.nucleuspowered.nucleu
         f.flush();
         f.close();
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.printperms", file));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.printperms", file));
         return CommandResult.success();
     }
 }
@@ -44,7 +44,7 @@ public class ClearItemAliasesCommand extends io.github.nucleuspowered.nucleus.in
         node.clearAliases();
         itemDataService.setDataForItem(id, node);
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.nucleus.removeitemalias.cleared", id));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nucleus.removeitemalias.cleared", id));
         return CommandResult.success();
     }
 }
@@ -43,7 +43,7 @@ public class RemoveItemAliasCommand extends io.github.nucleuspowered.nucleus.int
         node.removeAlias(al);
         itemDataService.setDataForItem(id, node);
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.nucleus.removeitemalias.removed", al, id));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nucleus.removeitemalias.removed", al, id));
         return CommandResult.success();
     }
 }
@@ -48,12 +48,12 @@ public class SetItemAliasCommand extends io.github.nucleuspowered.nucleus.intern
         // Do we have an item or blockstate?
         String a = args.<String>getOne(alias).get().toLowerCase();
         if (itemDataService.getIdFromAlias(a).isPresent()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.nucleus.setitemalias.inuse", a));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nucleus.setitemalias.inuse", a));
             return CommandResult.empty();
         }
 
         if (!ItemDataNode.ALIAS_PATTERN.matcher(a).matches()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.nucleus.setitemalias.notvalid", a));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nucleus.setitemalias.notvalid", a));
             return CommandResult.empty();
         }
 
@@ -66,7 +66,7 @@ public class SetItemAliasCommand extends io.github.nucleuspowered.nucleus.intern
         itemDataService.setDataForItem(id, idn);
 
         // Tell the user
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.nucleus.setitemalias.success", a, id));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nucleus.setitemalias.success", a, id));
         return CommandResult.success();
     }
 }
@@ -37,6 +37,15 @@ public class CoreConfig {
     @Setting(value = "safe-teleport-check", comment = "loc:config.core.safeteleport")
     private SafeTeleportConfig safeTeleportConfig = new SafeTeleportConfig();
 
+    @Setting(value = "data-storage", comment = "loc:config.core.datastorage")
+    private String dataStorage = "files";
+
+    @Setting(value = "data-format", comment = "loc:config.core.dataformat")
+    private String dataFormat = "json";
+
+    @Setting(value = "offline-user-cache", comment = "loc:config.core.usercache")
+    private UserCacheConfig userCacheConfig = new UserCacheConfig();
+
     public boolean isDebugmode() {
         return debugmode;
     }
@@ -72,4 +81,16 @@ public class CoreConfig {
     public SafeTeleportConfig getSafeTeleportConfig() {
         return safeTeleportConfig;
     }
+
+    public String getDataStorage() {
+        return dataStorage;
+    }
+
+    public String getDataFormat() {
+        return dataFormat;
+    }
+
+    public UserCacheConfig getUserCacheConfig() {
+        return userCacheConfig;
+    }
 }
@@ -0,0 +1,26 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.modules.core.config;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class UserCacheConfig {
+
+    @Setting(value = "max-offline-entries", comment = "loc:config.core.usercache.maxentries")
+    private int maxOfflineEntries = 1000;
+
+    @Setting(value = "offline-expiry-seconds", comment = "loc:config.core.usercache.expiry")
+    private long offlineExpirySeconds = 120;
+
+    public int getMaxOfflineEntries() {
+        return Math.max(0, maxOfflineEntries);
+    }
+
+    public long getOfflineExpirySeconds() {
+        return Math.max(0, offlineExpirySeconds);
+    }
+}
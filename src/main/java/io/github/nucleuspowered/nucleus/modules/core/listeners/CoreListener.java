@@ -6,6 +6,7 @@ package io.github.nucleuspowered.nucleus.modules.core.listeners;
 
 import com.google.inject.Inject;
 import io.github.nucleuspowered.nucleus.Util;
+import io.github.nucleuspowered.nucleus.dataservices.LocationDataCache;
 import io.github.nucleuspowered.nucleus.dataservices.UserService;
 import io.github.nucleuspowered.nucleus.dataservices.loaders.UserDataManager;
 import io.github.nucleuspowered.nucleus.internal.ListenerBase;
@@ -16,12 +17,17 @@ import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.Order;
 import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.filter.IsCancelled;
 import org.spongepowered.api.event.game.GameReloadEvent;
 import org.spongepowered.api.event.game.state.GameStoppingServerEvent;
 import org.spongepowered.api.event.network.ClientConnectionEvent;
+import org.spongepowered.api.event.world.LoadWorldEvent;
+import org.spongepowered.api.event.world.UnloadWorldEvent;
+import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.api.text.serializer.TextSerializers;
+import org.spongepowered.api.util.Tristate;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 
@@ -37,13 +43,34 @@ public class CoreListener extends ListenerBase {
     @Inject private CoreConfigAdapter cca;
     private boolean runSync = false;
 
+    /* (non-Javadoc)
+     * The auth event is fired off the main thread, so we use it to warm the user cache before the player joins. This
+     * means that the join listeners find the data already in memory, rather than loading it on the main thread. Players
+     * that have been refused, such as banned players, are not going to join, so their data is not loaded.
+     */
+    @Listener(order = Order.LATE)
+    @IsCancelled(Tristate.FALSE)
+    public void onPlayerAuth(final ClientConnectionEvent.Auth event, @Getter("getProfile") final GameProfile profile) {
+        try {
+            loader.get(profile.getUniqueId());
+        } catch (Exception e) {
+            if (cca.getNodeOrDefault().isDebugmode()) {
+                e.printStackTrace();
+            }
+        }
+    }
+
     /* (non-Javadoc)
      * We do this first to try to get the first play status as quick as possible.
      */
     @Listener(order = Order.FIRST)
     public void onPlayerJoinFirst(final ClientConnectionEvent.Join event, @Getter("getTargetEntity") final Player player) {
+        // Permissions are often changed while a player is offline, so start afresh.
+        plugin.getPermissionCache().invalidate(player.getUniqueId());
         try {
-            UserService qsu = loader.get(player).get();
+            UserService qsu = loader.setOnline(player).get();
+            plugin.getNameIndex().setName(player.getUniqueId(), player.getName());
+            plugin.getNameIndex().setNickname(player.getUniqueId(), qsu.getNicknameAsString().orElse(null));
             qsu.setLastLogin(Instant.now());
             qsu.setFirstPlay(Util.isFirstPlay(player));
             qsu.setLastIp(player.getConnection().getAddress().getAddress());
@@ -67,6 +94,7 @@ public class CoreListener extends ListenerBase {
 
     @Listener
     public void onPlayerQuit(final ClientConnectionEvent.Disconnect event, @Getter("getTargetEntity") final Player player) {
+        plugin.getPermissionCache().invalidate(player.getUniqueId());
         final Location<World> location = player.getLocation();
         final InetAddress address = player.getConnection().getAddress().getAddress();
         if (runSync) {
@@ -88,6 +116,21 @@ public class CoreListener extends ListenerBase {
                 e.printStackTrace();
             }
         }
+
+        // The player may have already rejoined.
+        if (!Sponge.getServer().getPlayer(player.getUniqueId()).isPresent()) {
+            loader.setOffline(player.getUniqueId());
+        }
+    }
+
+    @Listener
+    public void onWorldLoad(final LoadWorldEvent event) {
+        LocationDataCache.worldsChanged();
+    }
+
+    @Listener
+    public void onWorldUnload(final UnloadWorldEvent event) {
+        LocationDataCache.worldsChanged();
     }
 
     @Listener
@@ -110,7 +153,7 @@ public class CoreListener extends ListenerBase {
     public void onGameReload(final GameReloadEvent event) {
         plugin.reload();
         CommandSource requester = event.getCause().first(CommandSource.class).orElse(Sponge.getServer().getConsole());
-        requester.sendMessage(Text.of(TextColors.YELLOW, "[NucleusPlugin] ", plugin.getMessageProvider().getTextMessageWithFormat("command.reload.one")));
-        requester.sendMessage(Text.of(TextColors.YELLOW, "[NucleusPlugin] ", plugin.getMessageProvider().getTextMessageWithFormat("command.reload.two")));
+        requester.sendMessage(Text.of(TextColors.YELLOW, "[NucleusPlugin] ", plugin.getMessageProvider(requester).getTextMessageWithFormat("command.reload.one")));
+        requester.sendMessage(Text.of(TextColors.YELLOW, "[NucleusPlugin] ", plugin.getMessageProvider(requester).getTextMessageWithFormat("command.reload.two")));
     }
 }
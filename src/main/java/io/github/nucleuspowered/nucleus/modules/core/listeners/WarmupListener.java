@@ -65,7 +65,7 @@ public class WarmupListener extends ListenerBase {
 
         service.cleanup();
         if (service.removeWarmup(player.getUniqueId()) && player.isOnline()) {
-            player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("warmup.cancel"));
+            player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("warmup.cancel"));
         }
     }
 }
@@ -10,6 +10,7 @@ import io.github.nucleuspowered.nucleus.dataservices.loaders.UserDataManager;
 import io.github.nucleuspowered.nucleus.internal.TaskBase;
 import org.spongepowered.api.scheduler.Task;
 
+import java.io.IOException;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -33,5 +34,13 @@ public class CoreTask extends TaskBase {
     public void accept(Task task) {
         plugin.saveData();
         uda.removeOfflinePlayers();
+        try {
+            plugin.getDataProviders().compactIfRequired();
+        } catch (IOException e) {
+            plugin.getLogger().warn("Could not compact the data store.");
+            if (plugin.isDebugMode()) {
+                e.printStackTrace();
+            }
+        }
     }
 }
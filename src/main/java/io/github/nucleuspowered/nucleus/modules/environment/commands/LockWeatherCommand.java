@@ -48,14 +48,14 @@ public class LockWeatherCommand extends io.github.nucleuspowered.nucleus.interna
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
         Optional<WorldProperties> world = getWorldProperties(src, worldKey, args);
         if (!world.isPresent()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.specifyworld"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.specifyworld"));
             return CommandResult.empty();
         }
 
         WorldProperties wp = world.get();
         Optional<NucleusWorld> ws = loader.getWorld(wp.getUniqueId());
         if (!ws.isPresent()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.noworld", wp.getWorldName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.noworld", wp.getWorldName()));
             return CommandResult.empty();
         }
 
@@ -63,9 +63,9 @@ public class LockWeatherCommand extends io.github.nucleuspowered.nucleus.interna
 
         ws.get().setLockWeather(toggle);
         if (toggle) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.lockweather.locked", wp.getWorldName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.lockweather.locked", wp.getWorldName()));
         } else {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.lockweather.unlocked", wp.getWorldName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.lockweather.unlocked", wp.getWorldName()));
         }
 
         return CommandResult.success();
@@ -36,7 +36,7 @@ public class SetTimeCommand extends io.github.nucleuspowered.nucleus.internal.co
 
         int tick = args.<Integer>getOne(time).get();
         pr.setWorldTime(tick);
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.settime.done", String.valueOf(Util.getTimeFromTicks(tick))));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.settime.done", String.valueOf(Util.getTimeFromTicks(tick))));
         return CommandResult.success();
     }
 }
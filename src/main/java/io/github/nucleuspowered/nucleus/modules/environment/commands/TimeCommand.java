@@ -31,7 +31,7 @@ public class TimeCommand extends io.github.nucleuspowered.nucleus.internal.comma
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
         WorldProperties pr = getWorldPropertiesOrDefault(src, world, args);
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.time", pr.getWorldName(), String.valueOf(Util.getTimeFromTicks(pr.getWorldTime()))));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.time", pr.getWorldName(), String.valueOf(Util.getTimeFromTicks(pr.getWorldTime()))));
         return CommandResult.success();
     }
 }
@@ -61,7 +61,7 @@ public class WeatherCommand extends io.github.nucleuspowered.nucleus.internal.co
                 w = ((LocatedSource) src).getWorld();
             } else {
                 // As supreme overlord of the worlds... you have to specify one.
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.specifyworld"));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.specifyworld"));
                 return CommandResult.empty();
             }
         }
@@ -70,7 +70,7 @@ public class WeatherCommand extends io.github.nucleuspowered.nucleus.internal.co
         NucleusWorld ew = loader.getWorld(w).get();
         if (ew.isLockWeather()) {
             // Tell the user to unlock first.
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.weather.locked", w.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.weather.locked", w.getName()));
             return CommandResult.empty();
         }
 
@@ -87,11 +87,11 @@ public class WeatherCommand extends io.github.nucleuspowered.nucleus.internal.co
         if (oi.isPresent()) {
             // YES! I should get a job at the weather service and show them how it's done!
             w.setWeather(we, oi.get());
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.weather.time", we.getName(), w.getName(), Util.getTimeStringFromSeconds(oi.get())));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.weather.time", we.getName(), w.getName(), Util.getTimeStringFromSeconds(oi.get())));
         } else {
             // No, probably because I've already gotten a job at the weather service...
             w.setWeather(we);
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.weather.set", we.getName(), w.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.weather.set", we.getName(), w.getName()));
         }
 
         // The weather control device has been activated!
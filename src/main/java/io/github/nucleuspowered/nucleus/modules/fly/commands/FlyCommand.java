@@ -11,6 +11,7 @@ import io.github.nucleuspowered.nucleus.dataservices.UserService;
 import io.github.nucleuspowered.nucleus.dataservices.loaders.UserDataManager;
 import io.github.nucleuspowered.nucleus.internal.annotations.Permissions;
 import io.github.nucleuspowered.nucleus.internal.annotations.RegisterCommand;
+import io.github.nucleuspowered.nucleus.internal.command.ReturnMessageException;
 import io.github.nucleuspowered.nucleus.internal.permissions.PermissionInformation;
 import io.github.nucleuspowered.nucleus.internal.permissions.SuggestedLevel;
 import org.spongepowered.api.command.CommandResult;
@@ -56,20 +57,20 @@ public class FlyCommand extends io.github.nucleuspowered.nucleus.internal.comman
     @Override
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
         Player pl = this.getUserFromArgs(Player.class, src, player, args);
-        UserService uc = udm.get(pl).get();
+        UserService uc = udm.getIfLoaded(pl.getUniqueId()).orElseThrow(() -> new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.userdata.notloaded", pl.getName())));
         boolean fly = args.<Boolean>getOne(toggle).orElse(!pl.get(Keys.CAN_FLY).orElse(false));
 
         if (!setFlying(pl, fly)) {
-            src.sendMessages(plugin.getMessageProvider().getTextMessageWithFormat("command.fly.error"));
+            src.sendMessages(plugin.getMessageProvider(src).getTextMessageWithFormat("command.fly.error"));
             return CommandResult.empty();
         }
 
         uc.setFlying(fly);
         if (pl != src) {
-            src.sendMessages(plugin.getMessageProvider().getTextMessageWithFormat(fly ? "command.fly.player.on" : "command.fly.player.off", pl.getName()));
+            src.sendMessages(plugin.getMessageProvider(src).getTextMessageWithFormat(fly ? "command.fly.player.on" : "command.fly.player.off", pl.getName()));
         }
 
-        pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat(fly ? "command.fly.on" : "command.fly.off"));
+        pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat(fly ? "command.fly.on" : "command.fly.off"));
         return CommandResult.success();
     }
 
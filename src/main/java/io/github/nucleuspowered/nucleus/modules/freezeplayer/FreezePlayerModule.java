@@ -21,10 +21,10 @@ public class FreezePlayerModule extends StandardModule {
         createSeenModule(FreezePlayerCommand.class, (c, u) -> {
             Optional<UserService> us = plugin.getUserDataManager().get(u);
             if (us.isPresent() && us.get().isFrozen()) {
-                return Lists.newArrayList(plugin.getMessageProvider().getTextMessageWithFormat("seen.frozen"));
+                return Lists.newArrayList(plugin.getMessageProvider(c).getTextMessageWithFormat("seen.frozen"));
             }
 
-            return Lists.newArrayList(plugin.getMessageProvider().getTextMessageWithFormat("seen.notfrozen"));
+            return Lists.newArrayList(plugin.getMessageProvider(c).getTextMessageWithFormat("seen.notfrozen"));
         });
     }
 }
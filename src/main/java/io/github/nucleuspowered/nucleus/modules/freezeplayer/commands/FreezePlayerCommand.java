@@ -54,7 +54,7 @@ public class FreezePlayerCommand extends io.github.nucleuspowered.nucleus.intern
             nu = userConfigLoader.getUser(pl).get();
         } catch (Exception e) {
             e.printStackTrace();
-            throw new CommandException(plugin.getMessageProvider().getTextMessageWithFormat("command.file.load"), e);
+            throw new CommandException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.file.load"), e);
         }
 
         if (nu.isFrozen()) {
@@ -63,7 +63,7 @@ public class FreezePlayerCommand extends io.github.nucleuspowered.nucleus.intern
             nu.setFrozen(true);
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat(
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat(
             nu.isFrozen() ? "command.freezeplayer.success.frozen" : "command.freezeplayer.success.unfrozen", plugin.getNameUtil().getSerialisedName(pl)));
         return CommandResult.success();
     }
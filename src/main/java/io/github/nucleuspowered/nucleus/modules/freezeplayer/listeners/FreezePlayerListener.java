@@ -59,7 +59,7 @@ public class FreezePlayerListener extends ListenerBase {
         if (nu.isFrozen()) {
             Instant now = Instant.now();
             if (lastFreezeNotification.getOrDefault(player.getUniqueId(), now).isBefore(now)) {
-                player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat(message));
+                player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat(message));
                 lastFreezeNotification.put(player.getUniqueId(), now.plus(2, ChronoUnit.SECONDS));
             }
 
@@ -59,7 +59,7 @@ public class HatCommand extends io.github.nucleuspowered.nucleus.internal.comman
     @Override
     public CommandResult executeCommand(Player player, CommandContext args) throws Exception {
         Player pl = this.getUserFromArgs(Player.class, player, playerKey, args);
-        ItemStack stack = pl.getItemInHand().orElseThrow(() -> new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.generalerror.handempty")));
+        ItemStack stack = pl.getItemInHand().orElseThrow(() -> new ReturnMessageException(plugin.getMessageProvider(player).getTextMessageWithFormat("command.generalerror.handempty")));
         stack.setQuantity(1);
         pl.setHelmet(stack);
         Text itemName = stack.get(Keys.DISPLAY_NAME).orElse(Text.of(Util.getTranslatableIfPresentOnCatalogType(stack.getItem())));
@@ -76,10 +76,10 @@ public class HatCommand extends io.github.nucleuspowered.nucleus.internal.comman
         }
 
         if (!pl.getUniqueId().equals(player.getUniqueId())) {
-            player.sendMessage(plugin.getMessageProvider().getTextMessageWithTextFormat("command.hat.success", plugin.getNameUtil().getName(pl), itemName));
+            player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithTextFormat("command.hat.success", plugin.getNameUtil().getName(pl), itemName));
         }
 
-        pl.sendMessage(plugin.getMessageProvider().getTextMessageWithTextFormat("command.hat.successself", itemName));
+        pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithTextFormat("command.hat.successself", itemName));
         return CommandResult.success();
     }
 }
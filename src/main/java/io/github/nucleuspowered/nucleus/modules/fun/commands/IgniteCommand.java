@@ -60,15 +60,15 @@ public class IgniteCommand extends io.github.nucleuspowered.nucleus.internal.com
         Player target = this.getUserFromArgs(Player.class, pl, player, args);
         GameMode gm = target.get(Keys.GAME_MODE).orElse(GameModes.SURVIVAL);
         if (gm == GameModes.CREATIVE || gm == GameModes.SPECTATOR) {
-            pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.ignite.gamemode", target.getName()));
+            pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.ignite.gamemode", target.getName()));
             return CommandResult.empty();
         }
 
         if (target.offer(Keys.FIRE_TICKS, ticksInput).isSuccessful()) {
-            pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.ignite.success", target.getName(), String.valueOf(ticksInput)));
+            pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.ignite.success", target.getName(), String.valueOf(ticksInput)));
             return CommandResult.success();
         } else {
-            pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.ignite.error", target.getName()));
+            pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.ignite.error", target.getName()));
             return CommandResult.empty();
         }
     }
@@ -66,7 +66,7 @@ public class LightningCommand extends io.github.nucleuspowered.nucleus.internal.
         // No argument, let's not smite the player.
         if (playerCollection.isEmpty()) {
             if (!(src instanceof Player)) {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.playeronly"));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.playeronly"));
                 return CommandResult.empty();
             }
 
@@ -104,13 +104,13 @@ public class LightningCommand extends io.github.nucleuspowered.nucleus.internal.
                 NamedCause.source(src));
         if (bolt.isPresent() && world.spawnEntity(bolt.get(), cause)) {
             if (successKey != null) {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat(successKey, replacements));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat(successKey, replacements));
             }
 
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat(errorKey, replacements));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat(errorKey, replacements));
         return CommandResult.empty();
     }
 }
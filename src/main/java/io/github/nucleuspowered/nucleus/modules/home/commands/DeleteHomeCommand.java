@@ -38,11 +38,11 @@ public class DeleteHomeCommand extends io.github.nucleuspowered.nucleus.internal
     public CommandResult executeCommand(Player src, CommandContext args) throws Exception {
         LocationData wl = args.<LocationData>getOne(homeKey).get();
         if (plugin.getUserDataManager().get(src).get().deleteHome(wl.getName())) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.home.delete.success", wl.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.home.delete.success", wl.getName()));
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.home.delete.fail", wl.getName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.home.delete.fail", wl.getName()));
         return CommandResult.empty();
     }
 }
@@ -38,11 +38,11 @@ public class DeleteOtherHomeCommand extends io.github.nucleuspowered.nucleus.int
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
         HomeOtherArgument.HomeData wl = args.<HomeOtherArgument.HomeData>getOne(homeKey).get();
         if (udm.get(wl.user).get().deleteHome(wl.location.getName())) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.home.delete.other.success", wl.user.getName(), wl.location.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.home.delete.other.success", wl.user.getName(), wl.location.getName()));
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.home.delete.other.fail", wl.user.getName(), wl.location.getName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.home.delete.other.fail", wl.user.getName(), wl.location.getName()));
         return CommandResult.empty();
     }
 }
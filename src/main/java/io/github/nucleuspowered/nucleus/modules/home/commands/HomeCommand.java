@@ -9,6 +9,7 @@ import io.github.nucleuspowered.nucleus.api.data.LocationData;
 import io.github.nucleuspowered.nucleus.argumentparsers.HomeArgument;
 import io.github.nucleuspowered.nucleus.internal.annotations.Permissions;
 import io.github.nucleuspowered.nucleus.internal.annotations.RegisterCommand;
+import io.github.nucleuspowered.nucleus.internal.command.ReturnMessageException;
 import io.github.nucleuspowered.nucleus.internal.permissions.SuggestedLevel;
 import io.github.nucleuspowered.nucleus.modules.core.config.CoreConfigAdapter;
 import io.github.nucleuspowered.nucleus.modules.home.config.HomeConfigAdapter;
@@ -40,10 +41,10 @@ public class HomeCommand extends io.github.nucleuspowered.nucleus.internal.comma
         // Get the home.
         Optional<LocationData> owl = args.getOne(home);
         if (!owl.isPresent()) {
-            owl = plugin.getUserDataManager().get(src).get().getHome("home");
+            owl = plugin.getUserDataManager().getIfLoaded(src.getUniqueId()).orElseThrow(() -> new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.userdata.notloaded", src.getName()))).getHome("home");
 
             if (!owl.isPresent()) {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("args.home.nohome", "home"));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("args.home.nohome", "home"));
                 return CommandResult.empty();
             }
         }
@@ -52,21 +53,21 @@ public class HomeCommand extends io.github.nucleuspowered.nucleus.internal.comma
 
         if (!wl.getLocation().isPresent()) {
             // Fail
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.home.invalid", wl.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.home.invalid", wl.getName()));
             return CommandResult.empty();
         }
 
         // Warp to it safely.
         if (plugin.getTeleportHandler().teleportPlayer(src, wl.getLocation().get(), wl.getRotation(), homeConfigAdapter.getNodeOrDefault().isSafeTeleport())) {
             if (!wl.getName().equalsIgnoreCase("home")) {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.home.success", wl.getName()));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.home.success", wl.getName()));
             } else {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.home.successdefault"));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.home.successdefault"));
             }
 
             return CommandResult.success();
         } else {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.home.fail", wl.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.home.fail", wl.getName()));
             return CommandResult.empty();
         }
     }
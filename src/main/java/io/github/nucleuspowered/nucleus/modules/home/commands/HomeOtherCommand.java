@@ -39,16 +39,16 @@ public class HomeOtherCommand extends io.github.nucleuspowered.nucleus.internal.
 
         if (!wl.location.getLocation().isPresent()) {
             // Fail
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.homeother.invalid", wl.user.getName(), wl.location.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.homeother.invalid", wl.user.getName(), wl.location.getName()));
             return CommandResult.empty();
         }
 
         // Warp to it safely.
         if (plugin.getTeleportHandler().teleportPlayer(src, wl.location.getLocation().get(), wl.location.getRotation(), homeConfigAdapter.getNodeOrDefault().isSafeTeleport())) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.homeother.success", wl.user.getName(), wl.location.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.homeother.success", wl.user.getName(), wl.location.getName()));
             return CommandResult.success();
         } else {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.homeother.fail", wl.user.getName(), wl.location.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.homeother.fail", wl.user.getName(), wl.location.getName()));
             return CommandResult.empty();
         }
     }
@@ -71,14 +71,14 @@ public class ListHomeCommand extends io.github.nucleuspowered.nucleus.internal.c
 
         Map<String, LocationData> msw = plugin.getUserDataManager().get(user).get().getHomes();
         if (msw.isEmpty()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.home.nohomes"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.home.nohomes"));
             return CommandResult.empty();
         }
 
         if (other) {
-            header = plugin.getMessageProvider().getTextMessageWithFormat("home.title.name", user.getName());
+            header = plugin.getMessageProvider(src).getTextMessageWithFormat("home.title.name", user.getName());
         } else {
-            header = plugin.getMessageProvider().getTextMessageWithFormat("home.title.normal");
+            header = plugin.getMessageProvider(src).getTextMessageWithFormat("home.title.normal");
         }
 
         List<Text> lt = msw.entrySet().stream().sorted((x, y) -> x.getKey().compareTo(y.getKey())).map(x -> {
@@ -86,18 +86,18 @@ public class ListHomeCommand extends io.github.nucleuspowered.nucleus.internal.c
             if (!olw.isPresent()) {
                 return Text.builder().append(
                                 Text.builder(x.getKey()).color(TextColors.RED)
-                                        .onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("home.warphoverinvalid", x.getKey())))
+                                        .onHover(TextActions.showText(plugin.getMessageProvider(src).getTextMessageWithFormat("home.warphoverinvalid", x.getKey())))
                                         .build())
                         .build();
             } else {
                 final Location<World> lw = olw.get();
                 return Text.builder().append(
                                 Text.builder(x.getKey()).color(TextColors.GREEN).style(TextStyles.UNDERLINE)
-                                        .onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("home.warphover", x.getKey())))
+                                        .onHover(TextActions.showText(plugin.getMessageProvider(src).getTextMessageWithFormat("home.warphover", x.getKey())))
                                         .onClick(TextActions.runCommand(other ? "/homeother " + user.getName() + " " + x.getValue().getName()
                                                 : "/home " + x.getValue().getName()))
                                         .build())
-                        .append(plugin.getMessageProvider().getTextMessageWithFormat("home.location", lw.getExtent().getName(), String.valueOf(lw.getBlockX()),
+                        .append(plugin.getMessageProvider(src).getTextMessageWithFormat("home.location", lw.getExtent().getName(), String.valueOf(lw.getBlockX()),
                                 String.valueOf(lw.getBlockY()), String.valueOf(lw.getBlockZ())))
                         .build();
             }
@@ -66,15 +66,15 @@ public class SetHomeCommand extends io.github.nucleuspowered.nucleus.internal.co
         Map<String, LocationData> msw = iqsu.getHomes();
 
         if (!warpName.matcher(home).matches()) {
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.sethome.name"));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.sethome.name"));
         }
 
         // Does the home exist? You have to explicitly delete the home first.
-        boolean hasHome = msw.entrySet().stream().anyMatch(k -> k.getKey().equalsIgnoreCase(home));
+        boolean hasHome = iqsu.getHome(home).isPresent();
         boolean overwrite = hasHome && args.hasAny("o");
         if (hasHome && !overwrite) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.sethome.seterror", home));
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.sethome.tooverwrite", home).toBuilder()
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.sethome.seterror", home));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.sethome.tooverwrite", home).toBuilder()
                 .onClick(TextActions.runCommand("/sethome " + home + " -o")).build());
             return CommandResult.empty();
         }
@@ -82,20 +82,20 @@ public class SetHomeCommand extends io.github.nucleuspowered.nucleus.internal.co
         if (!hasHome) {
             int c = getCount(src);
             if (msw.size() >= c) {
-                throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.sethome.limit", String.valueOf(c)));
+                throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.sethome.limit", String.valueOf(c)));
             }
         }
 
         // Just in case.
         if (!iqsu.setHome(home, src.getLocation(), src.getRotation(), overwrite)) {
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.sethome.seterror", home));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.sethome.seterror", home));
         }
 
         if (overwrite) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.sethome.overwrite", home));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.sethome.overwrite", home));
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.sethome.set", home));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.sethome.set", home));
         return CommandResult.success();
     }
 
@@ -58,7 +58,7 @@ public class IgnoreCommand extends io.github.nucleuspowered.nucleus.internal.com
         User target = args.<User>getOne(userKey).get();
 
         if (target.equals(src)) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.ignore.self"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.ignore.self"));
             return CommandResult.empty();
         }
 
@@ -67,7 +67,7 @@ public class IgnoreCommand extends io.github.nucleuspowered.nucleus.internal.com
         if (permissions.testSuffix(target, "exempt.chat")) {
             // Make sure they are removed.
             inu.removeFromIgnoreList(target.getUniqueId());
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.ignore.exempt", target.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.ignore.exempt", target.getName()));
             return CommandResult.empty();
         }
 
@@ -76,10 +76,10 @@ public class IgnoreCommand extends io.github.nucleuspowered.nucleus.internal.com
 
         if (ignore) {
             inu.addToIgnoreList(target.getUniqueId());
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.ignore.added", target.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.ignore.added", target.getName()));
         } else {
             inu.removeFromIgnoreList(target.getUniqueId());
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.ignore.remove", target.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.ignore.remove", target.getName()));
         }
 
         return CommandResult.success();
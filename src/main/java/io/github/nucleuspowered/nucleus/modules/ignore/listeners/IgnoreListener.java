@@ -44,7 +44,9 @@ public class IgnoreListener extends ListenerBase {
     public void onMessage(NucleusMessageEvent event, @Root Player player) {
         if (event.getRecipient() instanceof User) {
             try {
-                event.setCancelled(loader.get((User) event.getRecipient()).get().getIgnoreList().contains(player.getUniqueId()));
+                // The recipient of a message is online, so will already be loaded - don't go to disk on the main thread.
+                event.setCancelled(loader.getIfLoaded(((User) event.getRecipient()).getUniqueId())
+                        .map(x -> x.getIgnoreList().contains(player.getUniqueId())).orElse(false));
             } catch (Exception e) {
                 if (cca.getNodeOrDefault().isDebugmode()) {
                     e.printStackTrace();
@@ -83,7 +85,8 @@ public class IgnoreListener extends ListenerBase {
         List<MessageReceiver> list = Lists.newArrayList(collection);
         list.removeIf(x -> {
             try {
-                return x instanceof Player && !x.equals(player) && loader.get((Player) x).get().getIgnoreList().contains(player.getUniqueId());
+                return x instanceof Player && !x.equals(player) && loader.getIfLoaded(((Player) x).getUniqueId())
+                        .map(y -> y.getIgnoreList().contains(player.getUniqueId())).orElse(false);
             } catch (Exception e) {
                 if (cca.getNodeOrDefault().isDebugmode()) {
                     e.printStackTrace();
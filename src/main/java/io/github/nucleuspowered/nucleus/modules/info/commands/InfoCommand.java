@@ -89,7 +89,7 @@ public class InfoCommand extends io.github.nucleuspowered.nucleus.internal.comma
             Optional<String> os = getTitle(info);
             String title;
             if (os.isPresent()) {
-                title = plugin.getMessageProvider().getMessageWithFormat("command.info.title.section", os.get());
+                title = plugin.getMessageProvider(src).getMessageWithFormat("command.info.title.section", os.get());
 
                 // Just in case the list is immutable.
                 info = Lists.newArrayList(info);
@@ -106,7 +106,7 @@ public class InfoCommand extends io.github.nucleuspowered.nucleus.internal.comma
                     }
                 }
             } else {
-                title = plugin.getMessageProvider().getMessageWithFormat("command.info.title.section", oir.get().name);
+                title = plugin.getMessageProvider(src).getMessageWithFormat("command.info.title.section", oir.get().name);
             }
 
             InfoHelper.sendInfo(info, src, chatUtil, title);
@@ -116,7 +116,7 @@ public class InfoCommand extends io.github.nucleuspowered.nucleus.internal.comma
         // Create a list of pages to load.
         Set<String> sections = infoHandler.getInfoSections();
         if (sections.isEmpty()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.info.none"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.info.none"));
             return CommandResult.empty();
         }
 
@@ -125,7 +125,7 @@ public class InfoCommand extends io.github.nucleuspowered.nucleus.internal.comma
         sections.forEach(x -> {
             Text.Builder tb = Text.builder().append(Text.builder(x)
                     .color(TextColors.GREEN).style(TextStyles.ITALIC)
-                    .onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("command.info.hover", x)))
+                    .onHover(TextActions.showText(plugin.getMessageProvider(src).getTextMessageWithFormat("command.info.hover", x)))
                     .onClick(TextActions.runCommand("/info " + x)).build());
 
             // If there is a title, then add it.
@@ -137,8 +137,8 @@ public class InfoCommand extends io.github.nucleuspowered.nucleus.internal.comma
 
         PaginationService ps = Sponge.getServiceManager().provideUnchecked(PaginationService.class);
         PaginationList.Builder pb = ps.builder().contents()
-                .header(plugin.getMessageProvider().getTextMessageWithFormat("command.info.header.default"))
-                .title(plugin.getMessageProvider().getTextMessageWithFormat("command.info.title.default"))
+                .header(plugin.getMessageProvider(src).getTextMessageWithFormat("command.info.header.default"))
+                .title(plugin.getMessageProvider(src).getTextMessageWithFormat("command.info.title.default"))
                 .contents(s.stream().sorted((a, b) -> a.toPlain().compareTo(b.toPlain())).collect(Collectors.toList()))
                 .padding(Text.of(TextColors.GOLD, "-"));
 
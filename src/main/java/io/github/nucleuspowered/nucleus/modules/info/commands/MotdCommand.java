@@ -38,7 +38,7 @@ public class MotdCommand extends io.github.nucleuspowered.nucleus.internal.comma
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
         Optional<TextFileController> otfc = plugin.getTextFileController(InfoModule.MOTD_KEY);
         if (!otfc.isPresent()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.motd.nocontroller"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.motd.nocontroller"));
             return CommandResult.empty();
         }
 
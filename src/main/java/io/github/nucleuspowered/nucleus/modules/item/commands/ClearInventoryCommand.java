@@ -55,7 +55,7 @@ public class ClearInventoryCommand extends AbstractCommand<CommandSource> {
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
         Player pl = this.getUserFromArgs(Player.class, src, player, args);
         Util.getStandardInventory(pl).clear();
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.clearinventory.success", pl.getName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.clearinventory.success", pl.getName()));
         return CommandResult.success();
     }
 }
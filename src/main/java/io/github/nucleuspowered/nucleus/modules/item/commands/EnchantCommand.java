@@ -58,7 +58,7 @@ public class EnchantCommand extends io.github.nucleuspowered.nucleus.internal.co
     public CommandResult executeCommand(Player src, CommandContext args) throws Exception {
         // Check for item in hand
         if (!src.getItemInHand().isPresent()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.enchant.noitem"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.enchant.noitem"));
             return CommandResult.empty();
         }
 
@@ -72,12 +72,12 @@ public class EnchantCommand extends io.github.nucleuspowered.nucleus.internal.co
         // Can we apply the enchantment?
         if (!allowUnsafe) {
             if (!enchantment.canBeAppliedToStack(itemInHand)) {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.enchant.nounsafe.enchant", itemInHand.getTranslation().get()));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.enchant.nounsafe.enchant", itemInHand.getTranslation().get()));
                 return CommandResult.empty();
             }
 
             if (level > enchantment.getMaximumLevel()) {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.enchant.nounsafe.level", itemInHand.getTranslation().get()));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.enchant.nounsafe.level", itemInHand.getTranslation().get()));
                 return CommandResult.empty();
             }
         }
@@ -102,7 +102,7 @@ public class EnchantCommand extends io.github.nucleuspowered.nucleus.internal.co
                 sb.append(Util.getTranslatableIfPresent(x.getEnchantment()));
             });
 
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.enchant.overwrite", sb.toString()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.enchant.overwrite", sb.toString()));
             return CommandResult.empty();
         }
 
@@ -118,11 +118,11 @@ public class EnchantCommand extends io.github.nucleuspowered.nucleus.internal.co
         if (dtr.isSuccessful()) {
             // If successful, we need to put the item in the player's hand for it to actually take effect.
             src.setItemInHand(itemInHand);
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.enchant.success", Util.getTranslatableIfPresent(enchantment), String.valueOf(level)));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.enchant.success", Util.getTranslatableIfPresent(enchantment), String.valueOf(level)));
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.enchant.error", Util.getTranslatableIfPresent(enchantment), String.valueOf(level)));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.enchant.error", Util.getTranslatableIfPresent(enchantment), String.valueOf(level)));
         return CommandResult.empty();
     }
 }
@@ -22,12 +22,12 @@ public class MoreCommand extends io.github.nucleuspowered.nucleus.internal.comma
             ItemStack stack = player.getItemInHand().get();
             stack.setQuantity(stack.getMaxStackQuantity());
             player.setItemInHand(stack);
-            player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.more.success", stack.getItem().getName(),
+            player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.more.success", stack.getItem().getName(),
                     String.valueOf(stack.getItem().getMaxStackQuantity())));
             return CommandResult.success();
         }
 
-        player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.more.none"));
+        player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.more.none"));
         return CommandResult.empty();
     }
 }
@@ -59,18 +59,18 @@ public class RepairCommand extends io.github.nucleuspowered.nucleus.internal.com
                 DataTransactionResult transactionResult = stack.offer(Keys.ITEM_DURABILITY, durabilityData.durability().getMaxValue());
                 if (transactionResult.isSuccessful()) {
                     pl.setItemInHand(stack);
-                    src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.repair.success", plugin.getNameUtil().getSerialisedName(pl)));
+                    src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.repair.success", plugin.getNameUtil().getSerialisedName(pl)));
                     return CommandResult.success();
                 } else {
-                    src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.repair.error"));
+                    src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.repair.error"));
                     return CommandResult.empty();
                 }
             } else {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.repair.error.notreparable"));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.repair.error.notreparable"));
                 return CommandResult.empty();
             }
         } else {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.repair.error.handempty"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.repair.error.handempty"));
             return CommandResult.empty();
         }
     }
@@ -78,11 +78,11 @@ public class SkullCommand extends AbstractCommand<Player> {
             CommandResult result = Sponge.getCommandManager().process(Sponge.getServer().getConsole(),
                 String.format("minecraft:give %s skull %d 3 {SkullOwner:%s}", pl.getName(), amount, user.getName()));
             if (result.getSuccessCount().orElse(0) > 0) {
-                pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.skull.success.plural", String.valueOf(amount), user.getName()));
+                pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.skull.success.plural", String.valueOf(amount), user.getName()));
                 return result;
             }
 
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.skull.error", user.getName()));
+            throw new ReturnMessageException(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.skull.error", user.getName()));
         }
 
         int fullStacks = amount / 64;
@@ -128,22 +128,22 @@ public class SkullCommand extends AbstractCommand<Player> {
             // What was accepted?
             if (accepted > 0) {
                 if (failed > 0) {
-                    pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.skull.semifull", String.valueOf(failed)));
+                    pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.skull.semifull", String.valueOf(failed)));
                 }
 
                 if (accepted == 1) {
-                    pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.skull.success.single", user.getName()));
+                    pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.skull.success.single", user.getName()));
                 } else {
-                    pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.skull.success.plural", String.valueOf(accepted), user.getName()));
+                    pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.skull.success.plural", String.valueOf(accepted), user.getName()));
                 }
 
                 return CommandResult.success();
             }
 
-            pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.skull.full", user.getName()));
+            pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.skull.full", user.getName()));
             return CommandResult.empty();
         } else {
-            pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.skull.error", user.getName()));
+            pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.skull.error", user.getName()));
             return CommandResult.empty();
         }
     }
@@ -34,7 +34,7 @@ abstract class LoreSetBaseCommand extends io.github.nucleuspowered.nucleus.inter
 
     CommandResult setLore(Player src, String message, boolean replace) {
         if (!src.getItemInHand().isPresent()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.lore.set.noitem"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.lore.set.noitem"));
             return CommandResult.empty();
         }
 
@@ -54,11 +54,11 @@ abstract class LoreSetBaseCommand extends io.github.nucleuspowered.nucleus.inter
         if (stack.offer(Keys.ITEM_LORE, loreList).isSuccessful()) {
             src.setItemInHand(stack);
 
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.lore.set.success"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.lore.set.success"));
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.lore.set.fail"));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.lore.set.fail"));
         return CommandResult.empty();
     }
 }
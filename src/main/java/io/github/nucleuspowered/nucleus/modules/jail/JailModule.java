@@ -59,18 +59,18 @@ public class JailModule extends ConfigurableModule<JailConfigAdapter> {
                 JailData jd = jh.getPlayerJailData(u).get();
                 Text.Builder m;
                 if (jd.getEndTimestamp().isPresent()) {
-                    m = NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("seen.isjailed.temp", Util.getTimeToNow(jd.getEndTimestamp().get())).toBuilder();
+                    m = NucleusPlugin.getNucleus().getMessageProvider(c).getTextMessageWithFormat("seen.isjailed.temp", Util.getTimeToNow(jd.getEndTimestamp().get())).toBuilder();
                 } else {
-                    m = NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("seen.isjailed.perm").toBuilder();
+                    m = NucleusPlugin.getNucleus().getMessageProvider(c).getTextMessageWithFormat("seen.isjailed.perm").toBuilder();
                 }
 
                 return Lists.newArrayList(
                         m.onClick(TextActions.runCommand("/checkjail " + u.getName()))
-                                .onHover(TextActions.showText(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("standard.clicktoseemore"))).build(),
-                        NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("standard.reason", jd.getReason()));
+                                .onHover(TextActions.showText(NucleusPlugin.getNucleus().getMessageProvider(c).getTextMessageWithFormat("standard.clicktoseemore"))).build(),
+                        NucleusPlugin.getNucleus().getMessageProvider(c).getTextMessageWithFormat("standard.reason", jd.getReason()));
             }
 
-            return Lists.newArrayList(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("seen.notjailed"));
+            return Lists.newArrayList(NucleusPlugin.getNucleus().getMessageProvider(c).getTextMessageWithFormat("seen.notjailed"));
         });
     }
 }
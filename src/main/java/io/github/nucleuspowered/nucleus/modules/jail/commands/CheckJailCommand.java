@@ -48,7 +48,7 @@ public class CheckJailCommand extends io.github.nucleuspowered.nucleus.internal.
         Optional<JailData> jail = handler.getPlayerJailData(user);
 
         if (!jail.isPresent()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.checkjail.nojail", user.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.checkjail.nojail", user.getName()));
             return CommandResult.success();
         }
 
@@ -58,21 +58,21 @@ public class CheckJailCommand extends io.github.nucleuspowered.nucleus.internal.
             name = Sponge.getServer().getConsole().getName();
         } else {
             Optional<User> ou = Sponge.getServiceManager().provideUnchecked(UserStorageService.class).get(md.getJailer());
-            name = ou.isPresent() ? ou.get().getName() : plugin.getMessageProvider().getMessageWithFormat("standard.unknown");
+            name = ou.isPresent() ? ou.get().getName() : plugin.getMessageProvider(src).getMessageWithFormat("standard.unknown");
         }
 
         String time = "";
         String forString = "";
         if (md.getEndTimestamp().isPresent()) {
             time = Util.getTimeStringFromSeconds(Instant.now().until(md.getEndTimestamp().get(), ChronoUnit.SECONDS));
-            forString = " " + plugin.getMessageProvider().getMessageWithFormat("standard.for") + " ";
+            forString = " " + plugin.getMessageProvider(src).getMessageWithFormat("standard.for") + " ";
         } else if (md.getTimeFromNextLogin().isPresent()) {
             time = Util.getTimeStringFromSeconds(md.getTimeFromNextLogin().get().getSeconds());
-            forString = " " + plugin.getMessageProvider().getMessageWithFormat("standard.for") + " ";
+            forString = " " + plugin.getMessageProvider(src).getMessageWithFormat("standard.for") + " ";
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.checkjail.jailed", user.getName(), md.getJailName(), name, forString, time));
-        src.sendMessage(Text.of(TextColors.GREEN, MessageFormat.format(plugin.getMessageProvider().getMessageWithFormat("standard.reason"), md.getReason())));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.checkjail.jailed", user.getName(), md.getJailName(), name, forString, time));
+        src.sendMessage(Text.of(TextColors.GREEN, MessageFormat.format(plugin.getMessageProvider(src).getMessageWithFormat("standard.reason"), md.getReason())));
         return CommandResult.success();
     }
 }
@@ -36,11 +36,11 @@ public class DeleteJailCommand extends io.github.nucleuspowered.nucleus.internal
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
         LocationData wl = args.<LocationData>getOne(jailKey).get();
         if (handler.removeJail(wl.getName())) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.jails.del.success", wl.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.jails.del.success", wl.getName()));
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.jails.del.error", wl.getName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.jails.del.error", wl.getName()));
         return CommandResult.empty();
     }
 }
@@ -13,6 +13,7 @@ import io.github.nucleuspowered.nucleus.argumentparsers.SelectorWrapperArgument;
 import io.github.nucleuspowered.nucleus.argumentparsers.TimespanArgument;
 import io.github.nucleuspowered.nucleus.internal.PermissionRegistry;
 import io.github.nucleuspowered.nucleus.internal.annotations.*;
+import io.github.nucleuspowered.nucleus.internal.messages.MessageProvider;
 import io.github.nucleuspowered.nucleus.internal.permissions.PermissionInformation;
 import io.github.nucleuspowered.nucleus.internal.permissions.SuggestedLevel;
 import io.github.nucleuspowered.nucleus.modules.jail.handlers.JailHandler;
@@ -76,7 +77,7 @@ public class JailCommand extends io.github.nucleuspowered.nucleus.internal.comma
         // Get the player.
         User pl = args.<User>getOne(playerKey).get();
         if (!pl.isOnline() && !permissions.testSuffix(src, "offline")) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.jail.offline.noperms"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.jail.offline.noperms"));
             return CommandResult.empty();
         }
 
@@ -89,10 +90,10 @@ public class JailCommand extends io.github.nucleuspowered.nucleus.internal.comma
 
     private CommandResult onUnjail(CommandSource src, CommandContext args, User user) {
         if (handler.unjailPlayer(user)) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.jail.unjail.success", user.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.jail.unjail.success", user.getName()));
             return CommandResult.success();
         } else {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.jail.unjail.fail", user.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.jail.unjail.fail", user.getName()));
             return CommandResult.empty();
         }
     }
@@ -100,7 +101,7 @@ public class JailCommand extends io.github.nucleuspowered.nucleus.internal.comma
     private CommandResult onJail(CommandSource src, CommandContext args, User user) {
         Optional<LocationData> owl = args.getOne(jailKey);
         if (!owl.isPresent()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.jail.jail.nojail"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.jail.jail.nojail"));
             return CommandResult.empty();
         }
 
@@ -110,6 +111,7 @@ public class JailCommand extends io.github.nucleuspowered.nucleus.internal.comma
         JailData jd;
         Text message;
         Text messageTo;
+        MessageProvider toProvider = user.isOnline() ? plugin.getMessageProvider(user.getPlayer().get()) : plugin.getMessageProvider();
         if (duration.isPresent()) {
             if (user.isOnline()) {
                 jd = new JailData(Util.getUUID(src), owl.get().getName(), reason, user.getPlayer().get().getLocation(),
@@ -120,12 +122,12 @@ public class JailCommand extends io.github.nucleuspowered.nucleus.internal.comma
 
             message = plugin.getMessageProvider().getTextMessageWithFormat("command.checkjail.jailed", user.getName(), owl.get().getName(), src.getName(),
                     " " + plugin.getMessageProvider().getMessageWithFormat("standard.for"), " " + Util.getTimeStringFromSeconds(duration.get()));
-            messageTo = plugin.getMessageProvider().getTextMessageWithFormat("command.jail.jailed", owl.get().getName(), src.getName(),
-                    " " + plugin.getMessageProvider().getMessageWithFormat("standard.for"), " " + Util.getTimeStringFromSeconds(duration.get()));
+            messageTo = toProvider.getTextMessageWithFormat("command.jail.jailed", owl.get().getName(), src.getName(),
+                    " " + toProvider.getMessageWithFormat("standard.for"), " " + Util.getTimeStringFromSeconds(duration.get()));
         } else {
             jd = new JailData(Util.getUUID(src), owl.get().getName(), reason, user.isOnline() ? user.getPlayer().get().getLocation() : null);
             message = plugin.getMessageProvider().getTextMessageWithFormat("command.checkjail.jailed", user.getName(), owl.get().getName(), src.getName(), "", "");
-            messageTo = plugin.getMessageProvider().getTextMessageWithFormat("command.jail.jailed", owl.get().getName(), src.getName(), "", "");
+            messageTo = toProvider.getTextMessageWithFormat("command.jail.jailed", owl.get().getName(), src.getName(), "", "");
         }
 
         if (handler.jailPlayer(user, jd)) {
@@ -136,13 +138,13 @@ public class JailCommand extends io.github.nucleuspowered.nucleus.internal.comma
 
             if (user.isOnline()) {
                 user.getPlayer().get().sendMessage(messageTo);
-                user.getPlayer().get().sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("standard.reason", reason));
+                user.getPlayer().get().sendMessage(plugin.getMessageProvider(user.getPlayer().get()).getTextMessageWithFormat("standard.reason", reason));
             }
 
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.jail.error"));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.jail.error"));
         return CommandResult.empty();
     }
 }
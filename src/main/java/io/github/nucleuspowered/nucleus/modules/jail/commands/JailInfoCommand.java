@@ -37,9 +37,9 @@ public class JailInfoCommand extends io.github.nucleuspowered.nucleus.internal.c
     @Override
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
         LocationData wl = args.<LocationData>getOne(jailKey).get();
-        src.sendMessage(Text.builder().append(plugin.getMessageProvider().getTextMessageWithFormat("command.jail.info.name"))
+        src.sendMessage(Text.builder().append(plugin.getMessageProvider(src).getTextMessageWithFormat("command.jail.info.name"))
                 .append(Text.of(": ", TextColors.GREEN, wl.getName())).build());
-        src.sendMessage(Text.builder().append(plugin.getMessageProvider().getTextMessageWithFormat("command.jail.info.location"))
+        src.sendMessage(Text.builder().append(plugin.getMessageProvider(src).getTextMessageWithFormat("command.jail.info.location"))
                 .append(Text.of(": ", TextColors.GREEN, wl.toLocationString())).build());
         return CommandResult.success();
     }
@@ -39,17 +39,17 @@ public class JailsCommand extends io.github.nucleuspowered.nucleus.internal.comm
 
         Map<String, LocationData> mjs = handler.getJails();
         if (mjs.isEmpty()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.jails.nojails"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.jails.nojails"));
             return CommandResult.empty();
         }
 
         List<Text> lt = mjs.entrySet().stream()
                 .map(x -> Text.builder(x.getKey().toLowerCase()).color(TextColors.GREEN).style(TextStyles.UNDERLINE)
                         .onClick(TextActions.runCommand("/jails info " + x.getKey().toLowerCase()))
-                        .onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("command.jails.jailprompt", x.getKey().toLowerCase()))).build())
+                        .onHover(TextActions.showText(plugin.getMessageProvider(src).getTextMessageWithFormat("command.jails.jailprompt", x.getKey().toLowerCase()))).build())
                 .collect(Collectors.toList());
 
-        ps.builder().title(plugin.getMessageProvider().getTextMessageWithFormat("command.jails.list.header")).padding(Text.of(TextColors.GREEN, "-")).contents(lt).sendTo(src);
+        ps.builder().title(plugin.getMessageProvider(src).getTextMessageWithFormat("command.jails.list.header")).padding(Text.of(TextColors.GREEN, "-")).contents(lt).sendTo(src);
         return CommandResult.success();
     }
 }
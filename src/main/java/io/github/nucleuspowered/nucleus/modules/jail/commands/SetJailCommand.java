@@ -34,15 +34,15 @@ public class SetJailCommand extends io.github.nucleuspowered.nucleus.internal.co
     public CommandResult executeCommand(Player src, CommandContext args) throws Exception {
         String name = args.<String>getOne(jailName).get().toLowerCase();
         if (handler.getJail(name).isPresent()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.jails.set.exists", name));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.jails.set.exists", name));
             return CommandResult.empty();
         }
 
         if (handler.setJail(name, src.getLocation(), src.getRotation())) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.jails.set.success", name));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.jails.set.success", name));
             return CommandResult.success();
         } else {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.jails.set.error", name));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.jails.set.error", name));
             return CommandResult.empty();
         }
     }
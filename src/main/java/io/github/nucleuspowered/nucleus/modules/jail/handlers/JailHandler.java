@@ -20,6 +20,7 @@ import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -53,6 +54,16 @@ public class JailHandler implements NucleusJailService {
         return store.getJails();
     }
 
+    @Override
+    public List<LocationData> getNearestJails(Location<World> location, int count) {
+        return store.getNearestJails(location, count);
+    }
+
+    @Override
+    public List<LocationData> getJailsWithin(Location<World> location, double radius) {
+        return store.getJailsWithin(location, radius);
+    }
+
     @Override
     public boolean isPlayerJailed(User user) {
         return getPlayerJailData(user).isPresent();
@@ -131,7 +142,7 @@ public class JailHandler implements NucleusJailService {
             Player player = user.getPlayer().get();
             Sponge.getScheduler().createSyncExecutor(plugin).execute(() -> {
                 player.setLocation(ow.isPresent() ? ow.get() : player.getWorld().getSpawnLocation());
-                player.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("jail.elapsed"));
+                player.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(player).getTextMessageWithFormat("jail.elapsed"));
 
                 // Remove after the teleport for the back data.
                 iqsu.removeJailData();
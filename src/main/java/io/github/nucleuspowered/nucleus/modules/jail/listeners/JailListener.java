@@ -13,6 +13,7 @@ import io.github.nucleuspowered.nucleus.dataservices.UserService;
 import io.github.nucleuspowered.nucleus.dataservices.loaders.UserDataManager;
 import io.github.nucleuspowered.nucleus.internal.InternalServiceManager;
 import io.github.nucleuspowered.nucleus.internal.ListenerBase;
+import io.github.nucleuspowered.nucleus.internal.messages.MessageProvider;
 import io.github.nucleuspowered.nucleus.internal.teleport.NucleusTeleportHandler;
 import io.github.nucleuspowered.nucleus.modules.jail.commands.JailCommand;
 import io.github.nucleuspowered.nucleus.modules.jail.config.JailConfigAdapter;
@@ -77,17 +78,18 @@ public class JailListener extends ListenerBase {
             plugin.getTeleportHandler().teleportPlayer(user, owl.get().getLocation().get(), owl.get().getRotation(), NucleusTeleportHandler.TeleportMode.NO_CHECK);
 
             Optional<Duration> timeLeft = jd.getTimeLeft();
+            MessageProvider mp = plugin.getMessageProvider(user);
             Text message;
             if (timeLeft.isPresent()) {
-                message = plugin.getMessageProvider().getTextMessageWithFormat("command.jail.jailed", owl.get().getName(), plugin.getNameUtil().getNameFromUUID(jd.getJailer()),
-                        plugin.getMessageProvider().getMessageWithFormat("standard.for"), Util.getTimeStringFromSeconds(timeLeft.get().getSeconds()));
+                message = mp.getTextMessageWithFormat("command.jail.jailed", owl.get().getName(), plugin.getNameUtil().getNameFromUUID(jd.getJailer()),
+                        mp.getMessageWithFormat("standard.for"), Util.getTimeStringFromSeconds(timeLeft.get().getSeconds()));
             } else {
-                message = plugin.getMessageProvider().getTextMessageWithFormat("command.jail.jailed", owl.get().getName(), plugin.getNameUtil().getNameFromUUID(jd.getJailer()), "", "");
+                message = mp.getTextMessageWithFormat("command.jail.jailed", owl.get().getName(), plugin.getNameUtil().getNameFromUUID(jd.getJailer()), "", "");
             }
 
             qs.setFlying(false);
             user.sendMessage(message);
-            user.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("standard.reason", jd.getReason()));
+            user.sendMessage(mp.getTextMessageWithFormat("standard.reason", jd.getReason()));
         }
 
         qs.setJailOnNextLogin(false);
@@ -98,6 +100,7 @@ public class JailListener extends ListenerBase {
             if (omd.isPresent()) {
                 JailData md = omd.get();
                 md.nextLoginToTimestamp();
+                qs.markDirty();
 
                 omd = Util.testForEndTimestamp(qs.getJailData(), () -> handler.unjailPlayer(user));
                 if (omd.isPresent()) {
@@ -139,7 +142,7 @@ public class JailListener extends ListenerBase {
     @Listener(order = Order.FIRST)
     public void onChat(MessageChannelEvent.Chat event, @Root Player player) {
         if (checkJail(player, false) && jailConfigAdapter.getNodeOrDefault().isMuteOnJail()) {
-            player.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("jail.muteonchat"));
+            player.sendMessage(Nucleus.getNucleus().getMessageProvider(player).getTextMessageWithFormat("jail.muteonchat"));
             event.setCancelled(true);
         }
     }
@@ -167,13 +170,13 @@ public class JailListener extends ListenerBase {
 
     private void onJail(JailData md, Player user) {
         if (md.getEndTimestamp().isPresent()) {
-            user.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("jail.playernotify.time",
+            user.sendMessage(plugin.getMessageProvider(user).getTextMessageWithFormat("jail.playernotify.time",
                     Util.getTimeStringFromSeconds(Instant.now().until(md.getEndTimestamp().get(), ChronoUnit.SECONDS))));
         } else {
-            user.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("jail.playernotify.standard"));
+            user.sendMessage(plugin.getMessageProvider(user).getTextMessageWithFormat("jail.playernotify.standard"));
         }
 
-        user.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("standard.reason", md.getReason()));
+        user.sendMessage(mp.getTextMessageWithFormat("standard.reason", md.getReason()));
     }
 
 }
@@ -46,7 +46,7 @@ public class JumpCommand extends io.github.nucleuspowered.nucleus.internal.comma
 
         if (finalHitRay == null) {
             // We didn't find anywhere to jump to.
-            player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.jump.noblock"));
+            player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.jump.noblock"));
             return CommandResult.empty();
         }
 
@@ -63,16 +63,16 @@ public class JumpCommand extends io.github.nucleuspowered.nucleus.internal.comma
         }
 
         if (!Util.isLocationInWorldBorder(finalLocation)) {
-            player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.jump.outsideborder"));
+            player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.jump.outsideborder"));
             return CommandResult.empty();
         }
 
         if (player.setLocationSafely(finalLocation)) {
-            player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.jump.success"));
+            player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.jump.success"));
             return CommandResult.success();
         }
 
-        player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.jump.notsafe"));
+        player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.jump.notsafe"));
         return CommandResult.empty();
     }
 
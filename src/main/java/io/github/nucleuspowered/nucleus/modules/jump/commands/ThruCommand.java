@@ -40,7 +40,7 @@ public class ThruCommand extends io.github.nucleuspowered.nucleus.internal.comma
 
         // Even if we did find a wall, no good if we are at the end of the ray.
         if (!playerBlockRay.hasNext()) {
-            player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.thru.nowall"));
+            player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.thru.nowall"));
             return CommandResult.empty();
         }
 
@@ -48,22 +48,22 @@ public class ThruCommand extends io.github.nucleuspowered.nucleus.internal.comma
             BlockRayHit<World> b = playerBlockRay.next();
             if (player.getWorld().getBlockType(b.getBlockPosition()).equals(BlockTypes.AIR)) {
                 if (!Util.isLocationInWorldBorder(b.getLocation())) {
-                    player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.jump.outsideborder"));
+                    player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.jump.outsideborder"));
                     return CommandResult.empty();
                 }
 
                 // If we can go, do so.
                 if (player.setLocationSafely(b.getLocation())) {
-                    player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.thru.success"));
+                    player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.thru.success"));
                     return CommandResult.success();
                 } else {
-                    player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.thru.notsafe"));
+                    player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.thru.notsafe"));
                     return CommandResult.empty();
                 }
             }
         } while (playerBlockRay.hasNext());
 
-        player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.thru.nospot"));
+        player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.thru.nospot"));
         return CommandResult.empty();
     }
 }
@@ -59,26 +59,26 @@ public class TopCommand extends AbstractCommand<CommandSource> {
         Location<World> start = new Location<>(location.getExtent(), x, location.getExtent().getBlockMax().getY(), z);
         BlockRayHit<World> end = BlockRay.from(start).filter(BlockRay.onlyAirFilter())
             .to(playerToTeleport.getLocation().getPosition().sub(0, 1, 0)).end()
-            .orElseThrow(() -> new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.top.nothingfound")));
+            .orElseThrow(() -> new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.top.nothingfound")));
 
         if (playerToTeleport.getLocation().getBlockPosition().equals(end.getBlockPosition())) {
             if (!playerToTeleport.equals(src)) {
-                throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.top.attop.other", plugin.getNameUtil().getSerialisedName(playerToTeleport)));
+                throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.top.attop.other", plugin.getNameUtil().getSerialisedName(playerToTeleport)));
             } else {
-                throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.top.attop.self"));
+                throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.top.attop.self"));
             }
         }
 
         if (plugin.getTeleportHandler().teleportPlayer(playerToTeleport, end.getLocation(), !args.hasAny("f"))) {
             // OK
             if (!playerToTeleport.equals(src)) {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.top.success.other", plugin.getNameUtil().getSerialisedName(playerToTeleport)));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.top.success.other", plugin.getNameUtil().getSerialisedName(playerToTeleport)));
             }
 
-            playerToTeleport.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.top.success.self"));
+            playerToTeleport.sendMessage(plugin.getMessageProvider(playerToTeleport).getTextMessageWithFormat("command.top.success.self"));
             return CommandResult.success();
         }
 
-        throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.top.notsafe"));
+        throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.top.notsafe"));
     }
 }
@@ -61,7 +61,7 @@ public class KickCommand extends io.github.nucleuspowered.nucleus.internal.comma
         String r = args.<String>getOne(reason).orElse(plugin.getMessageProvider().getMessageWithFormat("command.kick.defaultreason"));
 
         if (permissions.testSuffix(pl, "exempt.target")) {
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.kick.exempt", pl.getName()));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.kick.exempt", pl.getName()));
         }
 
         pl.kick(TextSerializers.FORMATTING_CODE.deserialize(r));
@@ -30,8 +30,7 @@ public class FirstKitClearCommand extends io.github.nucleuspowered.nucleus.inter
     @Override
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
         gds.setFirstKit(null);
-        gds.save();
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.firstkit.clear.success"));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.firstkit.clear.success"));
         return CommandResult.success();
     }
 }
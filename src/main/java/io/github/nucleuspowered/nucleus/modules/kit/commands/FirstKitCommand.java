@@ -43,12 +43,12 @@ public class FirstKitCommand extends io.github.nucleuspowered.nucleus.internal.c
         long none = gds.getFirstKit().stream().filter(x -> x.getType() == ItemTypes.NONE).count();
 
         if (none > 0) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.firstkit.list.unable", String.valueOf(none)));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.firstkit.list.unable", String.valueOf(none)));
             stacks = stacks.stream().filter(x -> x.getType() != ItemTypes.NONE).collect(Collectors.toList());
         }
 
         if (stacks == null || stacks.isEmpty()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.firstkit.list.none"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.firstkit.list.none"));
             return CommandResult.success();
         }
 
@@ -60,7 +60,7 @@ public class FirstKitCommand extends io.github.nucleuspowered.nucleus.internal.c
 
         PaginationService service = Sponge.getServiceManager().provideUnchecked(PaginationService.class);
         service.builder().contents(itemNames)
-                .title(plugin.getMessageProvider().getTextMessageWithFormat("command.firstkit.list.title")).padding(Text.of(TextColors.GREEN, "-"))
+                .title(plugin.getMessageProvider(src).getTextMessageWithFormat("command.firstkit.list.title")).padding(Text.of(TextColors.GREEN, "-"))
                 .sendTo(src);
 
         return CommandResult.success();
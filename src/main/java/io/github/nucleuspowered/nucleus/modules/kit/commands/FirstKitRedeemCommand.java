@@ -41,9 +41,9 @@ public class FirstKitRedeemCommand extends io.github.nucleuspowered.nucleus.inte
             }
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.firstkit.redeem.success"));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.firstkit.redeem.success"));
         if (reject > 0) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.firstkit.redeem.reject"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.firstkit.redeem.reject"));
         }
 
         return CommandResult.success();
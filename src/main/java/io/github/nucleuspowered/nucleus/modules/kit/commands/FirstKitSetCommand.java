@@ -38,9 +38,8 @@ public class FirstKitSetCommand extends io.github.nucleuspowered.nucleus.interna
         List<Inventory> slots = Lists.newArrayList(Util.getStandardInventory(src).slots());
         final List<ItemStackSnapshot> stacks = slots.stream().filter(x -> x.peek().isPresent()).map(x -> x.peek().get().createSnapshot()).collect(Collectors.toList());
         gds.setFirstKit(stacks);
-        gds.save();
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.firstkit.set.success"));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.firstkit.set.success"));
         return CommandResult.success();
     }
 }
@@ -46,10 +46,10 @@ public class KitAddCommand extends io.github.nucleuspowered.nucleus.internal.com
 
         if (!kitConfig.getKitNames().stream().anyMatch(kitName::equalsIgnoreCase)) {
             kitConfig.saveKit(kitName, kitConfig.createKit().updateKitInventory(player));
-            player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.add.success", kitName));
+            player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.kit.add.success", kitName));
             return CommandResult.success();
         } else {
-            player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.add.alreadyexists", kitName));
+            player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.kit.add.alreadyexists", kitName));
             return CommandResult.empty();
         }
     }
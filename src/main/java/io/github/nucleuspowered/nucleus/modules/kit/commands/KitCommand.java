@@ -87,7 +87,7 @@ public class KitCommand extends io.github.nucleuspowered.nucleus.internal.comman
 
         // If we have a cost for the kit, check we have funds.
         if (cost > 0 && !econHelper.hasBalance(player, cost)) {
-            player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.notenough", kitName, econHelper.getCurrencySymbol(cost)));
+            player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.kit.notenough", kitName, econHelper.getCurrencySymbol(cost)));
             return CommandResult.empty();
         }
 
@@ -98,7 +98,7 @@ public class KitCommand extends io.github.nucleuspowered.nucleus.internal.comman
             // if it's one time only and the user does not have an exemption...
             if (kit.isOneTime() && !player.hasPermission(permissions.getPermissionWithSuffix("exempt.onetime"))) {
                 // tell the user.
-                player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.onetime.alreadyredeemed", kitName));
+                player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.kit.onetime.alreadyredeemed", kitName));
                 return CommandResult.empty();
             }
 
@@ -112,7 +112,7 @@ public class KitCommand extends io.github.nucleuspowered.nucleus.internal.comman
                     Duration d = Duration.between(now, timeForNextUse);
 
                     // tell the user.
-                    player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.cooldown", Util.getTimeStringFromSeconds(d.getSeconds()), kitName));
+                    player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.kit.cooldown", Util.getTimeStringFromSeconds(d.getSeconds()), kitName));
                     return CommandResult.empty();
                 }
             }
@@ -120,7 +120,7 @@ public class KitCommand extends io.github.nucleuspowered.nucleus.internal.comman
 
         Tristate tristate = Util.addToStandardInventory(player, kit.getStacks());
         if (tristate != Tristate.TRUE) {
-            player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.fullinventory"));
+            player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.kit.fullinventory"));
         }
 
         // If something was consumed, consider a success.
@@ -133,11 +133,11 @@ public class KitCommand extends io.github.nucleuspowered.nucleus.internal.comman
             // Register the last used time. Do it for everyone, in case
             // permissions or cooldowns change later
             user.addKitLastUsedTime(kitName, now);
-            player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.spawned", kitName));
+            player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.kit.spawned", kitName));
             return CommandResult.success();
         } else {
             // Failed.
-            player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.fail", kitName));
+            player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.kit.fail", kitName));
             return CommandResult.empty();
         }
     }
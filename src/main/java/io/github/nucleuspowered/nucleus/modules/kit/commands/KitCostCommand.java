@@ -53,7 +53,7 @@ public class KitCostCommand extends io.github.nucleuspowered.nucleus.internal.co
 
         kitInfo.kit.setCost(cost);
         kitConfig.saveKit(kitInfo.name, kitInfo.kit);
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.cost.success", kitInfo.name, String.valueOf(cost)));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.kit.cost.success", kitInfo.name, String.valueOf(cost)));
         return CommandResult.success();
     }
 }
@@ -69,10 +69,10 @@ public class KitGiveCommand extends AbstractCommand<CommandSource> {
         boolean skip = args.hasAny("i");
 
         if (src instanceof Player && player.getUniqueId().equals(((Player) src).getUniqueId())) {
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.give.self"));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.kit.give.self"));
         }
 
-        UserService user = userDataManager.get(player.getUniqueId()).get();
+        UserService user = userDataManager.getIfLoaded(player.getUniqueId()).orElseThrow(() -> new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.userdata.notloaded", player.getName())));
         Kit kit = kitInfo.kit;
         String kitName = kitInfo.name;
         Instant now = Instant.now();
@@ -86,7 +86,7 @@ public class KitGiveCommand extends AbstractCommand<CommandSource> {
                 if (kit.isOneTime() && !permissions.testSuffix(player, "exempt.onetime")) {
                     // tell the user.
                     throw new ReturnMessageException(
-                        plugin.getMessageProvider().getTextMessageWithFormat("command.kit.give.onetime.alreadyredeemed",
+                        plugin.getMessageProvider(src).getTextMessageWithFormat("command.kit.give.onetime.alreadyredeemed",
                             plugin.getNameUtil().getSerialisedName(player), kitName));
                 }
 
@@ -100,7 +100,7 @@ public class KitGiveCommand extends AbstractCommand<CommandSource> {
                         Duration d = Duration.between(now, timeForNextUse);
 
                         // tell the user.
-                        throw new ReturnMessageException(plugin.getMessageProvider()
+                        throw new ReturnMessageException(plugin.getMessageProvider(src)
                             .getTextMessageWithFormat("command.kit.give.cooldown",
                                 plugin.getNameUtil().getSerialisedName(player), Util.getTimeStringFromSeconds(d.getSeconds()), kitName));
                     }
@@ -110,7 +110,7 @@ public class KitGiveCommand extends AbstractCommand<CommandSource> {
 
         Tristate tristate = Util.addToStandardInventory(player, kit.getStacks());
         if (tristate != Tristate.TRUE) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.give.fullinventory", plugin.getNameUtil().getSerialisedName(player)));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.kit.give.fullinventory", plugin.getNameUtil().getSerialisedName(player)));
         }
 
         // If something was consumed, consider a success.
@@ -121,12 +121,12 @@ public class KitGiveCommand extends AbstractCommand<CommandSource> {
                 user.addKitLastUsedTime(kitName, now);
             }
 
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.give.spawned", plugin.getNameUtil().getSerialisedName(player), kitName));
-            player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.spawned", kitName));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.kit.give.spawned", plugin.getNameUtil().getSerialisedName(player), kitName));
+            player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.kit.spawned", kitName));
             return CommandResult.success();
         } else {
             // Failed.
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.give.fail", plugin.getNameUtil().getSerialisedName(player), kitName));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.kit.give.fail", plugin.getNameUtil().getSerialisedName(player), kitName));
         }
     }
 }
@@ -61,7 +61,7 @@ public class KitListCommand extends io.github.nucleuspowered.nucleus.internal.co
     public CommandResult executeCommand(final CommandSource src, CommandContext args) throws Exception {
         Set<String> kits = kitConfig.getKitNames();
         if (kits.isEmpty()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.list.empty"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.kit.list.empty"));
             return CommandResult.empty();
         }
 
@@ -81,7 +81,7 @@ public class KitListCommand extends io.github.nucleuspowered.nucleus.internal.co
             .forEach(kit -> kitConfig.getKit(kit).ifPresent(k -> kitText.add(createKit(src, user, kit, k))));
 
         PaginationList.Builder paginationBuilder = paginationService.builder().contents(kitText)
-                .title(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.list.kits")).padding(Text.of(TextColors.GREEN, "-"));
+                .title(plugin.getMessageProvider(src).getTextMessageWithFormat("command.kit.list.kits")).padding(Text.of(TextColors.GREEN, "-"));
         paginationBuilder.sendTo(src);
 
         return CommandResult.success();
@@ -96,7 +96,7 @@ public class KitListCommand extends io.github.nucleuspowered.nucleus.internal.co
             // If one time used...
             if (kitObj.isOneTime() && !kitPermissionHandler.testSuffix(p, "exempt.onetime")) {
                 return tb.color(TextColors.RED)
-                        .onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.list.onetime", kitName)))
+                        .onHover(TextActions.showText(plugin.getMessageProvider(source).getTextMessageWithFormat("command.kit.list.onetime", kitName)))
                         .style(TextStyles.STRIKETHROUGH).build();
             }
 
@@ -110,7 +110,7 @@ public class KitListCommand extends io.github.nucleuspowered.nucleus.internal.co
                     // Get the time to next usage.
                     String time = Util.getTimeToNow(next);
                     return tb.color(TextColors.RED)
-                            .onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.list.interval", kitName, time)))
+                            .onHover(TextActions.showText(plugin.getMessageProvider(source).getTextMessageWithFormat("command.kit.list.interval", kitName, time)))
                             .style(TextStyles.STRIKETHROUGH).build();
                 }
             }
@@ -118,7 +118,7 @@ public class KitListCommand extends io.github.nucleuspowered.nucleus.internal.co
 
         // Can use.
         return tb.color(TextColors.AQUA).onClick(TextActions.runCommand("/kit " + kitName))
-                .onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.list.text", kitName)))
+                .onHover(TextActions.showText(plugin.getMessageProvider(source).getTextMessageWithFormat("command.kit.list.text", kitName)))
                 .style(TextStyles.UNDERLINE).build();
     }
 }
@@ -53,7 +53,7 @@ public class KitOneTimeCommand extends io.github.nucleuspowered.nucleus.internal
         // to update it explicitly
         kitInfo.kit.setOneTime(b);
         kitConfig.saveKit(kitInfo.name, kitInfo.kit);
-        player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat(b ? "command.kit.onetime.on" : "command.kit.onetime.off", kitInfo.name));
+        player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat(b ? "command.kit.onetime.on" : "command.kit.onetime.off", kitInfo.name));
 
         return CommandResult.success();
     }
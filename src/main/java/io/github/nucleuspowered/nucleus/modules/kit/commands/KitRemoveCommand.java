@@ -44,7 +44,7 @@ public class KitRemoveCommand extends io.github.nucleuspowered.nucleus.internal.
     public CommandResult executeCommand(final CommandSource player, CommandContext args) throws Exception {
         KitArgument.KitInfo kitName = args.<KitArgument.KitInfo>getOne(kit).get();
         kitConfig.removeKit(kitName.name);
-        player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.remove.success", kitName.name));
+        player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.kit.remove.success", kitName.name));
         return CommandResult.success();
     }
 }
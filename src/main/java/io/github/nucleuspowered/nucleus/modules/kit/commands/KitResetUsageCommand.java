@@ -58,11 +58,11 @@ public class KitResetUsageCommand extends io.github.nucleuspowered.nucleus.inter
             // Remove the key.
             inu.removeKitLastUsedTime(kitInfo.name.toLowerCase());
 
-            player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.resetuser.success", u.getName(), kitInfo.name));
+            player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.kit.resetuser.success", u.getName(), kitInfo.name));
             return CommandResult.success();
         }
 
-        player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.resetuser.empty", u.getName(), kitInfo.name));
+        player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.kit.resetuser.empty", u.getName(), kitInfo.name));
         return CommandResult.empty();
     }
 }
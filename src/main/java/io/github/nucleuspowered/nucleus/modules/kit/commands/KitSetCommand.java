@@ -50,7 +50,7 @@ public class KitSetCommand extends io.github.nucleuspowered.nucleus.internal.com
         KitArgument.KitInfo kitInfo = args.<KitArgument.KitInfo>getOne(kit).get();
         kitInfo.kit.updateKitInventory(player);
         kitConfig.saveKit(kitInfo.name, kitInfo.kit);
-        player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.set.success", kitInfo.name));
+        player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.kit.set.success", kitInfo.name));
         return CommandResult.success();
     }
 }
@@ -53,7 +53,7 @@ public class KitSetCooldownCommand extends io.github.nucleuspowered.nucleus.inte
 
         kitInfo.kit.setInterval(Duration.ofSeconds(seconds));
         kitConfig.saveKit(kitInfo.name, kitInfo.kit);
-        player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.kit.setcooldown.success", kitInfo.name, Util.getTimeStringFromSeconds(seconds)));
+        player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.kit.setcooldown.success", kitInfo.name, Util.getTimeStringFromSeconds(seconds)));
         return CommandResult.success();
     }
 }
@@ -6,7 +6,6 @@ package io.github.nucleuspowered.nucleus.modules.kit.handlers;
 
 import com.google.common.base.Preconditions;
 import com.google.inject.Inject;
-import io.github.nucleuspowered.nucleus.Util;
 import io.github.nucleuspowered.nucleus.api.data.Kit;
 import io.github.nucleuspowered.nucleus.api.service.NucleusKitService;
 import io.github.nucleuspowered.nucleus.configurate.datatypes.KitDataNode;
@@ -26,25 +25,19 @@ public class KitHandler implements NucleusKitService {
 
     @Override
     public Optional<Kit> getKit(String name) {
-        return Optional.ofNullable(store.getKit(name).orElse(null));
+        // A copy, so that changes to it are only seen once it is saved.
+        return store.getKit(name).map(KitDataNode::new);
     }
 
     @Override
     public boolean removeKit(String kitName) {
-        if (store.removeKit(kitName)) {
-            store.save();
-            return true;
-        }
-
-        return false;
+        return store.removeKit(kitName);
     }
 
     @Override
-    public synchronized void saveKit(String kitName, Kit kit) {
+    public void saveKit(String kitName, Kit kit) {
         Preconditions.checkArgument(kit instanceof KitDataNode);
-        Util.getKeyIgnoreCase(store.getKits(), kitName).ifPresent(store::removeKit);
-        store.addKit(kitName, (KitDataNode)kit);
-        store.save();
+        store.setKit(kitName, new KitDataNode((KitDataNode)kit));
     }
 
     @Override
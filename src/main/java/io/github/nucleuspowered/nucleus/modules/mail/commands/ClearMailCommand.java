@@ -29,9 +29,9 @@ public class ClearMailCommand extends io.github.nucleuspowered.nucleus.internal.
     @Override
     public CommandResult executeCommand(Player src, CommandContext args) throws Exception {
         if (handler.clearUserMail(src)) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.mail.clear.success"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.mail.clear.success"));
         } else {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.mail.clear.nomail"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.mail.clear.nomail"));
         }
         return CommandResult.success();
     }
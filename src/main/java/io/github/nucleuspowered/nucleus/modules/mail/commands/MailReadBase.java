@@ -4,6 +4,7 @@
  */
 package io.github.nucleuspowered.nucleus.modules.mail.commands;
 
+import com.google.common.collect.AbstractIterator;
 import io.github.nucleuspowered.nucleus.Nucleus;
 import io.github.nucleuspowered.nucleus.Util;
 import io.github.nucleuspowered.nucleus.api.data.mail.MailData;
@@ -24,6 +25,8 @@ import org.spongepowered.api.text.format.TextStyles;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -32,6 +35,7 @@ public class MailReadBase {
     private final MailHandler handler;
     private final Game game;
     static final String filters = "filters";
+    private static final int STORE_PAGE_SIZE = 20;
 
     MailReadBase(Game game, MailHandler handler) {
         this.game = game;
@@ -39,77 +43,110 @@ public class MailReadBase {
     }
 
     public CommandResult executeCommand(CommandSource src, final User target, Collection<MailFilter> lmf) {
-        List<MailData> lmd;
+        Iterable<Text> mails;
+        boolean isEmpty;
         if (!lmf.isEmpty()) {
-            lmd = handler.getMail(target, lmf.toArray(new MailFilter[lmf.size()]));
+            List<MailData> lmd = handler.getMail(target, lmf.toArray(new MailFilter[lmf.size()]));
+            isEmpty = lmd.isEmpty();
+            mails = lmd.stream().sorted((a, b) -> a.getDate().compareTo(b.getDate())).map(x -> createMessage(src, x, target)).collect(Collectors.toList());
         } else {
-            lmd = handler.getMail(target);
+            isEmpty = handler.getMailCount(target) == 0;
+            mails = getMailByPage(src, target);
         }
 
-        if (lmd.isEmpty()) {
+        if (isEmpty) {
             if (src instanceof Player && target.getUniqueId().equals(((Player) src).getUniqueId())) {
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(!lmf.isEmpty() ? "command.mail.none.filter" : "command.mail.none.normal.self"));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat(!lmf.isEmpty() ? "command.mail.none.filter" : "command.mail.none.normal.self"));
             } else {
-                src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(!lmf.isEmpty() ? "command.mail.none.filter" : "command.mail.none.normal.other", target.getName()));
+                src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat(!lmf.isEmpty() ? "command.mail.none.filter" : "command.mail.none.normal.other", target.getName()));
             }
 
             return CommandResult.success();
         }
 
-        List<Text> mails = lmd.stream().sorted((a, b) -> a.getDate().compareTo(b.getDate())).map(x -> createMessage(x, target)).collect(Collectors.toList());
-
         // Paginate the mail.
         PaginationService ps = game.getServiceManager().provideUnchecked(PaginationService.class);
         PaginationList.Builder b = ps.builder().padding(Text.of(TextColors.GREEN, "-")).title(getHeader(src, target, !lmf.isEmpty())).contents(mails);
         if (!(src instanceof Player)) {
             b.linesPerPage(-1);
         } else {
-            b.header(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("mail.header"));
+            b.header(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("mail.header"));
         }
 
         b.sendTo(src);
         return CommandResult.success();
     }
 
+    /**
+     * Reads a mailbox a page at a time, oldest first, as it is iterated. The pagination service only reads as far into
+     * contents that are not a {@link List} as the pages that are shown, so only those pages are read from the store.
+     *
+     * @param reader The {@link CommandSource} that the messages will be shown to.
+     * @param target The {@link User} whose mail to read.
+     * @return The messages.
+     */
+    private Iterable<Text> getMailByPage(final CommandSource reader, final User target) {
+        return () -> new AbstractIterator<Text>() {
+            private int page = 0;
+            private boolean lastPage = false;
+            private Iterator<MailData> current = Collections.emptyIterator();
+
+            @Override
+            protected Text computeNext() {
+                while (!current.hasNext()) {
+                    if (lastPage) {
+                        return endOfData();
+                    }
+
+                    List<MailData> lmd = handler.getMail(target, page++, STORE_PAGE_SIZE);
+                    lastPage = lmd.size() < STORE_PAGE_SIZE;
+                    current = lmd.iterator();
+                }
+
+                return createMessage(reader, current.next(), target);
+            }
+        };
+    }
+
     private Text getHeader(CommandSource src, User user, boolean isFiltered) {
         if (src instanceof Player && user.getUniqueId().equals(((Player) src).getUniqueId())) {
-            return Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(isFiltered ? "mail.title.filter.self" : "mail.title.nofilter.self");
+            return Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat(isFiltered ? "mail.title.filter.self" : "mail.title.nofilter.self");
         }
 
-        return Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat(isFiltered ? "mail.title.filter.other" : "mail.title.nofilter.other", user.getName());
+        return Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat(isFiltered ? "mail.title.filter.other" : "mail.title.nofilter.other", user.getName());
     }
 
-    private Text createMessage(final MailData md, final User user) {
+    private Text createMessage(final CommandSource reader, final MailData md, final User user) {
         DateTimeFormatter dtf = DateTimeFormatter.ofPattern("MMM dd, yyyy").withZone(ZoneId.systemDefault());
         String name = Nucleus.getNucleus().getNameUtil().getNameFromUUID(md.getUuid());
         return Text.builder()
                 .append(Text.builder(name).color(TextColors.GREEN).style(TextStyles.UNDERLINE)
-                        .onHover(TextActions.showText(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.mail.hover")))
+                        .onHover(TextActions.showText(Nucleus.getNucleus().getMessageProvider(reader).getTextMessageWithFormat("command.mail.hover")))
                         .onClick(TextActions.executeCallback(src -> {
-                            src.sendMessage(Text.builder().append(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.mail.date"))
+                            src.sendMessage(Text.builder().append(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.mail.date"))
                                     .append(Text.of(" ", TextColors.WHITE, dtf.format(md.getDate()))).build());
-                            Text.Builder tb = Text.builder().append(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.mail.sender"))
+                            Text.Builder tb = Text.builder().append(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.mail.sender"))
                                     .append(Text.of(" ", TextColors.WHITE, Nucleus.getNucleus().getNameUtil().getNameFromUUID(md.getUuid())))
                                     .append(Text.of(TextColors.YELLOW, " - "));
 
                             // If the sender is not the server, allow right of reply.
                             if (!md.getUuid().equals(Util.consoleFakeUUID)) {
-                                tb.append(Text.builder(Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("standard.reply")).color(TextColors.GREEN)
-                                        .onHover(TextActions.showText(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.mail.reply.label", name)))
+                                tb.append(Text.builder(Nucleus.getNucleus().getMessageProvider(src).getMessageWithFormat("standard.reply")).color(TextColors.GREEN)
+                                        .onHover(TextActions.showText(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.mail.reply.label", name)))
                                         .onClick(TextActions.suggestCommand("/mail send " + name + " ")).build())
                                         .append(Text.of(TextColors.YELLOW, " - "));
                             }
 
-                            src.sendMessage(tb.append(Text.builder(Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("standard.delete")).color(TextColors.RED)
-                                .onHover(TextActions.showText(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.mail.delete.label")))
+                            src.sendMessage(tb.append(Text.builder(Nucleus.getNucleus().getMessageProvider(src).getMessageWithFormat("standard.delete")).color(TextColors.RED)
+                                .onHover(TextActions.showText(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.mail.delete.label")))
                                 .onClick(TextActions.executeCallback(s -> {
                                     if (handler.removeMail(user, md)) {
-                                        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.mail.delete.success"));
+                                        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.mail.delete.success"));
                                     } else {
-                                        src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.mail.delete.fail"));
+                                        src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.mail.delete.fail"));
                                     }
                                 })).build()).build());
-                            src.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.mail.message"));
+                            src.sendMessage(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.mail.message"));
                             src.sendMessage(Text.of(TextColors.WHITE, md.getMessage()));
                         })).build())
                 .append(Text.of(": " + md.getMessage())).build();
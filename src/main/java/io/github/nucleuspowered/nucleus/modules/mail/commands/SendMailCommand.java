@@ -43,24 +43,24 @@ public class SendMailCommand extends io.github.nucleuspowered.nucleus.internal.c
 
     @Override
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
-        User pl = args.<User>getOne(player).orElseThrow(() -> new CommandException(plugin.getMessageProvider().getTextMessageWithFormat("args.user.none")));
+        User pl = args.<User>getOne(player).orElseThrow(() -> new CommandException(plugin.getMessageProvider(src).getTextMessageWithFormat("args.user.none")));
         CommandPermissionHandler permissionHandler = permissionRegistry.getService(MailCommand.class);
 
         // Only send mails to players that can read them.
         if (!permissionHandler.testBase(pl)) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.mail.send.error", pl.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.mail.send.error", pl.getName()));
             return CommandResult.empty();
         }
 
         // Send the message.
-        String m = args.<String>getOne(message).orElseThrow(() -> new CommandException(plugin.getMessageProvider().getTextMessageWithFormat("args.message.none")));
+        String m = args.<String>getOne(message).orElseThrow(() -> new CommandException(plugin.getMessageProvider(src).getTextMessageWithFormat("args.message.none")));
         if (src instanceof User) {
             handler.sendMail((User) src, pl, m);
         } else {
             handler.sendMailFromConsole(pl, m);
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.mail.send.successful", pl.getName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.mail.send.successful", pl.getName()));
         return CommandResult.success();
     }
 }
@@ -13,14 +13,17 @@ import io.github.nucleuspowered.nucleus.api.data.mail.MailData;
 import io.github.nucleuspowered.nucleus.api.data.mail.MailFilter;
 import io.github.nucleuspowered.nucleus.api.exceptions.NoSuchPlayerException;
 import io.github.nucleuspowered.nucleus.api.service.NucleusMailService;
+import io.github.nucleuspowered.nucleus.dataservices.MailStore;
 import io.github.nucleuspowered.nucleus.dataservices.UserService;
 import io.github.nucleuspowered.nucleus.modules.mail.events.InternalNucleusMailEvent;
 import org.spongepowered.api.Game;
 import org.spongepowered.api.Sponge;
+import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.service.user.UserStorageService;
 import org.spongepowered.api.text.Text;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
@@ -33,66 +36,77 @@ public class MailHandler implements NucleusMailService {
 
     private final Game game;
     private final NucleusPlugin plugin;
+    private final MailStore store;
 
     public MailHandler(Game game, NucleusPlugin plugin) {
         this.game = game;
         this.plugin = plugin;
+        this.store = new MailStore(plugin.getDataPath().resolve("maildata"),
+                uuid -> plugin.getUserDataManager().get(uuid).map(UserService::getLegacyMail).orElseGet(Lists::newArrayList),
+                uuid -> plugin.getUserDataManager().get(uuid).ifPresent(UserService::clearLegacyMail));
     }
 
     @Override
-    public List<MailData> getMail(User player, MailFilter... filters) {
-        UserService iqsu;
+    public int getMailCount(User player) {
         try {
-            iqsu = plugin.getUserDataManager().get(player).get();
-        } catch (Exception e) {
+            return store.getCount(player.getUniqueId());
+        } catch (IOException e) {
             e.printStackTrace();
-            return null;
-        }
-
-        List<MailData> lmd = iqsu.getMail();
-        if (filters.length == 0 || lmd.isEmpty()) {
-            return Lists.newArrayList(lmd);
-        }
-
-        List<MailFilter> lmf = Arrays.asList(filters);
-        Optional<DateFilter> odf = lmf.stream().filter(d -> d instanceof DateFilter).map(d -> (DateFilter) d).findFirst();
-        if (odf.isPresent()) {
-            BetweenInstantsData df = odf.get().getSuppliedData();
-            lmd = lmd.stream().filter(x -> df.from().orElseGet(() -> Instant.ofEpochSecond(0)).isBefore(x.getDate())
-                    && df.to().orElseGet(() -> Instant.now().plus(1, ChronoUnit.DAYS)).isAfter(x.getDate())).collect(Collectors.toList());
-        }
-
-        // Get players.
-        List<UUID> pf =
-                lmf.stream().filter(x -> x instanceof PlayerFilter).map(d -> ((PlayerFilter) d).getSuppliedData()).collect(Collectors.toList());
-        if (lmf.stream().filter(x -> x instanceof ConsoleFilter).findFirst().isPresent()) {
-            pf.add(Util.consoleFakeUUID);
+            return 0;
         }
+    }
 
-        // Add the predicates
-        if (!pf.isEmpty()) {
-            // Check the UUIDs - if they are in the list, let them through.
-            lmd = lmd.stream().filter(x -> pf.contains(x.getUuid())).collect(Collectors.toList());
+    @Override
+    public List<MailData> getMail(User player, int page, int pageSize) {
+        try {
+            return store.getPage(player.getUniqueId(), page, pageSize);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return Lists.newArrayList();
         }
+    }
 
-        // Message parts
-        List<String> m = lmf.stream().filter(x -> x instanceof MessageFilter).map(d -> ((MessageFilter) d).getSuppliedData().toLowerCase())
-                .collect(Collectors.toList());
-        if (!m.isEmpty()) {
-            // For each mail, check to see if any filters match after everything
-            // goes lowercase.
-            lmd = lmd.stream().filter(x -> m.stream().allMatch(a -> x.getMessage().toLowerCase().contains(a.toLowerCase())))
+    @Override
+    public List<MailData> getMail(User player, MailFilter... filters) {
+        try {
+            if (filters.length == 0) {
+                return store.getAll(player.getUniqueId());
+            }
+
+            List<MailFilter> lmf = Arrays.asList(filters);
+            Instant from = null;
+            Instant to = null;
+            Optional<DateFilter> odf = lmf.stream().filter(d -> d instanceof DateFilter).map(d -> (DateFilter) d).findFirst();
+            if (odf.isPresent()) {
+                BetweenInstantsData df = odf.get().getSuppliedData();
+                from = df.from().orElseGet(() -> Instant.ofEpochSecond(0));
+                to = df.to().orElseGet(() -> Instant.now().plus(1, ChronoUnit.DAYS));
+            }
+
+            // Get players.
+            List<UUID> pf =
+                    lmf.stream().filter(x -> x instanceof PlayerFilter).map(d -> ((PlayerFilter) d).getSuppliedData()).collect(Collectors.toList());
+            if (lmf.stream().filter(x -> x instanceof ConsoleFilter).findFirst().isPresent()) {
+                pf.add(Util.consoleFakeUUID);
+            }
+
+            // Message parts
+            List<String> m = lmf.stream().filter(x -> x instanceof MessageFilter).map(d -> ((MessageFilter) d).getSuppliedData().toLowerCase())
                     .collect(Collectors.toList());
-        }
 
-        return lmd;
+            // The store indexes the mail, so only messages that could match are looked at.
+            return store.search(player.getUniqueId(), from, to, pf, m);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return Lists.newArrayList();
+        }
     }
 
     @Override
     public boolean removeMail(User player, MailData mailData) {
         try {
-            return plugin.getUserDataManager().get(player).get().removeMail(mailData);
-        } catch (Exception e) {
+            return store.remove(player.getUniqueId(), mailData);
+        } catch (IOException e) {
             e.printStackTrace();
             return false;
         }
@@ -100,28 +114,25 @@ public class MailHandler implements NucleusMailService {
 
     @Override
     public void sendMail(User playerFrom, User playerTo, String message) {
-        UserService iqsu;
-        try {
-            iqsu = plugin.getUserDataManager().get(playerTo).get();
-        } catch (Exception e) {
-            e.printStackTrace();
-            return;
-        }
-
         // Message is about to be sent. Send the event out. If canceled, then
         // that's that.
         if (Sponge.getEventManager().post(new InternalNucleusMailEvent(playerFrom, playerTo, message))) {
-            playerFrom.getPlayer().ifPresent(x -> x.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("message.cancel")));
+            playerFrom.getPlayer().ifPresent(x -> x.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(x).getTextMessageWithFormat("message.cancel")));
             return;
         }
 
         MailData md = new MailData(playerFrom == null ? Util.consoleFakeUUID : playerFrom.getUniqueId(), Instant.now(), message);
-        iqsu.addMail(md);
+        try {
+            store.add(playerTo.getUniqueId(), md);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
 
         Text from = playerFrom == null ? Text.of(game.getServer().getConsole().getName()) : plugin.getNameUtil().getName(playerFrom);
         if (playerTo.isOnline()) {
-            playerTo.getPlayer().get()
-                    .sendMessage(Text.builder().append(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("mail.youvegotmail")).append(Text.of(" ", from)).build());
+            Player to = playerTo.getPlayer().get();
+            to.sendMessage(Text.builder().append(NucleusPlugin.getNucleus().getMessageProvider(to).getTextMessageWithFormat("mail.youvegotmail")).append(Text.of(" ", from)).build());
         }
     }
 
@@ -132,15 +143,28 @@ public class MailHandler implements NucleusMailService {
 
     @Override
     public boolean clearUserMail(User player) {
-        UserService iqsu;
         try {
-            iqsu = plugin.getUserDataManager().get(player).get();
-        } catch (Exception e) {
+            return store.clear(player.getUniqueId());
+        } catch (IOException e) {
             e.printStackTrace();
             return false;
         }
+    }
 
-        return iqsu.clearMail();
+    /**
+     * Removes a player's mailbox entirely, rather than leaving it empty. Used when their data is being reset.
+     *
+     * @param uuid The {@link UUID} of the player.
+     * @return <code>true</code> if the mailbox was removed.
+     */
+    public boolean deleteUserMail(UUID uuid) {
+        try {
+            store.delete(uuid);
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
     }
 
     @Override
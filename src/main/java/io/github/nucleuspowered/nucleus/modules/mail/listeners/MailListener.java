@@ -6,8 +6,10 @@ package io.github.nucleuspowered.nucleus.modules.mail.listeners;
 
 import com.google.inject.Inject;
 import io.github.nucleuspowered.nucleus.internal.ListenerBase;
+import io.github.nucleuspowered.nucleus.internal.messages.MessageProvider;
 import io.github.nucleuspowered.nucleus.modules.mail.handlers.MailHandler;
 import org.spongepowered.api.Game;
+import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.network.ClientConnectionEvent;
 import org.spongepowered.api.text.Text;
@@ -25,18 +27,20 @@ public class MailListener extends ListenerBase {
     @Listener
     public void onPlayerJoin(ClientConnectionEvent.Join event) {
         game.getScheduler().createAsyncExecutor(plugin).schedule(() -> {
-            int mailCount = handler.getMail(event.getTargetEntity()).size();
+            Player player = event.getTargetEntity();
+            int mailCount = handler.getMailCount(player);
             if (mailCount > 0) {
-                event.getTargetEntity().sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("mail.login", String.valueOf(mailCount)));
-                event.getTargetEntity().sendMessage(Text.builder()
+                MessageProvider mp = plugin.getMessageProvider(player);
+                player.sendMessage(mp.getTextMessageWithFormat("mail.login", String.valueOf(mailCount)));
+                player.sendMessage(Text.builder()
                         .append(Text.builder("/mail").color(TextColors.AQUA).style(TextStyles.UNDERLINE).onClick(TextActions.runCommand("/mail"))
                                 .onHover(TextActions.showText(Text.of("Click here to read your mail."))).build())
-                        .append(Text.builder().append(Text.of(TextColors.YELLOW, " ")).append(plugin.getMessageProvider().getTextMessageWithFormat("mail.toread"))
+                        .append(Text.builder().append(Text.of(TextColors.YELLOW, " ")).append(mp.getTextMessageWithFormat("mail.toread"))
                                 .append(Text.of(" ")).build())
                         .append(Text.builder("/mail clear").color(TextColors.AQUA).style(TextStyles.UNDERLINE)
                                 .onClick(TextActions.runCommand("/mail clear"))
                                 .onHover(TextActions.showText(Text.of("Click here to delete your mail."))).build())
-                        .append(Text.builder().append(Text.of(TextColors.YELLOW, " ")).append(plugin.getMessageProvider().getTextMessageWithFormat("mail.toclear")).build())
+                        .append(Text.builder().append(Text.of(TextColors.YELLOW, " ")).append(mp.getTextMessageWithFormat("mail.toclear")).build())
                         .build());
             }
         } , 1, TimeUnit.SECONDS);
@@ -43,8 +43,8 @@ public class MessageModule extends ConfigurableModule<MessageConfigAdapter> {
             Optional<UserService> userServiceOptional = plugin.getUserDataManager().get(user);
             boolean socialSpy = userServiceOptional.isPresent() && userServiceOptional.get().isSocialSpy();
             return Lists.newArrayList(
-                plugin.getMessageProvider().getTextMessageWithFormat("seen.socialspy",
-                    plugin.getMessageProvider().getMessageWithFormat("standard.yesno." + Boolean.toString(socialSpy).toLowerCase())));
+                plugin.getMessageProvider(cs).getTextMessageWithFormat("seen.socialspy",
+                    plugin.getMessageProvider(cs).getMessageWithFormat("standard.yesno." + Boolean.toString(socialSpy).toLowerCase())));
         });
     }
 }
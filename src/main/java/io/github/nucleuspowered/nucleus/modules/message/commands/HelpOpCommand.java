@@ -54,14 +54,14 @@ public class HelpOpCommand extends io.github.nucleuspowered.nucleus.internal.com
         // Message is about to be sent. Send the event out. If canceled, then
         // that's that.
         if (Sponge.getEventManager().post(new InternalNucleusHelpOpEvent(src, message))) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("message.cancel"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("message.cancel"));
             return CommandResult.empty();
         }
 
         Text prefix = chatUtil.getPlayerMessageFromTemplate(mca.getNodeOrDefault().getHelpOpPrefix(), src, false);
 
         MessageChannel.permission(permissions.getPermissionWithSuffix("receive")).send(src, prefix.concat(Text.of(message)));
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.helpop.success"));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.helpop.success"));
 
         return CommandResult.success();
     }
@@ -37,12 +37,12 @@ public class SocialSpyCommand extends io.github.nucleuspowered.nucleus.internal.
         UserService qs = userConfigLoader.get(src).get();
         boolean spy = args.<Boolean>getOne(arg).orElse(!qs.isSocialSpy());
         if (qs.setSocialSpy(spy)) {
-            Text message = plugin.getMessageProvider().getTextMessageWithFormat(spy ? "command.socialspy.on" : "command.socialspy.off");
+            Text message = plugin.getMessageProvider(src).getTextMessageWithFormat(spy ? "command.socialspy.on" : "command.socialspy.off");
             src.sendMessage(message);
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.socialspy.unable"));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.socialspy.unable"));
         return CommandResult.empty();
     }
 }
@@ -28,7 +28,6 @@ import org.spongepowered.api.text.channel.MessageReceiver;
 import org.spongepowered.api.text.serializer.TextSerializers;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -46,7 +45,7 @@ public class MessageHandler implements NucleusPrivateMessagingService {
     @Inject private ChatUtil chatUtil;
     private Supplier<CommandPermissionHandler> cph = null;
 
-    private final Map<String[], Function<String, String>> replacements = createReplacements();
+    private final Map<String[], Function<String, String>> replacements = ChatUtil.createReplacements("");
     private final Map<UUID, UUID> messagesReceived = Maps.newHashMap();
 
     public void setCommandPermissionHandler(Supplier<CommandPermissionHandler> commandPermissionHandler) {
@@ -87,7 +86,7 @@ public class MessageHandler implements NucleusPrivateMessagingService {
             return sendMessage(sender, cs.get(), message);
         }
 
-        sender.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("message.noreply"));
+        sender.sendMessage(Nucleus.getNucleus().getMessageProvider(sender).getTextMessageWithFormat("message.noreply"));
         return false;
     }
 
@@ -96,7 +95,7 @@ public class MessageHandler implements NucleusPrivateMessagingService {
         MessageConfig messageConfig = mca.getNodeOrDefault();
         boolean isCancelled = Sponge.getEventManager().post(new InternalNucleusMessageEvent(sender, receiver, message));
         if (isCancelled) {
-            sender.sendMessage(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("message.cancel"));
+            sender.sendMessage(Nucleus.getNucleus().getMessageProvider(sender).getTextMessageWithFormat("message.cancel"));
 
             // Only continue to show Social Spy messages if the player is muted.
             if (!messageConfig.isShowMessagesInSocialSpyWhileMuted()) {
@@ -173,16 +172,6 @@ public class MessageHandler implements NucleusPrivateMessagingService {
         return Text.of(chatUtil.getMessageFromTokens(template, sender, false, false, false, tokens), message);
     }
 
-    private Map<String[], Function<String, String>> createReplacements() {
-        Map<String[], Function<String, String>> t = new HashMap<>();
-
-        t.put(new String[] { "colour", "color" }, s -> s.replaceAll("&[0-9a-fA-F]", ""));
-        t.put(new String[] { "style" }, s -> s.replaceAll("&[l-oL-O]", ""));
-        t.put(new String[] { "magic" }, s -> s.replaceAll("&[kK]", ""));
-
-        return t;
-    }
-
     private Text useMessage(CommandSource player, String m) {
         if (cph == null) {
             return Text.of(m);
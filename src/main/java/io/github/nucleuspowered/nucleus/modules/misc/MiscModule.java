@@ -27,8 +27,8 @@ public class MiscModule extends ConfigurableModule<MiscConfigAdapter> {
             Optional<UserService> userServiceOptional = plugin.getUserDataManager().get(user);
             boolean godMode = userServiceOptional.isPresent() && userServiceOptional.get().isInvulnerable();
             return Lists.newArrayList(
-                plugin.getMessageProvider().getTextMessageWithFormat("seen.godmode",
-                    plugin.getMessageProvider().getMessageWithFormat("standard.yesno." + Boolean.toString(godMode).toLowerCase())));
+                plugin.getMessageProvider(cs).getTextMessageWithFormat("seen.godmode",
+                    plugin.getMessageProvider(cs).getMessageWithFormat("standard.yesno." + Boolean.toString(godMode).toLowerCase())));
         });
     }
 }
@@ -62,8 +62,8 @@ public class BlockInfoCommand extends io.github.nucleuspowered.nucleus.internal.
             BlockType it = b.getType();
 
             List<Text> lt = new ArrayList<>();
-            lt.add(plugin.getMessageProvider().getTextMessageWithFormat("command.blockinfo.id", it.getId(), it.getTranslation().get()));
-            lt.add(plugin.getMessageProvider().getTextMessageWithFormat("command.iteminfo.extendedid", b.getId()));
+            lt.add(plugin.getMessageProvider(player).getTextMessageWithFormat("command.blockinfo.id", it.getId(), it.getTranslation().get()));
+            lt.add(plugin.getMessageProvider(player).getTextMessageWithFormat("command.iteminfo.extendedid", b.getId()));
 
             if (args.hasAny("e") || args.hasAny("extended")) {
                 Collection<Property<?, ?>> cp = b.getApplicableProperties();
@@ -83,14 +83,14 @@ public class BlockInfoCommand extends io.github.nucleuspowered.nucleus.internal.
             }
 
             Sponge.getServiceManager().provideUnchecked(PaginationService.class).builder().contents(lt).padding(Text.of(TextColors.GREEN, "-"))
-                    .title(plugin.getMessageProvider().getTextMessageWithFormat("command.blockinfo.list.header", String.valueOf(brh.getBlockX()),
+                    .title(plugin.getMessageProvider(player).getTextMessageWithFormat("command.blockinfo.list.header", String.valueOf(brh.getBlockX()),
                             String.valueOf(brh.getBlockY()), String.valueOf(brh.getBlockZ())))
                     .sendTo(player);
 
             return CommandResult.success();
         }
 
-        player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.blockinfo.none"));
+        player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.blockinfo.none"));
         return CommandResult.empty();
     }
 }
@@ -93,8 +93,8 @@ public class EntityInfoCommand extends AbstractCommand<Player> {
                 EntityType type = entity.getType();
 
                 List<Text> lt = new ArrayList<>();
-                lt.add(plugin.getMessageProvider().getTextMessageWithFormat("command.entityinfo.id", type.getId(), Util.getTranslatableIfPresent(type)));
-                lt.add(plugin.getMessageProvider().getTextMessageWithFormat("command.entityinfo.uuid", entity.getUniqueId().toString()));
+                lt.add(plugin.getMessageProvider(player).getTextMessageWithFormat("command.entityinfo.id", type.getId(), Util.getTranslatableIfPresent(type)));
+                lt.add(plugin.getMessageProvider(player).getTextMessageWithFormat("command.entityinfo.uuid", entity.getUniqueId().toString()));
 
                 if (args.hasAny("e") || args.hasAny("extended")) {
                     // For each key, see if the entity supports it. If so, get and print the value.
@@ -114,7 +114,7 @@ public class EntityInfoCommand extends AbstractCommand<Player> {
                 }
 
                 Sponge.getServiceManager().provideUnchecked(PaginationService.class).builder().contents(lt).padding(Text.of(TextColors.GREEN, "-"))
-                    .title(plugin.getMessageProvider().getTextMessageWithFormat("command.entityinfo.list.header", String.valueOf(brh.getBlockX()),
+                    .title(plugin.getMessageProvider(player).getTextMessageWithFormat("command.entityinfo.list.header", String.valueOf(brh.getBlockX()),
                         String.valueOf(brh.getBlockY()), String.valueOf(brh.getBlockZ())))
                     .sendTo(player);
 
@@ -122,7 +122,7 @@ public class EntityInfoCommand extends AbstractCommand<Player> {
             }
         }
 
-        player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.entityinfo.none"));
+        player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.entityinfo.none"));
         return CommandResult.empty();
     }
 }
@@ -58,14 +58,14 @@ public class FeedCommand extends io.github.nucleuspowered.nucleus.internal.comma
         foodData.set(f, d);
 
         if (pl.offer(foodData).isSuccessful()) {
-            pl.sendMessages(plugin.getMessageProvider().getTextMessageWithFormat("command.feed.success.self"));
+            pl.sendMessages(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.feed.success.self"));
             if (!pl.equals(src)) {
-                src.sendMessages(plugin.getMessageProvider().getTextMessageWithFormat("command.feed.success.other", pl.getName()));
+                src.sendMessages(plugin.getMessageProvider(src).getTextMessageWithFormat("command.feed.success.other", pl.getName()));
             }
 
             return CommandResult.success();
         } else {
-            src.sendMessages(plugin.getMessageProvider().getTextMessageWithFormat("command.feed.error"));
+            src.sendMessages(plugin.getMessageProvider(src).getTextMessageWithFormat("command.feed.error"));
             return CommandResult.empty();
         }
     }
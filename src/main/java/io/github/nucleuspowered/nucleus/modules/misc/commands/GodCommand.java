@@ -10,6 +10,7 @@ import io.github.nucleuspowered.nucleus.internal.annotations.NoCost;
 import io.github.nucleuspowered.nucleus.internal.annotations.NoWarmup;
 import io.github.nucleuspowered.nucleus.internal.annotations.Permissions;
 import io.github.nucleuspowered.nucleus.internal.annotations.RegisterCommand;
+import io.github.nucleuspowered.nucleus.internal.command.ReturnMessageException;
 import io.github.nucleuspowered.nucleus.internal.permissions.PermissionInformation;
 import io.github.nucleuspowered.nucleus.internal.permissions.SuggestedLevel;
 import org.spongepowered.api.command.CommandResult;
@@ -52,15 +53,15 @@ public class GodCommand extends io.github.nucleuspowered.nucleus.internal.comman
     @Override
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
         Player pl = this.getUserFromArgs(Player.class, src, playerKey, args);
-        UserService uc = plugin.getUserDataManager().get(pl).get();
+        UserService uc = plugin.getUserDataManager().getIfLoaded(pl.getUniqueId()).orElseThrow(() -> new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.userdata.notloaded", pl.getName())));
         boolean god = args.<Boolean>getOne(invulnKey).orElse(!uc.isInvulnerable());
 
         uc.setInvulnerable(god);
         if (!pl.equals(src)) {
-            src.sendMessages(plugin.getMessageProvider().getTextMessageWithFormat(god ? "command.god.player.on" : "command.god.player.off", pl.getName()));
+            src.sendMessages(plugin.getMessageProvider(src).getTextMessageWithFormat(god ? "command.god.player.on" : "command.god.player.off", pl.getName()));
         }
 
-        pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat(god ? "command.god.on" : "command.god.off"));
+        pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat(god ? "command.god.on" : "command.god.off"));
         return CommandResult.success();
     }
 }
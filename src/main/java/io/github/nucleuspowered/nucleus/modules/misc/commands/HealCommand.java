@@ -51,14 +51,14 @@ public class HealCommand extends io.github.nucleuspowered.nucleus.internal.comma
         Player pl = this.getUserFromArgs(Player.class, src, player, args);
         if (pl.offer(Keys.HEALTH, pl.get(Keys.MAX_HEALTH).get()).isSuccessful()) {
             pl.offer(Keys.FIRE_TICKS, 0);
-            pl.sendMessages(plugin.getMessageProvider().getTextMessageWithFormat("command.heal.success.self"));
+            pl.sendMessages(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.heal.success.self"));
             if (!pl.equals(src)) {
-                src.sendMessages(plugin.getMessageProvider().getTextMessageWithFormat("command.heal.success.other", pl.getName()));
+                src.sendMessages(plugin.getMessageProvider(src).getTextMessageWithFormat("command.heal.success.other", pl.getName()));
             }
 
             return CommandResult.success();
         } else {
-            src.sendMessages(plugin.getMessageProvider().getTextMessageWithFormat("command.heal.error"));
+            src.sendMessages(plugin.getMessageProvider(src).getTextMessageWithFormat("command.heal.error"));
             return CommandResult.empty();
         }
     }
@@ -70,23 +70,23 @@ public class ItemInfoCommand extends io.github.nucleuspowered.nucleus.internal.c
                 it = ((ItemType) ct).getTemplate().createStack();
             } else {
                 BlockState bs = ((BlockState) ct);
-                it = bs.getType().getItem().orElseThrow(() -> new CommandException(plugin.getMessageProvider().getTextMessageWithFormat("command.iteminfo.invalidblockstate"))).getTemplate().createStack();
+                it = bs.getType().getItem().orElseThrow(() -> new CommandException(plugin.getMessageProvider(player).getTextMessageWithFormat("command.iteminfo.invalidblockstate"))).getTemplate().createStack();
                 it.offer(Keys.ITEM_BLOCKSTATE, bs);
             }
         } else if (player.getItemInHand().isPresent()) {
             it = player.getItemInHand().get();
         } else {
-            player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.iteminfo.none"));
+            player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.iteminfo.none"));
             return CommandResult.empty();
         }
 
         final List<Text> lt = new ArrayList<>();
         String id = it.getItem().getId().toLowerCase();
-        lt.add(plugin.getMessageProvider().getTextMessageWithFormat("command.iteminfo.id", it.getItem().getId(), it.getTranslation().get()));
+        lt.add(plugin.getMessageProvider(player).getTextMessageWithFormat("command.iteminfo.id", it.getItem().getId(), it.getTranslation().get()));
 
         Optional<BlockState> obs = it.get(Keys.ITEM_BLOCKSTATE);
         if (obs.isPresent()) {
-            lt.add(plugin.getMessageProvider().getTextMessageWithFormat("command.iteminfo.extendedid", obs.get().getId()));
+            lt.add(plugin.getMessageProvider(player).getTextMessageWithFormat("command.iteminfo.extendedid", obs.get().getId()));
             id = obs.get().getId().toLowerCase();
         }
 
@@ -116,7 +116,7 @@ public class ItemInfoCommand extends io.github.nucleuspowered.nucleus.internal.c
             int buyPrice = itemDataNode.getServerBuyPrice();
             if (buyPrice > -1) {
                 lt.add(Text.EMPTY);
-                lt.add(plugin.getMessageProvider().getTextMessageWithFormat("command.iteminfo.buyprice", econHelper.getCurrencySymbol(buyPrice)));
+                lt.add(plugin.getMessageProvider(player).getTextMessageWithFormat("command.iteminfo.buyprice", econHelper.getCurrencySymbol(buyPrice)));
                 space = true;
             }
 
@@ -126,14 +126,14 @@ public class ItemInfoCommand extends io.github.nucleuspowered.nucleus.internal.c
                     lt.add(Text.EMPTY);
                 }
 
-                lt.add(plugin.getMessageProvider().getTextMessageWithFormat("command.iteminfo.sellprice", econHelper.getCurrencySymbol(sellPrice)));
+                lt.add(plugin.getMessageProvider(player).getTextMessageWithFormat("command.iteminfo.sellprice", econHelper.getCurrencySymbol(sellPrice)));
             }
         }
 
         List<String> aliases = itemDataNode.getAliases();
         if (!aliases.isEmpty()) {
             lt.add(Text.EMPTY);
-            lt.add(plugin.getMessageProvider().getTextMessageWithFormat("command.iteminfo.list.aliases"));
+            lt.add(plugin.getMessageProvider(player).getTextMessageWithFormat("command.iteminfo.list.aliases"));
 
             Text.Builder tb = Text.builder();
             Iterator<String> iterator = aliases.iterator();
@@ -147,7 +147,7 @@ public class ItemInfoCommand extends io.github.nucleuspowered.nucleus.internal.c
         }
 
         Sponge.getServiceManager().provideUnchecked(PaginationService.class).builder().contents(lt).padding(Text.of(TextColors.GREEN, "-"))
-                .title(plugin.getMessageProvider().getTextMessageWithFormat("command.iteminfo.list.header")).sendTo(player);
+                .title(plugin.getMessageProvider(player).getTextMessageWithFormat("command.iteminfo.list.header")).sendTo(player);
         return CommandResult.success();
     }
 }
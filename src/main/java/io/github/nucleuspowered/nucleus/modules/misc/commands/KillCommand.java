@@ -37,13 +37,13 @@ public class KillCommand extends io.github.nucleuspowered.nucleus.internal.comma
         Player pl = args.<Player>getOne(key).get();
         GameMode gm = pl.gameMode().getDirect().orElse(pl.gameMode().getDefault());
         if (gm != GameModes.SURVIVAL && gm != GameModes.NOT_SET) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.kill.wronggm", pl.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.kill.wronggm", pl.getName()));
             return CommandResult.empty();
         }
 
         pl.offer(Keys.HEALTH, 0d);
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.kill.killed", pl.getName()));
-        pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.kill.killedby", src.getName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.kill.killed", pl.getName()));
+        pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.kill.killedby", src.getName()));
 
         return CommandResult.success();
     }
@@ -47,17 +47,17 @@ public class ServerStatCommand extends AbstractCommand<CommandSource> {
 
         List<Text> messages = Lists.newArrayList();
 
-        messages.add(plugin.getMessageProvider().getTextMessageWithTextFormat("command.serverstat.tps", getTPS(Sponge.getServer().getTicksPerSecond())));
+        messages.add(plugin.getMessageProvider(src).getTextMessageWithTextFormat("command.serverstat.tps", getTPS(Sponge.getServer().getTicksPerSecond())));
 
         Optional<Instant> oi = plugin.getGameStartedTime();
         if (oi.isPresent()) {
             Duration duration = Duration.between(oi.get(), Instant.now());
             double averageTPS = Math.min(20, ((double)Sponge.getServer().getRunningTimeTicks() / ((double)(duration.toMillis() + 50)/1000.0d)));
-            messages.add(plugin.getMessageProvider().getTextMessageWithTextFormat("command.serverstat.averagetps", getTPS(averageTPS)));
-            messages.add(createText("command.serverstat.uptime.main", "command.serverstat.uptime.hover", Util.getTimeStringFromSeconds(duration.getSeconds())));
+            messages.add(plugin.getMessageProvider(src).getTextMessageWithTextFormat("command.serverstat.averagetps", getTPS(averageTPS)));
+            messages.add(createText(src, "command.serverstat.uptime.main", "command.serverstat.uptime.hover", Util.getTimeStringFromSeconds(duration.getSeconds())));
         }
 
-        messages.add(createText("command.serverstat.jvmuptime.main", "command.serverstat.jvmuptime.hover", Util.getTimeStringFromSeconds(uptime.getSeconds())));
+        messages.add(createText(src, "command.serverstat.jvmuptime.main", "command.serverstat.jvmuptime.hover", Util.getTimeStringFromSeconds(uptime.getSeconds())));
 
         messages.add(notQuiteEmpty);
 
@@ -65,25 +65,25 @@ public class ServerStatCommand extends AbstractCommand<CommandSource> {
         long total = Runtime.getRuntime().totalMemory() / 1024 / 1024;
         long free = Runtime.getRuntime().freeMemory() / 1024 / 1024;
 
-        messages.add(createText("command.serverstat.maxmem.main", "command.serverstat.maxmem.hover", String.valueOf(max)));
-        messages.add(createText("command.serverstat.totalmem.main", "command.serverstat.totalmem.hover", String.valueOf(total)));
+        messages.add(createText(src, "command.serverstat.maxmem.main", "command.serverstat.maxmem.hover", String.valueOf(max)));
+        messages.add(createText(src, "command.serverstat.totalmem.main", "command.serverstat.totalmem.hover", String.valueOf(total)));
 
         long allocated = total - free;
-        messages.add(createText("command.serverstat.allocated.main", "command.serverstat.allocated.hover",
+        messages.add(createText(src, "command.serverstat.allocated.main", "command.serverstat.allocated.hover",
                 String.valueOf(allocated), String.valueOf((allocated * 100)/total), String.valueOf((allocated * 100)/max)));
-        messages.add(createText("command.serverstat.freemem.main", "command.serverstat.freemem.hover", String.valueOf(free)));
+        messages.add(createText(src, "command.serverstat.freemem.main", "command.serverstat.freemem.hover", String.valueOf(free)));
 
         for (World world : Sponge.getServer().getWorlds())
         {
             int numOfEntities = world.getEntities().size();
             int loadedChunks = Iterables.size(world.getLoadedChunks());
             messages.add(notQuiteEmpty);
-            messages.add(plugin.getMessageProvider().getTextMessageWithFormat("command.serverstat.world.title", world.getName()));
-            messages.add(plugin.getMessageProvider().getTextMessageWithFormat("command.serverstat.world.info", world.getDimension().getName(), String.valueOf(numOfEntities), String.valueOf(loadedChunks)));
+            messages.add(plugin.getMessageProvider(src).getTextMessageWithFormat("command.serverstat.world.title", world.getName()));
+            messages.add(plugin.getMessageProvider(src).getTextMessageWithFormat("command.serverstat.world.info", world.getDimension().getName(), String.valueOf(numOfEntities), String.valueOf(loadedChunks)));
         }
 
         PaginationList.Builder plb = Sponge.getServiceManager().provideUnchecked(PaginationService.class).builder()
-                .title(plugin.getMessageProvider().getTextMessageWithFormat("command.serverstat.title")).padding(Text.of("="))
+                .title(plugin.getMessageProvider(src).getTextMessageWithFormat("command.serverstat.title")).padding(Text.of("="))
                 .contents(messages);
         if (!(src instanceof Player)) {
             plb.linesPerPage(-1);
@@ -107,13 +107,13 @@ public class ServerStatCommand extends AbstractCommand<CommandSource> {
         return Text.of(colour, tpsFormat.format(currentTps));
     }
 
-    private Text createText(String mainKey, String hoverKey, String... subs) {
-        Text.Builder tb = plugin.getMessageProvider().getTextMessageWithFormat(mainKey, subs).toBuilder();
-        return tb.onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat(hoverKey))).build();
+    private Text createText(CommandSource src, String mainKey, String hoverKey, String... subs) {
+        Text.Builder tb = plugin.getMessageProvider(src).getTextMessageWithFormat(mainKey, subs).toBuilder();
+        return tb.onHover(TextActions.showText(plugin.getMessageProvider(src).getTextMessageWithFormat(hoverKey))).build();
     }
 
-    private Text createText(String mainKey, String hoverKey, Text... subs) {
-        Text.Builder tb = plugin.getMessageProvider().getTextMessageWithTextFormat(mainKey, subs).toBuilder();
-        return tb.onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat(hoverKey))).build();
+    private Text createText(CommandSource src, String mainKey, String hoverKey, Text... subs) {
+        Text.Builder tb = plugin.getMessageProvider(src).getTextMessageWithTextFormat(mainKey, subs).toBuilder();
+        return tb.onHover(TextActions.showText(plugin.getMessageProvider(src).getTextMessageWithFormat(hoverKey))).build();
     }
 }
@@ -79,9 +79,9 @@ public class SpeedCommand extends io.github.nucleuspowered.nucleus.internal.comm
         Player pl = this.getUserFromArgs(Player.class, src, playerKey, args);
         Optional<Integer> ospeed = args.getOne(speedKey);
         if (!ospeed.isPresent()) {
-            Text t = Text.builder().append(plugin.getMessageProvider().getTextMessageWithFormat("command.speed.walk")).append(Text.of(" "))
+            Text t = Text.builder().append(plugin.getMessageProvider(src).getTextMessageWithFormat("command.speed.walk")).append(Text.of(" "))
                     .append(Text.of(TextColors.YELLOW, Math.round(pl.get(Keys.WALKING_SPEED).orElse(0.1d) * 20)))
-                    .append(Text.builder().append(Text.of(TextColors.GREEN, ", ")).append(plugin.getMessageProvider().getTextMessageWithFormat("command.speed.flying"))
+                    .append(Text.builder().append(Text.of(TextColors.GREEN, ", ")).append(plugin.getMessageProvider(src).getTextMessageWithFormat("command.speed.flying"))
                             .build())
                     .append(Text.of(" ")).append(Text.of(TextColors.YELLOW, Math.round(pl.get(Keys.FLYING_SPEED).orElse(0.05d) * 20)))
                     .append(Text.of(TextColors.GREEN, ".")).build();
@@ -96,29 +96,29 @@ public class SpeedCommand extends io.github.nucleuspowered.nucleus.internal.comm
         int speed = ospeed.get();
 
         if (speed < 0) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.speed.negative"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.speed.negative"));
             return CommandResult.empty();
         }
 
         int maxSpeed = miscConfigAdapter.getNodeOrDefault().getMaxSpeed();
         if (!permissions.testSuffix(src, "exempt.max") && maxSpeed < speed) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.speed.max", String.valueOf(maxSpeed)));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.speed.max", String.valueOf(maxSpeed)));
             return CommandResult.empty();
         }
 
         DataTransactionResult dtr = pl.offer(key.speedKey, (double) speed / (double) multiplier);
 
         if (dtr.isSuccessful()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.speed.success.base", key.name, String.valueOf(speed)));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.speed.success.base", key.name, String.valueOf(speed)));
 
             if (!pl.equals(src)) {
-                src.sendMessages(plugin.getMessageProvider().getTextMessageWithFormat("command.speed.success.other", pl.getName(), key.name, String.valueOf(speed)));
+                src.sendMessages(plugin.getMessageProvider(src).getTextMessageWithFormat("command.speed.success.other", pl.getName(), key.name, String.valueOf(speed)));
             }
 
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.speed.fail", key.name));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.speed.fail", key.name));
         return CommandResult.empty();
     }
 
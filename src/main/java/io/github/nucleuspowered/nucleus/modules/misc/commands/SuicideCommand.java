@@ -23,7 +23,7 @@ public class SuicideCommand extends io.github.nucleuspowered.nucleus.internal.co
     public CommandResult executeCommand(Player src, CommandContext args) throws Exception {
         GameMode gm = src.gameMode().getDirect().orElse(src.gameMode().getDefault());
         if (gm != GameModes.SURVIVAL && gm != GameModes.NOT_SET) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.suicide.wronggm"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.suicide.wronggm"));
             return CommandResult.empty();
         }
 
@@ -79,13 +79,13 @@ public class SpawnMobCommand extends io.github.nucleuspowered.nucleus.internal.c
         EntityType et = args.<EntityType>getOne(mobTypeKey).get();
 
         if (!Living.class.isAssignableFrom(et.getEntityClass())) {
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.spawnmob.livingonly", et.getTranslation().get()));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.spawnmob.livingonly", et.getTranslation().get()));
         }
 
         String id = et.getId().toLowerCase();
         Optional<BlockSpawnsConfig> config = mobConfigAdapter.getNodeOrDefault().getBlockSpawnsConfigForWorld(pl.getWorld());
         if (config.isPresent() && (config.get().isBlockVanillaMobs() && id.startsWith("minecraft:") || config.get().getIdsToBlock().contains(id))) {
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.spawnmob.blockedinconfig", et.getTranslation().get()));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.spawnmob.blockedinconfig", et.getTranslation().get()));
         }
 
         Location<World> loc = pl.getLocation();
@@ -103,7 +103,7 @@ public class SpawnMobCommand extends io.github.nucleuspowered.nucleus.internal.c
             Optional<Entity> e = w.createEntity(et, loc.getPosition());
             if (e.isPresent()) {
                 if (!w.spawnEntity(e.get(), cause)) {
-                    throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.spawnmob.fail", et.getTranslation().get()));
+                    throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.spawnmob.fail", et.getTranslation().get()));
                 }
 
                 i++;
@@ -112,18 +112,18 @@ public class SpawnMobCommand extends io.github.nucleuspowered.nucleus.internal.c
 
         if (amount > mobConfigAdapter.getNodeOrDefault().getMaxMobsToSpawn()) {
             src.sendMessage(
-                    plugin.getMessageProvider().getTextMessageWithFormat("command.spawnmob.limit", String.valueOf(mobConfigAdapter.getNodeOrDefault().getMaxMobsToSpawn())));
+                    plugin.getMessageProvider(src).getTextMessageWithFormat("command.spawnmob.limit", String.valueOf(mobConfigAdapter.getNodeOrDefault().getMaxMobsToSpawn())));
         }
 
         if (i == 0) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.spawnmob.fail", et.getTranslation().get()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.spawnmob.fail", et.getTranslation().get()));
             return CommandResult.empty();
         }
 
         if (i == 1) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.spawnmob.success.singular", String.valueOf(i), et.getTranslation().get()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.spawnmob.success.singular", String.valueOf(i), et.getTranslation().get()));
         } else {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.spawnmob.success.plural", String.valueOf(i), et.getTranslation().get()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.spawnmob.success.plural", String.valueOf(i), et.getTranslation().get()));
         }
 
         return CommandResult.success();
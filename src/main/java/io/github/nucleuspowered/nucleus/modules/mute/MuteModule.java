@@ -58,18 +58,18 @@ public class MuteModule extends ConfigurableModule<MuteConfigAdapter> {
                 // Lightweight checkban.
                 Text.Builder m;
                 if (jd.getEndTimestamp().isPresent()) {
-                    m = plugin.getMessageProvider().getTextMessageWithFormat("seen.ismuted.temp", Util.getTimeToNow(jd.getEndTimestamp().get())).toBuilder();
+                    m = plugin.getMessageProvider(c).getTextMessageWithFormat("seen.ismuted.temp", Util.getTimeToNow(jd.getEndTimestamp().get())).toBuilder();
                 } else {
-                    m = plugin.getMessageProvider().getTextMessageWithFormat("seen.ismuted.perm").toBuilder();
+                    m = plugin.getMessageProvider(c).getTextMessageWithFormat("seen.ismuted.perm").toBuilder();
                 }
 
                 return Lists.newArrayList(
                         m.onClick(TextActions.runCommand("/checkmute " + u.getName()))
-                                .onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("standard.clicktoseemore"))).build(),
-                        plugin.getMessageProvider().getTextMessageWithFormat("standard.reason", jd.getReason()));
+                                .onHover(TextActions.showText(plugin.getMessageProvider(c).getTextMessageWithFormat("standard.clicktoseemore"))).build(),
+                        plugin.getMessageProvider(c).getTextMessageWithFormat("standard.reason", jd.getReason()));
             }
 
-            return Lists.newArrayList(plugin.getMessageProvider().getTextMessageWithFormat("seen.notmuted"));
+            return Lists.newArrayList(plugin.getMessageProvider(c).getTextMessageWithFormat("seen.notmuted"));
         });
     }
 }
@@ -52,7 +52,7 @@ public class CheckMuteCommand extends io.github.nucleuspowered.nucleus.internal.
 
         Optional<MuteData> omd = handler.getPlayerMuteData(user);
         if (!omd.isPresent()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.checkmute.none", user.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.checkmute.none", user.getName()));
             return CommandResult.success();
         }
 
@@ -63,21 +63,21 @@ public class CheckMuteCommand extends io.github.nucleuspowered.nucleus.internal.
             name = Sponge.getServer().getConsole().getName();
         } else {
             Optional<User> ou = Sponge.getServiceManager().provideUnchecked(UserStorageService.class).get(md.getMuter());
-            name = ou.isPresent() ? ou.get().getName() : plugin.getMessageProvider().getMessageWithFormat("standard.unknown");
+            name = ou.isPresent() ? ou.get().getName() : plugin.getMessageProvider(src).getMessageWithFormat("standard.unknown");
         }
 
         String time = "";
         String forString = "";
         if (md.getEndTimestamp().isPresent()) {
             time = Util.getTimeStringFromSeconds(Instant.now().until(md.getEndTimestamp().get(), ChronoUnit.SECONDS));
-            forString = " " + plugin.getMessageProvider().getMessageWithFormat("standard.for") + " ";
+            forString = " " + plugin.getMessageProvider(src).getMessageWithFormat("standard.for") + " ";
         } else if (md.getTimeFromNextLogin().isPresent()) {
             time = Util.getTimeStringFromSeconds(md.getTimeFromNextLogin().get().getSeconds());
-            forString = " " + plugin.getMessageProvider().getMessageWithFormat("standard.for") + " ";
+            forString = " " + plugin.getMessageProvider(src).getMessageWithFormat("standard.for") + " ";
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.checkmute.mute", user.getName(), name, forString, time));
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("standard.reason", md.getReason()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.checkmute.mute", user.getName(), name, forString, time));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("standard.reason", md.getReason()));
         return CommandResult.success();
     }
 }
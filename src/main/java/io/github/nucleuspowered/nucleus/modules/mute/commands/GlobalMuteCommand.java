@@ -40,7 +40,7 @@ public class GlobalMuteCommand extends AbstractCommand<CommandSource> {
 
         muteHandler.setGlobalMuteEnabled(turnOn);
         String onOff = plugin.getMessageProvider().getMessageFromKey(turnOn ? "standard.enabled" : "standard.disabled").get();
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.globalmute.status", onOff));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.globalmute.status", onOff));
         MessageChannel.TO_ALL.send(plugin.getMessageProvider().getTextMessageWithFormat("command.globalmute.broadcast." + (turnOn ? "enabled" : "disabled")));
 
         return CommandResult.success();
@@ -92,7 +92,7 @@ public class MuteCommand extends io.github.nucleuspowered.nucleus.internal.comma
         Optional<String> reas = args.getOne(reason);
 
         if (permissions.testSuffix(user, "exempt.target")) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.mute.exempt", user.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.mute.exempt", user.getName()));
             return CommandResult.success();
         }
 
@@ -100,7 +100,7 @@ public class MuteCommand extends io.github.nucleuspowered.nucleus.internal.comma
         if (omd.isPresent() && !time.isPresent() && !reas.isPresent()) {
             // Unmute.
             handler.unmutePlayer(user);
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.unmute.success", user.getName(), src.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.unmute.success", user.getName(), src.getName()));
             return CommandResult.success();
         }
 
@@ -112,7 +112,7 @@ public class MuteCommand extends io.github.nucleuspowered.nucleus.internal.comma
         }
 
         if (time.orElse(Long.MAX_VALUE) > mca.getNodeOrDefault().getMaximumMuteLength() &&  mca.getNodeOrDefault().getMaximumMuteLength() != -1 && !permissions.testSuffix(src, "exempt.length")) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.mute.length.toolong", Util.getTimeStringFromSeconds(mca.getNodeOrDefault().getMaximumMuteLength())));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.mute.length.toolong", Util.getTimeStringFromSeconds(mca.getNodeOrDefault().getMaximumMuteLength())));
             return CommandResult.success();
         }
 
@@ -137,7 +137,7 @@ public class MuteCommand extends io.github.nucleuspowered.nucleus.internal.comma
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.mute.fail", user.getName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.mute.fail", user.getName()));
         return CommandResult.empty();
     }
 
@@ -147,8 +147,8 @@ public class MuteCommand extends io.github.nucleuspowered.nucleus.internal.comma
         mc.send(plugin.getMessageProvider().getTextMessageWithFormat("standard.reason", data.getReason()));
 
         if (user.isOnline()) {
-            user.getPlayer().get().sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("mute.playernotify.time", ts));
-            user.getPlayer().get().sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.reason", data.getReason()));
+            user.getPlayer().get().sendMessage(plugin.getMessageProvider(user.getPlayer().get()).getTextMessageWithFormat("mute.playernotify.time", ts));
+            user.getPlayer().get().sendMessage(plugin.getMessageProvider(user.getPlayer().get()).getTextMessageWithFormat("command.reason", data.getReason()));
         }
     }
 
@@ -157,8 +157,8 @@ public class MuteCommand extends io.github.nucleuspowered.nucleus.internal.comma
         mc.send(plugin.getMessageProvider().getTextMessageWithFormat("standard.reason", data.getReason()));
 
         if (user.isOnline()) {
-            user.getPlayer().get().sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("mute.playernotify.standard"));
-            user.getPlayer().get().sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.reason", data.getReason()));
+            user.getPlayer().get().sendMessage(plugin.getMessageProvider(user.getPlayer().get()).getTextMessageWithFormat("mute.playernotify.standard"));
+            user.getPlayer().get().sendMessage(plugin.getMessageProvider(user.getPlayer().get()).getTextMessageWithFormat("command.reason", data.getReason()));
         }
     }
 }
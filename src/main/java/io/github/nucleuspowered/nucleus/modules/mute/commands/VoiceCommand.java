@@ -56,13 +56,13 @@ public class VoiceCommand extends AbstractCommand<CommandSource> {
     @Override
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
         if (!muteHandler.isGlobalMuteEnabled()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.voice.globaloff"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.voice.globaloff"));
             return CommandResult.empty();
         }
 
         Player pl = args.<Player>getOne(player).get();
         if (permissions.testSuffix(pl, "auto")) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.voice.autovoice", pl.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.voice.autovoice", pl.getName()));
             return CommandResult.empty();
         }
 
@@ -71,9 +71,9 @@ public class VoiceCommand extends AbstractCommand<CommandSource> {
         UUID voice = pl.getUniqueId();
         if (turnOn == muteHandler.isVoiced(voice)) {
             if (turnOn) {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.voice.alreadyvoiced", pl.getName()));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.voice.alreadyvoiced", pl.getName()));
             } else {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.voice.alreadynotvoiced", pl.getName()));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.voice.alreadynotvoiced", pl.getName()));
             }
 
             return CommandResult.empty();
@@ -84,11 +84,11 @@ public class VoiceCommand extends AbstractCommand<CommandSource> {
         if (turnOn) {
             muteHandler.addVoice(pl.getUniqueId());
             mmc.send(plugin.getMessageProvider().getTextMessageWithFormat("command.voice.voiced.source", pl.getName()));
-            pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.voice.voiced.target"));
+            pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.voice.voiced.target"));
         } else {
             muteHandler.removeVoice(pl.getUniqueId());
             mmc.send(plugin.getMessageProvider().getTextMessageWithFormat("command.voice.voiced.source", pl.getName()));
-            pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.voice.voiced.target"));
+            pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.voice.voiced.target"));
         }
 
         return CommandResult.success();
@@ -9,6 +9,7 @@ import com.google.inject.Inject;
 import io.github.nucleuspowered.nucleus.Util;
 import io.github.nucleuspowered.nucleus.api.data.MuteData;
 import io.github.nucleuspowered.nucleus.api.events.NucleusMessageEvent;
+import io.github.nucleuspowered.nucleus.dataservices.UserService;
 import io.github.nucleuspowered.nucleus.internal.CommandPermissionHandler;
 import io.github.nucleuspowered.nucleus.internal.ListenerBase;
 import io.github.nucleuspowered.nucleus.internal.PermissionRegistry;
@@ -63,6 +64,7 @@ public class MuteListener extends ListenerBase {
             if (omd.isPresent()) {
                 MuteData md = omd.get();
                 md.nextLoginToTimestamp();
+                plugin.getUserDataManager().get(user).ifPresent(UserService::markDirty);
 
                 omd = Util.testForEndTimestamp(handler.getPlayerMuteData(user), () -> handler.unmutePlayer(user));
                 if (omd.isPresent()) {
@@ -173,10 +175,10 @@ public class MuteListener extends ListenerBase {
 
     private void onMute(MuteData md, Player user) {
         if (md.getEndTimestamp().isPresent()) {
-            user.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("mute.playernotify.time",
+            user.sendMessage(plugin.getMessageProvider(user).getTextMessageWithFormat("mute.playernotify.time",
                     Util.getTimeStringFromSeconds(Instant.now().until(md.getEndTimestamp().get(), ChronoUnit.SECONDS))));
         } else {
-            user.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("mute.playernotify.standard"));
+            user.sendMessage(plugin.getMessageProvider(user).getTextMessageWithFormat("mute.playernotify.standard"));
         }
     }
 
@@ -189,7 +191,7 @@ public class MuteListener extends ListenerBase {
             return false;
         }
 
-        player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("globalmute.novoice"));
+        player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("globalmute.novoice"));
         return true;
     }
 
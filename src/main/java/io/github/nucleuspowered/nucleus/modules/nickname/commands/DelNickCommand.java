@@ -5,10 +5,10 @@
 package io.github.nucleuspowered.nucleus.modules.nickname.commands;
 
 import com.google.inject.Inject;
-import io.github.nucleuspowered.nucleus.dataservices.UserService;
 import io.github.nucleuspowered.nucleus.dataservices.loaders.UserDataManager;
 import io.github.nucleuspowered.nucleus.internal.annotations.Permissions;
 import io.github.nucleuspowered.nucleus.internal.annotations.RegisterCommand;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandResult;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.command.args.CommandContext;
@@ -35,16 +35,23 @@ public class DelNickCommand extends io.github.nucleuspowered.nucleus.internal.co
     @Override
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
         User pl = this.getUserFromArgs(User.class, src, playerKey, args);
-        UserService userService = loader.get(pl).get();
-        userService.removeNickname();
-
-        if (!src.equals(pl)) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.delnick.success.other", pl.getName()));
-        }
-
-        if (pl.isOnline()) {
-            pl.getPlayer().get().sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.delnick.success.base"));
-        }
+        // The user might be offline, so load their data off the main thread, then remove the nickname back on it.
+        loader.getAsync(pl.getUniqueId()).thenAcceptAsync(ous -> {
+            if (!ous.isPresent()) {
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.userdata.notloaded", pl.getName()));
+                return;
+            }
+
+            ous.get().removeNickname();
+
+            if (!src.equals(pl)) {
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.delnick.success.other", pl.getName()));
+            }
+
+            if (pl.isOnline()) {
+                pl.getPlayer().get().sendMessage(plugin.getMessageProvider(pl.getPlayer().get()).getTextMessageWithFormat("command.delnick.success.base"));
+            }
+        }, Sponge.getScheduler().createSyncExecutor(plugin));
 
         return CommandResult.success();
     }
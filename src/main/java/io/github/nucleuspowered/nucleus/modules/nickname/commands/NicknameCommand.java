@@ -76,26 +76,26 @@ public class NicknameCommand extends io.github.nucleuspowered.nucleus.internal.c
         // The only person who can use such a name is oneself.
         if (match.isPresent() && !match.get().getUniqueId().equals(pl.getUniqueId())) {
             // Fail - cannot use another's name.
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.nick.nameinuse", name));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nick.nameinuse", name));
             return CommandResult.empty();
         }
 
         // Giving player must have the colour permissions and whatnot. Also,
         // colour and color are the two spellings we support. (RULE BRITANNIA!)
         if (colourPattern.matcher(name).find() && !(permissions.testSuffix(src, "colour") || permissions.testSuffix(src, "color"))) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.nick.colour.noperms"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nick.colour.noperms"));
             return CommandResult.empty();
         }
 
         // Giving player must have the magic permissions and whatnot.
         if (magicPattern.matcher(name).find() && !permissions.testSuffix(src, "magic")) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.nick.magic.noperms"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nick.magic.noperms"));
             return CommandResult.empty();
         }
 
         // Giving player must have the style permissions and whatnot.
         if (stylePattern.matcher(name).find() && !permissions.testSuffix(src, "style")) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.nick.style.noperms"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nick.style.noperms"));
             return CommandResult.empty();
         }
 
@@ -103,36 +103,44 @@ public class NicknameCommand extends io.github.nucleuspowered.nucleus.internal.c
 
         // Do a regex remove to check minimum length requirements.
         if (strippedNameLength < Math.max(nicknameConfigAdapter.getNodeOrDefault().getMinNicknameLength(), 1)) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.nick.tooshort"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nick.tooshort"));
             return CommandResult.empty();
         }
 
         // Do a regex remove to check maximum length requirements. Will be at least the minimum length
         if (strippedNameLength > Math.max(nicknameConfigAdapter.getNodeOrDefault().getMaxNicknameLength(), nicknameConfigAdapter.getNodeOrDefault().getMinNicknameLength())) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.nick.toolong"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nick.toolong"));
             return CommandResult.empty();
         }
 
         // Send an event
         ChangeNicknameEvent cne = new ChangeNicknameEvent(Cause.of(NamedCause.source(src)), TextSerializers.FORMATTING_CODE.deserialize(name), pl);
         if (Sponge.getEventManager().post(cne)) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.nick.eventcancel", pl.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nick.eventcancel", pl.getName()));
             return CommandResult.empty();
         }
 
-        UserService nucleusUser = loader.get(pl).get();
-        nucleusUser.setNickname(name);
-        Text set = nucleusUser.getNicknameAsText().get();
-
-        if (!src.equals(pl)) {
-            src.sendMessage(Text.builder().append(plugin.getMessageProvider().getTextMessageWithFormat("command.nick.success.other", pl.getName()))
-                    .append(Text.of(" - ", TextColors.RESET, set)).build());
-        }
-
-        if (pl.isOnline()) {
-            pl.getPlayer().get().sendMessage(Text.builder().append(plugin.getMessageProvider().getTextMessageWithFormat("command.nick.success.base"))
-                    .append(Text.of(" - ", TextColors.RESET, set)).build());
-        }
+        // The user might be offline, so load their data off the main thread, then set the nickname back on it.
+        loader.getAsync(pl.getUniqueId()).thenAcceptAsync(ous -> {
+            if (!ous.isPresent()) {
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.userdata.notloaded", pl.getName()));
+                return;
+            }
+
+            UserService nucleusUser = ous.get();
+            nucleusUser.setNickname(name);
+            Text set = nucleusUser.getNicknameAsText().get();
+
+            if (!src.equals(pl)) {
+                src.sendMessage(Text.builder().append(plugin.getMessageProvider(src).getTextMessageWithFormat("command.nick.success.other", pl.getName()))
+                        .append(Text.of(" - ", TextColors.RESET, set)).build());
+            }
+
+            if (pl.isOnline()) {
+                pl.getPlayer().get().sendMessage(Text.builder().append(plugin.getMessageProvider(pl.getPlayer().get()).getTextMessageWithFormat("command.nick.success.base"))
+                        .append(Text.of(" - ", TextColors.RESET, set)).build());
+            }
+        }, Sponge.getScheduler().createSyncExecutor(plugin));
 
         return CommandResult.success();
     }
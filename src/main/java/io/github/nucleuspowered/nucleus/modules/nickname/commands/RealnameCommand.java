@@ -52,7 +52,7 @@ public class RealnameCommand extends io.github.nucleuspowered.nucleus.internal.c
 
         List<Text> realNames = players.stream().map(x -> {
             // I can't get display name to work!
-            Optional<UserService> ous = udm.get(x);
+            Optional<UserService> ous = udm.getIfLoaded(x.getUniqueId());
             if (ous.isPresent()) {
                 Optional<Text> ot = ous.get().getNicknameAsText();
                 if (ot.isPresent()) {
@@ -71,12 +71,12 @@ public class RealnameCommand extends io.github.nucleuspowered.nucleus.internal.c
                 .collect(Collectors.toList());
 
         if (realNames.isEmpty()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.realname.nonames", argname));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.realname.nonames", argname));
         } else {
             PaginationList.Builder plb = Sponge.getServiceManager().provideUnchecked(PaginationService.class).builder()
                     .contents(realNames)
                     .padding(Text.of(TextColors.GREEN, "-"))
-                    .title(plugin.getMessageProvider().getTextMessageWithFormat("command.realname.title", argname));
+                    .title(plugin.getMessageProvider(src).getTextMessageWithFormat("command.realname.title", argname));
 
             if (!(src instanceof Player)) {
                 plb.linesPerPage(-1);
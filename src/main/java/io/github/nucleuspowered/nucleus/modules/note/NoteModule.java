@@ -56,11 +56,11 @@ public class NoteModule extends ConfigurableModule<NoteConfigAdapter> {
             NoteHandler jh = plugin.getInternalServiceManager().getService(NoteHandler.class).get();
             int active = jh.getNotes(u).size();
 
-            Text r = plugin.getMessageProvider().getTextMessageWithFormat("seen.notes", String.valueOf(active));
+            Text r = plugin.getMessageProvider(c).getTextMessageWithFormat("seen.notes", String.valueOf(active));
             if (active > 0) {
                 return Lists.newArrayList(
                         r.toBuilder().onClick(TextActions.runCommand("/checknotes " + u.getName()))
-                                .onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("standard.clicktoseemore"))).build());
+                                .onHover(TextActions.showText(plugin.getMessageProvider(c).getTextMessageWithFormat("standard.clicktoseemore"))).build());
             }
 
             return Lists.newArrayList(r);
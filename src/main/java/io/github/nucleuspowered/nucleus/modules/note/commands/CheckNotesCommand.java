@@ -56,19 +56,19 @@ public class CheckNotesCommand extends io.github.nucleuspowered.nucleus.internal
 
         List<NoteData> notes = handler.getNotes(user);
         if (notes.isEmpty()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.checknotes.none", user.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.checknotes.none", user.getName()));
             return CommandResult.success();
         }
 
-        List<Text> messages = notes.stream().sorted((a, b) -> a.getDate().compareTo(b.getDate())).map(x -> createMessage(x, user)).collect(Collectors.toList());
-        messages.add(0, plugin.getMessageProvider().getTextMessageWithFormat("command.checknotes.info"));
+        List<Text> messages = notes.stream().sorted((a, b) -> a.getDate().compareTo(b.getDate())).map(x -> createMessage(src, x, user)).collect(Collectors.toList());
+        messages.add(0, plugin.getMessageProvider(src).getTextMessageWithFormat("command.checknotes.info"));
 
         PaginationService paginationService = Sponge.getGame().getServiceManager().provideUnchecked(PaginationService.class);
         paginationService.builder()
                 .title(
                         Text.builder()
                         .color(TextColors.GOLD)
-                        .append(Text.of(plugin.getMessageProvider().getMessageWithFormat("command.checknotes.header", user.getName())))
+                        .append(Text.of(plugin.getMessageProvider(src).getMessageWithFormat("command.checknotes.header", user.getName())))
                         .build())
                 .padding(
                         Text.builder()
@@ -81,27 +81,27 @@ public class CheckNotesCommand extends io.github.nucleuspowered.nucleus.internal
         return CommandResult.success();
     }
 
-    private Text createMessage(NoteData note, User user) {
+    private Text createMessage(CommandSource src, NoteData note, User user) {
         String name;
         if (note.getNoter().equals(Util.consoleFakeUUID)) {
             name = Sponge.getServer().getConsole().getName();
         } else {
             Optional<User> ou = Sponge.getServiceManager().provideUnchecked(UserStorageService.class).get(note.getNoter());
-            name = ou.isPresent() ? ou.get().getName() : plugin.getMessageProvider().getMessageWithFormat("standard.unknown");
+            name = ou.isPresent() ? ou.get().getName() : plugin.getMessageProvider(src).getMessageWithFormat("standard.unknown");
         }
 
         //Get the ID of the note, its index in the users List<NoteData>. Add one to start with an ID of 1.
         int id = handler.getNotes(user).indexOf(note) + 1;
 
         //Action buttons, this should look like 'Action > [Delete] - [Return] <'
-        Text.Builder actions = plugin.getMessageProvider().getTextMessageWithFormat("command.checknotes.action").toBuilder();
+        Text.Builder actions = plugin.getMessageProvider(src).getTextMessageWithFormat("command.checknotes.action").toBuilder();
 
         //Add separation between the word 'Action' and action buttons
         actions.append(Text.of(TextColors.GOLD, " > "));
 
         //Add the delete button [Delete]
-        actions.append(Text.builder().append(Text.of(TextColors.RED, plugin.getMessageProvider().getMessageWithFormat("standard.action.delete")))
-                .onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("command.checknotes.hover.delete")))
+        actions.append(Text.builder().append(Text.of(TextColors.RED, plugin.getMessageProvider(src).getMessageWithFormat("standard.action.delete")))
+                .onHover(TextActions.showText(plugin.getMessageProvider(src).getTextMessageWithFormat("command.checknotes.hover.delete")))
                 .onClick(TextActions.runCommand("/removenote " + user.getName() + " " + id))
                 .build());
 
@@ -109,8 +109,8 @@ public class CheckNotesCommand extends io.github.nucleuspowered.nucleus.internal
         actions.append(Text.of(TextColors.GOLD, " - "));
 
         //Add the return button [Return]
-        actions.append(Text.builder().append(Text.of(TextColors.GREEN, plugin.getMessageProvider().getMessageWithFormat("standard.action.return")))
-                .onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("command.checknotes.hover.return")))
+        actions.append(Text.builder().append(Text.of(TextColors.GREEN, plugin.getMessageProvider(src).getMessageWithFormat("standard.action.return")))
+                .onHover(TextActions.showText(plugin.getMessageProvider(src).getTextMessageWithFormat("command.checknotes.hover.return")))
                 .onClick(TextActions.runCommand("/checknotes " + user.getName()))
                 .build());
 
@@ -123,12 +123,12 @@ public class CheckNotesCommand extends io.github.nucleuspowered.nucleus.internal
 
         //Create a clickable name providing more information about the warning
         Text.Builder information = Text.builder(name)
-                .onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("command.checknotes.hover.check")))
+                .onHover(TextActions.showText(plugin.getMessageProvider(src).getTextMessageWithFormat("command.checknotes.hover.check")))
                 .onClick(TextActions.executeCallback(commandSource -> {
-                    commandSource.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.checknotes.id", String.valueOf(id)));
-                    commandSource.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.checknotes.date", date));
-                    commandSource.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.checknotes.noter", name));
-                    commandSource.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.checknotes.note", note.getNote()));
+                    commandSource.sendMessage(plugin.getMessageProvider(commandSource).getTextMessageWithFormat("command.checknotes.id", String.valueOf(id)));
+                    commandSource.sendMessage(plugin.getMessageProvider(commandSource).getTextMessageWithFormat("command.checknotes.date", date));
+                    commandSource.sendMessage(plugin.getMessageProvider(commandSource).getTextMessageWithFormat("command.checknotes.noter", name));
+                    commandSource.sendMessage(plugin.getMessageProvider(commandSource).getTextMessageWithFormat("command.checknotes.note", note.getNote()));
                     commandSource.sendMessage(actions.build());
                 }));
 
@@ -41,16 +41,16 @@ public class ClearNotesCommand extends io.github.nucleuspowered.nucleus.internal
 
         List<NoteData> notes = handler.getNotes(user);
         if (notes.isEmpty()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.checknotes.none", user.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.checknotes.none", user.getName()));
             return CommandResult.success();
         }
 
         if (handler.clearNotes(user)) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.clearnotes.success", user.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.clearnotes.success", user.getName()));
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.clearnotes.failure", user.getName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.clearnotes.failure", user.getName()));
         return CommandResult.empty();
     }
 }
\ No newline at end of file
@@ -77,7 +77,7 @@ public class NoteCommand extends io.github.nucleuspowered.nucleus.internal.comma
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warn.fail", user.getName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warn.fail", user.getName()));
         return CommandResult.empty();
     }
 }
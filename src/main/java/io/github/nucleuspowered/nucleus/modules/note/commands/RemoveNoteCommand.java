@@ -43,16 +43,16 @@ public class RemoveNoteCommand extends io.github.nucleuspowered.nucleus.internal
 
         List<NoteData> notes = handler.getNotes(user);
         if (notes.isEmpty()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.checkwarnings.none", user.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.checkwarnings.none", user.getName()));
             return CommandResult.success();
         }
 
         if (handler.removeNote(user, result.noteData)) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.removenote.success", user.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.removenote.success", user.getName()));
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.removenote.failure", user.getName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.removenote.failure", user.getName()));
         return CommandResult.empty();
     }
 }
@@ -10,17 +10,18 @@ import io.github.nucleuspowered.nucleus.api.data.NoteData;
 import io.github.nucleuspowered.nucleus.dataservices.loaders.UserDataManager;
 import io.github.nucleuspowered.nucleus.internal.ListenerBase;
 import io.github.nucleuspowered.nucleus.internal.PermissionRegistry;
+import io.github.nucleuspowered.nucleus.internal.messages.MessageProvider;
 import io.github.nucleuspowered.nucleus.internal.permissions.PermissionInformation;
 import io.github.nucleuspowered.nucleus.internal.permissions.SuggestedLevel;
 import io.github.nucleuspowered.nucleus.modules.note.config.NoteConfigAdapter;
 import io.github.nucleuspowered.nucleus.modules.note.handlers.NoteHandler;
 import org.spongepowered.api.Sponge;
+import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.network.ClientConnectionEvent;
 import org.spongepowered.api.text.action.TextActions;
 import org.spongepowered.api.text.channel.MessageChannel;
-import org.spongepowered.api.text.channel.MutableMessageChannel;
 
 import java.util.List;
 import java.util.Map;
@@ -50,11 +51,14 @@ public class NoteListener extends ListenerBase {
             Player player = event.getTargetEntity();
             List<NoteData> notes = handler.getNotes(player);
             if (notes != null && !notes.isEmpty()) {
-                MutableMessageChannel messageChannel = MessageChannel.permission(showOnLogin).asMutable();
-                messageChannel.send(plugin.getMessageProvider().getTextMessageWithFormat("note.login.notify", player.getName(), String.valueOf(notes.size())).toBuilder()
-                        .onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("note.login.view", player.getName())))
-                        .onClick(TextActions.runCommand("/checknotes " + player.getName()))
-                        .build());
+                // Each member gets the notification in their own language.
+                MessageChannel.permission(showOnLogin).getMembers().forEach(x -> {
+                    MessageProvider mp = x instanceof CommandSource ? plugin.getMessageProvider((CommandSource) x) : plugin.getMessageProvider();
+                    x.sendMessage(mp.getTextMessageWithFormat("note.login.notify", player.getName(), String.valueOf(notes.size())).toBuilder()
+                            .onHover(TextActions.showText(mp.getTextMessageWithFormat("note.login.view", player.getName())))
+                            .onClick(TextActions.runCommand("/checknotes " + player.getName()))
+                            .build());
+                });
 
             }
         }).submit(plugin);
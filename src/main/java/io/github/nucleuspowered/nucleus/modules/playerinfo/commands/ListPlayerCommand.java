@@ -71,10 +71,10 @@ public class ListPlayerCommand extends io.github.nucleuspowered.nucleus.internal
 
         Text header;
         if (showVanished && hiddenCount > 0) {
-            header = plugin.getMessageProvider().getTextMessageWithFormat("command.list.playercount.hidden", String.valueOf(playerCount),
+            header = plugin.getMessageProvider(src).getTextMessageWithFormat("command.list.playercount.hidden", String.valueOf(playerCount),
                     String.valueOf(Sponge.getServer().getMaxPlayers()), String.valueOf(hiddenCount));
         } else {
-            header = plugin.getMessageProvider().getTextMessageWithFormat("command.list.playercount.base", String.valueOf(playerCount - hiddenCount),
+            header = plugin.getMessageProvider(src).getTextMessageWithFormat("command.list.playercount.base", String.valueOf(playerCount - hiddenCount),
                     String.valueOf(Sponge.getServer().getMaxPlayers()));
         }
 
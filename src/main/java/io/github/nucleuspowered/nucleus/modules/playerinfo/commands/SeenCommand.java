@@ -82,53 +82,53 @@ public class SeenCommand extends io.github.nucleuspowered.nucleus.internal.comma
 
         // Everyone gets the last online time.
         if (user.isOnline()) {
-            messages.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.seen.iscurrently.online", user.getName()));
-            iqsu.getLastLogin().ifPresent(x -> messages.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.seen.loggedon", Util.getTimeToNow(x))));
+            messages.add(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.seen.iscurrently.online", user.getName()));
+            iqsu.getLastLogin().ifPresent(x -> messages.add(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.seen.loggedon", Util.getTimeToNow(x))));
         } else {
-            messages.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.seen.iscurrently.offline", user.getName()));
-            iqsu.getLastLogout().ifPresent(x -> messages.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.seen.loggedoff", Util.getTimeToNow(x))));
+            messages.add(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.seen.iscurrently.offline", user.getName()));
+            iqsu.getLastLogout().ifPresent(x -> messages.add(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.seen.loggedoff", Util.getTimeToNow(x))));
         }
 
-        messages.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.seen.displayname", TextSerializers.FORMATTING_CODE.serialize(plugin.getNameUtil().getName(user))));
+        messages.add(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.seen.displayname", TextSerializers.FORMATTING_CODE.serialize(plugin.getNameUtil().getName(user))));
 
         if (permissions.testSuffix(src, EXTENDED_SUFFIX)) {
             messages.add(Text.EMPTY);
 
             if (user.isOnline()) {
                 Player pl = user.getPlayer().get();
-                messages.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.seen.ipaddress",
+                messages.add(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.seen.ipaddress",
                         pl.getConnection().getAddress().getAddress().toString()));
 
-                messages.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.seen.firstplayed",
+                messages.add(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.seen.firstplayed",
                         DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM)
                                 .withLocale(src.getLocale())
                                 .withZone(ZoneId.systemDefault()).format(pl.getJoinData().firstPlayed().get())));
 
-                messages.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.seen.speed.walk",
+                messages.add(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.seen.speed.walk",
                         String.valueOf(Math.round(pl.get(Keys.WALKING_SPEED).orElse(0.1d) * SpeedCommand.multiplier))));
 
-                messages.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.seen.speed.fly",
+                messages.add(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.seen.speed.fly",
                         String.valueOf(Math.round(pl.get(Keys.FLYING_SPEED).orElse(0.05d) * SpeedCommand.multiplier))));
 
-                messages.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.seen.currentlocation", getLocationString(pl.getLocation())));
+                messages.add(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.seen.currentlocation", getLocationString(src, pl.getLocation())));
 
-                messages.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.seen.canfly", getYesNo(pl.get(Keys.CAN_FLY).orElse(false))));
-                messages.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.seen.isflying", getYesNo(pl.get(Keys.IS_FLYING).orElse(false))));
+                messages.add(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.seen.canfly", getYesNo(src, pl.get(Keys.CAN_FLY).orElse(false))));
+                messages.add(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.seen.isflying", getYesNo(src, pl.get(Keys.IS_FLYING).orElse(false))));
             } else {
                 iqsu.getLastIp().ifPresent(x ->
-                    messages.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.seen.lastipaddress", x))
+                    messages.add(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.seen.lastipaddress", x))
                 );
 
                 Optional<Location<World>> olw = iqsu.getLogoutLocation();
 
                 if (olw.isPresent()) {
-                    messages.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.seen.lastlocation", getLocationString(olw.get())));
+                    messages.add(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.seen.lastlocation", getLocationString(src, olw.get())));
                 }
 
                 user.get(JoinData.class).ifPresent(x -> {
                     Optional<Instant> oi = x.firstPlayed().getDirect();
                     if (oi.isPresent()) {
-                        messages.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.seen.firstplayed",
+                        messages.add(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.seen.firstplayed",
                                 DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM)
                                         .withLocale(src.getLocale())
                                         .withZone(ZoneId.systemDefault()).format(oi.get())));
@@ -142,19 +142,19 @@ public class SeenCommand extends io.github.nucleuspowered.nucleus.internal.comma
 
         PaginationService ps = Sponge.getServiceManager().provideUnchecked(PaginationService.class);
         ps.builder().contents(messages).padding(Text.of(TextColors.GREEN, "-"))
-                .title(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.seen.title", user.getName())).sendTo(src);
+                .title(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.seen.title", user.getName())).sendTo(src);
         return CommandResult.success();
     }
 
-    private String getLocationString(Location<World> lw) {
-        return NucleusPlugin.getNucleus().getMessageProvider().getMessageWithFormat("command.seen.locationtemplate", lw.getExtent().getName(), lw.getBlockPosition().toString());
+    private String getLocationString(CommandSource src, Location<World> lw) {
+        return NucleusPlugin.getNucleus().getMessageProvider(src).getMessageWithFormat("command.seen.locationtemplate", lw.getExtent().getName(), lw.getBlockPosition().toString());
     }
 
-    private String getYesNo(Boolean bool) {
+    private String getYesNo(CommandSource src, Boolean bool) {
         if (bool == null) {
             bool = false;
         }
 
-        return Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("standard.yesno." + bool.toString().toLowerCase());
+        return Nucleus.getNucleus().getMessageProvider(src).getMessageWithFormat("standard.yesno." + bool.toString().toLowerCase());
     }
 }
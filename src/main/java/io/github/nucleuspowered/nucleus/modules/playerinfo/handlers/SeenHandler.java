@@ -95,7 +95,7 @@ public class SeenHandler implements NucleusSeenService {
                     if (information.isEmpty()) {
                         information.add(Text.EMPTY);
                         information.add(Text.of("-----"));
-                        information.add(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("seen.header.plugins"));
+                        information.add(NucleusPlugin.getNucleus().getMessageProvider(requester).getTextMessageWithFormat("seen.header.plugins"));
                         information.add(Text.of("-----"));
                     }
 
@@ -28,7 +28,7 @@ public class CommandListener extends ListenerBase {
         if (command.equalsIgnoreCase("list")) {
             event.setCommand("minecraft:list");
             Sponge.getScheduler().createSyncExecutor(plugin).submit(() ->
-                source.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("list.listener.multicraftcompat")));
+                source.sendMessage(plugin.getMessageProvider(source).getTextMessageWithFormat("list.listener.multicraftcompat")));
         }
     }
 
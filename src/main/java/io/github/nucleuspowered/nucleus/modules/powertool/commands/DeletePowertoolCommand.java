@@ -36,7 +36,7 @@ public class DeletePowertoolCommand extends io.github.nucleuspowered.nucleus.int
     public CommandResult executeCommand(Player src, CommandContext args) throws Exception {
         Optional<ItemStack> itemStack = src.getItemInHand();
         if (!itemStack.isPresent()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.powertool.noitem"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.powertool.noitem"));
             return CommandResult.empty();
         }
 
@@ -46,9 +46,9 @@ public class DeletePowertoolCommand extends io.github.nucleuspowered.nucleus.int
         Optional<List<String>> cmds = user.getPowertoolForItem(item);
         if (cmds.isPresent() && !cmds.get().isEmpty()) {
             user.clearPowertool(item);
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.powertool.removed", item.getId()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.powertool.removed", item.getId()));
         } else {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.powertool.nocmds", item.getId()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.powertool.nocmds", item.getId()));
         }
 
         return CommandResult.success();
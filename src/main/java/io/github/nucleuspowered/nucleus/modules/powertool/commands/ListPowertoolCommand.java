@@ -53,7 +53,7 @@ public class ListPowertoolCommand extends io.github.nucleuspowered.nucleus.inter
         Map<String, List<String>> powertools = inu.getPowertools();
 
         if (powertools.isEmpty()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.powertool.list.none"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.powertool.list.none"));
             return CommandResult.success();
         }
 
@@ -62,7 +62,7 @@ public class ListPowertoolCommand extends io.github.nucleuspowered.nucleus.inter
                 .map(k -> from(inu, src, k.getKey(), k.getValue())).collect(Collectors.toList());
 
         // Paginate the tools.
-        paginationService.builder().title(plugin.getMessageProvider().getTextMessageWithFormat("command.powertool.list.header", toggle ? "&aenabled" : "&cdisabled"))
+        paginationService.builder().title(plugin.getMessageProvider(src).getTextMessageWithFormat("command.powertool.list.header", toggle ? "&aenabled" : "&cdisabled"))
                 .padding(Text.of(TextColors.YELLOW, "-")).contents(mesl).sendTo(src);
 
         return CommandResult.success();
@@ -72,21 +72,21 @@ public class ListPowertoolCommand extends io.github.nucleuspowered.nucleus.inter
         Optional<ItemType> oit = Sponge.getRegistry().getType(ItemType.class, powertool);
 
         // Create the click actions.
-        ClickAction viewAction = TextActions.executeCallback(pl -> paginationService.builder().title(plugin.getMessageProvider().getTextMessageWithFormat("command.powertool.ind.header", powertool))
+        ClickAction viewAction = TextActions.executeCallback(pl -> paginationService.builder().title(plugin.getMessageProvider(src).getTextMessageWithFormat("command.powertool.ind.header", powertool))
                 .padding(Text.of(TextColors.GREEN, "-"))
                 .contents(commands.stream().map(x -> Text.of(TextColors.YELLOW, x)).collect(Collectors.toList())).sendTo(src));
 
         ClickAction deleteAction = TextActions.executeCallback(pl -> {
             inu.clearPowertool(powertool);
-            pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.powertool.removed", powertool));
+            pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.powertool.removed", powertool));
         });
 
         TextColor tc = oit.isPresent() ? TextColors.YELLOW : TextColors.GRAY;
 
         // id - [View] - [Delete]
         return Text.builder().append(Text.of(tc, powertool)).append(Text.of(" - "))
-                .append(Text.builder(plugin.getMessageProvider().getMessageWithFormat("standard.view")).color(TextColors.YELLOW).onClick(viewAction).build())
+                .append(Text.builder(plugin.getMessageProvider(src).getMessageWithFormat("standard.view")).color(TextColors.YELLOW).onClick(viewAction).build())
                 .append(Text.of(" - "))
-                .append(Text.builder(plugin.getMessageProvider().getMessageWithFormat("standard.delete")).color(TextColors.DARK_RED).onClick(deleteAction).build()).build();
+                .append(Text.builder(plugin.getMessageProvider(src).getMessageWithFormat("standard.delete")).color(TextColors.DARK_RED).onClick(deleteAction).build()).build();
     }
 }
@@ -52,7 +52,7 @@ public class PowertoolCommand extends io.github.nucleuspowered.nucleus.internal.
     public CommandResult executeCommand(Player src, CommandContext args) throws Exception {
         Optional<ItemStack> itemStack = src.getItemInHand();
         if (!itemStack.isPresent()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.powertool.noitem"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.powertool.noitem"));
             return CommandResult.empty();
         }
 
@@ -65,10 +65,10 @@ public class PowertoolCommand extends io.github.nucleuspowered.nucleus.internal.
     private CommandResult viewPowertool(Player src, UserService user, ItemType item) {
         Optional<List<String>> cmds = user.getPowertoolForItem(item);
         if (cmds.isPresent() && !cmds.get().isEmpty()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.powertool.viewcmds", item.getId()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.powertool.viewcmds", item.getId()));
             cmds.get().forEach(f -> src.sendMessage(Text.of(TextColors.YELLOW, f)));
         } else {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.powertool.nocmds", item.getId()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.powertool.nocmds", item.getId()));
         }
 
         return CommandResult.success();
@@ -82,7 +82,7 @@ public class PowertoolCommand extends io.github.nucleuspowered.nucleus.internal.
         }
 
         user.setPowertool(item, Lists.newArrayList(command));
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.powertool.set", item.getId(), command));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.powertool.set", item.getId(), command));
         return CommandResult.success();
     }
 }
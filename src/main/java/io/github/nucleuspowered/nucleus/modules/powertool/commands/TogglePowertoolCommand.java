@@ -44,8 +44,8 @@ public class TogglePowertoolCommand extends io.github.nucleuspowered.nucleus.int
         boolean toggle = args.<Boolean>getOne(toggleKey).orElse(!user.isPowertoolToggled());
         user.setPowertoolToggle(toggle);
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.powertool.toggle",
-                plugin.getMessageProvider().getMessageWithFormat(toggle ? "standard.enabled" : "standard.disabled")));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.powertool.toggle",
+                plugin.getMessageProvider(src).getMessageWithFormat(toggle ? "standard.enabled" : "standard.disabled")));
         return CommandResult.success();
     }
 }
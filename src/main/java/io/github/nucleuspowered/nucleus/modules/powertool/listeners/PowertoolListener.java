@@ -73,7 +73,7 @@ public class PowertoolListener extends ListenerBase {
 
                 // Run each command.
                 if (interacting == null && x.stream().allMatch(i -> i.contains("{{player}}"))) {
-                    player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("powertool.playeronly"));
+                    player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("powertool.playeronly"));
                     return;
                 }
 
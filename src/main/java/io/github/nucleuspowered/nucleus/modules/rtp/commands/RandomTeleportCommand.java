@@ -59,7 +59,7 @@ public class RandomTeleportCommand extends io.github.nucleuspowered.nucleus.inte
         Vector3d centre = wb.getCenter();
 
         int count = Math.max(rc.getNoOfAttempts(), 1);
-        src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.rtp.searching"));
+        src.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.rtp.searching"));
 
         Sponge.getScheduler().createTaskBuilder().execute(new RTPTask(plugin, count, diameter, centre, getCost(src, args), src, currentWorld,
                 rc.isMustSeeSky(), rc.getMinY(), rc.getMaxY())).submit(plugin);
@@ -145,13 +145,13 @@ public class RandomTeleportCommand extends io.github.nucleuspowered.nucleus.inte
                             String.valueOf(tpTarget.getBlockY()),
                             String.valueOf(tpTarget.getBlockZ())));
                     if (player.setLocation(tpTarget)) {
-                        player.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.rtp.success",
+                        player.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.rtp.success",
                                 String.valueOf(tpTarget.getBlockX()),
                                 String.valueOf(tpTarget.getBlockY()),
                                 String.valueOf(tpTarget.getBlockZ())));
                         return;
                     } else {
-                        player.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.rtp.cancelled"));
+                        player.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.rtp.cancelled"));
                         onCancel();
                         return;
                     }
@@ -166,7 +166,7 @@ public class RandomTeleportCommand extends io.github.nucleuspowered.nucleus.inte
         private void onUnsuccesfulAttempt() {
             if (count <= 0) {
                 plugin.getLogger().debug(String.format("RTP of %s was unsuccessful", player.getName()));
-                player.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.rtp.error"));
+                player.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(player).getTextMessageWithFormat("command.rtp.error"));
                 onCancel();
             } else {
                 // We're using a scheduler to allow some ticks to go by between attempts to find a
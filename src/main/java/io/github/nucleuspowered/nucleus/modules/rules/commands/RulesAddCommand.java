@@ -58,7 +58,7 @@ public class RulesAddCommand extends io.github.nucleuspowered.nucleus.internal.c
             position = pos.get();
             rules.add(position - 1, rule);
         } else if (pos.isPresent()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.rules.add.norule", String.valueOf(pos.get()), String.valueOf(rules.size())));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.rules.add.norule", String.valueOf(pos.get()), String.valueOf(rules.size())));
             return CommandResult.empty();
         } else {
             rules.add(rule);
@@ -69,7 +69,7 @@ public class RulesAddCommand extends io.github.nucleuspowered.nucleus.internal.c
         rca.setNode(rc);
         plugin.saveSystemConfig();
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.rules.add.success", String.valueOf(position)));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.rules.add.success", String.valueOf(position)));
         src.sendMessage(r);
         return CommandResult.success();
     }
@@ -38,7 +38,7 @@ public class RulesCommand extends io.github.nucleuspowered.nucleus.internal.comm
 
         List<String> r = rca.getNodeOrDefault().getRuleSet();
         if (r.isEmpty()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.rules.empty"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.rules.empty"));
             return CommandResult.empty();
         }
 
@@ -50,7 +50,7 @@ public class RulesCommand extends io.github.nucleuspowered.nucleus.internal.comm
         List<Text> rules = r.stream()
                 .map(TextSerializers.FORMATTING_CODE::deserialize).collect(Collectors.toList());
         PaginationList.Builder pb = Sponge.getServiceManager().provideUnchecked(PaginationService.class).builder().contents(rules).padding(Text.of(TextColors.GREEN, "-"))
-                .title(plugin.getMessageProvider().getTextMessageWithFormat("command.rules.list.header"));
+                .title(plugin.getMessageProvider(src).getTextMessageWithFormat("command.rules.list.header"));
 
         if (!(src instanceof Player)) {
             pb.linesPerPage(-1);
@@ -53,15 +53,15 @@ public class RulesDeleteCommand extends io.github.nucleuspowered.nucleus.interna
 
         int index = args.<Integer>getOne(ruleKey).get() - 1;
         if (index >= rules.size()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.rules.del.norule", String.valueOf(index + 1)));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.rules.del.norule", String.valueOf(index + 1)));
             return CommandResult.empty();
         }
 
         final String ruleToDelete = rules.get(index);
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.rules.del.summary", ruleToDelete));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.rules.del.summary", ruleToDelete));
         if (!flag) {
             src.sendMessage(
-                    Text.builder(plugin.getMessageProvider().getMessageWithFormat("command.rules.del.confirm")).color(TextColors.GREEN).style(TextStyles.UNDERLINE)
+                    Text.builder(plugin.getMessageProvider(src).getMessageWithFormat("command.rules.del.confirm")).color(TextColors.GREEN).style(TextStyles.UNDERLINE)
                             .onClick(TextActions.executeCallback(s -> actuallyRemove(index, ruleToDelete, s))).build());
         } else {
             return actuallyRemove(index, ruleToDelete, src);
@@ -81,7 +81,7 @@ public class RulesDeleteCommand extends io.github.nucleuspowered.nucleus.interna
                 rca.setNode(rc);
                 plugin.saveSystemConfig();
             } catch (ObjectMappingException | IOException e) {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.rules.del.fail"));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.rules.del.fail"));
                 if (cca.getNodeOrDefault().isDebugmode()) {
                     e.printStackTrace();
                 }
@@ -89,10 +89,10 @@ public class RulesDeleteCommand extends io.github.nucleuspowered.nucleus.interna
                 return CommandResult.empty();
             }
 
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.rules.del.success"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.rules.del.success"));
             return CommandResult.success();
         } else {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.rules.del.fail"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.rules.del.fail"));
             return CommandResult.empty();
         }
     }
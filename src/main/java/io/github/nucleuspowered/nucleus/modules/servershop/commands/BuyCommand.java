@@ -66,14 +66,14 @@ public class BuyCommand extends io.github.nucleuspowered.nucleus.internal.comman
 
         ItemDataNode node = itemDataService.getDataForItem(ct.getId());
         if (node.getServerBuyPrice() < 0) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.itembuy.notforsale"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.itembuy.notforsale"));
             return CommandResult.empty();
         }
 
         int max = ssca.getNodeOrDefault().getMaxPurchasableAtOnce();
         if (amount > max) {
             amount = max;
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.itembuy.maximum", String.valueOf(amount)));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.itembuy.maximum", String.valueOf(amount)));
         }
 
         final ItemStack created;
@@ -87,13 +87,13 @@ public class BuyCommand extends io.github.nucleuspowered.nucleus.internal.comman
         final int perUnitCost = node.getServerBuyPrice();
         final int unitCount = amount;
         final int overallCost = perUnitCost * unitCount;
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.itembuy.summary", String.valueOf(amount), created.getTranslation().get(), econHelper.getCurrencySymbol(overallCost)));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.itembuy.summary", String.valueOf(amount), created.getTranslation().get(), econHelper.getCurrencySymbol(overallCost)));
 
         if (args.hasAny("y")) {
             new BuyCallback(src, overallCost, created, unitCount, perUnitCost).accept(src);
         } else {
             src.sendMessage(
-                    plugin.getMessageProvider().getTextMessageWithFormat("command.itembuy.clickhere").toBuilder()
+                    plugin.getMessageProvider(src).getTextMessageWithFormat("command.itembuy.clickhere").toBuilder()
                             .onClick(TextActions.executeCallback(new BuyCallback(src, overallCost, created, unitCount, perUnitCost))).build()
             );
         }
@@ -132,20 +132,20 @@ public class BuyCommand extends io.github.nucleuspowered.nucleus.internal.comman
             if (econHelper.withdrawFromPlayer(src, overallCost, false)) {
                 InventoryTransactionResult itr = target.offer(created);
                 if (itr.getRejectedItems().isEmpty()) {
-                    src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.itembuy.transactionsuccess",
+                    src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.itembuy.transactionsuccess",
                             String.valueOf(unitCount), created.getTranslation().get(), econHelper.getCurrencySymbol(overallCost)));
                 } else {
                     Collection<ItemStackSnapshot> iss = itr.getRejectedItems();
                     int rejected = iss.stream().collect(Collectors.summingInt(ItemStackSnapshot::getCount));
                     int refund = rejected * perUnitCost;
                     econHelper.depositInPlayer(src, refund, false);
-                    src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.itembuy.transactionpartial", String.valueOf(rejected), created.getTranslation().get()));
-                    src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.itembuy.transactionsuccess",
+                    src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.itembuy.transactionpartial", String.valueOf(rejected), created.getTranslation().get()));
+                    src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.itembuy.transactionsuccess",
                             String.valueOf(unitCount - rejected), created.getTranslation().get(), econHelper.getCurrencySymbol(overallCost - refund)));
                 }
             } else {
                 // No funds.
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.itembuy.nofunds"));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.itembuy.nofunds"));
             }
         }
     }
@@ -35,7 +35,7 @@ public class SellCommand extends io.github.nucleuspowered.nucleus.internal.comma
     @Override
     public CommandResult executeCommand(final Player src, CommandContext args) throws Exception {
         // Get the item in the hand.
-        ItemStack is = src.getItemInHand().orElseThrow(() -> new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.generalerror.handempty")));
+        ItemStack is = src.getItemInHand().orElseThrow(() -> new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.generalerror.handempty")));
 
         String id;
         Optional<BlockState> blockState = is.get(Keys.ITEM_BLOCKSTATE);
@@ -48,7 +48,7 @@ public class SellCommand extends io.github.nucleuspowered.nucleus.internal.comma
         ItemDataNode node = itemDataService.getDataForItem(id);
         final int sellPrice = node.getServerSellPrice();
         if (sellPrice < 0) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.itemsell.notforselling"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.itemsell.notforselling"));
             return CommandResult.empty();
         }
 
@@ -57,11 +57,11 @@ public class SellCommand extends io.github.nucleuspowered.nucleus.internal.comma
         final int overallCost = sellPrice * amt;
         if (econHelper.depositInPlayer(src, overallCost, false)) {
             src.setItemInHand(null);
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.itemsell.summary", String.valueOf(amt), is.getTranslation().get(), econHelper.getCurrencySymbol(overallCost)));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.itemsell.summary", String.valueOf(amt), is.getTranslation().get(), econHelper.getCurrencySymbol(overallCost)));
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.itemsell.error", is.getTranslation().get()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.itemsell.error", is.getTranslation().get()));
         return CommandResult.empty();
     }
 }
@@ -73,11 +73,11 @@ public class SetWorthCommand extends io.github.nucleuspowered.nucleus.internal.c
                 Optional<BlockState> blockStateOptional = is.get(Keys.ITEM_BLOCKSTATE);
                 id = (blockStateOptional.isPresent() ? blockStateOptional.get().getId() : is.getItem().getId()).toLowerCase();
             } else {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.setworth.noitemhand"));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.setworth.noitemhand"));
                 return CommandResult.empty();
             }
         } else {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.setworth.noitemconsole"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.setworth.noitemconsole"));
             return CommandResult.empty();
         }
 
@@ -93,7 +93,7 @@ public class SetWorthCommand extends io.github.nucleuspowered.nucleus.internal.c
             worth = econHelper.getCurrencySymbol(currentWorth);
             newWorth = econHelper.getCurrencySymbol(newCost);
         } else {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.setworth.noeconservice"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.setworth.noeconservice"));
             worth = String.valueOf(currentWorth);
             newWorth = String.valueOf(newCost);
         }
@@ -119,9 +119,9 @@ public class SetWorthCommand extends io.github.nucleuspowered.nucleus.internal.c
 
         if (currentWorth == newCost) {
             if (currentWorth == -1) {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.setworth.alreadyunavailable", name, transactionType.getTranslation()));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.setworth.alreadyunavailable", name, transactionType.getTranslation(src)));
             } else {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.setworth.samecost", transactionType.getTranslation(), name, worth));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.setworth.samecost", transactionType.getTranslation(src), name, worth));
             }
 
             return CommandResult.empty();
@@ -133,11 +133,11 @@ public class SetWorthCommand extends io.github.nucleuspowered.nucleus.internal.c
 
         // Tell the user.
         if (currentWorth == -1) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.setworth.success.new", name, transactionType.getTranslation(), newWorth));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.setworth.success.new", name, transactionType.getTranslation(src), newWorth));
         } else if (newCost == -1) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.setworth.success.removed", name, transactionType.getTranslation(), worth));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.setworth.success.removed", name, transactionType.getTranslation(src), worth));
         } else {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.setworth.success.changed", name, transactionType.getTranslation(), worth, newWorth));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.setworth.success.changed", name, transactionType.getTranslation(src), worth, newWorth));
         }
 
         return CommandResult.success();
@@ -157,8 +157,8 @@ public class SetWorthCommand extends io.github.nucleuspowered.nucleus.internal.c
             this.transactionKey = transactionKey;
         }
 
-        private String getTranslation() {
-            return Nucleus.getNucleus().getMessageProvider().getMessageWithFormat(transactionKey);
+        private String getTranslation(CommandSource src) {
+            return Nucleus.getNucleus().getMessageProvider(src).getMessageWithFormat(transactionKey);
         }
     }
 }
@@ -30,16 +30,16 @@ public class FirstSpawnCommand extends io.github.nucleuspowered.nucleus.internal
 
         Optional<Transform<World>> olwr = data.getFirstSpawn();
         if (!olwr.isPresent()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.firstspawn.notset"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.firstspawn.notset"));
             return CommandResult.empty();
         }
 
         if (plugin.getTeleportHandler().teleportPlayer(src, olwr.get(), spawnConfigAdapter.getNodeOrDefault().isSafeTeleport())) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.firstspawn.success"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.firstspawn.success"));
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.firstspawn.fail"));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.firstspawn.fail"));
         return CommandResult.empty();
     }
 }
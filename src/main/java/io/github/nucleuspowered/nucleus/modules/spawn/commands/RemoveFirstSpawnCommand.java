@@ -27,7 +27,7 @@ public class RemoveFirstSpawnCommand extends io.github.nucleuspowered.nucleus.in
     @Override
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
         data.removeFirstSpawn();
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.setfirstspawn.remove"));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.setfirstspawn.remove"));
         return CommandResult.success();
     }
 }
@@ -27,7 +27,7 @@ public class SetFirstSpawnCommand extends io.github.nucleuspowered.nucleus.inter
     @Override
     public CommandResult executeCommand(Player src, CommandContext args) throws Exception {
         data.setFirstSpawn(src.getLocation(), src.getRotation());
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.setfirstspawn.success"));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.setfirstspawn.success"));
         return CommandResult.success();
     }
 }
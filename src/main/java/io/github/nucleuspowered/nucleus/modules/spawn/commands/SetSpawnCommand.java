@@ -27,7 +27,7 @@ public class SetSpawnCommand extends io.github.nucleuspowered.nucleus.internal.c
         // Minecraft does not set the rotation of the player at the spawn point, so we'll do it for them!
         wcl.getWorld(src.getWorld().getUniqueId()).get().setSpawnRotation(src.getRotation());
         src.getWorld().getProperties().setSpawnPosition(src.getLocation().getBlockPosition());
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.setspawn.success", src.getWorld().getName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.setspawn.success", src.getWorld().getName()));
         return CommandResult.success();
     }
 }
@@ -68,18 +68,18 @@ public class SpawnCommand extends io.github.nucleuspowered.nucleus.internal.comm
         Optional<World> ow = Sponge.getServer().getWorld(wp.getUniqueId());
 
         if (!ow.isPresent()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.spawn.noworld"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.spawn.noworld"));
             return CommandResult.empty();
         }
 
         // If we don't have a rotation, then use the current rotation
         if (plugin.getTeleportHandler().teleportPlayer(src, new Location<>(ow.get(), wp.getSpawnPosition()),
                 wcl.getWorld(wp.getUniqueId()).get().getSpawnRotation().orElse(src.getRotation()), sca.getNodeOrDefault().isSafeTeleport())) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.spawn.success", wp.getWorldName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.spawn.success", wp.getWorldName()));
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.spawn.fail", wp.getWorldName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.spawn.fail", wp.getWorldName()));
         return CommandResult.empty();
     }
 }
@@ -50,7 +50,7 @@ public class StaffChatCommand extends io.github.nucleuspowered.nucleus.internal.
         }
 
         if (!(src instanceof Player)) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.staffchat.consoletoggle"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.staffchat.consoletoggle"));
             return CommandResult.empty();
         }
 
@@ -59,7 +59,7 @@ public class StaffChatCommand extends io.github.nucleuspowered.nucleus.internal.
         result = !user.isInStaffChat();
         user.setInStaffChat(result);
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.staffchat." + (result ? "on" : "off")));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.staffchat." + (result ? "on" : "off")));
         return CommandResult.success();
     }
 }
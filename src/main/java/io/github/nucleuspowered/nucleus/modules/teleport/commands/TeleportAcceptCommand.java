@@ -27,11 +27,11 @@ public class TeleportAcceptCommand extends io.github.nucleuspowered.nucleus.inte
     @Override
     public CommandResult executeCommand(Player src, CommandContext args) throws Exception {
         if (teleportHandler.getAndExecute(src.getUniqueId())) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.tpaccept.success"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.tpaccept.success"));
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.tpaccept.nothing"));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.tpaccept.nothing"));
         return CommandResult.empty();
     }
 }
@@ -43,12 +43,12 @@ public class TeleportAskAllHereCommand extends io.github.nucleuspowered.nucleus.
                     .setBypassToggle(true).setSilentSource(true);
             tpHandler.addAskQuestion(x.getUniqueId(), new TeleportHandler.TeleportPrep(Instant.now().plus(30, ChronoUnit.SECONDS), null, 0, tb));
 
-            x.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.tpahere.question", src.getName()));
+            x.sendMessage(plugin.getMessageProvider(x).getTextMessageWithFormat("command.tpahere.question", src.getName()));
 
-            x.sendMessage(tpHandler.getAcceptDenyMessage());
+            x.sendMessage(tpHandler.getAcceptDenyMessage(x));
         });
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.tpaall.success"));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.tpaall.success"));
         return CommandResult.success();
     }
 }
@@ -60,7 +60,7 @@ public class TeleportAskHereCommand extends io.github.nucleuspowered.nucleus.int
     public CommandResult executeCommand(Player src, CommandContext args) throws Exception {
         Player target = args.<Player>getOne(playerKey).get();
         if (src.equals(target)) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.teleport.self"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.teleport.self"));
             return CommandResult.empty();
         }
 
@@ -77,10 +77,10 @@ public class TeleportAskHereCommand extends io.github.nucleuspowered.nucleus.int
 
         // The question needs to be asked of the target
         tpHandler.addAskQuestion(target.getUniqueId(), new TeleportHandler.TeleportPrep(Instant.now().plus(30, ChronoUnit.SECONDS), src, cost, tb));
-        target.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.tpahere.question", src.getName()));
-        target.sendMessage(tpHandler.getAcceptDenyMessage());
+        target.sendMessage(plugin.getMessageProvider(target).getTextMessageWithFormat("command.tpahere.question", src.getName()));
+        target.sendMessage(tpHandler.getAcceptDenyMessage(target));
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.tpask.sent", target.getName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.tpask.sent", target.getName()));
         return CommandResult.success();
     }
 }
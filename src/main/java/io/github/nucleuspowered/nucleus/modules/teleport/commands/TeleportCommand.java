@@ -9,6 +9,7 @@ import io.github.nucleuspowered.nucleus.argumentparsers.NicknameArgument;
 import io.github.nucleuspowered.nucleus.argumentparsers.NoCostArgument;
 import io.github.nucleuspowered.nucleus.argumentparsers.NoWarmupArgument;
 import io.github.nucleuspowered.nucleus.argumentparsers.TwoPlayersArgument;
+import io.github.nucleuspowered.nucleus.dataservices.UserService;
 import io.github.nucleuspowered.nucleus.dataservices.loaders.UserDataManager;
 import io.github.nucleuspowered.nucleus.internal.annotations.ConfigCommandAlias;
 import io.github.nucleuspowered.nucleus.internal.annotations.Permissions;
@@ -75,8 +76,8 @@ public class TeleportCommand extends io.github.nucleuspowered.nucleus.internal.c
         // Do the /tptoggle check now, no need to go through a warmup then...
         if (source instanceof Player && !TeleportHandler.canBypassTpToggle(source)) {
             Player to = args.<Player>getOne(playerKey).get();
-            if (!userDataManager.get(to).get().isTeleportToggled()) {
-                source.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("teleport.fail.targettoggle", to.getName()));
+            if (!userDataManager.getIfLoaded(to.getUniqueId()).map(UserService::isTeleportToggled).orElse(true)) {
+                source.sendMessage(plugin.getMessageProvider(source).getTextMessageWithFormat("teleport.fail.targettoggle", to.getName()));
                 return ContinueMode.STOP;
             }
         }
@@ -92,13 +93,13 @@ public class TeleportCommand extends io.github.nucleuspowered.nucleus.internal.c
         if (ofrom.isPresent()) {
             from = ofrom.get();
             if (from.equals(src)) {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.teleport.player.noself"));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.teleport.player.noself"));
                 return CommandResult.empty();
             }
         } else if (src instanceof Player) {
             from = (Player) src;
         } else {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.playeronly"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.playeronly"));
             return CommandResult.empty();
         }
 
@@ -27,7 +27,7 @@ public class TeleportDenyCommand extends io.github.nucleuspowered.nucleus.intern
     @Override
     public CommandResult executeCommand(Player src, CommandContext args) throws Exception {
         boolean denied = teleportHandler.remove(src.getUniqueId());
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat(denied ? "command.tpdeny.deny" : "command.tpdeny.fail"));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat(denied ? "command.tpdeny.deny" : "command.tpdeny.fail"));
         return CommandResult.success();
     }
 }
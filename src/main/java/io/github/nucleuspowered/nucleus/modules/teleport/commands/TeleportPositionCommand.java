@@ -57,7 +57,7 @@ public class TeleportPositionCommand extends io.github.nucleuspowered.nucleus.in
 
         int yy = args.<Integer>getOne(y).get();
         if (yy < 0) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.tppos.ysmall"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.tppos.ysmall"));
             return CommandResult.empty();
         }
 
@@ -67,23 +67,23 @@ public class TeleportPositionCommand extends io.github.nucleuspowered.nucleus.in
         // Don't bother with the safety if the flag is set.
         if (args.<Boolean>getOne("f").orElse(false)) {
             pl.setLocation(loc);
-            pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.tppos.success.self"));
+            pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.tppos.success.self"));
             if (!src.equals(pl)) {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.tppos.success.other", pl.getName()));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.tppos.success.other", pl.getName()));
             }
 
             return CommandResult.success();
         }
 
         if (Nucleus.getNucleus().getTeleportHandler().teleportPlayer(pl, loc)) {
-            pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.tppos.success.self"));
+            pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.tppos.success.self"));
             if (!src.equals(pl)) {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.tppos.success.other", pl.getName()));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.tppos.success.other", pl.getName()));
             }
 
             return CommandResult.success();
         } else {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.tppos.nosafe"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.tppos.nosafe"));
             return CommandResult.empty();
         }
     }
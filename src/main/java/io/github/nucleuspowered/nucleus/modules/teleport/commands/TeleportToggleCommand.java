@@ -49,7 +49,7 @@ public class TeleportToggleCommand extends io.github.nucleuspowered.nucleus.inte
         boolean flip = args.<Boolean>getOne(key).orElseGet(() -> !iqsu.isTeleportToggled());
         iqsu.setTeleportToggled(flip);
         src.sendMessage(Text.builder().append(
-                plugin.getMessageProvider().getTextMessageWithFormat("command.tptoggle.success", plugin.getMessageProvider().getMessageWithFormat(flip ? "standard.enabled" : "standard.disabled")))
+                plugin.getMessageProvider(src).getTextMessageWithFormat("command.tptoggle.success", plugin.getMessageProvider(src).getMessageWithFormat(flip ? "standard.enabled" : "standard.disabled")))
                 .build());
         return CommandResult.success();
     }
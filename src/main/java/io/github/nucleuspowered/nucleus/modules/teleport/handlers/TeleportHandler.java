@@ -9,6 +9,7 @@ import io.github.nucleuspowered.nucleus.NucleusPlugin;
 import io.github.nucleuspowered.nucleus.dataservices.UserService;
 import io.github.nucleuspowered.nucleus.internal.PermissionRegistry;
 import io.github.nucleuspowered.nucleus.internal.interfaces.CancellableTask;
+import io.github.nucleuspowered.nucleus.internal.messages.MessageProvider;
 import io.github.nucleuspowered.nucleus.internal.teleport.NucleusTeleportHandler;
 import io.github.nucleuspowered.nucleus.modules.teleport.config.TeleportConfigAdapter;
 import org.spongepowered.api.Sponge;
@@ -38,7 +39,6 @@ public class TeleportHandler {
     private final Map<UUID, TeleportPrep> ask = new HashMap<>();
 
     private static final String tptoggleBypassPermission = PermissionRegistry.PERMISSIONS_PREFIX + "teleport.tptoggle.exempt";
-    private Text acceptDeny;
 
     public TeleportHandler(NucleusPlugin plugin) {
         this.plugin = plugin;
@@ -81,20 +81,17 @@ public class TeleportHandler {
         return tp != null;
     }
 
-    public Text getAcceptDenyMessage() {
-        if (acceptDeny == null) {
-            acceptDeny = Text.builder()
-                    .append(Text.builder().append(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("standard.accept")).style(TextStyles.UNDERLINE)
-                            .onHover(TextActions.showText(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("teleport.accept.hover")))
-                            .onClick(TextActions.runCommand("/tpaccept")).build())
-                    .append(Text.of(" - "))
-                    .append(Text.builder().append(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("standard.deny")).style(TextStyles.UNDERLINE)
-                            .onHover(TextActions.showText(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("teleport.deny.hover")))
-                            .onClick(TextActions.runCommand("/tpdeny")).build())
-                    .build();
-        }
-
-        return acceptDeny;
+    public Text getAcceptDenyMessage(CommandSource source) {
+        MessageProvider mp = NucleusPlugin.getNucleus().getMessageProvider(source);
+        return Text.builder()
+                .append(Text.builder().append(mp.getTextMessageWithFormat("standard.accept")).style(TextStyles.UNDERLINE)
+                        .onHover(TextActions.showText(mp.getTextMessageWithFormat("teleport.accept.hover")))
+                        .onClick(TextActions.runCommand("/tpaccept")).build())
+                .append(Text.of(" - "))
+                .append(Text.builder().append(mp.getTextMessageWithFormat("standard.deny")).style(TextStyles.UNDERLINE)
+                        .onHover(TextActions.showText(mp.getTextMessageWithFormat("teleport.deny.hover")))
+                        .onClick(TextActions.runCommand("/tpdeny")).build())
+                .build();
     }
 
     private void cancel(@Nullable TeleportPrep prep) {
@@ -105,7 +102,7 @@ public class TeleportHandler {
         if (prep.charged != null && prep.cost > 0) {
             if (prep.charged.isOnline()) {
                 prep.charged.getPlayer().ifPresent(x -> x
-                        .sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("teleport.prep.cancel", plugin.getEconHelper().getCurrencySymbol(prep.cost))));
+                        .sendMessage(NucleusPlugin.getNucleus().getMessageProvider(x).getTextMessageWithFormat("teleport.prep.cancel", plugin.getEconHelper().getCurrencySymbol(prep.cost))));
             }
 
             plugin.getEconHelper().depositInPlayer(prep.charged, prep.cost);
@@ -150,7 +147,7 @@ public class TeleportHandler {
 
                 if (!tpHandler.teleportPlayer(playerToTeleport, playerToTeleportTo.getTransform(), mode)) {
                     if (!silentSource) {
-                        source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("teleport.nosafe"));
+                        source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("teleport.nosafe"));
                     }
 
                     onCancel();
@@ -158,16 +155,16 @@ public class TeleportHandler {
                 }
 
                 if (!source.equals(playerToTeleport) && !silentSource) {
-                    source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("teleport.success.source", playerToTeleport.getName(), playerToTeleportTo.getName()));
+                    source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("teleport.success.source", playerToTeleport.getName(), playerToTeleportTo.getName()));
                 }
 
-                playerToTeleport.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("teleport.to.success", playerToTeleportTo.getName()));
+                playerToTeleport.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(playerToTeleport).getTextMessageWithFormat("teleport.to.success", playerToTeleportTo.getName()));
                 if (!silentTarget) {
-                    playerToTeleportTo.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("teleport.from.success", playerToTeleport.getName()));
+                    playerToTeleportTo.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(playerToTeleportTo).getTextMessageWithFormat("teleport.from.success", playerToTeleport.getName()));
                 }
             } else {
                 if (!silentSource) {
-                    source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("teleport.fail.offline"));
+                    source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("teleport.fail.offline"));
                 }
 
                 onCancel();
@@ -182,7 +179,7 @@ public class TeleportHandler {
         @Override
         public void onCancel() {
             if (!silentSource) {
-                source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("teleport.cancelled"));
+                source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("teleport.cancelled"));
             }
 
             if (charged != null && cost > 0) {
@@ -275,20 +272,20 @@ public class TeleportHandler {
             }
 
             if (from.equals(to)) {
-                source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("command.teleport.self"));
+                source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("command.teleport.self"));
                 return false;
             }
 
             UserService toPlayer = plugin.getUserDataManager().get(to).get();
             if (!bypassToggle && !toPlayer.isTeleportToggled() && !canBypassTpToggle(source)) {
-                source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("teleport.fail.targettoggle", to.getName()));
+                source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("teleport.fail.targettoggle", to.getName()));
                 return false;
             }
 
             if (plugin.getUserDataManager().get(from).get().getJailData().isPresent()) {
                 // Don't teleport a jailed player.
                 if (!silentSource) {
-                    source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("teleport.fail.jailed", from.getName()));
+                    source.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(source).getTextMessageWithFormat("teleport.fail.jailed", from.getName()));
                 }
 
                 return false;
@@ -302,7 +299,7 @@ public class TeleportHandler {
             }
 
             if (warmupTime > 0) {
-                from.sendMessage(NucleusPlugin.getNucleus().getMessageProvider().getTextMessageWithFormat("teleport.warmup", String.valueOf(warmupTime)));
+                from.sendMessage(NucleusPlugin.getNucleus().getMessageProvider(from).getTextMessageWithFormat("teleport.warmup", String.valueOf(warmupTime)));
                 plugin.getWarmupManager().addWarmup(from.getUniqueId(), Sponge.getScheduler().createTaskBuilder().delay(warmupTime, TimeUnit.SECONDS)
                         .execute(tt).name("NucleusPlugin - Teleport Waiter").submit(plugin));
             } else {
@@ -64,19 +64,19 @@ public class VanishCommand extends io.github.nucleuspowered.nucleus.internal.com
         playerToVanish.offer(Keys.INVISIBILITY_PREVENTS_TARGETING, toVanish);
         playerToVanish.offer(Keys.IS_SILENT, toVanish);
         if (dtr.isSuccessful()) {
-            playerToVanish.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.vanish.success",
-                    toVanish ? plugin.getMessageProvider().getMessageWithFormat("command.vanish.vanished") : plugin.getMessageProvider().getMessageWithFormat("command.vanish.visible")));
+            playerToVanish.sendMessage(plugin.getMessageProvider(playerToVanish).getTextMessageWithFormat("command.vanish.success",
+                    toVanish ? plugin.getMessageProvider(playerToVanish).getMessageWithFormat("command.vanish.vanished") : plugin.getMessageProvider(playerToVanish).getMessageWithFormat("command.vanish.visible")));
 
             if (!(src instanceof Player) || !(((Player)src).getUniqueId().equals(playerToVanish.getUniqueId()))) {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.vanish.successplayer",
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.vanish.successplayer",
                         TextSerializers.FORMATTING_CODE.serialize(plugin.getNameUtil().getName(playerToVanish)),
-                        toVanish ? plugin.getMessageProvider().getMessageWithFormat("command.vanish.vanished") : plugin.getMessageProvider().getMessageWithFormat("command.vanish.visible")));
+                        toVanish ? plugin.getMessageProvider(src).getMessageWithFormat("command.vanish.vanished") : plugin.getMessageProvider(src).getMessageWithFormat("command.vanish.visible")));
             }
 
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.vanish.fail"));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.vanish.fail"));
         return CommandResult.empty();
     }
 }
@@ -55,11 +55,11 @@ public class WarnModule extends ConfigurableModule<WarnConfigAdapter> {
             int active = jh.getWarnings(u, true, false).size();
             int expired = jh.getWarnings(u, false, true).size();
 
-            Text r = plugin.getMessageProvider().getTextMessageWithFormat("seen.warnings", String.valueOf(active), String.valueOf(expired));
+            Text r = plugin.getMessageProvider(c).getTextMessageWithFormat("seen.warnings", String.valueOf(active), String.valueOf(expired));
             if (active > 0) {
                 return Lists.newArrayList(
                         r.toBuilder().onClick(TextActions.runCommand("/checkwarnings " + u.getName()))
-                                .onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("standard.clicktoseemore"))).build());
+                                .onHover(TextActions.showText(plugin.getMessageProvider(c).getTextMessageWithFormat("standard.clicktoseemore"))).build());
             }
 
             return Lists.newArrayList(r);
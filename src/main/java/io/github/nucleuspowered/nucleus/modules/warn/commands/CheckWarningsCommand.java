@@ -69,19 +69,19 @@ public class CheckWarningsCommand extends io.github.nucleuspowered.nucleus.inter
         }
 
         if (warnings.isEmpty()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.checkwarnings.none", user.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.checkwarnings.none", user.getName()));
             return CommandResult.success();
         }
 
-        List<Text> messages = warnings.stream().sorted((a, b) -> a.getDate().compareTo(b.getDate())).map(x -> createMessage(allWarnings, x, user)).collect(Collectors.toList());
-        messages.add(0, plugin.getMessageProvider().getTextMessageWithFormat("command.checkwarnings.info"));
+        List<Text> messages = warnings.stream().sorted((a, b) -> a.getDate().compareTo(b.getDate())).map(x -> createMessage(src, allWarnings, x, user)).collect(Collectors.toList());
+        messages.add(0, plugin.getMessageProvider(src).getTextMessageWithFormat("command.checkwarnings.info"));
 
         PaginationService paginationService = Sponge.getGame().getServiceManager().provideUnchecked(PaginationService.class);
         paginationService.builder()
                 .title(
                         Text.builder()
                                 .color(TextColors.GOLD)
-                                .append(Text.of(plugin.getMessageProvider().getMessageWithFormat("command.checkwarnings.header", user.getName())))
+                                .append(Text.of(plugin.getMessageProvider(src).getMessageWithFormat("command.checkwarnings.header", user.getName())))
                                 .build())
                 .padding(
                         Text.builder()
@@ -94,13 +94,13 @@ public class CheckWarningsCommand extends io.github.nucleuspowered.nucleus.inter
         return CommandResult.success();
     }
 
-    private Text createMessage(List<WarnData> allData, WarnData warning, User user) {
+    private Text createMessage(CommandSource src, List<WarnData> allData, WarnData warning, User user) {
         String name;
         if (warning.getWarner().equals(Util.consoleFakeUUID)) {
             name = Sponge.getServer().getConsole().getName();
         } else {
             Optional<User> ou = Sponge.getServiceManager().provideUnchecked(UserStorageService.class).get(warning.getWarner());
-            name = ou.isPresent() ? ou.get().getName() : plugin.getMessageProvider().getMessageWithFormat("standard.unknown");
+            name = ou.isPresent() ? ou.get().getName() : plugin.getMessageProvider(src).getMessageWithFormat("standard.unknown");
         }
 
         //Get the remaining length of the warning
@@ -110,21 +110,21 @@ public class CheckWarningsCommand extends io.github.nucleuspowered.nucleus.inter
         } else if (warning.getTimeFromNextLogin().isPresent()) {
             time = Util.getTimeStringFromSeconds(warning.getTimeFromNextLogin().get().getSeconds());
         } else {
-            time = plugin.getMessageProvider().getMessageWithFormat("standard.restoftime");
+            time = plugin.getMessageProvider(src).getMessageWithFormat("standard.restoftime");
         }
 
         //Get the ID of the warning, its index in the users List<WarnData>
         int id = allData.indexOf(warning) + 1;
 
         //Action buttons, for a non expired warning this should look like 'Action > [Delete] - [Expire] - [Return] <'
-        Text.Builder actions = plugin.getMessageProvider().getTextMessageWithFormat("command.checkwarnings.action").toBuilder();
+        Text.Builder actions = plugin.getMessageProvider(src).getTextMessageWithFormat("command.checkwarnings.action").toBuilder();
 
         //Add separation between the word 'Action' and action buttons
         actions.append(Text.of(TextColors.GOLD, " > "));
 
         //Add the delete button [Delete]
-        actions.append(Text.builder().append(Text.of(TextColors.RED, plugin.getMessageProvider().getMessageWithFormat("standard.action.delete")))
-                .onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("command.checkwarnings.hover.delete")))
+        actions.append(Text.builder().append(Text.of(TextColors.RED, plugin.getMessageProvider(src).getMessageWithFormat("standard.action.delete")))
+                .onHover(TextActions.showText(plugin.getMessageProvider(src).getTextMessageWithFormat("command.checkwarnings.hover.delete")))
                 .onClick(TextActions.runCommand("/removewarning --remove " + user.getName() + " " + id))
                 .build());
 
@@ -133,8 +133,8 @@ public class CheckWarningsCommand extends io.github.nucleuspowered.nucleus.inter
 
         //Add the expire button if the warning isn't expired [Expire]
         if (!warning.isExpired()) {
-            actions.append(Text.builder().append(Text.of(TextColors.YELLOW, plugin.getMessageProvider().getMessageWithFormat("standard.action.expire")))
-                    .onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("command.checkwarnings.hover.expire")))
+            actions.append(Text.builder().append(Text.of(TextColors.YELLOW, plugin.getMessageProvider(src).getMessageWithFormat("standard.action.expire")))
+                    .onHover(TextActions.showText(plugin.getMessageProvider(src).getTextMessageWithFormat("command.checkwarnings.hover.expire")))
                     .onClick(TextActions.runCommand("/removewarning " + user.getName() + " " + id))
                     .build());
 
@@ -143,8 +143,8 @@ public class CheckWarningsCommand extends io.github.nucleuspowered.nucleus.inter
         }
 
         //Add the return button [Return]
-        actions.append(Text.builder().append(Text.of(TextColors.GREEN, plugin.getMessageProvider().getMessageWithFormat("standard.action.return")))
-                .onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("command.checkwarnings.hover.return")))
+        actions.append(Text.builder().append(Text.of(TextColors.GREEN, plugin.getMessageProvider(src).getMessageWithFormat("standard.action.return")))
+                .onHover(TextActions.showText(plugin.getMessageProvider(src).getTextMessageWithFormat("command.checkwarnings.hover.return")))
                 .onClick(TextActions.runCommand("/checkwarnings " + user.getName()))
                 .build());
 
@@ -157,13 +157,13 @@ public class CheckWarningsCommand extends io.github.nucleuspowered.nucleus.inter
 
         //Create a clickable name providing more information about the warning
         Text.Builder information = Text.builder(name)
-                .onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("command.checkwarnings.hover.check")))
+                .onHover(TextActions.showText(plugin.getMessageProvider(src).getTextMessageWithFormat("command.checkwarnings.hover.check")))
                 .onClick(TextActions.executeCallback(commandSource -> {
-                    commandSource.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.checkwarnings.id", String.valueOf(id)));
-                    commandSource.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.checkwarnings.date", date));
-                    commandSource.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.checkwarnings.remaining", time));
-                    commandSource.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.checkwarnings.warner", name));
-                    commandSource.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.checkwarnings.warning", warning.getReason()));
+                    commandSource.sendMessage(plugin.getMessageProvider(commandSource).getTextMessageWithFormat("command.checkwarnings.id", String.valueOf(id)));
+                    commandSource.sendMessage(plugin.getMessageProvider(commandSource).getTextMessageWithFormat("command.checkwarnings.date", date));
+                    commandSource.sendMessage(plugin.getMessageProvider(commandSource).getTextMessageWithFormat("command.checkwarnings.remaining", time));
+                    commandSource.sendMessage(plugin.getMessageProvider(commandSource).getTextMessageWithFormat("command.checkwarnings.warner", name));
+                    commandSource.sendMessage(plugin.getMessageProvider(commandSource).getTextMessageWithFormat("command.checkwarnings.warning", warning.getReason()));
                     commandSource.sendMessage(actions.build());
                 }));
 
@@ -175,9 +175,9 @@ public class CheckWarningsCommand extends io.github.nucleuspowered.nucleus.inter
 
         //Add the remaining length of the warning
         if (warning.isExpired()) {
-            message.append(Text.of(TextColors.GRAY, " " + plugin.getMessageProvider().getMessageWithFormat("standard.status.expired")));
+            message.append(Text.of(TextColors.GRAY, " " + plugin.getMessageProvider(src).getMessageWithFormat("standard.status.expired")));
         } else {
-            message.append(Text.of(TextColors.GREEN, " " + plugin.getMessageProvider().getMessageWithFormat("standard.for") + " "));
+            message.append(Text.of(TextColors.GREEN, " " + plugin.getMessageProvider(src).getMessageWithFormat("standard.for") + " "));
             if (Character.isLetter(time.charAt(0))) {
                 message.append(Text.of(TextColors.YELLOW, time.substring(0, 1).toLowerCase() + time.substring(1)));
             } else {
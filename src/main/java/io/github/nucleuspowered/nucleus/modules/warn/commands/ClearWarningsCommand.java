@@ -42,7 +42,7 @@ public class ClearWarningsCommand extends io.github.nucleuspowered.nucleus.inter
 
         List<WarnData> warnings = handler.getWarnings(user);
         if (warnings.isEmpty()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.checkwarnings.none", user.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.checkwarnings.none", user.getName()));
             return CommandResult.success();
         }
 
@@ -52,17 +52,17 @@ public class ClearWarningsCommand extends io.github.nucleuspowered.nucleus.inter
         //If the flag --remove is used then remove all active warnings.
         boolean removeActive = false;
         boolean removeExpired = false;
-        Text message = plugin.getMessageProvider().getTextMessageWithFormat("command.clearwarnings.success", user.getName());
+        Text message = plugin.getMessageProvider(src).getTextMessageWithFormat("command.clearwarnings.success", user.getName());
         if (args.hasAny("all")) {
             removeActive = true;
             removeExpired = true;
-            message = plugin.getMessageProvider().getTextMessageWithFormat("command.clearwarnings.all", user.getName());
+            message = plugin.getMessageProvider(src).getTextMessageWithFormat("command.clearwarnings.all", user.getName());
         } else if (args.hasAny("remove")) {
             removeActive = true;
-            message = plugin.getMessageProvider().getTextMessageWithFormat("command.clearwarnings.remove", user.getName());
+            message = plugin.getMessageProvider(src).getTextMessageWithFormat("command.clearwarnings.remove", user.getName());
         } else if (args.hasAny("expired")) {
             removeExpired = true;
-            message = plugin.getMessageProvider().getTextMessageWithFormat("command.clearwarnings.expired", user.getName());
+            message = plugin.getMessageProvider(src).getTextMessageWithFormat("command.clearwarnings.expired", user.getName());
         }
 
         if (handler.clearWarnings(user, removeActive, removeExpired)) {
@@ -70,7 +70,7 @@ public class ClearWarningsCommand extends io.github.nucleuspowered.nucleus.inter
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.clearwarnings.failure", user.getName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.clearwarnings.failure", user.getName()));
         return CommandResult.empty();
     }
 }
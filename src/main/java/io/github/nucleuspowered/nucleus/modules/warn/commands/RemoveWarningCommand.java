@@ -49,16 +49,16 @@ public class RemoveWarningCommand extends io.github.nucleuspowered.nucleus.inter
 
         List<WarnData> warnings = handler.getWarnings(user);
         if (warnings.isEmpty()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.checkwarnings.none", user.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.checkwarnings.none", user.getName()));
             return CommandResult.success();
         }
 
         if (handler.removeWarning(user, result.warnData, removePermanently)) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.removewarning.success", user.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.removewarning.success", user.getName()));
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.removewarning.failure", user.getName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.removewarning.failure", user.getName()));
         return CommandResult.empty();
     }
 }
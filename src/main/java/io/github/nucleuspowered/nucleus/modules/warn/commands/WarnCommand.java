@@ -78,7 +78,7 @@ public class WarnCommand extends io.github.nucleuspowered.nucleus.internal.comma
         String reason = args.<String>getOne(reasonKey).get();
 
         if (permissions.testSuffix(user, "exempt.target")) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warn.exempt", user.getName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warn.exempt", user.getName()));
             return CommandResult.success();
         }
 
@@ -101,20 +101,20 @@ public class WarnCommand extends io.github.nucleuspowered.nucleus.internal.comma
 
         //Check if too long (No duration provided, it is infinite)
         if (!optDuration.isPresent() && wca.getNodeOrDefault().getMaximumWarnLength() != -1 && !permissions.testSuffix(src, "exempt.length")) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warn.length.toolong", Util.getTimeStringFromSeconds(wca.getNodeOrDefault().getMaximumWarnLength())));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warn.length.toolong", Util.getTimeStringFromSeconds(wca.getNodeOrDefault().getMaximumWarnLength())));
             return CommandResult.success();
         }
 
         //Check if too long
         if (optDuration.orElse(Long.MAX_VALUE) > wca.getNodeOrDefault().getMaximumWarnLength() && wca.getNodeOrDefault().getMaximumWarnLength() != -1 && !permissions.testSuffix(src, "exempt.length")) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warn.length.toolong", Util.getTimeStringFromSeconds(wca.getNodeOrDefault().getMaximumWarnLength())));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warn.length.toolong", Util.getTimeStringFromSeconds(wca.getNodeOrDefault().getMaximumWarnLength())));
             return CommandResult.success();
 
         }
 
         //Check if too short
         if (optDuration.orElse(Long.MAX_VALUE) < wca.getNodeOrDefault().getMinimumWarnLength() && wca.getNodeOrDefault().getMinimumWarnLength() != -1 && !permissions.testSuffix(src, "exempt.length")) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warn.length.tooshort", Util.getTimeStringFromSeconds(wca.getNodeOrDefault().getMinimumWarnLength())));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warn.length.tooshort", Util.getTimeStringFromSeconds(wca.getNodeOrDefault().getMinimumWarnLength())));
             return CommandResult.success();
         }
 
@@ -127,13 +127,13 @@ public class WarnCommand extends io.github.nucleuspowered.nucleus.internal.comma
                 messageChannel.send(plugin.getMessageProvider().getTextMessageWithFormat("command.warn.success.time", user.getName(), src.getName(), warnData.getReason(), time));
 
                 if (user.isOnline()) {
-                    user.getPlayer().get().sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("warn.playernotify.time", warnData.getReason(), time));
+                    user.getPlayer().get().sendMessage(plugin.getMessageProvider(user.getPlayer().get()).getTextMessageWithFormat("warn.playernotify.time", warnData.getReason(), time));
                 }
             } else {
                 messageChannel.send(plugin.getMessageProvider().getTextMessageWithFormat("command.warn.success.norm", user.getName(), src.getName(), warnData.getReason()));
 
                 if (user.isOnline()) {
-                    user.getPlayer().get().sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("warn.playernotify.standard", warnData.getReason()));
+                    user.getPlayer().get().sendMessage(plugin.getMessageProvider(user.getPlayer().get()).getTextMessageWithFormat("warn.playernotify.standard", warnData.getReason()));
                 }
             }
 
@@ -155,7 +155,7 @@ public class WarnCommand extends io.github.nucleuspowered.nucleus.internal.comma
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warn.fail", user.getName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warn.fail", user.getName()));
         return CommandResult.empty();
     }
 }
@@ -123,6 +123,7 @@ public class WarnHandler implements NucleusWarnService {
             return false;
         }
 
+        userService.get().markDirty();
         for (WarnData warning : getWarnings(user)) {
             warning.nextLoginToTimestamp();
 
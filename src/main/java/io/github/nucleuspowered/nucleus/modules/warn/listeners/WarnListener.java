@@ -8,19 +8,21 @@ import com.google.common.collect.Maps;
 import com.google.inject.Inject;
 import io.github.nucleuspowered.nucleus.Util;
 import io.github.nucleuspowered.nucleus.api.data.WarnData;
+import io.github.nucleuspowered.nucleus.dataservices.UserService;
 import io.github.nucleuspowered.nucleus.internal.ListenerBase;
 import io.github.nucleuspowered.nucleus.internal.PermissionRegistry;
+import io.github.nucleuspowered.nucleus.internal.messages.MessageProvider;
 import io.github.nucleuspowered.nucleus.internal.permissions.PermissionInformation;
 import io.github.nucleuspowered.nucleus.internal.permissions.SuggestedLevel;
 import io.github.nucleuspowered.nucleus.modules.warn.config.WarnConfigAdapter;
 import io.github.nucleuspowered.nucleus.modules.warn.handlers.WarnHandler;
 import org.spongepowered.api.Sponge;
+import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.network.ClientConnectionEvent;
 import org.spongepowered.api.text.action.TextActions;
 import org.spongepowered.api.text.channel.MessageChannel;
-import org.spongepowered.api.text.channel.MutableMessageChannel;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -47,6 +49,7 @@ public class WarnListener extends ListenerBase {
             Player player = event.getTargetEntity();
             List<WarnData> warnings = handler.getWarnings(player, true, false);
             if (warnings != null && !warnings.isEmpty()) {
+                plugin.getUserDataManager().get(player).ifPresent(UserService::markDirty);
                 for (WarnData warning : warnings) {
                     warning.nextLoginToTimestamp();
 
@@ -55,10 +58,10 @@ public class WarnListener extends ListenerBase {
                     } else {
                         if (wca.getNodeOrDefault().isShowOnLogin()) {
                             if (warning.getEndTimestamp().isPresent()) {
-                                player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("warn.playernotify.time", warning.getReason(),
+                                player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("warn.playernotify.time", warning.getReason(),
                                         Util.getTimeStringFromSeconds(Instant.now().until(warning.getEndTimestamp().get(), ChronoUnit.SECONDS))));
                             } else {
-                                player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("warn.playernotify.standard", warning.getReason()));
+                                player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("warn.playernotify.standard", warning.getReason()));
                             }
                         }
                     }
@@ -68,11 +71,14 @@ public class WarnListener extends ListenerBase {
                 if (wca.getNodeOrDefault().isShowOnLogin()) {
                     List<WarnData> lwd = warnings.stream().filter(x -> !x.isExpired()).collect(Collectors.toList());
                     if (!lwd.isEmpty()) {
-                        MutableMessageChannel messageChannel = MessageChannel.permission(showOnLogin).asMutable();
-                        messageChannel.send(plugin.getMessageProvider().getTextMessageWithFormat("warn.login.notify", player.getName(), String.valueOf(lwd.size())).toBuilder()
-                                .onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("warn.login.view", player.getName())))
-                                .onClick(TextActions.runCommand("/checkwarnings " + player.getName()))
-                                .build());
+                        // Each member gets the notification in their own language.
+                        MessageChannel.permission(showOnLogin).getMembers().forEach(x -> {
+                            MessageProvider mp = x instanceof CommandSource ? plugin.getMessageProvider((CommandSource) x) : plugin.getMessageProvider();
+                            x.sendMessage(mp.getTextMessageWithFormat("warn.login.notify", player.getName(), String.valueOf(lwd.size())).toBuilder()
+                                    .onHover(TextActions.showText(mp.getTextMessageWithFormat("warn.login.view", player.getName())))
+                                    .onClick(TextActions.runCommand("/checkwarnings " + player.getName()))
+                                    .build());
+                        });
                     }
                 }
             }
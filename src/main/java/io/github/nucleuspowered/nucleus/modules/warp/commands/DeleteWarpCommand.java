@@ -43,12 +43,12 @@ public class DeleteWarpCommand extends io.github.nucleuspowered.nucleus.internal
 
         if (qs.removeWarp(warp.warp)) {
             // Worked. Tell them.
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warps.del", warp.warp));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warps.del", warp.warp));
             return CommandResult.success();
         }
 
         // Didn't work. Tell them.
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warps.delerror"));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warps.delerror"));
         return CommandResult.empty();
     }
 }
@@ -56,7 +56,7 @@ public class ListWarpCommand extends io.github.nucleuspowered.nucleus.internal.c
     @Override
     public CommandResult executeCommand(final CommandSource src, CommandContext args) throws Exception {
         if (service.getWarpNames().isEmpty()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warps.list.nowarps"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warps.list.nowarps"));
             return CommandResult.empty();
         }
 
@@ -87,7 +87,7 @@ public class ListWarpCommand extends io.github.nucleuspowered.nucleus.internal.c
         }
 
         Util.getPaginationBuilder(src)
-            .title(plugin.getMessageProvider().getTextMessageWithFormat("command.warps.list.maincategory")).padding(Text.of(TextColors.GREEN, "-"))
+            .title(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warps.list.maincategory")).padding(Text.of(TextColors.GREEN, "-"))
             .contents(lt)
             .sendTo(src);
     }
@@ -98,12 +98,12 @@ public class ListWarpCommand extends io.github.nucleuspowered.nucleus.internal.c
         String name = category == null ? adapter.getNodeOrDefault().getDefaultName() : category;
 
         List<Text> lt = warpDataList.get(category).stream().sorted(Comparator.comparing(WarpData::getName))
-            .map(s -> createWarp(s, s.getName(), econExists, defaultCost)).collect(Collectors.toList());
+            .map(s -> createWarp(src, s, s.getName(), econExists, defaultCost)).collect(Collectors.toList());
 
         Util.getPaginationBuilder(src)
-            .title(plugin.getMessageProvider().getTextMessageWithFormat("command.warps.list.category", name)).padding(Text.of(TextColors.GREEN, "-"))
+            .title(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warps.list.category", name)).padding(Text.of(TextColors.GREEN, "-"))
             .contents(lt)
-            .footer(plugin.getMessageProvider().getTextMessageWithFormat("command.warps.list.back").toBuilder()
+            .footer(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warps.list.back").toBuilder()
                 .onClick(TextActions.executeCallback(s -> createMain(s, warpDataList))).build())
             .sendTo(src);
     }
@@ -115,20 +115,20 @@ public class ListWarpCommand extends io.github.nucleuspowered.nucleus.internal.c
         final int defaultCost = adapter.getNodeOrDefault().getDefaultWarpCost();
         List<Text> lt = ws.stream().filter(s -> canView(src, s.toLowerCase())).sorted(String::compareTo).map(s -> {
             Optional<WarpData> wd = service.getWarp(s);
-            return createWarp(wd.orElse(null), s, econExists, defaultCost);
+            return createWarp(src, wd.orElse(null), s, econExists, defaultCost);
         }).collect(Collectors.toList());
 
         Util.getPaginationBuilder(src)
-            .title(plugin.getMessageProvider().getTextMessageWithFormat("command.warps.list.header")).padding(Text.of(TextColors.GREEN, "-"))
+            .title(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warps.list.header")).padding(Text.of(TextColors.GREEN, "-"))
             .contents(lt)
             .sendTo(src);
 
         return CommandResult.success();
     }
 
-    private Text createWarp(@Nullable WarpData data, String name, boolean econExists, int defaultCost) {
+    private Text createWarp(CommandSource src, @Nullable WarpData data, String name, boolean econExists, int defaultCost) {
         if (data == null || !data.getLocation().isPresent()) {
-            return Text.builder(name).color(TextColors.RED).onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("command.warps.unavailable")))
+            return Text.builder(name).color(TextColors.RED).onHover(TextActions.showText(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warps.unavailable")))
                 .build();
         }
 
@@ -136,15 +136,15 @@ public class ListWarpCommand extends io.github.nucleuspowered.nucleus.internal.c
 
         Text.Builder tb =
             Text.builder().append(Text.builder(name).color(TextColors.GREEN).style(TextStyles.UNDERLINE).onClick(TextActions.runCommand("/warp " + name))
-                .onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("command.warps.warpprompt", name))).build())
-                .append(plugin.getMessageProvider().getTextMessageWithFormat("command.warps.warploc",
+                .onHover(TextActions.showText(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warps.warpprompt", name))).build())
+                .append(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warps.warploc",
                         world.getExtent().getName(), world.getBlockPosition().toString()
                     ));
 
         if (econExists) {
             int cost = data.getCost().orElse(defaultCost);
             if (cost > 0) {
-                tb.append(plugin.getMessageProvider().getTextMessageWithFormat("command.warps.list.cost", plugin.getEconHelper().getCurrencySymbol(cost)));
+                tb.append(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warps.list.cost", plugin.getEconHelper().getCurrencySymbol(cost)));
             }
         }
 
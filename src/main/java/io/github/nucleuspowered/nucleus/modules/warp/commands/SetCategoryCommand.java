@@ -64,22 +64,22 @@ public class SetCategoryCommand extends AbstractCommand<CommandSource> {
         if (args.hasAny("r")) {
             // Remove the category.
             if (handler.setWarpCategory(warpName, null)) {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warp.category.removed", warpName));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warp.category.removed", warpName));
                 return CommandResult.success();
             }
 
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.warp.category.noremove", warpName));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warp.category.noremove", warpName));
         }
 
         Optional<Tuple<String, Boolean>> categoryOp = args.getOne(categoryKey);
         if (!categoryOp.isPresent()) {
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.warp.category.required"));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warp.category.required"));
         }
 
         Tuple<String, Boolean> category = categoryOp.get();
         if (!args.hasAny("n") && !category.getSecond()) {
             src.sendMessage(
-                plugin.getMessageProvider().getTextMessageWithFormat("command.warp.category.requirenew", category.getFirst())
+                plugin.getMessageProvider(src).getTextMessageWithFormat("command.warp.category.requirenew", category.getFirst())
                     .toBuilder().onClick(TextActions.runCommand("/warp setcategory -n " + warpName + " " + category.getFirst())).build()
             );
 
@@ -88,11 +88,11 @@ public class SetCategoryCommand extends AbstractCommand<CommandSource> {
 
         // Remove the category.
         if (handler.setWarpCategory(warpName, category.getFirst())) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warp.category.added", category.getFirst(), warpName));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warp.category.added", category.getFirst(), warpName));
             return CommandResult.success();
         }
 
-        throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.warp.category.couldnotadd", category.getFirst(), warpName));
+        throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warp.category.couldnotadd", category.getFirst(), warpName));
     }
 
     private class WarpCategoryArgument extends CommandElement {
@@ -42,19 +42,19 @@ public class SetCostCommand extends io.github.nucleuspowered.nucleus.internal.co
         WarpArgument.Result warpData = args.<WarpArgument.Result>getOne(warpKey).get();
         int cost = args.<Integer>getOne(costKey).get();
         if (cost < -1) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warp.costset.arg"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warp.costset.arg"));
             return CommandResult.empty();
         }
 
         if (cost == -1 && warpHandler.setWarpCost(warpData.warp, -1)) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warp.costset.reset", warpData.warp, String.valueOf(warpConfigAdapter.getNodeOrDefault().getDefaultWarpCost())));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warp.costset.reset", warpData.warp, String.valueOf(warpConfigAdapter.getNodeOrDefault().getDefaultWarpCost())));
             return CommandResult.success();
         } else if (warpHandler.setWarpCost(warpData.warp, cost)) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warp.costset.success", warpData.warp, String.valueOf(cost)));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warp.costset.success", warpData.warp, String.valueOf(cost)));
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warp.costset.failed", warpData.warp));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warp.costset.failed", warpData.warp));
         return CommandResult.empty();
     }
 }
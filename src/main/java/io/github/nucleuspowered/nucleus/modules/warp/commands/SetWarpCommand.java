@@ -45,7 +45,7 @@ public class SetWarpCommand extends io.github.nucleuspowered.nucleus.internal.co
 
         // Needs to match the name...
         if (!warpRegex.matcher(warp).matches()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warps.invalidname"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warps.invalidname"));
             return CommandResult.empty();
         }
 
@@ -53,19 +53,19 @@ public class SetWarpCommand extends io.github.nucleuspowered.nucleus.internal.co
         NucleusWarpService qs = Sponge.getServiceManager().provideUnchecked(NucleusWarpService.class);
         if (qs.getWarp(warp).isPresent()) {
             // You have to delete to set the same name
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warps.nooverwrite"));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warps.nooverwrite"));
             return CommandResult.empty();
         }
 
         // OK! Set it.
         if (qs.setWarp(warp, src.getLocation(), src.getRotation())) {
             // Worked. Tell them.
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warps.set", warp));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warps.set", warp));
             return CommandResult.success();
         }
 
         // Didn't work. Tell them.
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warps.seterror"));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.warps.seterror"));
         return CommandResult.empty();
     }
 }
@@ -90,13 +90,13 @@ public class WarpCommand extends io.github.nucleuspowered.nucleus.internal.comma
         String costWithUnit = plugin.getEconHelper().getCurrencySymbol(cost);
         if (plugin.getEconHelper().hasBalance(source, cost)) {
             String command = String.format("/warp -y %s", wd.warp);
-            source.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warp.cost.details", wd.warp, costWithUnit));
+            source.sendMessage(plugin.getMessageProvider(source).getTextMessageWithFormat("command.warp.cost.details", wd.warp, costWithUnit));
             source.sendMessage(
-            plugin.getMessageProvider().getTextMessageWithFormat("command.warp.cost.clickaccept").toBuilder()
-                    .onClick(TextActions.runCommand(command)).onHover(TextActions.showText(plugin.getMessageProvider().getTextMessageWithFormat("command.warp.cost.clickhover", command)))
-                    .append(plugin.getMessageProvider().getTextMessageWithFormat("command.warp.cost.alt")).build());
+            plugin.getMessageProvider(source).getTextMessageWithFormat("command.warp.cost.clickaccept").toBuilder()
+                    .onClick(TextActions.runCommand(command)).onHover(TextActions.showText(plugin.getMessageProvider(source).getTextMessageWithFormat("command.warp.cost.clickhover", command)))
+                    .append(plugin.getMessageProvider(source).getTextMessageWithFormat("command.warp.cost.alt")).build());
         } else {
-            source.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warp.cost.nomoney", wd.warp, costWithUnit));
+            source.sendMessage(plugin.getMessageProvider(source).getTextMessageWithFormat("command.warp.cost.nomoney", wd.warp, costWithUnit));
         }
 
         return ContinueMode.STOP;
@@ -120,18 +120,18 @@ public class WarpCommand extends io.github.nucleuspowered.nucleus.internal.comma
             if (plugin.getEconHelper().withdrawFromPlayer(pl, cost, false)) {
                 chg = true;
             } else {
-                pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warp.cost.nomoney", wd.warp, plugin.getEconHelper().getCurrencySymbol(cost)));
+                pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.warp.cost.nomoney", wd.warp, plugin.getEconHelper().getCurrencySymbol(cost)));
                 return CommandResult.empty();
             }
         }
 
         // We have a warp data, warp them.
-        pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warps.start", wd.warp));
+        pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.warps.start", wd.warp));
 
         // Warp them.
         boolean isSafe = !args.getOne("f").isPresent() && adapter.getNodeOrDefault().isSafeTeleport();
         if (!plugin.getTeleportHandler().teleportPlayer(pl, wd.loc.getLocation().get(), wd.loc.getRotation(), isSafe)) {
-            pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warps.nosafe"));
+            pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.warps.nosafe"));
 
             if (chg) {
                 plugin.getEconHelper().depositInPlayer(pl, cost, false);
@@ -141,7 +141,7 @@ public class WarpCommand extends io.github.nucleuspowered.nucleus.internal.comma
         }
 
         if (chg) {
-            pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.warp.cost.charged", plugin.getEconHelper().getCurrencySymbol(cost)));
+            pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.warp.cost.charged", plugin.getEconHelper().getCurrencySymbol(cost)));
         }
 
         return CommandResult.success();
@@ -41,6 +41,21 @@ public class WarpHandler implements NucleusWarpService {
         return store.addWarp(warpName, location, rotation);
     }
 
+    @Override
+    public List<WarpData> getNearestWarps(Location<World> location, int count) {
+        return store.getNearestWarps(location, count);
+    }
+
+    @Override
+    public List<WarpData> getWarpsWithin(Location<World> location, double radius) {
+        return store.getWarpsWithin(location, radius);
+    }
+
+    @Override
+    public List<WarpData> getWarpsInWorld(World world) {
+        return store.getWarpsInWorld(world);
+    }
+
     @Override
     public List<WarpData> getUncategorisedWarps() {
         return getWarpsForCategory(x -> !x.getCategory().isPresent());
@@ -72,14 +72,14 @@ public class CreateWorldCommand extends io.github.nucleuspowered.nucleus.interna
         Optional<Long> seedInput = args.getOne(seed);
 
         if (Sponge.getServer().getWorld(nameInput).isPresent()) {
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.world.create.exists", nameInput));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.create.exists", nameInput));
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.create.begin", nameInput));
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.create.newparams",
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.create.begin", nameInput));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.create.newparams",
             dimensionInput.getName(),
             generatorInput.getName(),
-            modifierString(modifiers),
+            modifierString(src, modifiers),
             gamemodeInput.getName(),
             difficultyInput.getName()));
 
@@ -100,19 +100,19 @@ public class CreateWorldCommand extends io.github.nucleuspowered.nucleus.interna
 
             if (world.isPresent()) {
                 world.get().getProperties().setDifficulty(difficultyInput);
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.create.success", nameInput));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.create.success", nameInput));
                 return CommandResult.success();
             } else {
-                throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.world.create.worldfailedtoload", nameInput));
+                throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.create.worldfailedtoload", nameInput));
             }
         }
 
-        throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.world.create.fail", nameInput));
+        throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.create.fail", nameInput));
     }
 
-    static String modifierString(Collection<WorldGeneratorModifier> cw) {
+    static String modifierString(CommandSource src, Collection<WorldGeneratorModifier> cw) {
         if (cw.isEmpty()) {
-            return Nucleus.getNucleus().getMessageProvider().getMessageWithFormat("standard.none");
+            return Nucleus.getNucleus().getMessageProvider(src).getMessageWithFormat("standard.none");
         }
 
         StringBuilder sb = new StringBuilder();
@@ -71,18 +71,18 @@ public class DeleteWorldCommand extends AbstractCommand<CommandSource> {
         }
 
         confirm = null;
-        runChecks(properties);
+        runChecks(src, properties);
 
         // Scary warning.
         Path path = plugin.getDataPath().getParent().resolve("world").resolve(properties.getWorldName());
         if (Files.exists(path)) {
             confirm = Tuples.of(Instant.now().plus(30, ChronoUnit.SECONDS), Util.getUUID(src), properties, path);
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.delete.warning1", properties.getWorldName()));
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.delete.warning2", path.toAbsolutePath().toString()));
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.delete.warning3", properties.getWorldName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.delete.warning1", properties.getWorldName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.delete.warning2", path.toAbsolutePath().toString()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.delete.warning3", properties.getWorldName()));
             return CommandResult.success();
         } else {
-            throw new ReturnMessageException(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.delete.notfound", properties.getWorldName()));
+            throw new ReturnMessageException(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.world.delete.notfound", properties.getWorldName()));
         }
     }
 
@@ -90,29 +90,28 @@ public class DeleteWorldCommand extends AbstractCommand<CommandSource> {
         Preconditions.checkNotNull(confirm);
         String worldName = confirm.getThird().getWorldName();
         Path path = confirm.getFourth();
-        runChecks(confirm.getThird());
+        runChecks(src, confirm.getThird());
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.delete.confirmed", worldName));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.delete.confirmed", worldName));
 
         DeletionWalker d = new DeletionWalker();
         Files.walkFileTree(path, d);
 
         if (d.error) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.delete.complete.error", worldName));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.delete.complete.error", worldName));
         } else {
-            Text message = plugin.getMessageProvider().getTextMessageWithFormat("command.world.delete.complete.success", worldName);
-            src.sendMessage(message);
-            Nucleus.getNucleus().getLogger().info(message.toPlain());
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.delete.complete.success", worldName));
+            Nucleus.getNucleus().getLogger().info(plugin.getMessageProvider().getTextMessageWithFormat("command.world.delete.complete.success", worldName).toPlain());
         }
     }
 
-    private static void runChecks(WorldProperties properties) throws ReturnMessageException {
+    private static void runChecks(CommandSource src, WorldProperties properties) throws ReturnMessageException {
         if (Sponge.getServer().getWorld(properties.getUniqueId()).isPresent()) {
-            throw new ReturnMessageException(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.delete.loaded", properties.getWorldName()));
+            throw new ReturnMessageException(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.world.delete.loaded", properties.getWorldName()));
         }
 
         if (properties.isEnabled()) {
-            throw new ReturnMessageException(Nucleus.getNucleus().getMessageProvider().getTextMessageWithFormat("command.world.delete.enabled", properties.getWorldName()));
+            throw new ReturnMessageException(Nucleus.getNucleus().getMessageProvider(src).getTextMessageWithFormat("command.world.delete.enabled", properties.getWorldName()));
         }
     }
 
@@ -42,15 +42,15 @@ public class DisableWorldCommand extends AbstractCommand<CommandSource> {
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
         WorldProperties worldProperties = args.<WorldProperties>getOne(worldKey).get();
         if (!worldProperties.isEnabled()) {
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.world.disable.alreadydisabled", worldProperties.getWorldName()));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.disable.alreadydisabled", worldProperties.getWorldName()));
         }
 
         if (Sponge.getServer().getWorld(worldProperties.getUniqueId()).isPresent()) {
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.world.disable.warnloaded", worldProperties.getWorldName()));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.disable.warnloaded", worldProperties.getWorldName()));
         }
 
         worldProperties.setEnabled(false);
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.disable.success", worldProperties.getWorldName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.disable.success", worldProperties.getWorldName()));
         return CommandResult.success();
     }
 }
@@ -41,11 +41,11 @@ public class EnableWorldCommand extends AbstractCommand<CommandSource> {
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
         WorldProperties worldProperties = args.<WorldProperties>getOne(worldKey).get();
         if (worldProperties.isEnabled()) {
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.world.enable.alreadyenabled", worldProperties.getWorldName()));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.enable.alreadyenabled", worldProperties.getWorldName()));
         }
 
         worldProperties.setEnabled(true);
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.enable.success", worldProperties.getWorldName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.enable.success", worldProperties.getWorldName()));
         return CommandResult.success();
     }
 }
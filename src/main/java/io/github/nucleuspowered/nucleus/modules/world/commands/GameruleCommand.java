@@ -46,13 +46,13 @@ public class GameruleCommand extends AbstractCommand<CommandSource> {
         WorldProperties worldProperties = getWorldFromUserOrArgs(src, worldKey, args);
         Map<String, String> gameRules = worldProperties.getGameRules();
 
-        String message = plugin.getMessageProvider().getMessageWithFormat("command.world.gamerule.key");
+        String message = plugin.getMessageProvider(src).getMessageWithFormat("command.world.gamerule.key");
         List<Text> text = gameRules.entrySet().stream().sorted(Comparator.comparing(Map.Entry::getKey))
             .map(x -> TextSerializers.FORMATTING_CODE.deserialize(MessageFormat.format(message, x.getKey(), x.getValue())))
             .collect(Collectors.toList());
 
         Util.getPaginationBuilder(src)
-            .title(plugin.getMessageProvider().getTextMessageWithFormat("command.world.gamerule.header", worldProperties.getWorldName()))
+            .title(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.gamerule.header", worldProperties.getWorldName()))
             .contents(text)
             .sendTo(src);
 
@@ -51,31 +51,31 @@ public class ListWorldCommand extends AbstractCommand<CommandSource> {
                 listContent.add(SPACE);
             }
 
-            listContent.add(plugin.getMessageProvider().getTextMessageWithFormat("command.world.list.worlditem", x.getWorldName()));
+            listContent.add(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.list.worlditem", x.getWorldName()));
 
             if (x.isEnabled()) {
                 boolean worldLoaded = Sponge.getServer().getWorld(x.getUniqueId()).isPresent();
                 String message =
-                    (worldLoaded ? "&a" : "&c") + plugin.getMessageProvider().getMessageWithFormat(worldLoaded ? "standard.true" : "standard.false");
-                listContent.add(plugin.getMessageProvider().getTextMessageWithFormat("command.world.list.enabled", message));
+                    (worldLoaded ? "&a" : "&c") + plugin.getMessageProvider(src).getMessageWithFormat(worldLoaded ? "standard.true" : "standard.false");
+                listContent.add(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.list.enabled", message));
             } else {
-                listContent.add(plugin.getMessageProvider().getTextMessageWithFormat("command.world.list.disabled"));
+                listContent.add(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.list.disabled"));
             }
 
             if (canSeeSeeds) {
-                listContent.add(plugin.getMessageProvider().getTextMessageWithFormat("command.world.list.seed", String.valueOf(x.getSeed())));
+                listContent.add(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.list.seed", String.valueOf(x.getSeed())));
             }
 
-            listContent.add(plugin.getMessageProvider().getTextMessageWithFormat("command.world.list.params",
+            listContent.add(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.list.params",
                 x.getDimensionType().getName(),
                 x.getGeneratorType().getName(),
-                CreateWorldCommand.modifierString(x.getGeneratorModifiers()),
+                CreateWorldCommand.modifierString(src, x.getGeneratorModifiers()),
                 x.getGameMode().getName(),
                 x.getDifficulty().getName()));
         });
 
         PaginationList.Builder plb = Sponge.getServiceManager().provideUnchecked(PaginationService.class).builder()
-            .contents(listContent).title(plugin.getMessageProvider().getTextMessageWithFormat("command.world.list.title"));
+            .contents(listContent).title(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.list.title"));
         if (!(src instanceof Player)) {
             plb.linesPerPage(-1);
         }
@@ -48,25 +48,25 @@ public class LoadWorldCommand extends AbstractCommand<CommandSource> {
         if (!worldProperties.isEnabled() && !args.hasAny("e")) {
             // Not enabled, cannot load.
             if (plugin.getPermissionRegistry().getService(EnableWorldCommand.class).testBase(src)) {
-                throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.world.load.notenabled.enable", worldProperties.getWorldName()));
+                throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.load.notenabled.enable", worldProperties.getWorldName()));
             }
 
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.world.load.notenabled.noenable", worldProperties.getWorldName()));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.load.notenabled.noenable", worldProperties.getWorldName()));
         }
 
         if (Sponge.getServer().getWorld(worldProperties.getUniqueId()).isPresent()) {
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.world.load.alreadyloaded", worldProperties.getWorldName()));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.load.alreadyloaded", worldProperties.getWorldName()));
         }
 
         worldProperties.setEnabled(true);
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.load.start", worldProperties.getWorldName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.load.start", worldProperties.getWorldName()));
         Optional<World> optional = Sponge.getServer().loadWorld(worldProperties);
         if (optional.isPresent()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.load.loaded", worldProperties.getWorldName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.load.loaded", worldProperties.getWorldName()));
             return CommandResult.success();
         }
 
-        throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.world.load.failed", worldProperties.getWorldName()));
+        throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.load.failed", worldProperties.getWorldName()));
     }
 
 
@@ -50,18 +50,18 @@ public class SetDifficultyWorldCommand extends io.github.nucleuspowered.nucleus.
 
         if (optWorldProperties.isPresent()) {
             optWorldProperties.get().setDifficulty(difficultyInput);
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.setdifficulty.success",
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.setdifficulty.success",
                 optWorldProperties.get().getWorldName(),
                 Util.getTranslatableIfPresent(difficultyInput)));
         } else {
             if (src instanceof Player) {
                 Player player = (Player) src;
                 player.getWorld().getProperties().setDifficulty(difficultyInput);
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.setdifficulty.success",
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.setdifficulty.success",
                     optWorldProperties.get().getWorldName(),
                     Util.getTranslatableIfPresent(difficultyInput)));
             } else {
-                src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.player"));
+                src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.player"));
                 return CommandResult.empty();
             }
         }
@@ -49,7 +49,7 @@ public class SetGamemodeWorldCommand extends io.github.nucleuspowered.nucleus.in
         WorldProperties worldProperties = getWorldFromUserOrArgs(src, world, args);
 
         worldProperties.setGameMode(gamemodeInput);
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.setgamemode.success",
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.setgamemode.success",
             worldProperties.getWorldName(),
             Util.getTranslatableIfPresent(gamemodeInput)));
 
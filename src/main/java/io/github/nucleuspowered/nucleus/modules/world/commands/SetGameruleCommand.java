@@ -45,7 +45,7 @@ public class SetGameruleCommand extends AbstractCommand<CommandSource> {
 
         worldProperties.setGameRule(gameRule, value);
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.gamerule.set.success", gameRule, value, worldProperties.getWorldName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.gamerule.set.success", gameRule, value, worldProperties.getWorldName()));
         return CommandResult.success();
     }
 }
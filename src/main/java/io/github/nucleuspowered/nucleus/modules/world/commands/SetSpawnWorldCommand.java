@@ -23,7 +23,7 @@ public class SetSpawnWorldCommand extends io.github.nucleuspowered.nucleus.inter
     @Override
     public CommandResult executeCommand(Player pl, CommandContext args) throws Exception {
         pl.getWorld().getProperties().setSpawnPosition(pl.getLocation().getBlockPosition());
-        pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.setspawn.success"));
+        pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.world.setspawn.success"));
         return CommandResult.success();
     }
 }
@@ -51,19 +51,19 @@ public class TeleportWorldCommand extends io.github.nucleuspowered.nucleus.inter
         Player player = getUserFromArgs(Player.class, src, playerKey, args, "command.world.player");
         WorldProperties worldProperties = args.<WorldProperties>getOne(world).get();
         if (!worldProperties.isEnabled()) {
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.world.teleport.notenabled", worldProperties.getWorldName()));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.teleport.notenabled", worldProperties.getWorldName()));
         }
 
         if (!player.transferToWorld(worldProperties.getUniqueId(), worldProperties.getSpawnPosition().toDouble())) {
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.world.teleport.failed", worldProperties.getWorldName()));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.teleport.failed", worldProperties.getWorldName()));
         }
 
         if (src instanceof Player && ((Player) src).getUniqueId().equals(player.getUniqueId())) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.teleport.success", worldProperties.getWorldName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.teleport.success", worldProperties.getWorldName()));
         } else {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.teleport.successplayer",
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.teleport.successplayer",
                 plugin.getNameUtil().getSerialisedName(player), worldProperties.getWorldName()));
-            player.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.teleport.success", worldProperties.getWorldName()));
+            player.sendMessage(plugin.getMessageProvider(player).getTextMessageWithFormat("command.world.teleport.success", worldProperties.getWorldName()));
         }
 
         return CommandResult.success();
@@ -60,10 +60,10 @@ public class UnloadWorldCommand extends AbstractCommand<CommandSource> {
         if (!worldOptional.isPresent()) {
             // Not loaded.
             if (disable) {
-                disable(worldProperties, src, plugin.getMessageProvider(), false);
+                disable(worldProperties, src, plugin.getMessageProvider(src), false);
             }
 
-            throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.world.unload.alreadyunloaded", worldProperties.getWorldName()));
+            throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.unload.alreadyunloaded", worldProperties.getWorldName()));
         }
 
         World world = worldOptional.get();
@@ -73,18 +73,18 @@ public class UnloadWorldCommand extends AbstractCommand<CommandSource> {
             if (!playerCollection.isEmpty()) {
                 // Transfer World is present and enabled.
                 playerCollection.forEach(x -> x.transferToWorld(transferWorld.get().getUniqueId(), transferWorld.get().getSpawnPosition().toDouble()));
-                Sponge.getScheduler().createSyncExecutor(plugin).schedule(() -> unloadWorld(src, world, plugin.getMessageProvider(), disable), 40, TimeUnit.MILLISECONDS);
+                Sponge.getScheduler().createSyncExecutor(plugin).schedule(() -> unloadWorld(src, world, plugin.getMessageProvider(src), disable), 40, TimeUnit.MILLISECONDS);
 
                 // Well, this bit succeeded, at least.
                 return CommandResult.success();
-            } else if (unloadWorld(src, world, plugin.getMessageProvider(), disable)) {
+            } else if (unloadWorld(src, world, plugin.getMessageProvider(src), disable)) {
                 return CommandResult.success();
             } else {
                 return CommandResult.empty();
             }
         }
 
-        throw new ReturnMessageException(plugin.getMessageProvider().getTextMessageWithFormat("command.world.unload.players", worldProperties.getWorldName()));
+        throw new ReturnMessageException(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.unload.players", worldProperties.getWorldName()));
     }
 
     private static void disable(WorldProperties worldProperties, CommandSource sender, MessageProvider provider, boolean messageOnError) {
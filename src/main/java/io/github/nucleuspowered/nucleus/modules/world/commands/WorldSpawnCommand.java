@@ -23,7 +23,7 @@ public class WorldSpawnCommand extends io.github.nucleuspowered.nucleus.internal
     @Override
     public CommandResult executeCommand(Player pl, CommandContext args) throws Exception {
         pl.setLocation(pl.getWorld().getSpawnLocation());
-        pl.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.spawn.success"));
+        pl.sendMessage(plugin.getMessageProvider(pl).getTextMessageWithFormat("command.world.spawn.success"));
         return CommandResult.success();
     }
 }
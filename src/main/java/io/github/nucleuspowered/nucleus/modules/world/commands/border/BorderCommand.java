@@ -50,15 +50,15 @@ public class BorderCommand extends io.github.nucleuspowered.nucleus.internal.com
         int targetDiameter = (int)wp.getWorldBorderTargetDiameter();
 
         // Border centre
-        worldBorderInfo.add(plugin.getMessageProvider().getTextMessageWithFormat("command.world.border.centre", String.valueOf(centre.getFloorX()), String.valueOf(centre.getFloorZ())));
-        worldBorderInfo.add(plugin.getMessageProvider().getTextMessageWithFormat("command.world.border.currentdiameter", String.valueOf(wp.getWorldBorderDiameter())));
+        worldBorderInfo.add(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.border.centre", String.valueOf(centre.getFloorX()), String.valueOf(centre.getFloorZ())));
+        worldBorderInfo.add(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.border.currentdiameter", String.valueOf(wp.getWorldBorderDiameter())));
 
         if (currentDiameter != targetDiameter) {
-            worldBorderInfo.add(plugin.getMessageProvider().getTextMessageWithFormat("command.world.border.targetdiameter", String.valueOf(targetDiameter), String.valueOf(wp.getWorldBorderTimeRemaining() / 1000)));
+            worldBorderInfo.add(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.border.targetdiameter", String.valueOf(targetDiameter), String.valueOf(wp.getWorldBorderTimeRemaining() / 1000)));
         }
 
         PaginationList.Builder pb = Sponge.getServiceManager().provideUnchecked(PaginationService.class).builder().contents(worldBorderInfo)
-                .title(plugin.getMessageProvider().getTextMessageWithFormat("command.world.border.title", wp.getWorldName())).padding(Text.of(TextColors.GREEN, "="));
+                .title(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.border.title", wp.getWorldName())).padding(Text.of(TextColors.GREEN, "="));
         if (src instanceof ConsoleSource) {
             pb.linesPerPage(-1);
         }
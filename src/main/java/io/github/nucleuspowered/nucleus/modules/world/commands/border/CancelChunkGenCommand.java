@@ -47,11 +47,11 @@ public class CancelChunkGenCommand extends io.github.nucleuspowered.nucleus.inte
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
         WorldProperties wp = getWorldFromUserOrArgs(src, worldKey, args);
         if (worldHelper.cancelPregenRunningForWorld(wp.getUniqueId())) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.cancelgen.cancelled", wp.getWorldName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.cancelgen.cancelled", wp.getWorldName()));
             return CommandResult.success();
         }
 
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.cancelgen.notask", wp.getWorldName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.cancelgen.notask", wp.getWorldName()));
         return CommandResult.empty();
     }
 }
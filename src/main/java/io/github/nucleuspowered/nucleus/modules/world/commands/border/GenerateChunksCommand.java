@@ -43,19 +43,19 @@ public class GenerateChunksCommand extends io.github.nucleuspowered.nucleus.inte
     public CommandResult executeCommand(CommandSource src, CommandContext args) throws Exception {
         WorldProperties wp = getWorldFromUserOrArgs(src, worldKey, args);
         if (worldHelper.isPregenRunningForWorld(wp.getUniqueId())) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.gen.alreadyrunning", wp.getWorldName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.gen.alreadyrunning", wp.getWorldName()));
             return CommandResult.empty();
         }
 
         Optional<World> w = Sponge.getServer().getWorld(wp.getUniqueId());
         if (!w.isPresent()) {
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.gen.notloaded", wp.getWorldName()));
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.gen.notloaded", wp.getWorldName()));
             return CommandResult.empty();
         }
 
         // Create the task.
         worldHelper.startPregenningForWorld(w.get());
-        src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.gen.started", wp.getWorldName()));
+        src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.gen.started", wp.getWorldName()));
 
         return CommandResult.success();
     }
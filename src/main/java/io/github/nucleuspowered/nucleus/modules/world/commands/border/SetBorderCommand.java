@@ -91,7 +91,7 @@ public class SetBorderCommand extends io.github.nucleuspowered.nucleus.internal.
         if (delay == 0) {
             world.ifPresent(w -> w.getWorldBorder().setDiameter(dia));
             wp.setWorldBorderDiameter(dia);
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.setborder.set",
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.setborder.set",
                     wp.getWorldName(),
                     String.valueOf(x),
                     String.valueOf(z),
@@ -100,7 +100,7 @@ public class SetBorderCommand extends io.github.nucleuspowered.nucleus.internal.
             world.ifPresent(w -> w.getWorldBorder().setDiameter(dia, delay * 1000L));
             wp.setWorldBorderTimeRemaining(delay * 1000L);
             wp.setWorldBorderTargetDiameter(dia);
-            src.sendMessage(plugin.getMessageProvider().getTextMessageWithFormat("command.world.setborder.setdelay",
+            src.sendMessage(plugin.getMessageProvider(src).getTextMessageWithFormat("command.world.setborder.setdelay",
                     wp.getWorldName(),
                     String.valueOf(x),
                     String.valueOf(z),
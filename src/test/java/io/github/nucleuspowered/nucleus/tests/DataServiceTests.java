@@ -0,0 +1,135 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.tests;
+
+import io.github.nucleuspowered.nucleus.NucleusPlugin;
+import io.github.nucleuspowered.nucleus.configurate.datatypes.UserDataNode;
+import io.github.nucleuspowered.nucleus.configurate.datatypes.WorldDataNode;
+import io.github.nucleuspowered.nucleus.dataservices.UserService;
+import io.github.nucleuspowered.nucleus.dataservices.WorldService;
+import io.github.nucleuspowered.nucleus.dataservices.dataproviders.DataProvider;
+import io.github.nucleuspowered.nucleus.dataservices.loaders.UserDataManager;
+import io.github.nucleuspowered.nucleus.modules.core.config.CoreConfigAdapter;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.world.World;
+import uk.co.drnaylor.quickstart.exceptions.NoModuleException;
+import uk.co.drnaylor.quickstart.modulecontainers.DiscoveryModuleContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DataServiceTests extends TestBase {
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testThatUserServiceLoadsItsDataExactlyOnceOnConstruction() throws Exception {
+        DataProvider<UserDataNode> provider = Mockito.mock(DataProvider.class);
+        Mockito.when(provider.load()).thenReturn(new UserDataNode());
+
+        UserService us = new UserService(Mockito.mock(NucleusPlugin.class), provider, UUID.randomUUID());
+
+        Assert.assertEquals(1, us.getLoadCount());
+        Mockito.verify(provider, Mockito.times(1)).load();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testThatWorldServiceLoadsItsDataExactlyOnceOnConstruction() throws Exception {
+        DataProvider<WorldDataNode> provider = Mockito.mock(DataProvider.class);
+        Mockito.when(provider.load()).thenReturn(new WorldDataNode());
+        World world = Mockito.mock(World.class);
+        Mockito.when(world.getUniqueId()).thenReturn(UUID.randomUUID());
+
+        WorldService ws = new WorldService(Mockito.mock(NucleusPlugin.class), provider, world);
+
+        Assert.assertEquals(1, ws.getLoadCount());
+        Mockito.verify(provider, Mockito.times(1)).load();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testThatReloadingAServiceIncrementsTheLoadCount() throws Exception {
+        DataProvider<UserDataNode> provider = Mockito.mock(DataProvider.class);
+        Mockito.when(provider.load()).thenReturn(new UserDataNode());
+
+        UserService us = new UserService(Mockito.mock(NucleusPlugin.class), provider, UUID.randomUUID());
+        Assert.assertTrue(us.load());
+
+        Assert.assertEquals(2, us.getLoadCount());
+        Mockito.verify(provider, Mockito.times(2)).load();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testThatConcurrentRequestsForTheSameUserShareOneInstanceAndLoseNoUpdates() throws Exception {
+        DiscoveryModuleContainer container = Mockito.mock(DiscoveryModuleContainer.class);
+        Mockito.when(container.getConfigAdapterForModule("core", CoreConfigAdapter.class)).thenThrow(NoModuleException.class);
+        NucleusPlugin plugin = Mockito.mock(NucleusPlugin.class);
+        Mockito.when(plugin.getModuleContainer()).thenReturn(container);
+
+        AtomicInteger providersCreated = new AtomicInteger();
+        UserDataManager manager = new UserDataManager(plugin, uuid -> {
+            providersCreated.incrementAndGet();
+            DataProvider<UserDataNode> provider = Mockito.mock(DataProvider.class);
+            try {
+                Mockito.when(provider.load()).thenAnswer(x -> {
+                    // Give the other threads plenty of time to miss the cache.
+                    Thread.sleep(50);
+                    return new UserDataNode();
+                });
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+
+            return provider;
+        });
+
+        User user = Mockito.mock(User.class);
+        Mockito.when(user.getUniqueId()).thenReturn(UUID.randomUUID());
+
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<UserService>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    Optional<UserService> ous = manager.get(user);
+                    ous.ifPresent(x -> {
+                        synchronized (x) {
+                            x.addToIgnoreList(UUID.randomUUID());
+                        }
+                    });
+
+                    return ous;
+                }));
+            }
+
+            start.countDown();
+            UserService first = results.get(0).get(10, TimeUnit.SECONDS).get();
+            for (Future<Optional<UserService>> result : results) {
+                Assert.assertSame(first, result.get(10, TimeUnit.SECONDS).get());
+            }
+
+            Assert.assertEquals(1, providersCreated.get());
+            Assert.assertEquals(1, first.getLoadCount());
+            Assert.assertEquals(threads, manager.get(user).get().getIgnoreList().size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.tests;
+
+import com.google.common.collect.Lists;
+import io.github.nucleuspowered.nucleus.api.data.mail.MailData;
+import io.github.nucleuspowered.nucleus.dataservices.MailStore;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+public class MailStoreTests {
+
+    private final UUID recipient = UUID.randomUUID();
+    private final UUID sender = UUID.randomUUID();
+
+    @Test
+    public void testThatPagesOfMailAreReturnedInTheOrderTheyWereSent() throws Exception {
+        MailStore store = new MailStore(Files.createTempDirectory("mail"), x -> Lists.newArrayList());
+        for (int i = 0; i < 25; i++) {
+            store.add(recipient, new MailData(sender, Instant.ofEpochMilli(i), "message " + i));
+        }
+
+        Assert.assertEquals(25, store.getCount(recipient));
+        Assert.assertEquals(Lists.newArrayList("message 10", "message 11", "message 12", "message 13", "message 14",
+                "message 15", "message 16", "message 17", "message 18", "message 19"), messages(store.getPage(recipient, 1, 10)));
+        Assert.assertEquals(5, store.getPage(recipient, 2, 10).size());
+        Assert.assertTrue(store.getPage(recipient, 3, 10).isEmpty());
+    }
+
+    @Test
+    public void testThatMessagesWithSpecialCharactersSurviveBeingReloaded() throws Exception {
+        Path directory = Files.createTempDirectory("mail");
+        String message = "tab\tnew line\nback\\slash\\n";
+        new MailStore(directory, x -> Lists.newArrayList()).add(recipient, new MailData(sender, Instant.ofEpochMilli(1), message));
+
+        List<MailData> mail = new MailStore(directory, x -> Lists.newArrayList()).getAll(recipient);
+        Assert.assertEquals(1, mail.size());
+        Assert.assertEquals(message, mail.get(0).getMessage());
+        Assert.assertEquals(sender, mail.get(0).getUuid());
+    }
+
+    @Test
+    public void testThatLegacyMailIsOnlyMovedOnce() throws Exception {
+        Path directory = Files.createTempDirectory("mail");
+        AtomicInteger calls = new AtomicInteger();
+        MailStore store = new MailStore(directory, x -> {
+            calls.incrementAndGet();
+            return Lists.newArrayList(new MailData(sender, Instant.ofEpochMilli(1), "old"));
+        });
+
+        Assert.assertTrue(store.clear(recipient));
+        Assert.assertEquals(0, store.getCount(recipient));
+        Assert.assertEquals(0, new MailStore(directory, x -> {
+            calls.incrementAndGet();
+            return Lists.newArrayList();
+        }).getCount(recipient));
+        Assert.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testThatLegacyMailIsOnlyClearedOnceItIsInTheMailbox() throws Exception {
+        Path directory = Files.createTempDirectory("mail");
+        String u = recipient.toString();
+        File file = directory.resolve(u.substring(0, 2)).resolve(u + ".mail").toFile();
+        List<UUID> cleared = Lists.newArrayList();
+        MailStore store = new MailStore(directory, x -> Lists.newArrayList(new MailData(sender, Instant.ofEpochMilli(1), "old")), x -> {
+            Assert.assertTrue(file.length() > 0);
+            cleared.add(x);
+        });
+
+        Assert.assertEquals(1, store.getCount(recipient));
+        Assert.assertEquals(Lists.newArrayList(recipient), cleared);
+    }
+
+    @Test
+    public void testThatDeletingAMailboxRemovesTheFile() throws Exception {
+        Path directory = Files.createTempDirectory("mail");
+        MailStore store = new MailStore(directory, x -> Lists.newArrayList());
+        store.add(recipient, new MailData(sender, Instant.ofEpochMilli(1), "message"));
+
+        String u = recipient.toString();
+        Assert.assertTrue(Files.exists(directory.resolve(u.substring(0, 2)).resolve(u + ".mail")));
+        store.delete(recipient);
+        Assert.assertFalse(Files.exists(directory.resolve(u.substring(0, 2)).resolve(u + ".mail")));
+        Assert.assertEquals(0, store.getCount(recipient));
+    }
+
+    @Test
+    public void testThatRemovingMailOnlyRemovesTheMatchingMessage() throws Exception {
+        MailStore store = new MailStore(Files.createTempDirectory("mail"), x -> Lists.newArrayList());
+        MailData first = new MailData(sender, Instant.ofEpochMilli(1), "first");
+        store.add(recipient, first);
+        store.add(recipient, new MailData(sender, Instant.ofEpochMilli(2), "second"));
+
+        Assert.assertTrue(store.remove(recipient, first));
+        Assert.assertFalse(store.remove(recipient, first));
+        Assert.assertEquals(Lists.newArrayList("second"), messages(store.getAll(recipient)));
+
+        store.add(recipient, new MailData(sender, Instant.ofEpochMilli(3), "third"));
+        Assert.assertEquals(Lists.newArrayList("second", "third"), messages(store.getPage(recipient, 0, 5)));
+    }
+
+    @Test
+    public void testThatAPartlyWrittenMessageIsDiscarded() throws Exception {
+        Path directory = Files.createTempDirectory("mail");
+        new MailStore(directory, x -> Lists.newArrayList()).add(recipient, new MailData(sender, Instant.ofEpochMilli(1), "whole"));
+
+        String u = recipient.toString();
+        Files.write(directory.resolve(u.substring(0, 2)).resolve(u + ".mail"), (sender.toString() + "\t2\tpar")
+                .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        MailStore store = new MailStore(directory, x -> Lists.newArrayList());
+        Assert.assertEquals(1, store.getCount(recipient));
+        store.add(recipient, new MailData(sender, Instant.ofEpochMilli(3), "next"));
+        Assert.assertEquals(Lists.newArrayList("whole", "next"), messages(store.getAll(recipient)));
+    }
+
+    @Test
+    public void testThatSearchesOnlyReturnMatchingMail() throws Exception {
+        MailStore store = new MailStore(Files.createTempDirectory("mail"), x -> Lists.newArrayList());
+        UUID other = UUID.randomUUID();
+        Instant now = Instant.now();
+        store.add(recipient, new MailData(sender, now.minus(3, ChronoUnit.DAYS), "Hello World"));
+        store.add(recipient, new MailData(other, now.minus(2, ChronoUnit.DAYS), "hello there"));
+
+        // The index is built now, and so must pick up mail added afterwards.
+        Assert.assertEquals(Lists.newArrayList("Hello World", "hello there"),
+                messages(store.search(recipient, null, null, Lists.newArrayList(), Lists.newArrayList("hello"))));
+        store.add(recipient, new MailData(sender, now, "Goodbye, world!"));
+
+        Assert.assertEquals(Lists.newArrayList("Hello World", "Goodbye, world!"),
+                messages(store.search(recipient, null, null, Lists.newArrayList(), Lists.newArrayList("world"))));
+        Assert.assertEquals(Lists.newArrayList("Hello World"),
+                messages(store.search(recipient, null, null, Lists.newArrayList(), Lists.newArrayList("lo wor"))));
+        Assert.assertEquals(Lists.newArrayList("hello there"),
+                messages(store.search(recipient, null, null, Lists.newArrayList(other), Lists.newArrayList())));
+        Assert.assertEquals(Lists.newArrayList("hello there", "Goodbye, world!"),
+                messages(store.search(recipient, now.minus(2, ChronoUnit.DAYS).minusSeconds(1), now.plusSeconds(1),
+                        Lists.newArrayList(), Lists.newArrayList())));
+        Assert.assertTrue(store.search(recipient, null, null, Lists.newArrayList(other), Lists.newArrayList("world")).isEmpty());
+
+        store.clear(recipient);
+        Assert.assertTrue(store.search(recipient, null, null, Lists.newArrayList(), Lists.newArrayList("hello")).isEmpty());
+    }
+
+    private static List<String> messages(List<MailData> mail) {
+        return mail.stream().map(MailData::getMessage).collect(Collectors.toList());
+    }
+}
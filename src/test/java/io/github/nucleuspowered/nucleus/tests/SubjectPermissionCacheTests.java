@@ -0,0 +1,68 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.tests;
+
+import com.google.common.collect.Sets;
+import io.github.nucleuspowered.nucleus.internal.permissions.SubjectPermissionCache;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.service.context.Context;
+
+import java.util.Set;
+import java.util.UUID;
+
+public class SubjectPermissionCacheTests {
+
+    @Test
+    public void testThatPermissionsAreOnlyCheckedOnceForTheSameContexts() {
+        SubjectPermissionCache cache = new SubjectPermissionCache();
+        User user = getUser(Sets.newHashSet(new Context(Context.WORLD_KEY, "world")));
+        Mockito.when(user.hasPermission("nucleus.test")).thenReturn(true);
+
+        Assert.assertTrue(cache.hasPermission(user, "nucleus.test"));
+        Assert.assertTrue(cache.hasPermission(user, "nucleus.test"));
+        Mockito.verify(user, Mockito.times(1)).hasPermission("nucleus.test");
+
+        // A different world is a different set of contexts, so the permission must be checked again.
+        Mockito.when(user.getActiveContexts()).thenReturn(Sets.newHashSet(new Context(Context.WORLD_KEY, "nether")));
+        Assert.assertTrue(cache.hasPermission(user, "nucleus.test"));
+        Mockito.verify(user, Mockito.times(2)).hasPermission("nucleus.test");
+    }
+
+    @Test
+    public void testThatInvalidatingAUserChecksTheirPermissionsAgain() {
+        SubjectPermissionCache cache = new SubjectPermissionCache();
+        User user = getUser(Sets.newHashSet());
+        Mockito.when(user.hasPermission("nucleus.test")).thenReturn(true);
+
+        Assert.assertTrue(cache.hasPermission(user, "nucleus.test"));
+        Mockito.when(user.hasPermission("nucleus.test")).thenReturn(false);
+        Assert.assertTrue(cache.hasPermission(user, "nucleus.test"));
+
+        cache.invalidate(user.getUniqueId());
+        Assert.assertFalse(cache.hasPermission(user, "nucleus.test"));
+    }
+
+    @Test
+    public void testThatUsersWithoutAUuidAreNotCached() {
+        SubjectPermissionCache cache = new SubjectPermissionCache();
+        User user = Mockito.mock(User.class);
+        Mockito.when(user.hasPermission("nucleus.test")).thenReturn(true);
+
+        Assert.assertTrue(cache.hasPermission(user, "nucleus.test"));
+        Assert.assertTrue(cache.hasPermission(user, "nucleus.test"));
+        Mockito.verify(user, Mockito.times(2)).hasPermission("nucleus.test");
+    }
+
+    private User getUser(Set<Context> contexts) {
+        User user = Mockito.mock(User.class);
+        UUID uuid = UUID.randomUUID();
+        Mockito.when(user.getUniqueId()).thenReturn(uuid);
+        Mockito.when(user.getActiveContexts()).thenReturn(contexts);
+        return user;
+    }
+}
@@ -16,6 +16,7 @@ import io.github.nucleuspowered.nucleus.internal.InternalServiceManager;
 import io.github.nucleuspowered.nucleus.internal.PermissionRegistry;
 import io.github.nucleuspowered.nucleus.internal.messages.MessageProvider;
 import io.github.nucleuspowered.nucleus.internal.messages.ResourceMessageProvider;
+import io.github.nucleuspowered.nucleus.internal.permissions.SubjectPermissionCache;
 import io.github.nucleuspowered.nucleus.internal.services.WarmupManager;
 import io.github.nucleuspowered.nucleus.internal.teleport.NucleusTeleportHandler;
 import org.junit.BeforeClass;
@@ -106,6 +107,7 @@ public abstract class TestBase {
     private static class NucleusTest extends Nucleus {
 
         private MessageProvider mp = new ResourceMessageProvider(ResourceMessageProvider.messagesBundle);
+        private SubjectPermissionCache permissionCache = new SubjectPermissionCache();
         private PermissionRegistry permissionRegistry = new PermissionRegistry();
 
         @Override
@@ -153,6 +155,11 @@ public abstract class TestBase {
             return permissionRegistry;
         }
 
+        @Override
+        public SubjectPermissionCache getPermissionCache() {
+            return permissionCache;
+        }
+
         @Override
         public DiscoveryModuleContainer getModuleContainer() {
             return null;
@@ -6,9 +6,12 @@ package io.github.nucleuspowered.nucleus.tests.arguments;
 
 import com.google.common.collect.Lists;
 import io.github.nucleuspowered.nucleus.argumentparsers.NicknameArgument;
+import io.github.nucleuspowered.nucleus.dataservices.NameIndex;
 import io.github.nucleuspowered.nucleus.tests.TestBase;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 import org.spongepowered.api.command.args.ArgumentParseException;
 import org.spongepowered.api.command.args.CommandArgs;
@@ -19,9 +22,12 @@ import org.spongepowered.api.service.user.UserStorageService;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 public class NicknameArgumentTests extends TestBase {
 
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void testWhenTwoPlayersWithTheSameNameAreInTheUserDatabaseOnlyAnExactMatchIsReturned() throws ArgumentParseException {
         List<?> list = getParser().accept("test" , new CommandArgs("", new ArrayList<>()));
@@ -49,6 +55,31 @@ public class NicknameArgumentTests extends TestBase {
         Assert.assertTrue(list.isEmpty());
     }
 
+    @Test
+    public void testThatTheNameIndexIsUsedInsteadOfTheUserDatabaseWhenItIsReady() throws Exception {
+        UUID uuid1 = UUID.randomUUID();
+        UUID uuid2 = UUID.randomUUID();
+        NameIndex index = new NameIndex(folder.newFile("names.txt").toPath());
+        index.setName(uuid1, "test");
+        index.setName(uuid2, "TestTest");
+        index.setBuilt();
+
+        // The user database has no users, so anything returned must have come from the index.
+        UserStorageService mockUss = Mockito.mock(UserStorageService.class);
+        User u1 = Mockito.mock(User.class);
+        Mockito.when(u1.getName()).thenReturn("test");
+        User u2 = Mockito.mock(User.class);
+        Mockito.when(u2.getName()).thenReturn("TestTest");
+        Mockito.when(mockUss.get(uuid1)).thenReturn(Optional.of(u1));
+        Mockito.when(mockUss.get(uuid2)).thenReturn(Optional.of(u2));
+
+        NicknameArgument.UserParser parser = new NicknameArgument.UserParser(false, () -> mockUss, () -> index);
+        Assert.assertEquals(2, parser.accept("tes", new CommandArgs("", new ArrayList<>())).size());
+        Assert.assertEquals(Lists.newArrayList(u1), parser.accept("test", new CommandArgs("", new ArrayList<>())));
+        Assert.assertEquals(Lists.newArrayList(u2), parser.accept("testt", new CommandArgs("", new ArrayList<>())));
+        Assert.assertEquals(Lists.newArrayList("test", "TestTest"), index.getNamesStartingWith("T", 10));
+    }
+
     private NicknameArgument.UserParser getParser() {
         // Setup the mock UserStorageService
         UserStorageService mockUss = getMockUserStorageService();
@@ -0,0 +1,83 @@
+/*
+ * This file is part of Nucleus, licensed under the MIT License (MIT). See the LICENSE.txt file
+ * at the root of this project for more details.
+ */
+package io.github.nucleuspowered.nucleus.tests.configurate;
+
+import io.github.nucleuspowered.nucleus.configurate.BinaryConfigurationLoader;
+import ninja.leaping.configurate.ConfigurationNode;
+import ninja.leaping.configurate.ConfigurationOptions;
+import ninja.leaping.configurate.SimpleConfigurationNode;
+import ninja.leaping.configurate.gson.GsonConfigurationLoader;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.UUID;
+
+public class BinaryConfigurationLoaderTests {
+
+    private ConfigurationNode createNode() {
+        ConfigurationNode node = SimpleConfigurationNode.root();
+        node.getNode("string").setValue("test");
+        node.getNode("int").setValue(-42);
+        node.getNode("long").setValue(Long.MAX_VALUE);
+        node.getNode("double").setValue(1.5d);
+        node.getNode("bool").setValue(true);
+        node.getNode("emptymap").setValue(Collections.emptyMap());
+        for (int i = 0; i < 50; i++) {
+            ConfigurationNode mail = node.getNode("mail").getAppendedNode();
+            mail.getNode("uuid").setValue(UUID.randomUUID().toString());
+            mail.getNode("date").setValue(System.currentTimeMillis());
+            mail.getNode("message").setValue("Message number " + i);
+        }
+
+        return node;
+    }
+
+    @Test
+    public void testThatANodeSurvivesARoundTrip() throws IOException {
+        ConfigurationNode node = createNode();
+        ConfigurationNode result = BinaryConfigurationLoader.fromBytes(BinaryConfigurationLoader.toBytes(node), ConfigurationOptions.defaults());
+
+        Assert.assertEquals(node.getValue(), result.getValue());
+        Assert.assertEquals(-42, result.getNode("int").getValue());
+        Assert.assertEquals(Long.MAX_VALUE, result.getNode("long").getValue());
+        Assert.assertTrue(result.getNode("emptymap").hasMapChildren());
+        Assert.assertEquals(50, result.getNode("mail").getChildrenList().size());
+    }
+
+    @Test
+    public void testThatJsonCanBeConvertedToBinaryAndBack() throws IOException {
+        ConfigurationNode node = createNode();
+        StringWriter sw = new StringWriter();
+        GsonConfigurationLoader.builder().setSink(() -> new BufferedWriter(sw)).build().save(node);
+
+        byte[] binary = BinaryConfigurationLoader.fromJson(sw.toString());
+        Assert.assertTrue(BinaryConfigurationLoader.isBinary(binary));
+        Assert.assertFalse(BinaryConfigurationLoader.isBinary(sw.toString().getBytes(StandardCharsets.UTF_8)));
+
+        ConfigurationNode result = BinaryConfigurationLoader.fromBytes(BinaryConfigurationLoader.fromJson(
+                BinaryConfigurationLoader.toJson(binary)), ConfigurationOptions.defaults());
+        Assert.assertEquals("test", result.getNode("string").getString());
+        Assert.assertEquals(50, result.getNode("mail").getChildrenList().size());
+    }
+
+    @Test
+    public void testThatTheBinaryFormatIsSmallerThanJson() throws IOException {
+        ConfigurationNode node = createNode();
+        StringWriter sw = new StringWriter();
+        GsonConfigurationLoader.builder().setSink(() -> new BufferedWriter(sw)).build().save(node);
+
+        Assert.assertTrue(BinaryConfigurationLoader.toBytes(node).length < sw.toString().getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test(expected = IOException.class)
+    public void testThatInvalidDataIsRejected() throws IOException {
+        BinaryConfigurationLoader.fromBytes("{}".getBytes(StandardCharsets.UTF_8), ConfigurationOptions.defaults());
+    }
+}
@@ -11,12 +11,14 @@ import io.github.nucleuspowered.nucleus.config.CommandsConfig;
 import io.github.nucleuspowered.nucleus.dataservices.loaders.UserDataManager;
 import io.github.nucleuspowered.nucleus.internal.PermissionRegistry;
 import io.github.nucleuspowered.nucleus.internal.messages.ResourceMessageProvider;
+import io.github.nucleuspowered.nucleus.internal.permissions.SubjectPermissionCache;
 import io.github.nucleuspowered.nucleus.modules.core.config.CoreConfig;
 import io.github.nucleuspowered.nucleus.modules.core.config.CoreConfigAdapter;
 import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
 import org.slf4j.Logger;
 import org.spongepowered.api.Game;
+import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.config.ConfigDir;
 import org.spongepowered.api.config.DefaultConfig;
 
@@ -62,8 +64,11 @@ public class TestModule extends AbstractModule {
     private NucleusPlugin getMockPlugin() throws InvocationTargetException, IllegalAccessException, NoSuchFieldException {
         NucleusPlugin plugin = Mockito.mock(NucleusPlugin.class);
         PermissionRegistry pr = new PermissionRegistry();
-        Mockito.when(plugin.getMessageProvider()).thenReturn(new ResourceMessageProvider(ResourceMessageProvider.messagesBundle));
+        ResourceMessageProvider messageProvider = new ResourceMessageProvider(ResourceMessageProvider.messagesBundle);
+        Mockito.when(plugin.getMessageProvider()).thenReturn(messageProvider);
+        Mockito.when(plugin.getMessageProvider(Mockito.any(CommandSource.class))).thenReturn(messageProvider);
         Mockito.when(plugin.getPermissionRegistry()).thenReturn(pr);
+        Mockito.when(plugin.getPermissionCache()).thenReturn(new SubjectPermissionCache());
         Mockito.when(plugin.getUserDataManager()).thenReturn(Mockito.mock(UserDataManager.class));
 
         Field f = Nucleus.class.getDeclaredField("nucleus");